@@ -0,0 +1,28 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.annotation;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the relative cost of loading an entity when GraphQL queries are checked against a cost limit.
+ */
+@Target({TYPE})
+@Retention(RUNTIME)
+@Inherited
+public @interface QueryCost {
+
+    /**
+     * The cost of each record of the entity a query may load.
+     * @return the weight
+     */
+    int weight() default 1;
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.benchmarks.models.Author;
+import com.yahoo.elide.benchmarks.models.Book;
+import com.yahoo.elide.benchmarks.models.IsPublishedCheck;
+import com.yahoo.elide.benchmarks.models.Publisher;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+import com.yahoo.elide.security.User;
+import com.yahoo.elide.security.checks.Check;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An Elide instance backed by a {@link HashMapDataStore} and populated with books, authors and publishers.
+ * Everything runs in memory so the benchmarks measure Elide rather than a database.
+ */
+public class BenchmarkFixture {
+    public static final String[] GENRES = {"Literary Fiction", "Science Fiction", "Mystery", "History"};
+
+    private static final int AUTHORS_PER_BOOK = 2;
+    private static final int BOOKS_PER_PUBLISHER = 10;
+
+    private final EntityDictionary dictionary;
+    private final HashMapDataStore dataStore;
+    private final Elide elide;
+
+    /**
+     * Constructor.
+     *
+     * @param bookCount the number of books to populate the store with
+     */
+    public BenchmarkFixture(int bookCount) {
+        Map<String, Class<? extends Check>> checks = new HashMap<>();
+        checks.put(IsPublishedCheck.IS_PUBLISHED, IsPublishedCheck.class);
+
+        dictionary = new EntityDictionary(checks);
+        dataStore = new HashMapDataStore(Book.class.getPackage());
+        elide = new Elide(new ElideSettingsBuilder(dataStore)
+                .withEntityDictionary(dictionary)
+                .build());
+
+        populate(bookCount);
+    }
+
+    public EntityDictionary getDictionary() {
+        return dictionary;
+    }
+
+    public ElideSettings getElideSettings() {
+        return elide.getElideSettings();
+    }
+
+    public Elide getElide() {
+        return elide;
+    }
+
+    /**
+     * Starts a read transaction and a request scope for the book collection.  Callers must close the transaction.
+     *
+     * @return a new request scope
+     */
+    public RequestScope newRequestScope() {
+        DataStoreTransaction tx = elide.getDataStore().beginReadTransaction();
+        return new RequestScope("/book", new JsonApiDocument(), tx, new User(null), null, getElideSettings());
+    }
+
+    /**
+     * Creates a book which is not stored in the data store.
+     *
+     * @param id the book id
+     * @return the book
+     */
+    public static Book newBook(long id) {
+        Book book = new Book();
+        book.setId(id);
+        book.setTitle("Book " + id);
+        book.setGenre(GENRES[(int) (id % GENRES.length)]);
+        book.setPublicationDate(1_500_000_000_000L + id);
+        return book;
+    }
+
+    private void populate(int bookCount) {
+        DataStoreTransaction tx = dataStore.beginTransaction();
+
+        Publisher publisher = null;
+        Author[] authors = new Author[Math.max(AUTHORS_PER_BOOK, bookCount / AUTHORS_PER_BOOK)];
+        for (int i = 0; i < authors.length; i++) {
+            authors[i] = new Author();
+            authors[i].setId(i + 1);
+            authors[i].setName("Author " + (i + 1));
+            tx.createObject(authors[i], null);
+        }
+
+        for (int i = 0; i < bookCount; i++) {
+            if (i % BOOKS_PER_PUBLISHER == 0) {
+                publisher = new Publisher();
+                publisher.setId(i / BOOKS_PER_PUBLISHER + 1);
+                publisher.setName("Publisher " + publisher.getId());
+                tx.createObject(publisher, null);
+            }
+
+            Book book = newBook(i + 1);
+            book.setPublisher(publisher);
+            publisher.getBooks().add(book);
+
+            for (int j = 0; j < AUTHORS_PER_BOOK; j++) {
+                Author author = authors[(i + j) % authors.length];
+                book.getAuthors().add(author);
+                author.getBooks().add(book);
+            }
+
+            tx.createObject(book, null);
+        }
+
+        tx.commit(null);
+
+        try {
+            tx.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
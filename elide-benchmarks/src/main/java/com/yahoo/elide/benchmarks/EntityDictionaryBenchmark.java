@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.benchmarks.models.Book;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reflective attribute and relationship access through the entity dictionary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityDictionaryBenchmark {
+    private static final String TITLE = "title";
+    private static final String PUBLISHER = "publisher";
+
+    private EntityDictionary dictionary;
+    private RequestScope requestScope;
+    private Book book;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixture fixture = new BenchmarkFixture(10);
+        dictionary = fixture.getDictionary();
+        requestScope = fixture.newRequestScope();
+        book = BenchmarkFixture.newBook(1);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        requestScope.getTransaction().close();
+    }
+
+    @Benchmark
+    public Object getAttribute() {
+        return dictionary.getValue(book, TITLE, requestScope);
+    }
+
+    @Benchmark
+    public Object getRelationship() {
+        return dictionary.getValue(book, PUBLISHER, requestScope);
+    }
+
+    @Benchmark
+    public void setAttribute() {
+        dictionary.setValue(book, TITLE, "Updated Title");
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.dialect.DefaultFilterDialect;
+import com.yahoo.elide.core.filter.dialect.ParseException;
+import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Parsing of the same filter with the RSQL and the default (bracketed) filter dialects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterDialectBenchmark {
+    private static final String PATH = "/book";
+
+    private RSQLFilterDialect rsqlDialect;
+    private DefaultFilterDialect defaultDialect;
+    private MultivaluedMap<String, String> rsqlParams;
+    private MultivaluedMap<String, String> defaultParams;
+
+    @Setup
+    public void setUp() {
+        EntityDictionary dictionary = new BenchmarkFixture(0).getDictionary();
+        rsqlDialect = new RSQLFilterDialect(dictionary);
+        defaultDialect = new DefaultFilterDialect(dictionary);
+
+        rsqlParams = new MultivaluedHashMap<>();
+        rsqlParams.putSingle("filter[book]",
+                "title=='Book*';genre=in=('Mystery','History');publisher.name!='Publisher 1'");
+
+        defaultParams = new MultivaluedHashMap<>();
+        defaultParams.putSingle("filter[book.title][prefix]", "Book");
+        defaultParams.putSingle("filter[book.genre][in]", "Mystery,History");
+        defaultParams.putSingle("filter[book.publisher.name][not]", "Publisher 1");
+    }
+
+    @Benchmark
+    public Map<String, FilterExpression> rsql() throws ParseException {
+        return rsqlDialect.parseTypedExpression(PATH, rsqlParams);
+    }
+
+    @Benchmark
+    public Map<String, FilterExpression> defaultDialect() throws ParseException {
+        return defaultDialect.parseTypedExpression(PATH, defaultParams);
+    }
+}
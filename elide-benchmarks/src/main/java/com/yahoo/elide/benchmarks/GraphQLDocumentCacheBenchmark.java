@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.graphql.PreparsedDocumentCache;
+import com.yahoo.elide.graphql.QueryRunner;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same nested GraphQL query with and without the parsed document cache.  Only the page size variable changes
+ * between requests, as it would for a client sending one query shape.  The page is small so that parsing and
+ * validation are a visible share of each request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphQLDocumentCacheBenchmark {
+    private static final String QUERY = "query Books($first: String) { book(first: $first, sort: \\\"title\\\") "
+            + "{ edges { node { id title genre publicationDate "
+            + "publisher { edges { node { id name } } } "
+            + "authors { edges { node { id name books { edges { node { id title } } } } } } } } } }";
+
+    @Param({"100"})
+    private int books;
+
+    private QueryRunner cached;
+    private QueryRunner uncached;
+    private int request;
+
+    @Setup
+    public void setUp() {
+        Elide elide = new BenchmarkFixture(books).getElide();
+        cached = new QueryRunner(elide);
+        uncached = new QueryRunner(elide, new PreparsedDocumentCache(0));
+    }
+
+    @Benchmark
+    public String cachedDocument() {
+        return checkResponse(cached.run(nextRequest(), null));
+    }
+
+    @Benchmark
+    public String uncachedDocument() {
+        return checkResponse(uncached.run(nextRequest(), null));
+    }
+
+    private String nextRequest() {
+        request = request % 5 + 1;
+        return "{\"query\": \"" + QUERY + "\", \"variables\": {\"first\": \"" + request + "\"}}";
+    }
+
+    private static String checkResponse(ElideResponse response) {
+        if (response.getResponseCode() != 200) {
+            throw new IllegalStateException("Request failed: " + response.getBody());
+        }
+        return response.getBody();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.benchmarks.models.Book;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.dialect.ParseException;
+import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtering, sorting and pagination performed by the in-memory store for a data store that supports none of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryStoreTransactionBenchmark {
+
+    @Param({"10000"})
+    private int books;
+
+    private RequestScope requestScope;
+    private Optional<FilterExpression> filter;
+    private Optional<Sorting> sorting;
+    private Optional<Pagination> pagination;
+
+    @Setup
+    public void setUp() throws ParseException {
+        BenchmarkFixture fixture = new BenchmarkFixture(books);
+        requestScope = fixture.newRequestScope();
+
+        filter = Optional.of(new RSQLFilterDialect(fixture.getDictionary())
+                .parseFilterExpression("genre=in=('Mystery','History');title=='Book*'", Book.class, true));
+
+        Map<String, Sorting.SortOrder> sortRules = new LinkedHashMap<>();
+        sortRules.put("genre", Sorting.SortOrder.asc);
+        sortRules.put("title", Sorting.SortOrder.desc);
+        sorting = Optional.of(new Sorting(sortRules));
+
+        pagination = Optional.of(Pagination.fromOffsetAndLimit(100, 1000, false));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        requestScope.getTransaction().close();
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) {
+        load(filter, Optional.empty(), Optional.empty(), blackhole);
+    }
+
+    @Benchmark
+    public void sort(Blackhole blackhole) {
+        load(Optional.empty(), sorting, Optional.empty(), blackhole);
+    }
+
+    @Benchmark
+    public void paginate(Blackhole blackhole) {
+        load(Optional.empty(), Optional.empty(), pagination, blackhole);
+    }
+
+    @Benchmark
+    public void filterSortAndPaginate(Blackhole blackhole) {
+        load(filter, sorting, pagination, blackhole);
+    }
+
+    private void load(Optional<FilterExpression> filterExpression,
+                      Optional<Sorting> sort,
+                      Optional<Pagination> page,
+                      Blackhole blackhole) {
+        Iterable<Object> loaded = requestScope.getTransaction()
+                .loadObjects(Book.class, filterExpression, sort, page, requestScope);
+
+        for (Object book : loaded) {
+            blackhole.consume(book);
+        }
+    }
+}
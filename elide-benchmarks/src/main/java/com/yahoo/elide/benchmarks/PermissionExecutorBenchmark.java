@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.annotation.ReadPermission;
+import com.yahoo.elide.annotation.UpdatePermission;
+import com.yahoo.elide.benchmarks.models.Book;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.security.executors.ActivePermissionExecutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Permission evaluation for a page of records.  The read permission is an operation check which runs for
+ * every record; the update permission is a user check whose result is cached for the request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionExecutorBenchmark {
+
+    @Param({"100"})
+    private int books;
+
+    private RequestScope requestScope;
+    private List<PersistentResource<Book>> resources;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixture fixture = new BenchmarkFixture(books);
+        requestScope = fixture.newRequestScope();
+
+        resources = new ArrayList<>();
+        for (Object book : requestScope.getTransaction().loadObjects(Book.class,
+                Optional.empty(), Optional.empty(), Optional.empty(), requestScope)) {
+            resources.add(new PersistentResource<>((Book) book, null, requestScope.getUUIDFor(book), requestScope));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        requestScope.getTransaction().close();
+    }
+
+    @Benchmark
+    public void readPermission(Blackhole blackhole) {
+        ActivePermissionExecutor executor = new ActivePermissionExecutor(requestScope);
+        for (PersistentResource<Book> resource : resources) {
+            blackhole.consume(executor.checkPermission(ReadPermission.class, resource));
+        }
+    }
+
+    @Benchmark
+    public void updatePermission(Blackhole blackhole) {
+        ActivePermissionExecutor executor = new ActivePermissionExecutor(requestScope);
+        for (PersistentResource<Book> resource : resources) {
+            blackhole.consume(executor.checkPermission(UpdatePermission.class, resource));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.graphql.QueryRunner;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Full read requests through the JSON-API and GraphQL entry points, from request parsing to the serialized body.
+ * Both requests fetch the same page of books together with their authors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestRoundTripBenchmark {
+    private static final String PAGE_SIZE = "100";
+    private static final String GRAPHQL_QUERY = "{\"query\": \"{ book(first: \\\"" + PAGE_SIZE + "\\\") { edges { node "
+            + "{ id title genre authors { edges { node { id name } } } } } } }\"}";
+
+    @Param({"1000"})
+    private int books;
+
+    private Elide elide;
+    private QueryRunner queryRunner;
+    private MultivaluedMap<String, String> queryParams;
+
+    @Setup
+    public void setUp() {
+        elide = new BenchmarkFixture(books).getElide();
+        queryRunner = new QueryRunner(elide);
+
+        queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("include", "authors");
+        queryParams.putSingle("page[size]", PAGE_SIZE);
+    }
+
+    @Benchmark
+    public String jsonApiGet() {
+        ElideResponse response = elide.get("/book", queryParams, null);
+        return checkResponse(response);
+    }
+
+    @Benchmark
+    public String graphQLQuery() {
+        ElideResponse response = queryRunner.run(GRAPHQL_QUERY, null);
+        return checkResponse(response);
+    }
+
+    private static String checkResponse(ElideResponse response) {
+        if (response.getResponseCode() != 200) {
+            throw new IllegalStateException("Request failed: " + response.getBody());
+        }
+        return response.getBody();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks.models;
+
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.annotation.ReadPermission;
+import com.yahoo.elide.annotation.UpdatePermission;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToMany;
+import javax.persistence.ManyToOne;
+
+/**
+ * Benchmark model for book.  Reads are guarded by an operation check so that permission evaluation
+ * runs for every record.
+ */
+@Entity
+@Include(rootLevel = true)
+@ReadPermission(expression = IsPublishedCheck.IS_PUBLISHED)
+@UpdatePermission(expression = "Prefab.Role.All")
+public class Book {
+    private long id;
+    private String title;
+    private String genre;
+    private long publicationDate;
+    private Publisher publisher;
+    private Set<Author> authors = new LinkedHashSet<>();
+
+    @Id
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getGenre() {
+        return genre;
+    }
+
+    public void setGenre(String genre) {
+        this.genre = genre;
+    }
+
+    public long getPublicationDate() {
+        return publicationDate;
+    }
+
+    public void setPublicationDate(long publicationDate) {
+        this.publicationDate = publicationDate;
+    }
+
+    @ManyToOne
+    public Publisher getPublisher() {
+        return publisher;
+    }
+
+    public void setPublisher(Publisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @ManyToMany
+    public Set<Author> getAuthors() {
+        return authors;
+    }
+
+    public void setAuthors(Set<Author> authors) {
+        this.authors = authors;
+    }
+}
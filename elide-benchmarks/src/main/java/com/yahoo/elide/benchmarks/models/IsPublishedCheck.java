@@ -0,0 +1,24 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks.models;
+
+import com.yahoo.elide.security.ChangeSpec;
+import com.yahoo.elide.security.RequestScope;
+import com.yahoo.elide.security.checks.OperationCheck;
+
+import java.util.Optional;
+
+/**
+ * Allows reading books which have been published.
+ */
+public class IsPublishedCheck extends OperationCheck<Book> {
+    public static final String IS_PUBLISHED = "book is published";
+
+    @Override
+    public boolean ok(Book book, RequestScope requestScope, Optional<ChangeSpec> changeSpec) {
+        return book.getPublicationDate() > 0;
+    }
+}
@@ -21,10 +21,15 @@ import com.yahoo.elide.core.exceptions.InvalidURLException;
 import com.yahoo.elide.core.exceptions.JsonPatchExtensionException;
 import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.exceptions.UnableToAddSerdeException;
+import com.yahoo.elide.extensions.JsonApiExport;
+import com.yahoo.elide.extensions.JsonApiIngest;
 import com.yahoo.elide.extensions.JsonApiPatch;
 import com.yahoo.elide.extensions.PatchRequestScope;
+import com.yahoo.elide.jsonapi.EntityTags;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+import com.yahoo.elide.metrics.RequestPhase;
+import com.yahoo.elide.metrics.RequestTimer;
 import com.yahoo.elide.parsers.BaseVisitor;
 import com.yahoo.elide.parsers.DeleteVisitor;
 import com.yahoo.elide.parsers.GetVisitor;
@@ -55,9 +60,14 @@ import org.owasp.encoder.Encode;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import javax.validation.ConstraintViolationException;
@@ -72,6 +82,8 @@ public class Elide {
     public static final String JSONAPI_CONTENT_TYPE = "application/vnd.api+json";
     public static final String JSONAPI_CONTENT_TYPE_WITH_JSON_PATCH_EXTENSION =
             "application/vnd.api+json; ext=jsonpatch";
+    public static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    public static final String CSV_CONTENT_TYPE = "text/csv";
 
     @Getter private final ElideSettings elideSettings;
     @Getter private final AuditLogger auditLogger;
@@ -162,13 +174,33 @@ public class Elide {
      * @return Elide response object
      */
     public ElideResponse get(String path, MultivaluedMap<String, String> queryParams, Object opaqueUser) {
-        return handleRequest(true, opaqueUser, dataStore::beginReadTransaction, (tx, user) -> {
+        return get(path, queryParams, opaqueUser, null);
+    }
+
+    /**
+     * Handle a conditional GET.  When entity tags are enabled, a request whose If-None-Match header matches the
+     * current response is answered with 304 Not Modified and no body.
+     *
+     * @param path the path
+     * @param queryParams the query params
+     * @param opaqueUser the opaque user
+     * @param ifNoneMatch the If-None-Match header or null
+     * @return Elide response object
+     */
+    public ElideResponse get(String path, MultivaluedMap<String, String> queryParams, Object opaqueUser,
+                             String ifNoneMatch) {
+        Handler<DataStoreTransaction, User, HandlerResult> handler = (tx, user) -> {
             JsonApiDocument jsonApiDoc = new JsonApiDocument();
             RequestScope requestScope = new RequestScope(path, jsonApiDoc, tx, user, queryParams, elideSettings);
+            tagRequest(requestScope, "get", path);
             BaseVisitor visitor = new GetVisitor(requestScope);
             return visit(path, requestScope, visitor);
-        });
+        };
 
+        if (elideSettings.isStreamingResponses()) {
+            return handleStreamingRequest(opaqueUser, dataStore::beginReadTransaction, handler, ifNoneMatch);
+        }
+        return handleRequest(true, opaqueUser, dataStore::beginReadTransaction, handler, ifNoneMatch);
     }
 
     /**
@@ -183,6 +215,7 @@ public class Elide {
         return handleRequest(false, opaqueUser, dataStore::beginTransaction, (tx, user) -> {
             JsonApiDocument jsonApiDoc = mapper.readJsonApiDocument(jsonApiDocument);
             RequestScope requestScope = new RequestScope(path, jsonApiDoc, tx, user, null, elideSettings);
+            tagRequest(requestScope, "post", path);
             BaseVisitor visitor = new PostVisitor(requestScope);
             return visit(path, requestScope, visitor);
         });
@@ -205,6 +238,7 @@ public class Elide {
         if (JsonApiPatch.isPatchExtension(contentType) && JsonApiPatch.isPatchExtension(accept)) {
             handler = (tx, user) -> {
                 PatchRequestScope requestScope = new PatchRequestScope(path, tx, user, elideSettings);
+                tagRequest(requestScope, "patch", path);
                 try {
                     Supplier<Pair<Integer, JsonNode>> responder =
                             JsonApiPatch.processJsonPatch(dataStore, path, jsonApiDocument, requestScope);
@@ -217,6 +251,7 @@ public class Elide {
             handler = (tx, user) -> {
                 JsonApiDocument jsonApiDoc = mapper.readJsonApiDocument(jsonApiDocument);
                 RequestScope requestScope = new RequestScope(path, jsonApiDoc, tx, user, null, elideSettings);
+                tagRequest(requestScope, "patch", path);
                 BaseVisitor visitor = new PatchVisitor(requestScope);
                 return visit(path, requestScope, visitor);
             };
@@ -239,20 +274,202 @@ public class Elide {
                     ? new JsonApiDocument()
                     : mapper.readJsonApiDocument(jsonApiDocument);
             RequestScope requestScope = new RequestScope(path, jsonApiDoc, tx, user, null, elideSettings);
+            tagRequest(requestScope, "delete", path);
             BaseVisitor visitor = new DeleteVisitor(requestScope);
             return visit(path, requestScope, visitor);
         });
     }
 
+    /**
+     * Handle a bulk ingest of newline delimited resources into a collection.  Records are created in chunks of
+     * {@link ElideSettings#getIngestChunkSize()}, each in its own transaction.
+     *
+     * @param path the collection path
+     * @param records one JSON:API resource object per line
+     * @param opaqueUser the opaque user
+     * @return Elide response object summarizing the created records and failed chunks
+     * @see JsonApiIngest
+     */
+    public ElideResponse ingest(String path, InputStream records, Object opaqueUser) {
+        JsonApiIngest ingest = new JsonApiIngest(records, elideSettings.getIngestChunkSize(), mapper);
+        try {
+            for (List<String> chunk = ingest.nextChunk(); !chunk.isEmpty(); chunk = ingest.nextChunk()) {
+                List<String> chunkRecords = chunk;
+                ElideResponse response = handleRequest(false, opaqueUser, dataStore::beginTransaction, (tx, user) -> {
+                    PatchRequestScope requestScope = new PatchRequestScope(path, tx, user, elideSettings);
+                    tagRequest(requestScope, "ingest", path);
+                    try {
+                        JsonApiIngest.create(path, chunkRecords, requestScope);
+                        return new HandlerResult(requestScope, () -> Pair.of(HttpStatus.SC_CREATED, null));
+                    } catch (RuntimeException e) {
+                        return new HandlerResult(requestScope, e);
+                    }
+                });
+                ingest.recordChunk(chunk.size(), response);
+            }
+        } catch (IOException e) {
+            log.debug("Failed to read ingested records", e);
+            ingest.recordUnreadable(e);
+        }
+        return ingest.toResponse();
+    }
+
+    /**
+     * Export a root collection.  The response holds one row per readable resource.  It is streamed unless reading
+     * the exported type queues lifecycle triggers, in which case it is written before the transaction commits.
+     * Streamed responses must be closed by the container once they complete.
+     *
+     * @param path the collection path
+     * @param queryParams the query params
+     * @param opaqueUser the opaque user
+     * @param format the export format
+     * @return Elide response object
+     * @see JsonApiExport
+     */
+    public ElideResponse export(String path, MultivaluedMap<String, String> queryParams, Object opaqueUser,
+                                JsonApiExport.Format format) {
+        return handleStreamingRequest(opaqueUser, dataStore::beginReadTransaction, (tx, user) -> {
+            RequestScope requestScope =
+                    new RequestScope(path, new JsonApiDocument(), tx, user, queryParams, elideSettings);
+            tagRequest(requestScope, "export", path);
+            try {
+                JsonApiExport export = JsonApiExport.open(path, format, requestScope);
+                return new HandlerResult(requestScope, () -> Pair.of(HttpStatus.SC_OK, null), export::writeTo,
+                        !export.hasReadTriggers());
+            } catch (RuntimeException e) {
+                return new HandlerResult(requestScope, e);
+            }
+        });
+    }
+
     public HandlerResult visit(String path, RequestScope requestScope, BaseVisitor visitor) {
         try {
-            Supplier<Pair<Integer, JsonNode>> responder = visitor.visit(JsonApiParser.parse(path));
+            Supplier<Pair<Integer, JsonNode>> responder = visitor.visit(requestScope.getRequestTimer()
+                    .time(RequestPhase.PATH_PARSE, () -> JsonApiParser.parse(path)));
             return new HandlerResult(requestScope, responder);
         } catch (RuntimeException e) {
             return new HandlerResult(requestScope, e);
         }
     }
 
+    /**
+     * Tags the metrics of a request with its operation and the collection named by its path.  Unknown collection
+     * names are reported as {@link RequestTimer#UNKNOWN} so that arbitrary paths do not create new tags.
+     */
+    private void tagRequest(RequestScope requestScope, String operation, String path) {
+        RequestTimer requestTimer = requestScope.getRequestTimer();
+        requestTimer.setOperation(operation);
+
+        String collection = StringUtils.substringBefore(StringUtils.strip(path, "/"), "/");
+        if (elideSettings.getDictionary().getEntityClass(collection) != null) {
+            requestTimer.setEntityType(collection);
+        }
+    }
+
+    /**
+     * Handle GET on the request executor.
+     *
+     * @param path the path
+     * @param queryParams the query params
+     * @param opaqueUser the opaque user
+     * @return the pending Elide response
+     */
+    public CompletableFuture<ElideResponse> getAsync(String path, MultivaluedMap<String, String> queryParams,
+                                                     Object opaqueUser) {
+        return getAsync(path, queryParams, opaqueUser, null);
+    }
+
+    /**
+     * Handle GET on the request executor.
+     *
+     * @param path the path
+     * @param queryParams the query params
+     * @param opaqueUser the opaque user
+     * @param ifNoneMatch the If-None-Match header or null
+     * @return the pending Elide response
+     */
+    public CompletableFuture<ElideResponse> getAsync(String path, MultivaluedMap<String, String> queryParams,
+                                                     Object opaqueUser, String ifNoneMatch) {
+        return supplyAsync(() -> get(path, queryParams, opaqueUser, ifNoneMatch));
+    }
+
+    /**
+     * Handle POST on the request executor.
+     *
+     * @param path the path
+     * @param jsonApiDocument the json api document
+     * @param opaqueUser the opaque user
+     * @return the pending Elide response
+     */
+    public CompletableFuture<ElideResponse> postAsync(String path, String jsonApiDocument, Object opaqueUser) {
+        return supplyAsync(() -> post(path, jsonApiDocument, opaqueUser));
+    }
+
+    /**
+     * Handle PATCH on the request executor.
+     *
+     * @param contentType the content type
+     * @param accept the accept
+     * @param path the path
+     * @param jsonApiDocument the json api document
+     * @param opaqueUser the opaque user
+     * @return the pending Elide response
+     */
+    public CompletableFuture<ElideResponse> patchAsync(String contentType, String accept,
+                                                       String path, String jsonApiDocument, Object opaqueUser) {
+        return supplyAsync(() -> patch(contentType, accept, path, jsonApiDocument, opaqueUser));
+    }
+
+    /**
+     * Handle DELETE on the request executor.
+     *
+     * @param path the path
+     * @param jsonApiDocument the json api document
+     * @param opaqueUser the opaque user
+     * @return the pending Elide response
+     */
+    public CompletableFuture<ElideResponse> deleteAsync(String path, String jsonApiDocument, Object opaqueUser) {
+        return supplyAsync(() -> delete(path, jsonApiDocument, opaqueUser));
+    }
+
+    /**
+     * Handle a bulk ingest on the request executor.
+     *
+     * @param path the collection path
+     * @param records one JSON:API resource object per line
+     * @param opaqueUser the opaque user
+     * @return the pending Elide response
+     */
+    public CompletableFuture<ElideResponse> ingestAsync(String path, InputStream records, Object opaqueUser) {
+        return supplyAsync(() -> ingest(path, records, opaqueUser));
+    }
+
+    /**
+     * Export a root collection on the request executor.
+     *
+     * @param path the collection path
+     * @param queryParams the query params
+     * @param opaqueUser the opaque user
+     * @param format the export format
+     * @return the pending Elide response
+     */
+    public CompletableFuture<ElideResponse> exportAsync(String path, MultivaluedMap<String, String> queryParams,
+                                                        Object opaqueUser, JsonApiExport.Format format) {
+        return supplyAsync(() -> export(path, queryParams, opaqueUser, format));
+    }
+
+    /**
+     * Runs a request on the request executor.  Each request runs entirely on one executor thread, so the thread
+     * local audit log sees the whole request.
+     *
+     * @param request the request
+     * @param <T> the response type
+     * @return the pending response
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> request) {
+        return CompletableFuture.supplyAsync(request, elideSettings.getRequestExecutor());
+    }
+
     /**
      * Handle JSON API requests.
      *
@@ -265,11 +482,30 @@ public class Elide {
     protected ElideResponse handleRequest(boolean isReadOnly, Object opaqueUser,
                                           Supplier<DataStoreTransaction> transaction,
                                           Handler<DataStoreTransaction, User, HandlerResult> handler) {
+        return handleRequest(isReadOnly, opaqueUser, transaction, handler, null);
+    }
+
+    /**
+     * Handle JSON API requests.  Successful reads are tagged when entity tags are enabled.
+     *
+     * @param isReadOnly if the transaction is read only
+     * @param opaqueUser the user object from the container
+     * @param transaction a transaction supplier
+     * @param handler a function that creates the request scope and request handler
+     * @param ifNoneMatch the If-None-Match header of a read or null
+     * @return the response
+     */
+    protected ElideResponse handleRequest(boolean isReadOnly, Object opaqueUser,
+                                          Supplier<DataStoreTransaction> transaction,
+                                          Handler<DataStoreTransaction, User, HandlerResult> handler,
+                                          String ifNoneMatch) {
         boolean isVerbose = false;
+        RequestTimer requestTimer = null;
         try (DataStoreTransaction tx = transaction.get()) {
             final User user = tx.accessUser(opaqueUser);
             HandlerResult result = handler.handle(tx, user);
             RequestScope requestScope = result.getRequestScope();
+            requestTimer = requestScope.getRequestTimer();
             isVerbose = requestScope.getPermissionExecutor().isVerbose();
             Supplier<Pair<Integer, JsonNode>> responder = result.getResponder();
             tx.preCommit();
@@ -278,14 +514,17 @@ public class Elide {
             if (!isReadOnly) {
                 requestScope.saveOrCreateObjects();
             }
-            tx.flush(requestScope);
+            requestTimer.time(RequestPhase.COMMIT, () -> tx.flush(requestScope));
 
             requestScope.runQueuedPreCommitTriggers();
 
-            ElideResponse response = buildResponse(responder.get());
+            ElideResponse response = requestTimer.time(RequestPhase.SERIALIZATION,
+                    () -> isReadOnly && elideSettings.isEntityTags()
+                            ? buildTaggedResponse(responder.get(), ifNoneMatch)
+                            : buildResponse(responder.get()));
 
             auditLogger.commit(requestScope);
-            tx.commit(requestScope);
+            requestTimer.time(RequestPhase.COMMIT, () -> tx.commit(requestScope));
             requestScope.runQueuedPostCommitTriggers();
 
             if (log.isTraceEnabled()) {
@@ -294,46 +533,211 @@ public class Elide {
 
             return response;
 
-        } catch (WebApplicationException e) {
-            throw e;
+        } catch (IOException | RuntimeException | Error e) {
+            return handleException(e, isVerbose);
 
-        } catch (ForbiddenAccessException e) {
-            if (log.isDebugEnabled()) {
-                log.debug("{}", e.getLoggedMessage());
+        } finally {
+            if (requestTimer != null) {
+                requestTimer.report();
             }
-            return buildErrorResponse(e, isVerbose);
+            auditLogger.clear();
+        }
+    }
 
-        } catch (JsonPatchExtensionException e) {
-            log.debug("JSON patch extension exception caught", e);
-            return buildErrorResponse(e, isVerbose);
+    /**
+     * Handle read only JSON API requests whose body is streamed to the client.
+     * <p>
+     * Unless the handler streams its body from the open transaction, all of the request, including triggers and the
+     * commit, runs before this method returns, so that any failure is reported with an error status.  The body is
+     * then serialized from records which have already been read.
+     * <p>
+     * A body which is streamed from the transaction (an export) is only streamed when reading it queues no lifecycle
+     * triggers.  Otherwise it is written to memory before the commit.  A streamed transaction is committed once the
+     * body has been written and is closed when the returned response is closed, whether or not the body was written.
+     *
+     * @param opaqueUser the user object from the container
+     * @param transaction a transaction supplier
+     * @param handler a function that creates the request scope and request handler
+     * @return the response
+     */
+    protected ElideResponse handleStreamingRequest(Object opaqueUser,
+                                                   Supplier<DataStoreTransaction> transaction,
+                                                   Handler<DataStoreTransaction, User, HandlerResult> handler) {
+        return handleStreamingRequest(opaqueUser, transaction, handler, null);
+    }
 
-        } catch (HttpStatusException e) {
-            log.debug("Caught HTTP status exception", e);
-            return buildErrorResponse(e, isVerbose);
+    /**
+     * Handle read only JSON API requests whose body is streamed to the client.  When entity tags are enabled, a
+     * successful document is tagged before it is streamed, since it has already been read.  A request whose
+     * If-None-Match header matches the tag is answered with 304 Not Modified and no body.
+     *
+     * @param opaqueUser the user object from the container
+     * @param transaction a transaction supplier
+     * @param handler a function that creates the request scope and request handler
+     * @param ifNoneMatch the If-None-Match header or null
+     * @return the response
+     */
+    protected ElideResponse handleStreamingRequest(Object opaqueUser,
+                                                   Supplier<DataStoreTransaction> transaction,
+                                                   Handler<DataStoreTransaction, User, HandlerResult> handler,
+                                                   String ifNoneMatch) {
+        boolean isVerbose = false;
+        boolean isStreaming = false;
+        RequestTimer requestTimer = null;
+        DataStoreTransaction openTransaction = null;
+        try {
+            // Begun inside the try so that a store which refuses the transaction is answered with its status.
+            DataStoreTransaction tx = transaction.get();
+            openTransaction = tx;
+            final User user = tx.accessUser(opaqueUser);
+            HandlerResult result = handler.handle(tx, user);
+            RequestScope requestScope = result.getRequestScope();
+            RequestTimer streamingTimer = requestScope.getRequestTimer();
+            requestTimer = streamingTimer;
+            isVerbose = requestScope.getPermissionExecutor().isVerbose();
+            Supplier<Pair<Integer, JsonNode>> responder = result.getResponder();
+            ElideResponse.BodyWriter bodyWriter = result.getBodyWriter();
+            tx.preCommit();
+            requestScope.runQueuedPreSecurityTriggers();
+            requestScope.getPermissionExecutor().executeCommitChecks();
+            streamingTimer.time(RequestPhase.COMMIT, () -> tx.flush(requestScope));
 
-        } catch (IOException e) {
+            Pair<Integer, JsonNode> response = streamingTimer.time(RequestPhase.SERIALIZATION, responder);
+            int responseCode = response.getLeft();
+
+            if (bodyWriter != null && result.isStreamable()) {
+                // The audit log is thread local, so commit it on the container thread before the body is written.
+                auditLogger.commit(requestScope);
+
+                ElideResponse streamingResponse = new ElideResponse(responseCode, null, (outputStream) -> {
+                    // Rows are loaded as they are written, and that time is counted as load time.
+                    try (RequestTimer.Timing timing = streamingTimer.start(RequestPhase.SERIALIZATION)) {
+                        bodyWriter.writeTo(outputStream);
+                    }
+                    streamingTimer.time(RequestPhase.COMMIT, () -> tx.commit(requestScope));
+                }, null, () -> {
+                    closeQuietly(tx);
+                    streamingTimer.report();
+                });
+                isStreaming = true;
+                return streamingResponse;
+            }
+
+            String body = null;
+            if (bodyWriter != null) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                try (RequestTimer.Timing timing = streamingTimer.start(RequestPhase.SERIALIZATION)) {
+                    bodyWriter.writeTo(buffer);
+                }
+                body = new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+            }
+
+            requestScope.runQueuedPreCommitTriggers();
+            auditLogger.commit(requestScope);
+            streamingTimer.time(RequestPhase.COMMIT, () -> tx.commit(requestScope));
+            requestScope.runQueuedPostCommitTriggers();
+
+            if (log.isTraceEnabled()) {
+                requestScope.getPermissionExecutor().printCheckStats();
+            }
+
+            JsonNode responseNode = response.getRight();
+            if (bodyWriter != null || responseNode == null) {
+                return new ElideResponse(responseCode, body);
+            }
+
+            String etag = null;
+            if (elideSettings.isEntityTags() && responseCode == HttpStatus.SC_OK) {
+                etag = EntityTags.of(mapper, responseNode);
+                if (EntityTags.matches(ifNoneMatch, etag)) {
+                    return new ElideResponse(HttpStatus.SC_NOT_MODIFIED, null, null, etag);
+                }
+            }
+
+            // The document only refers to records which have been read, so it is written after the commit.
+            ElideResponse streamingResponse = new ElideResponse(responseCode, null, (outputStream) -> {
+                try (RequestTimer.Timing timing = streamingTimer.start(RequestPhase.SERIALIZATION)) {
+                    mapper.writeJsonApiDocument(responseNode, outputStream);
+                }
+            }, etag, streamingTimer::report);
+            closeQuietly(tx);
+            isStreaming = true;
+            return streamingResponse;
+
+        } catch (IOException | RuntimeException | Error e) {
+            return handleException(e, isVerbose);
+
+        } finally {
+            if (!isStreaming) {
+                if (openTransaction != null) {
+                    closeQuietly(openTransaction);
+                }
+                if (requestTimer != null) {
+                    requestTimer.report();
+                }
+            }
+            auditLogger.clear();
+        }
+    }
+
+    /**
+     * Maps a failed request to its error response.  Both {@link #handleRequest} and
+     * {@link #handleStreamingRequest} report failures through here.  Failures Elide does not recognize are logged
+     * and rethrown to the container.
+     *
+     * @param e the failure
+     * @param isVerbose whether the permission executor reports verbose errors
+     * @return the error response
+     */
+    private ElideResponse handleException(Throwable e, boolean isVerbose) {
+        if (e instanceof WebApplicationException) {
+            throw (WebApplicationException) e;
+        }
+        if (e instanceof ForbiddenAccessException) {
+            if (log.isDebugEnabled()) {
+                log.debug("{}", ((ForbiddenAccessException) e).getLoggedMessage());
+            }
+            return buildErrorResponse((ForbiddenAccessException) e, isVerbose);
+        }
+        if (e instanceof JsonPatchExtensionException) {
+            log.debug("JSON patch extension exception caught", e);
+            return buildErrorResponse((JsonPatchExtensionException) e, isVerbose);
+        }
+        if (e instanceof HttpStatusException) {
+            log.debug("Caught HTTP status exception", e);
+            return buildErrorResponse((HttpStatusException) e, isVerbose);
+        }
+        if (e instanceof IOException) {
             log.error("IO Exception uncaught by Elide", e);
             return buildErrorResponse(new TransactionException(e), isVerbose);
-
-        } catch (ParseCancellationException e) {
+        }
+        if (e instanceof ParseCancellationException) {
             log.debug("Parse cancellation exception uncaught by Elide (i.e. invalid URL)", e);
-            return buildErrorResponse(new InvalidURLException(e), isVerbose);
-
-        } catch (ConstraintViolationException e) {
+            return buildErrorResponse(new InvalidURLException((ParseCancellationException) e), isVerbose);
+        }
+        if (e instanceof ConstraintViolationException) {
             log.debug("Constraint violation exception caught", e);
+            ConstraintViolationException violation = (ConstraintViolationException) e;
             String message = "Constraint violation";
-            if (CollectionUtils.isNotEmpty(e.getConstraintViolations())) {
+            if (CollectionUtils.isNotEmpty(violation.getConstraintViolations())) {
                 // Return error for the first constraint violation
-                message = IterableUtils.first(e.getConstraintViolations()).getMessage();
+                message = IterableUtils.first(violation.getConstraintViolations()).getMessage();
             }
             return buildErrorResponse(new InvalidConstraintException(message), isVerbose);
+        }
 
-        } catch (Exception | Error e) {
-            log.error("Error or exception uncaught by Elide", e);
-            throw e;
+        log.error("Error or exception uncaught by Elide", e);
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        throw (RuntimeException) e;
+    }
 
-        } finally {
-            auditLogger.clear();
+    private static void closeQuietly(DataStoreTransaction tx) {
+        try {
+            tx.close();
+        } catch (IOException e) {
+            log.debug("Failed to close transaction", e);
         }
     }
 
@@ -368,6 +772,36 @@ public class Elide {
         }
     }
 
+    /**
+     * Builds a read response with an entity tag.  When the client already holds the current document the response
+     * is 304 Not Modified, and the document is hashed as it is serialized rather than built into a body.
+     *
+     * @param response the response code and document
+     * @param ifNoneMatch the If-None-Match header or null
+     * @return the response
+     */
+    protected ElideResponse buildTaggedResponse(Pair<Integer, JsonNode> response, String ifNoneMatch) {
+        JsonNode responseNode = response.getRight();
+        if (response.getLeft() != HttpStatus.SC_OK || responseNode == null) {
+            return buildResponse(response);
+        }
+
+        try {
+            String etag = null;
+            if (ifNoneMatch != null) {
+                etag = EntityTags.of(mapper, responseNode);
+                if (EntityTags.matches(ifNoneMatch, etag)) {
+                    return new ElideResponse(HttpStatus.SC_NOT_MODIFIED, null, null, etag);
+                }
+            }
+
+            String body = mapper.writeJsonApiDocument(responseNode);
+            return new ElideResponse(HttpStatus.SC_OK, body, null, etag == null ? EntityTags.of(body) : etag);
+        } catch (IOException e) {
+            return new ElideResponse(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.toString());
+        }
+    }
+
     /**
      * A function that sets up the request handling objects.
      *
@@ -387,12 +821,31 @@ public class Elide {
         protected RequestScope requestScope;
         protected Supplier<Pair<Integer, JsonNode>> result;
         protected RuntimeException cause;
+        protected ElideResponse.BodyWriter bodyWriter;
+        protected boolean isStreamable;
 
         protected HandlerResult(RequestScope requestScope, Supplier<Pair<Integer, JsonNode>> result) {
             this.requestScope = requestScope;
             this.result = result;
         }
 
+        /**
+         * Result of a streamed request whose body is written by the given writer rather than from the document
+         * of the result.
+         *
+         * @param requestScope the request scope
+         * @param result supplies the status of the response
+         * @param bodyWriter writes the body
+         * @param isStreamable whether the body can be written after the status has been sent, which requires that
+         *                     writing it queues no lifecycle triggers
+         */
+        protected HandlerResult(RequestScope requestScope, Supplier<Pair<Integer, JsonNode>> result,
+                                ElideResponse.BodyWriter bodyWriter, boolean isStreamable) {
+            this(requestScope, result);
+            this.bodyWriter = bodyWriter;
+            this.isStreamable = isStreamable;
+        }
+
         public HandlerResult(RequestScope requestScope, RuntimeException cause) {
             this.requestScope = requestScope;
             this.cause = cause;
@@ -408,5 +861,13 @@ public class Elide {
         public RequestScope getRequestScope() {
             return requestScope;
         }
+
+        public ElideResponse.BodyWriter getBodyWriter() {
+            return bodyWriter;
+        }
+
+        public boolean isStreamable() {
+            return isStreamable;
+        }
     }
 }
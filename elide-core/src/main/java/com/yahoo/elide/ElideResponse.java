@@ -8,13 +8,26 @@ package com.yahoo.elide;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Elide response object.
+ * <p>
+ * A streamed response may hold resources, such as an open transaction, until its body has been written.  Containers
+ * must {@link #close()} it once the response completes, fails or times out, even if the body was never written.
  */
 @Builder
-public class ElideResponse {
+public class ElideResponse implements Closeable {
     @Getter private final int responseCode;
     @Getter private final String body;
+    @Getter private final BodyWriter bodyWriter;
+    @Getter private final String etag;
+    private final Closeable resources;
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     /**
      * Constructor.
@@ -23,7 +36,94 @@ public class ElideResponse {
      * @param body returned body string
      */
     public ElideResponse(int responseCode, String body) {
+        this(responseCode, body, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param responseCode HTTP response code
+     * @param body returned body string
+     * @param bodyWriter writes the body directly to the client when the response is streamed
+     */
+    public ElideResponse(int responseCode, String body, BodyWriter bodyWriter) {
+        this(responseCode, body, bodyWriter, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param responseCode HTTP response code
+     * @param body returned body string
+     * @param bodyWriter writes the body directly to the client when the response is streamed
+     * @param etag the quoted entity tag of the body or null
+     */
+    public ElideResponse(int responseCode, String body, BodyWriter bodyWriter, String etag) {
+        this(responseCode, body, bodyWriter, etag, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param responseCode HTTP response code
+     * @param body returned body string
+     * @param bodyWriter writes the body directly to the client when the response is streamed
+     * @param etag the quoted entity tag of the body or null
+     * @param resources released once the response is closed or null
+     */
+    public ElideResponse(int responseCode, String body, BodyWriter bodyWriter, String etag, Closeable resources) {
         this.responseCode = responseCode;
         this.body = body;
+        this.bodyWriter = bodyWriter;
+        this.etag = etag;
+        this.resources = resources;
+    }
+
+    /**
+     * Whether the body of this response is streamed rather than held as a string.
+     *
+     * @return true if the body must be written with {@link #writeBody(OutputStream)}
+     */
+    public boolean isStreaming() {
+        return bodyWriter != null;
+    }
+
+    /**
+     * Write the response body to the given stream.  Streamed bodies may only be written once, and the response is
+     * closed once they have been written.
+     *
+     * @param outputStream the stream to write the body to
+     * @throws IOException if the body cannot be written
+     */
+    public void writeBody(OutputStream outputStream) throws IOException {
+        if (bodyWriter != null) {
+            try {
+                bodyWriter.writeTo(outputStream);
+            } finally {
+                close();
+            }
+        } else if (body != null) {
+            outputStream.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Releases the resources held by a streamed response.  Only the first call has any effect.
+     *
+     * @throws IOException if the resources cannot be released
+     */
+    @Override
+    public void close() throws IOException {
+        if (resources != null && closed.compareAndSet(false, true)) {
+            resources.close();
+        }
+    }
+
+    /**
+     * Writes a response body directly to an output stream.
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
     }
 }
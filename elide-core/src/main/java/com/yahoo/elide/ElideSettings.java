@@ -9,9 +9,11 @@ import com.yahoo.elide.audit.AuditLogger;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.dialect.FilterExpressionCache;
 import com.yahoo.elide.core.filter.dialect.JoinFilterDialect;
 import com.yahoo.elide.core.filter.dialect.SubqueryFilterDialect;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
+import com.yahoo.elide.metrics.ElideMetrics;
 import com.yahoo.elide.security.PermissionExecutor;
 import com.yahoo.elide.utils.coerce.converters.Serde;
 
@@ -20,6 +22,7 @@ import lombok.Getter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -41,4 +44,14 @@ public class ElideSettings {
     @Getter private final boolean returnErrorObjects;
     @Getter private final Map<Class, Serde> serdes;
     @Getter private final boolean encodeErrorResponses;
+    @Getter private final boolean streamingResponses;
+    @Getter private final FilterExpressionCache filterExpressionCache;
+    @Getter private final boolean entityTags;
+    @Getter private final Executor requestExecutor;
+    @Getter private final int ingestChunkSize;
+    @Getter private final ElideMetrics metrics;
+    @Getter private final long graphQLDocumentCacheSize;
+    @Getter private final long graphQLPersistedQueryCacheSize;
+    @Getter private final int graphQLMaxQueryDepth;
+    @Getter private final long graphQLMaxQueryCost;
 }
@@ -11,18 +11,24 @@ import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.HttpStatus;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.dialect.CaseSensitivityStrategy;
 import com.yahoo.elide.core.filter.dialect.DefaultFilterDialect;
+import com.yahoo.elide.core.filter.dialect.FilterExpressionCache;
 import com.yahoo.elide.core.filter.dialect.JoinFilterDialect;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.core.filter.dialect.SubqueryFilterDialect;
 import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.extensions.JsonApiIngest;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
+import com.yahoo.elide.metrics.ElideMetrics;
 import com.yahoo.elide.security.PermissionExecutor;
 import com.yahoo.elide.security.executors.ActivePermissionExecutor;
 import com.yahoo.elide.utils.coerce.converters.EpochToDateConverter;
 import com.yahoo.elide.utils.coerce.converters.ISO8601DateSerde;
 import com.yahoo.elide.utils.coerce.converters.Serde;
 
+import com.google.common.util.concurrent.MoreExecutors;
+
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
@@ -31,6 +37,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -51,6 +58,16 @@ public class ElideSettingsBuilder {
     private int updateStatusCode;
     private boolean returnErrorObjects;
     private boolean encodeErrorResponses;
+    private boolean streamingResponses;
+    private FilterExpressionCache filterExpressionCache;
+    private boolean entityTags;
+    private Executor requestExecutor = MoreExecutors.directExecutor();
+    private int ingestChunkSize = JsonApiIngest.DEFAULT_CHUNK_SIZE;
+    private ElideMetrics metrics = ElideMetrics.NONE;
+    private long graphQLDocumentCacheSize = 1000;
+    private long graphQLPersistedQueryCacheSize = 1000;
+    private int graphQLMaxQueryDepth;
+    private long graphQLMaxQueryCost;
 
     /**
      * A new builder used to generate Elide instances. Instantiates an {@link EntityDictionary} without
@@ -73,13 +90,15 @@ public class ElideSettingsBuilder {
 
     public ElideSettings build() {
         if (joinFilterDialects.isEmpty()) {
-            joinFilterDialects.add(new DefaultFilterDialect(entityDictionary));
-            joinFilterDialects.add(new RSQLFilterDialect(entityDictionary));
+            joinFilterDialects.add(new DefaultFilterDialect(entityDictionary, filterExpressionCache));
+            joinFilterDialects.add(new RSQLFilterDialect(entityDictionary,
+                    new CaseSensitivityStrategy.FIQLCompliant(), filterExpressionCache));
         }
 
         if (subqueryFilterDialects.isEmpty()) {
-            subqueryFilterDialects.add(new DefaultFilterDialect(entityDictionary));
-            subqueryFilterDialects.add(new RSQLFilterDialect(entityDictionary));
+            subqueryFilterDialects.add(new DefaultFilterDialect(entityDictionary, filterExpressionCache));
+            subqueryFilterDialects.add(new RSQLFilterDialect(entityDictionary,
+                    new CaseSensitivityStrategy.FIQLCompliant(), filterExpressionCache));
         }
 
         return new ElideSettings(
@@ -96,7 +115,17 @@ public class ElideSettingsBuilder {
                 updateStatusCode,
                 returnErrorObjects,
                 serdes,
-                encodeErrorResponses);
+                encodeErrorResponses,
+                streamingResponses,
+                filterExpressionCache,
+                entityTags,
+                requestExecutor,
+                ingestChunkSize,
+                metrics,
+                graphQLDocumentCacheSize,
+                graphQLPersistedQueryCacheSize,
+                graphQLMaxQueryDepth,
+                graphQLMaxQueryCost);
     }
 
     public ElideSettingsBuilder withAuditLogger(AuditLogger auditLogger) {
@@ -201,4 +230,119 @@ public class ElideSettingsBuilder {
         this.encodeErrorResponses = encodeErrorResponses;
         return this;
     }
+
+    public ElideSettingsBuilder withStreamingResponses(boolean streamingResponses) {
+        this.streamingResponses = streamingResponses;
+        return this;
+    }
+
+    /**
+     * Caches parsed filter expressions across requests.  The cache is used by the default filter dialects
+     * and its statistics are available from {@link ElideSettings#getFilterExpressionCache()}.
+     *
+     * @param maximumSize the maximum number of parsed filter expressions to keep
+     * @return the builder
+     */
+    public ElideSettingsBuilder withFilterExpressionCache(long maximumSize) {
+        return withFilterExpressionCache(new FilterExpressionCache(maximumSize));
+    }
+
+    /**
+     * Caches parsed filter expressions across requests in the given cache.  The cache is used by the default
+     * filter dialects.  Dialects added with {@link #withJoinFilterDialect} or {@link #withSubqueryFilterDialect}
+     * replace the defaults and only use a cache they were constructed with, so pass them the same cache.
+     *
+     * @param filterExpressionCache the cache or null to parse every filter
+     * @return the builder
+     */
+    public ElideSettingsBuilder withFilterExpressionCache(FilterExpressionCache filterExpressionCache) {
+        this.filterExpressionCache = filterExpressionCache;
+        return this;
+    }
+
+    /**
+     * Adds an ETag to successful JSON-API reads and answers reads whose If-None-Match header matches with
+     * 304 Not Modified.
+     *
+     * @param entityTags whether to generate entity tags
+     * @return the builder
+     */
+    public ElideSettingsBuilder withEntityTags(boolean entityTags) {
+        this.entityTags = entityTags;
+        return this;
+    }
+
+    /**
+     * Sets the executor which runs the asynchronous request methods of {@link Elide}, such as
+     * {@link Elide#getAsync}.  Requests block while they wait on the data store, so the executor should either
+     * create threads cheaply (for example a virtual thread per task executor) or be sized for the expected
+     * concurrency.  By default requests run on the calling thread.
+     *
+     * @param requestExecutor the request executor
+     * @return the builder
+     */
+    public ElideSettingsBuilder withRequestExecutor(Executor requestExecutor) {
+        this.requestExecutor = requestExecutor;
+        return this;
+    }
+
+    /**
+     * Sets how many records of a bulk ingest are created and committed together.  Each chunk is held in memory
+     * until it commits.
+     *
+     * @param ingestChunkSize the number of records per transaction
+     * @return the builder
+     */
+    public ElideSettingsBuilder withIngestChunkSize(int ingestChunkSize) {
+        this.ingestChunkSize = ingestChunkSize;
+        return this;
+    }
+
+    /**
+     * Sets where the time spent in each phase of a request is reported.  Requests are not timed by default.
+     *
+     * @param metrics the metrics
+     * @return the builder
+     */
+    public ElideSettingsBuilder withMetrics(ElideMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Sets how many parsed and validated GraphQL documents are kept across requests.
+     *
+     * @param graphQLDocumentCacheSize the maximum number of documents
+     * @return the builder
+     */
+    public ElideSettingsBuilder withGraphQLDocumentCacheSize(long graphQLDocumentCacheSize) {
+        this.graphQLDocumentCacheSize = graphQLDocumentCacheSize;
+        return this;
+    }
+
+    /**
+     * Sets how many documents clients can store with GraphQL automatic persisted queries.
+     *
+     * @param graphQLPersistedQueryCacheSize the maximum number of stored documents
+     * @return the builder
+     */
+    public ElideSettingsBuilder withGraphQLPersistedQueryCacheSize(long graphQLPersistedQueryCacheSize) {
+        this.graphQLPersistedQueryCacheSize = graphQLPersistedQueryCacheSize;
+        return this;
+    }
+
+    /**
+     * Rejects GraphQL queries which nest entity collections and relationships deeper than the maximum depth or
+     * whose estimated cost is above the maximum cost.  A limit of zero or less is not enforced, which is the
+     * default.
+     *
+     * @param maxDepth the maximum depth
+     * @param maxCost the maximum estimated cost
+     * @return the builder
+     */
+    public ElideSettingsBuilder withGraphQLQueryCostLimits(int maxDepth, long maxCost) {
+        this.graphQLMaxQueryDepth = maxDepth;
+        this.graphQLMaxQueryCost = maxCost;
+        return this;
+    }
 }
@@ -14,7 +14,10 @@ import com.yahoo.elide.security.User;
 
 import java.io.Closeable;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -165,6 +168,26 @@ public interface DataStoreTransaction extends Closeable {
             Optional<Pagination> pagination,
             RequestScope scope);
 
+    /**
+     * Loads a collection of objects which the caller reads once, in order, and does not hold on to.  Data stores
+     * which can fetch rows from a server side cursor should override this method so that the collection is not
+     * loaded into memory at once.
+     *
+     * @param entityClass - the class to load
+     * @param filterExpression - filters that can be evaluated in the data store.
+     * It is optional for the data store to attempt evaluation.
+     * @param sorting - sorting which can be pushed down to the data store.
+     * @param scope - contains request level metadata.
+     * @return the loaded objects
+     */
+    default Iterable<Object> streamObjects(
+            Class<?> entityClass,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            RequestScope scope) {
+        return loadObjects(entityClass, filterExpression, sorting, Optional.empty(), scope);
+    }
+
     /**
      * Retrieve a relation from an object.
      *
@@ -189,6 +212,33 @@ public interface DataStoreTransaction extends Closeable {
         return PersistentResource.getValue(entity, relationName, scope);
     }
 
+    /**
+     * Retrieve the same relation from a batch of objects of the same type.  Data stores which can
+     * load the relation for many owners with a single query should override this method.
+     *
+     * @param relationTx - The datastore that governs objects of the relationhip's type.
+     * @param entities - The objects which own the relationship.
+     * @param relationName - name of the relationship.
+     * @param filterExpression - filtering which can be pushed down to the data store.
+     * It is optional for the data store to attempt evaluation.
+     * @param sorting - sorting which can be pushed down to the data store.
+     * @param scope - contains request level metadata.
+     * @return the object(s) in the relation keyed by (identity of) the owning object
+     */
+    default Map<Object, Object> getRelations(
+            DataStoreTransaction relationTx,
+            Collection<Object> entities,
+            String relationName,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            RequestScope scope) {
+        Map<Object, Object> relations = new IdentityHashMap<>();
+        for (Object entity : entities) {
+            relations.put(entity, getRelation(relationTx, entity, relationName,
+                    filterExpression, sorting, Optional.empty(), scope));
+        }
+        return relations;
+    }
 
     /**
      * Elide core will update the in memory representation of the objects to the requested state.
@@ -258,6 +308,19 @@ public interface DataStoreTransaction extends Closeable {
                               RequestScope scope) {
     }
 
+    /**
+     * Called before Elide changes an attribute or relationship of an object held by the transaction.
+     * <p>
+     * Elide calls this for every change, including elements added to or removed from a to-many relationship in
+     * place, so data stores which need the prior state of an object (for example to reverse a change) can capture
+     * it the first time the object is marked dirty instead of when it is loaded.
+     *
+     * @param entity - The object about to change.
+     * @param scope - contains request level metadata.
+     */
+    default void markDirty(Object entity, RequestScope scope) {
+    }
+
     /**
      * Whether or not the transaction can filter the provided class with the provided expression.
      * @param entityClass The class to filter
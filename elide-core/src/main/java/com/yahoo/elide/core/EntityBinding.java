@@ -111,6 +111,8 @@ public class EntityBinding {
     public final ConcurrentHashMap<String, String> relationshipToInverse = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, CascadeType[]> relationshipToCascadeTypes = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, AccessibleObject> fieldsToValues = new ConcurrentHashMap<>();
+    public final ConcurrentHashMap<String, FieldAccessors.Getter> fieldsToGetters = new ConcurrentHashMap<>();
+    public final ConcurrentHashMap<String, FieldAccessors.Setter> fieldsToSetters = new ConcurrentHashMap<>();
     public final MultiValuedMap<Pair<Class, String>, LifeCycleHook> fieldsToTriggers = new HashSetValuedHashMap<>();
     public final MultiValuedMap<Class, LifeCycleHook> classToTriggers = new HashSetValuedHashMap<>();
     public final ConcurrentHashMap<String, Class<?>> fieldsToTypes = new ConcurrentHashMap<>();
@@ -296,6 +298,7 @@ public class EntityBinding {
         idFieldName = fieldName;
 
         fieldsToValues.put(fieldName, fieldOrMethod);
+        bindAccessors(cls, fieldName, fieldType, fieldOrMethod);
 
         if (idField != null && !fieldOrMethod.equals(idField)) {
             throw new DuplicateMappingException(type + " " + cls.getName() + ":" + fieldName);
@@ -391,12 +394,34 @@ public class EntityBinding {
         relationshipsDeque.push(fieldName);
         fieldsToValues.put(fieldName, fieldOrMethod);
         fieldsToTypes.put(fieldName, fieldType);
+        bindAccessors(entityClass, fieldName, fieldType, fieldOrMethod);
     }
 
     private void bindAttr(AccessibleObject fieldOrMethod, String fieldName, Class<?> fieldType) {
         attributesDeque.push(fieldName);
         fieldsToValues.put(fieldName, fieldOrMethod);
         fieldsToTypes.put(fieldName, fieldType);
+        bindAccessors(entityClass, fieldName, fieldType, fieldOrMethod);
+    }
+
+    /**
+     * Generate the getter and setter for a field so that reads and writes avoid reflection.
+     *
+     * @param cls           Class type which owns the field
+     * @param fieldName     Name of the field
+     * @param fieldType     Type of the field
+     * @param fieldOrMethod Field or method bound to the field name
+     */
+    private void bindAccessors(Class<?> cls, String fieldName, Class<?> fieldType, AccessibleObject fieldOrMethod) {
+        FieldAccessors.Getter getter = FieldAccessors.getter(fieldOrMethod);
+        if (getter != null) {
+            fieldsToGetters.put(fieldName, getter);
+        }
+
+        FieldAccessors.Setter setter = FieldAccessors.setter(cls, fieldName, fieldType, fieldOrMethod);
+        if (setter != null) {
+            fieldsToSetters.put(fieldName, setter);
+        }
     }
 
     /**
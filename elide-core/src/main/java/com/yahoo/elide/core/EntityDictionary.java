@@ -20,11 +20,13 @@ import com.yahoo.elide.core.exceptions.HttpStatusException;
 import com.yahoo.elide.core.exceptions.InternalServerErrorException;
 import com.yahoo.elide.core.exceptions.InvalidAttributeException;
 import com.yahoo.elide.functions.LifeCycleHook;
+import com.yahoo.elide.parsers.expression.ExpressionTemplateVisitor;
 import com.yahoo.elide.security.checks.Check;
 import com.yahoo.elide.security.checks.prefab.Collections.AppendOnly;
 import com.yahoo.elide.security.checks.prefab.Collections.RemoveOnly;
 import com.yahoo.elide.security.checks.prefab.Common;
 import com.yahoo.elide.security.checks.prefab.Role;
+import com.yahoo.elide.security.permissions.expressions.ExpressionTemplate;
 import com.yahoo.elide.utils.ClassScanner;
 import com.yahoo.elide.utils.coerce.CoerceUtil;
 
@@ -34,6 +36,7 @@ import com.google.common.collect.Maps;
 
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Triple;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -81,6 +84,8 @@ public class EntityDictionary {
     protected final CopyOnWriteArrayList<Class<?>> bindEntityRoots = new CopyOnWriteArrayList<>();
     protected final ConcurrentHashMap<Class<?>, List<Class<?>>> subclassingEntities = new ConcurrentHashMap<>();
     protected final BiMap<String, Class<? extends Check>> checkNames;
+    protected final ConcurrentHashMap<Triple<Class<?>, Class<? extends Annotation>, String>,
+            Optional<ExpressionTemplate>> permissionTemplates = new ConcurrentHashMap<>();
     protected final Injector injector;
 
     public final static String REGULAR_ID_NAME = "id";
@@ -273,6 +278,49 @@ public class EntityDictionary {
         return binding.entityPermissions.getFieldChecksForPermission(field, annotationClass);
     }
 
+    /**
+     * Gets the compiled permission expression (if any) at the class level.  Permission expressions are compiled
+     * once and shared by every request.
+     *
+     * @param resourceClass the entity to check
+     * @param annotationClass the permission to look for
+     * @return the compiled permission expression, if one exists
+     *         or {@code null} if the permission is not specified at a class level
+     */
+    public ExpressionTemplate getPermissionTemplateForClass(Class<?> resourceClass,
+            Class<? extends Annotation> annotationClass) {
+        return permissionTemplates.computeIfAbsent(Triple.of(resourceClass, annotationClass, null),
+                key -> compilePermissions(getPermissionsForClass(resourceClass, annotationClass))).orElse(null);
+    }
+
+    /**
+     * Gets the compiled permission expression (if any) for a field.  Permission expressions are compiled
+     * once and shared by every request.
+     *
+     * @param resourceClass the entity to check
+     * @param field the field to inspect
+     * @param annotationClass the permission to look for
+     * @return the compiled permission expression, if one exists
+     *         or {@code null} if the permission is not specified on that field
+     */
+    public ExpressionTemplate getPermissionTemplateForField(Class<?> resourceClass,
+            String field,
+            Class<? extends Annotation> annotationClass) {
+        if (field == null) {
+            return null;
+        }
+        return permissionTemplates.computeIfAbsent(Triple.of(resourceClass, annotationClass, field),
+                key -> compilePermissions(getPermissionsForField(resourceClass, field, annotationClass)))
+                .orElse(null);
+    }
+
+    private Optional<ExpressionTemplate> compilePermissions(ParseTree permissions) {
+        if (permissions == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ExpressionTemplateVisitor(this).visit(permissions));
+    }
+
     /**
      * Returns the check mapped to a particular identifier.
      *
@@ -1327,6 +1375,15 @@ public class EntityDictionary {
      * @return the value
      */
     public Object getValue(Object target, String fieldName, RequestScope scope) {
+        FieldAccessors.Getter getter = getEntityBinding(target.getClass()).fieldsToGetters.get(fieldName);
+        if (getter != null) {
+            try {
+                return getter.get(target, scope);
+            } catch (Exception e) {
+                throw handleAccessorException(e);
+            }
+        }
+
         AccessibleObject accessor = getAccessibleObject(target, fieldName);
         try {
             if (accessor instanceof Method) {
@@ -1347,6 +1404,37 @@ public class EntityDictionary {
         throw new InvalidAttributeException(fieldName, getJsonAliasFor(target.getClass()));
     }
 
+    /**
+     * Resolves the getter of a field once so that the field can be read from many entities, for example when
+     * filtering in memory.  Objects which are not instances of the entity class are read with
+     * {@link #getValue(Object, String, RequestScope)}.
+     * @param entityClass the entity class
+     * @param fieldName the field name
+     * @param scope the request scope
+     * @return a function which returns the value of the field
+     */
+    public Function<Object, Object> getValueAccessor(Class<?> entityClass, String fieldName, RequestScope scope) {
+        Class<?> boundClass = isMappedInterface(entityClass) ? null : lookupBoundClass(entityClass);
+        FieldAccessors.Getter getter = (boundClass == null)
+                ? null
+                : getEntityBinding(boundClass).fieldsToGetters.get(fieldName);
+
+        if (getter == null) {
+            return target -> getValue(target, fieldName, scope);
+        }
+
+        return target -> {
+            if (!entityClass.isInstance(target)) {
+                return getValue(target, fieldName, scope);
+            }
+            try {
+                return getter.get(target, scope);
+            } catch (Exception e) {
+                throw handleAccessorException(e);
+            }
+        };
+    }
+
     /**
      * Invoke the set[fieldName] method on the target object OR set the field with the corresponding name.
      * @param fieldName the field name to set or invoke equivalent set method
@@ -1361,6 +1449,20 @@ public class EntityDictionary {
             Class<?> fieldClass = getType(targetClass, fieldName);
             String realName = getNameFromAlias(target, fieldName);
             fieldAlias = (realName != null) ? realName : fieldName;
+
+            FieldAccessors.Setter setter = getEntityBinding(targetClass).fieldsToSetters.get(fieldAlias);
+            if (setter != null && fieldClass != null) {
+                Object coercedValue = coerce(target, value, fieldAlias, fieldClass);
+                if (setter.accepts(coercedValue)) {
+                    try {
+                        setter.set(target, coercedValue);
+                    } catch (Exception e) {
+                        throw handleAccessorException(e);
+                    }
+                    return;
+                }
+            }
+
             String setMethod = "set" + StringUtils.capitalize(fieldAlias);
             Method method = EntityDictionary.findMethod(targetClass, setMethod, fieldClass);
             method.invoke(target, coerce(target, value, fieldAlias, fieldClass));
@@ -1398,6 +1500,16 @@ public class EntityDictionary {
         return new InternalServerErrorException("Unexpected exception caught", e);
     }
 
+    /**
+     * Handle an exception thrown by a generated field accessor the same way as one thrown through reflection.
+     *
+     * @param e Exception the exception thrown by the getter or setter
+     * @return Equivalent runtime exception
+     */
+    private static RuntimeException handleAccessorException(Exception e) {
+        return handleInvocationTargetException(new InvocationTargetException(e));
+    }
+
     /**
      * Coerce provided value into expected class type.
      *
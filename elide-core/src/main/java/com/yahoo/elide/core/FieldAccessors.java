@@ -0,0 +1,223 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Generates the functions used to read and write entity fields so that attribute access does not go through
+ * reflection on every call.
+ * <p>
+ * Getters and setters are compiled with {@link LambdaMetafactory} when the entity is visible to Elide's class loader.
+ * Otherwise (and for fields) they are bound to a {@link MethodHandle}.  If neither is possible no accessor is
+ * generated and {@link EntityDictionary} keeps using reflection for that field.
+ */
+@Slf4j
+public final class FieldAccessors {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SCOPED_GETTER_TYPE =
+            MethodType.methodType(Object.class, Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private FieldAccessors() {
+    }
+
+    /**
+     * Reads the value of an entity field.
+     */
+    @FunctionalInterface
+    public interface Getter {
+        Object get(Object target, RequestScope scope);
+    }
+
+    /**
+     * Writes the value of an entity field.
+     */
+    public static class Setter {
+        private final Class<?> valueType;
+        private final boolean primitive;
+        private final BiConsumer<Object, Object> setter;
+
+        private Setter(Class<?> valueType, BiConsumer<Object, Object> setter) {
+            this.valueType = ClassUtils.primitiveToWrapper(valueType);
+            this.primitive = valueType.isPrimitive();
+            this.setter = setter;
+        }
+
+        /**
+         * Whether the value can be passed to the setter without conversion.
+         *
+         * @param value the value to set
+         * @return true if {@link #set(Object, Object)} accepts the value
+         */
+        public boolean accepts(Object value) {
+            return value == null ? !primitive : valueType.isInstance(value);
+        }
+
+        public void set(Object target, Object value) {
+            setter.accept(target, value);
+        }
+    }
+
+    /**
+     * Generates a getter for a field or method bound to an entity.
+     *
+     * @param fieldOrMethod the field, getter or request scoped computed method
+     * @return the getter or null if one could not be generated
+     */
+    public static Getter getter(AccessibleObject fieldOrMethod) {
+        try {
+            if (fieldOrMethod instanceof Field) {
+                MethodHandle handle = LOOKUP.unreflectGetter((Field) fieldOrMethod).asType(GETTER_TYPE);
+                return (target, scope) -> invokeGetter(handle, target);
+            }
+
+            Method method = (Method) fieldOrMethod;
+            MethodHandle handle = LOOKUP.unreflect(method);
+
+            if (method.getParameterCount() == 0) {
+                if (isLinkable(method)) {
+                    Function<Object, Object> function = generate(Function.class, "apply", GETTER_TYPE, handle);
+                    return (target, scope) -> function.apply(target);
+                }
+                MethodHandle generic = handle.asType(GETTER_TYPE);
+                return (target, scope) -> invokeGetter(generic, target);
+            }
+
+            if (isLinkable(method)) {
+                BiFunction<Object, Object, Object> function =
+                        generate(BiFunction.class, "apply", SCOPED_GETTER_TYPE, handle);
+                return function::apply;
+            }
+            MethodHandle generic = handle.asType(SCOPED_GETTER_TYPE);
+            return (target, scope) -> invokeScopedGetter(generic, target, scope);
+        } catch (Throwable e) {
+            log.debug("Unable to generate getter for {}", fieldOrMethod, e);
+            return null;
+        }
+    }
+
+    /**
+     * Generates a setter for a field bound to an entity.  Like {@link EntityDictionary#setValue} this prefers
+     * a {@code set<Field>} method and falls back to writing the field directly.
+     *
+     * @param entityClass the entity class
+     * @param fieldName the name of the field
+     * @param fieldType the type of the field
+     * @param fieldOrMethod the field or getter bound to the entity
+     * @return the setter or null if one could not be generated
+     */
+    public static Setter setter(Class<?> entityClass, String fieldName, Class<?> fieldType,
+                                AccessibleObject fieldOrMethod) {
+        try {
+            Method method;
+            try {
+                method = EntityDictionary.findMethod(entityClass, "set" + StringUtils.capitalize(fieldName),
+                        fieldType);
+            } catch (NoSuchMethodException e) {
+                method = null;
+            }
+
+            if (method != null) {
+                MethodHandle handle = LOOKUP.unreflect(method);
+                if (isLinkable(method)) {
+                    return new Setter(fieldType, generate(BiConsumer.class, "accept", SETTER_TYPE, handle));
+                }
+                MethodHandle generic = handle.asType(SETTER_TYPE);
+                return new Setter(fieldType, (target, value) -> invokeSetter(generic, target, value));
+            }
+
+            if (fieldOrMethod instanceof Field) {
+                Field field = (Field) fieldOrMethod;
+                MethodHandle generic = LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+                return new Setter(field.getType(), (target, value) -> invokeSetter(generic, target, value));
+            }
+        } catch (Throwable e) {
+            log.debug("Unable to generate setter for {}.{}", entityClass.getName(), fieldName, e);
+        }
+        return null;
+    }
+
+    /**
+     * Compiles a method handle into an instance of a functional interface.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T generate(Class<? super T> functionalInterface, String name, MethodType erasedType,
+                                  MethodHandle implementation) throws Throwable {
+        MethodType instantiatedType = implementation.type().wrap();
+        if (erasedType.returnType() == void.class) {
+            instantiatedType = instantiatedType.changeReturnType(void.class);
+        }
+
+        CallSite site = LambdaMetafactory.metafactory(LOOKUP, name, MethodType.methodType(functionalInterface),
+                erasedType, implementation, instantiatedType);
+        return (T) site.getTarget().invoke();
+    }
+
+    /**
+     * Whether a generated lambda can link against the method.  The lambda is defined alongside this class so the
+     * method and every type in its signature must be public and visible from Elide's class loader.
+     */
+    private static boolean isLinkable(Method method) {
+        if (!Modifier.isPublic(method.getModifiers())
+                || !Modifier.isPublic(method.getDeclaringClass().getModifiers())
+                || !isVisible(method.getDeclaringClass())
+                || !isVisible(method.getReturnType())) {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!isVisible(parameterType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> cls) {
+        if (cls.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(cls.getName(), false, FieldAccessors.class.getClassLoader()) == cls;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @SneakyThrows
+    private static Object invokeGetter(MethodHandle handle, Object target) {
+        return (Object) handle.invokeExact(target);
+    }
+
+    @SneakyThrows
+    private static Object invokeScopedGetter(MethodHandle handle, Object target, Object scope) {
+        return (Object) handle.invokeExact(target, scope);
+    }
+
+    @SneakyThrows
+    private static void invokeSetter(MethodHandle handle, Object target, Object value) {
+        handle.invokeExact(target, value);
+    }
+}
@@ -5,22 +5,24 @@
  */
 package com.yahoo.elide.core;
 
+import java.util.HashMap;
 import java.util.IdentityHashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Cache to store object entity.
+ * <p>
+ * Entities are indexed first by type and then by id so that lookups do not build a composite key.
  */
 public class ObjectEntityCache {
-    private final Map<String, Object> resourceCache;
+    private final Map<String, Map<String, Object>> resourceCache;
     private final Map<Object, String> uuidReverseMap;
 
     /**
      * Constructor.
      */
     public ObjectEntityCache() {
-        resourceCache = new LinkedHashMap<>();
+        resourceCache = new HashMap<>();
         uuidReverseMap = new IdentityHashMap<>();
     }
 
@@ -34,7 +36,7 @@ public class ObjectEntityCache {
      */
     public Object put(String type, String id, Object entity) {
         uuidReverseMap.put(entity, id);
-        return resourceCache.put(getCacheKey(type, id), entity);
+        return resourceCache.computeIfAbsent(type, unused -> new HashMap<>()).put(id, entity);
     }
 
     /**
@@ -45,7 +47,8 @@ public class ObjectEntityCache {
      * @return object
      */
     public Object get(String type, String id) {
-        return resourceCache.get(getCacheKey(type, id));
+        Map<String, Object> entitiesById = resourceCache.get(type);
+        return entitiesById == null ? null : entitiesById.get(id);
     }
 
     /**
@@ -57,15 +60,4 @@ public class ObjectEntityCache {
     public String getUUID(Object obj) {
         return uuidReverseMap.get(obj);
     }
-
-    /**
-     * Get key for resource cache.
-     *
-     * @param type the type
-     * @param id the id
-     * @return key
-     */
-    private static String getCacheKey(String type, String id) {
-        return type + "_" + id;
-    }
 }
@@ -30,6 +30,8 @@ import com.yahoo.elide.jsonapi.models.Relationship;
 import com.yahoo.elide.jsonapi.models.Resource;
 import com.yahoo.elide.jsonapi.models.ResourceIdentifier;
 import com.yahoo.elide.jsonapi.models.SingleElementSet;
+import com.yahoo.elide.metrics.RequestPhase;
+import com.yahoo.elide.metrics.RequestTimer;
 import com.yahoo.elide.parsers.expression.CanPaginateVisitor;
 import com.yahoo.elide.security.ChangeSpec;
 import com.yahoo.elide.security.permissions.ExpressionResult;
@@ -52,6 +54,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -63,6 +67,7 @@ import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 /**
  * Resource wrapper around Entity bean.
@@ -208,8 +213,8 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
             Optional<FilterExpression> permissionFilter = getPermissionFilterExpression(loadClass,
                     requestScope);
             Class<?> idType = dictionary.getIdType(loadClass);
-            obj = tx.loadObject(loadClass, (Serializable) CoerceUtil.coerce(id, idType),
-                    permissionFilter, requestScope);
+            obj = timeLoad(requestScope, () -> tx.loadObject(loadClass, (Serializable) CoerceUtil.coerce(id, idType),
+                    permissionFilter, requestScope));
             if (obj == null) {
                 throw new InvalidObjectIdentifierException(id, dictionary.getJsonAliasFor(loadClass));
             }
@@ -305,9 +310,12 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
             }
         }
 
+        Optional<FilterExpression> loadFilter = Optional.ofNullable(filterExpression);
+        Iterable<Object> loaded = timeLoad(requestScope, () -> tx.loadObjects(loadClass, loadFilter, sorting,
+                pagination.map(p -> p.evaluate(loadClass)), requestScope));
+
         Set<PersistentResource> existingResources = filter(ReadPermission.class, filter,
-                new PersistentResourceSet(tx.loadObjects(loadClass, Optional.ofNullable(filterExpression), sorting,
-                pagination.map(p -> p.evaluate(loadClass)), requestScope), requestScope));
+                new PersistentResourceSet(loaded, requestScope));
 
         Set<PersistentResource> allResources = Sets.union(newResources, existingResources);
 
@@ -323,6 +331,61 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         return allResources;
     }
 
+    /**
+     * Stream a collection from the datastore.  Records are loaded and checked for read permission one at a time as
+     * the result is iterated, so the result can only be iterated once and is not paginated.
+     *
+     * @param loadClass the load class
+     * @param filter filters which can be evaluated in the data store
+     * @param sorting the sort order
+     * @param requestScope the request scope
+     * @return the readable resources of the collection
+     */
+    public static Iterable<PersistentResource> streamRecords(
+            Class<?> loadClass,
+            Optional<FilterExpression> filter,
+            Optional<Sorting> sorting,
+            RequestScope requestScope) {
+
+        if (shouldSkipCollection(loadClass, ReadPermission.class, requestScope)) {
+            return Collections.emptyList();
+        }
+
+        Optional<FilterExpression> filterExpression = filter;
+        Optional<FilterExpression> permissionFilter = getPermissionFilterExpression(loadClass, requestScope);
+        if (permissionFilter.isPresent()) {
+            filterExpression = Optional.of(filter
+                    .map(fe -> (FilterExpression) new AndFilterExpression(fe, permissionFilter.get()))
+                    .orElse(permissionFilter.get()));
+        }
+
+        Optional<FilterExpression> streamFilter = filterExpression;
+        Iterable<Object> records = timeLoad(requestScope, () -> requestScope.getTransaction()
+                .streamObjects(loadClass, streamFilter, sorting, requestScope));
+
+        // Stores fetch further rows as the records are iterated, so iterating counts as load time.
+        Iterable<Object> timedRecords = () -> {
+            Iterator<Object> iterator = timeLoad(requestScope, records::iterator);
+            return new Iterator<Object>() {
+                @Override
+                public boolean hasNext() {
+                    return timeLoad(requestScope, iterator::hasNext);
+                }
+
+                @Override
+                public Object next() {
+                    return timeLoad(requestScope, iterator::next);
+                }
+            };
+        };
+
+        return () -> StreamSupport.stream(timedRecords.spliterator(), false)
+                .map(obj -> (PersistentResource) new PersistentResource<>(obj, null, requestScope.getUUIDFor(obj),
+                        requestScope))
+                .filter(resource -> isVisible(ReadPermission.class, filter, resource))
+                .iterator();
+    }
+
     /**
      * Update attribute in existing resource.
      *
@@ -1006,21 +1069,118 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
 
         Optional<Pagination> computedPagination = pagination.map(p -> p.evaluate(relationClass));
 
-        //Invoke filterExpressionCheck and then merge with filterExpression.
+        Optional<FilterExpression> computedFilters =
+                mergePermissionFilter(relationClass, filterExpression, requestScope);
+
+        Object val = timeLoad(requestScope, () -> transaction.getRelation(transaction, obj, relationName,
+                    computedFilters, sorting, computedPagination, requestScope));
+
+        return wrapRelation(type, val);
+    }
+
+    /**
+     * Get collections of resources from the same relation field of many resources.  The relationship is
+     * fetched for all the resources with a single call to the data store transaction so that stores which
+     * support it can avoid issuing one query per resource.
+     * <p>
+     * All resources must be of the same type.  A resource maps to an empty set when the related type cannot be
+     * read and the relationship is skipped.  A resource whose relationship is forbidden is left out of the result
+     * so that the caller can read it on its own and report the failure.
+     *
+     * @param resources the resources which own the relationship
+     * @param relationName field
+     * @param filterExpression An optional filter expression
+     * @param sorting the sorting clause
+     * @return the relation resources of each resource
+     */
+    public static Map<PersistentResource, Set<PersistentResource>> getRelationsCheckedFiltered(
+            Collection<PersistentResource> resources,
+            String relationName,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting) {
+        Map<PersistentResource, Set<PersistentResource>> relations = new IdentityHashMap<>();
+        List<PersistentResource> readable = new ArrayList<>();
+
+        for (PersistentResource resource : resources) {
+            try {
+                if (resource.checkRelation(relationName)) {
+                    readable.add(resource);
+                } else {
+                    relations.put(resource, Collections.emptySet());
+                }
+            } catch (ForbiddenAccessException e) {
+                // Left out so that the failure is reported for this resource alone.
+            }
+        }
+
+        if (readable.isEmpty()) {
+            return relations;
+        }
+
+        PersistentResource<?> first = readable.get(0);
+        RequestScope requestScope = first.requestScope;
+        RelationshipType type = first.getRelationshipType(relationName);
+        Class<?> relationClass = first.dictionary.getParameterizedType(first.obj, relationName);
+        if (relationClass == null) {
+            throw new InvalidAttributeException(relationName, first.getType());
+        }
+
+        Optional<FilterExpression> computedFilters =
+                mergePermissionFilter(relationClass, filterExpression, requestScope);
+
+        List<Object> entities = readable.stream()
+                .map(PersistentResource::getObject)
+                .collect(Collectors.toList());
+
+        Map<Object, Object> values = timeLoad(requestScope, () -> first.transaction.getRelations(first.transaction,
+                entities, relationName, computedFilters, sorting, requestScope));
+
+        for (PersistentResource<?> resource : readable) {
+            relations.put(resource, filter(ReadPermission.class, filterExpression,
+                    resource.wrapRelation(type, values.get(resource.getObject()))));
+        }
+
+        return relations;
+    }
+
+    /**
+     * Runs a data store read and adds its duration to the request's load time.  Scopes which were not built by
+     * Elide, such as test doubles, may not have a timer.
+     */
+    private static <T> T timeLoad(RequestScope requestScope, Supplier<T> load) {
+        RequestTimer timer = requestScope.getRequestTimer();
+        return timer == null ? load.get() : timer.time(RequestPhase.LOAD, load);
+    }
+
+    /**
+     * Invoke filterExpressionCheck and then merge with filterExpression.
+     *
+     * @param relationClass the relationship type
+     * @param filterExpression An optional filter expression
+     * @param requestScope the request scope
+     * @return the combined filter expression
+     */
+    private static Optional<FilterExpression> mergePermissionFilter(Class<?> relationClass,
+            Optional<FilterExpression> filterExpression,
+            RequestScope requestScope) {
         Optional<FilterExpression> permissionFilter = getPermissionFilterExpression(relationClass, requestScope);
-        Optional<FilterExpression> computedFilters = filterExpression;
 
         if (permissionFilter.isPresent() && filterExpression.isPresent()) {
-            FilterExpression mergedExpression =
-                    new AndFilterExpression(filterExpression.get(), permissionFilter.get());
-            computedFilters = Optional.of(mergedExpression);
+            return Optional.of(new AndFilterExpression(filterExpression.get(), permissionFilter.get()));
         } else if (permissionFilter.isPresent()) {
-            computedFilters = permissionFilter;
+            return permissionFilter;
         }
+        return filterExpression;
+    }
 
-        Object val = transaction.getRelation(transaction, obj, relationName,
-                    computedFilters, sorting, computedPagination, requestScope);
-
+    /**
+     * Wrap the value of a relationship of this resource.
+     *
+     * @param type the relationship type
+     * @param val the value returned by the data store
+     * @return the resources in the relationship
+     */
+    private Set<PersistentResource> wrapRelation(RelationshipType type, Object val) {
         if (val == null) {
             return Collections.emptySet();
         }
@@ -1185,6 +1345,14 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         return toResource(this::getRelationships, this::getAttributes);
     }
 
+    /**
+     * Fetch a resource with its attributes only, without loading any relationship.
+     * @return The Resource
+     */
+    public Resource toResourceWithoutRelationships() {
+        return toResource(Collections::emptyMap, this::getAttributes);
+    }
+
     /**
      * Fetch a resource with support for lambda function for getting relationships and attributes.
      * @return The Resource
@@ -1368,6 +1536,9 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
             }
         } else {
             if (!collection.contains(toAdd.getObject())) {
+                if (transaction != null) {
+                    transaction.markDirty(obj, requestScope);
+                }
                 collection.add(toAdd.getObject());
 
                 triggerUpdate(collectionName, original, collection);
@@ -1427,6 +1598,9 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
             return;
         }
 
+        if (transaction != null) {
+            transaction.markDirty(obj, requestScope);
+        }
         collection.remove(toDelete.getObject());
 
         triggerUpdate(collectionName, original, collection);
@@ -1439,6 +1613,9 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
      */
     protected void setValue(String fieldName, Object value) {
         final Object original = getValueUnchecked(fieldName);
+        if (transaction != null) {
+            transaction.markDirty(obj, requestScope);
+        }
         dictionary.setValue(obj, fieldName, value);
         triggerUpdate(fieldName, original, value);
     }
@@ -1563,24 +1740,8 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
             Set<PersistentResource> resources) {
         Set<PersistentResource> filteredSet = new LinkedHashSet<>();
         for (PersistentResource resource : resources) {
-            try {
-                // NOTE: This is for avoiding filtering on _newly created_ objects within this transaction.
-                // Namely-- in a JSONPATCH request or GraphQL request-- we need to read all newly created
-                // resources /regardless/ of whether or not we actually have permission to do so; this is to
-                // retrieve the object id to return to the caller. If no fields on the object are readable by the caller
-                // then they will be filtered out and only the id is returned. Similarly, all future requests to this
-                // object will behave as expected.
-                if (!resource.getRequestScope().getNewResources().contains(resource)) {
-                    resource.checkFieldAwarePermissions(permission);
-                    // Verify fields have ReadPermission on filter join
-                    if (filter.isPresent()
-                            && !filter.get().accept(new VerifyFieldAccessFilterExpressionVisitor(resource))) {
-                        continue;
-                    }
-                }
+            if (isVisible(permission, filter, resource)) {
                 filteredSet.add(resource);
-            } catch (ForbiddenAccessException e) {
-                // Do nothing. Filter from set.
             }
         }
         // keep original SingleElementSet
@@ -1590,6 +1751,38 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         return filteredSet;
     }
 
+    /**
+     * Whether a resource passes the permission and may be matched by the filter.
+     *
+     * @param permission the permission
+     * @param filter the filter whose fields must be readable
+     * @param resource the resource
+     * @return true if the resource is kept
+     */
+    private static boolean isVisible(Class<? extends Annotation> permission,
+            Optional<FilterExpression> filter,
+            PersistentResource resource) {
+        try {
+            // NOTE: This is for avoiding filtering on _newly created_ objects within this transaction.
+            // Namely-- in a JSONPATCH request or GraphQL request-- we need to read all newly created
+            // resources /regardless/ of whether or not we actually have permission to do so; this is to
+            // retrieve the object id to return to the caller. If no fields on the object are readable by the caller
+            // then they will be filtered out and only the id is returned. Similarly, all future requests to this
+            // object will behave as expected.
+            if (!resource.getRequestScope().getNewResources().contains(resource)) {
+                resource.checkFieldAwarePermissions(permission);
+                // Verify fields have ReadPermission on filter join
+                if (filter.isPresent()
+                        && !filter.get().accept(new VerifyFieldAccessFilterExpressionVisitor(resource))) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (ForbiddenAccessException e) {
+            return false;
+        }
+    }
+
     /**
      * Filter a set of fields.
      *
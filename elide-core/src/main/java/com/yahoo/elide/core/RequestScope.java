@@ -29,6 +29,8 @@ import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+import com.yahoo.elide.metrics.RequestPhase;
+import com.yahoo.elide.metrics.RequestTimer;
 import com.yahoo.elide.security.ChangeSpec;
 import com.yahoo.elide.security.PermissionExecutor;
 import com.yahoo.elide.security.User;
@@ -75,6 +77,7 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
     @Getter private final ElideSettings elideSettings;
     @Getter private final boolean useFilterExpressions;
     @Getter private final int updateStatusCode;
+    @Getter private final RequestTimer requestTimer;
 
     @Getter private final MultipleFilterDialect filterDialect;
     private final Map<String, FilterExpression> expressionsByType;
@@ -119,6 +122,7 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         this.elideSettings = elideSettings;
         this.useFilterExpressions = elideSettings.isUseFilterExpressions();
         this.updateStatusCode = elideSettings.getUpdateStatusCode();
+        this.requestTimer = new RequestTimer(elideSettings.getMetrics());
 
         this.globalFilterExpression = null;
         this.expressionsByType = new HashMap<>();
@@ -139,43 +143,12 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         registerPreSecurityObservers();
 
         if (this.queryParams.isPresent()) {
+            requestTimer.time(RequestPhase.FILTER_SORT_PARSE, () -> parseFilterExpressions(path, queryParams));
 
-            /* Extract any query param that starts with 'filter' */
-            MultivaluedMap<String, String> filterParams = getFilterParams(queryParams);
-
-            String errorMessage = "";
-            if (! filterParams.isEmpty()) {
-
-                /* First check to see if there is a global, cross-type filter */
-                try {
-                    globalFilterExpression = filterDialect.parseGlobalExpression(path, filterParams);
-                } catch (ParseException e) {
-                    errorMessage = e.getMessage();
-                }
-
-                /* Next check to see if there is are type specific filters */
-                try {
-                    expressionsByType.putAll(filterDialect.parseTypedExpression(path, filterParams));
-                } catch (ParseException e) {
-
-                    /* If neither dialect parsed, report the last error found */
-                    if (globalFilterExpression == null) {
-
-                        if (errorMessage.isEmpty()) {
-                            errorMessage = e.getMessage();
-                        } else if (! errorMessage.equals(e.getMessage())) {
-
-                            /* Combine the two different messages together */
-                            errorMessage = errorMessage + "\n" + e.getMessage();
-                        }
-
-                        throw new BadRequestException(errorMessage);
-                    }
-                }
-            }
-
-            this.sparseFields = parseSparseFields(queryParams);
-            this.sorting = Sorting.parseQueryParams(queryParams);
+            this.sparseFields = requestTimer.time(RequestPhase.FILTER_SORT_PARSE,
+                    () -> parseSparseFields(queryParams));
+            this.sorting = requestTimer.time(RequestPhase.FILTER_SORT_PARSE,
+                    () -> Sorting.parseQueryParams(queryParams));
             this.pagination = Pagination.parseQueryParams(queryParams, this.getElideSettings());
         } else {
             this.sparseFields = Collections.emptyMap();
@@ -213,6 +186,7 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         this.elideSettings = outerRequestScope.elideSettings;
         this.useFilterExpressions = outerRequestScope.useFilterExpressions;
         this.updateStatusCode = outerRequestScope.updateStatusCode;
+        this.requestTimer = outerRequestScope.requestTimer;
         this.lifecycleEvents = outerRequestScope.lifecycleEvents;
         this.distinctLifecycleEvents = outerRequestScope.distinctLifecycleEvents;
         this.queuedLifecycleEvents = outerRequestScope.queuedLifecycleEvents;
@@ -227,6 +201,49 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         return newPersistentResources.stream().filter(r -> r.getObject() == entity).findAny().isPresent();
     }
 
+    /**
+     * Parses the global and type specific filter expressions of the request.
+     *
+     * @param path the URL path
+     * @param queryParams the request query parameters
+     */
+    private void parseFilterExpressions(String path, MultivaluedMap<String, String> queryParams) {
+
+        /* Extract any query param that starts with 'filter' */
+        MultivaluedMap<String, String> filterParams = getFilterParams(queryParams);
+
+        String errorMessage = "";
+        if (! filterParams.isEmpty()) {
+
+            /* First check to see if there is a global, cross-type filter */
+            try {
+                globalFilterExpression = filterDialect.parseGlobalExpression(path, filterParams);
+            } catch (ParseException e) {
+                errorMessage = e.getMessage();
+            }
+
+            /* Next check to see if there is are type specific filters */
+            try {
+                expressionsByType.putAll(filterDialect.parseTypedExpression(path, filterParams));
+            } catch (ParseException e) {
+
+                /* If neither dialect parsed, report the last error found */
+                if (globalFilterExpression == null) {
+
+                    if (errorMessage.isEmpty()) {
+                        errorMessage = e.getMessage();
+                    } else if (! errorMessage.equals(e.getMessage())) {
+
+                        /* Combine the two different messages together */
+                        errorMessage = errorMessage + "\n" + e.getMessage();
+                    }
+
+                    throw new BadRequestException(errorMessage);
+                }
+            }
+        }
+    }
+
     /**
      * Parses queryParams and produces sparseFields map.
      * @param queryParams The request query parameters
@@ -335,60 +352,66 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
      * Run queued on triggers (i.e. @OnCreatePreSecurity, @OnUpdatePreSecurity, etc.).
      */
     public void runQueuedPreSecurityTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnCreatePreSecurity.class, false))
-                .throwOnError();
+        requestTimer.time(RequestPhase.TRIGGERS, () -> {
+            this.queuedLifecycleEvents
+                    .filter(CRUDEvent::isCreateEvent)
+                    .subscribeWith(new LifecycleHookInvoker(dictionary, OnCreatePreSecurity.class, false))
+                    .throwOnError();
+        });
     }
 
     /**
      * Run queued pre triggers (i.e. @OnCreatePreCommit, @OnUpdatePreCommit, etc.).
      */
     public void runQueuedPreCommitTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnCreatePreCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isUpdateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnUpdatePreCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isDeleteEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnDeletePreCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isReadEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnReadPreCommit.class, false))
-                .throwOnError();
+        requestTimer.time(RequestPhase.TRIGGERS, () -> {
+            this.queuedLifecycleEvents
+                    .filter(CRUDEvent::isCreateEvent)
+                    .subscribeWith(new LifecycleHookInvoker(dictionary, OnCreatePreCommit.class, false))
+                    .throwOnError();
+
+            this.queuedLifecycleEvents
+                    .filter(CRUDEvent::isUpdateEvent)
+                    .subscribeWith(new LifecycleHookInvoker(dictionary, OnUpdatePreCommit.class, false))
+                    .throwOnError();
+
+            this.queuedLifecycleEvents
+                    .filter(CRUDEvent::isDeleteEvent)
+                    .subscribeWith(new LifecycleHookInvoker(dictionary, OnDeletePreCommit.class, false))
+                    .throwOnError();
+
+            this.queuedLifecycleEvents
+                    .filter(CRUDEvent::isReadEvent)
+                    .subscribeWith(new LifecycleHookInvoker(dictionary, OnReadPreCommit.class, false))
+                    .throwOnError();
+        });
     }
 
     /**
      * Run queued post triggers (i.e. @OnCreatePostCommit, @OnUpdatePostCommit, etc.).
      */
     public void runQueuedPostCommitTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnCreatePostCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isUpdateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnUpdatePostCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isDeleteEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnDeletePostCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isReadEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnReadPostCommit.class, false))
-                .throwOnError();
+        requestTimer.time(RequestPhase.TRIGGERS, () -> {
+            this.queuedLifecycleEvents
+                    .filter(CRUDEvent::isCreateEvent)
+                    .subscribeWith(new LifecycleHookInvoker(dictionary, OnCreatePostCommit.class, false))
+                    .throwOnError();
+
+            this.queuedLifecycleEvents
+                    .filter(CRUDEvent::isUpdateEvent)
+                    .subscribeWith(new LifecycleHookInvoker(dictionary, OnUpdatePostCommit.class, false))
+                    .throwOnError();
+
+            this.queuedLifecycleEvents
+                    .filter(CRUDEvent::isDeleteEvent)
+                    .subscribeWith(new LifecycleHookInvoker(dictionary, OnDeletePostCommit.class, false))
+                    .throwOnError();
+
+            this.queuedLifecycleEvents
+                    .filter(CRUDEvent::isReadEvent)
+                    .subscribeWith(new LifecycleHookInvoker(dictionary, OnReadPostCommit.class, false))
+                    .throwOnError();
+        });
     }
 
     /**
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpressionVisitor;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Identifies a cached lookup or collection.  Keys also record every entity type the result depends on: the
+ * type loaded and the types reached by the filter and sort paths.
+ */
+@EqualsAndHashCode(exclude = "dependencies")
+@ToString
+class CacheKey {
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+
+    private final Object criteria;
+
+    @Getter
+    private final Set<Class<?>> dependencies;
+
+    private CacheKey(Object criteria, Set<Class<?>> dependencies) {
+        this.criteria = criteria;
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * Key of a lookup by id.
+     *
+     * @param entityClass the type loaded
+     * @param id the id
+     * @param filterExpression the security and request filters of the lookup
+     * @return the key
+     */
+    static CacheKey forObject(Class<?> entityClass, Serializable id, Optional<FilterExpression> filterExpression) {
+        Set<Class<?>> dependencies = new HashSet<>();
+        dependencies.add(entityClass);
+        filterExpression.ifPresent(expression -> addDependencies(expression, dependencies));
+
+        return new CacheKey(Arrays.asList(entityClass, id, filterExpression.map(CacheKey::normalize).orElse(null)),
+                Collections.unmodifiableSet(dependencies));
+    }
+
+    /**
+     * Key of a collection.
+     *
+     * @param entityClass the type loaded
+     * @param filterExpression the security and request filters of the collection
+     * @param sorting the sorting of the collection
+     * @param pagination the page of the collection
+     * @param dictionary the entity dictionary
+     * @return the key
+     */
+    static CacheKey forObjects(Class<?> entityClass,
+                               Optional<FilterExpression> filterExpression,
+                               Optional<Sorting> sorting,
+                               Optional<Pagination> pagination,
+                               EntityDictionary dictionary) {
+        Set<Class<?>> dependencies = new HashSet<>();
+        dependencies.add(entityClass);
+        filterExpression.ifPresent(expression -> addDependencies(expression, dependencies));
+
+        // Sort rules are compared in order; the rule map of Sorting would compare equal in any order.
+        Map<Path, Sorting.SortOrder> sortingRules = sorting
+                .filter(sort -> !sort.isDefaultInstance())
+                .map(sort -> sort.getValidSortingRules(entityClass, dictionary))
+                .orElse(Collections.emptyMap());
+        sortingRules.keySet().forEach(path -> addDependencies(path, dependencies));
+
+        Object page = pagination
+                .map(p -> Arrays.asList(p.getOffset(), p.getLimit(), p.isGenerateTotals(), p.getCursor()))
+                .orElse(null);
+
+        return new CacheKey(Arrays.asList(entityClass, filterExpression.map(CacheKey::normalize).orElse(null),
+                new ArrayList<>(sortingRules.entrySet()), page), Collections.unmodifiableSet(dependencies));
+    }
+
+    /**
+     * Whether changes to records of a type can change the cached result.
+     *
+     * @param changedType the changed type
+     * @return true if the result must be evicted
+     */
+    boolean dependsOn(Class<?> changedType) {
+        return dependencies.stream().anyMatch(type -> type.isAssignableFrom(changedType));
+    }
+
+    private static void addDependencies(FilterExpression expression, Set<Class<?>> dependencies) {
+        for (FilterPredicate predicate : expression.accept(new PredicateExtractionVisitor())) {
+            addDependencies(predicate.getPath(), dependencies);
+        }
+    }
+
+    private static void addDependencies(Path path, Set<Class<?>> dependencies) {
+        path.getPathElements().forEach(element -> dependencies.add(element.getType()));
+    }
+
+    /**
+     * Rewrites an expression so that filters which differ only in the order or grouping of AND and OR operands
+     * compare equal.
+     */
+    private static Object normalize(FilterExpression expression) {
+        return expression.accept(new FilterExpressionVisitor<Object>() {
+            @Override
+            public Object visitPredicate(FilterPredicate filterPredicate) {
+                return filterPredicate;
+            }
+
+            @Override
+            public Object visitAndExpression(AndFilterExpression expression) {
+                return flatten(AND, expression.getLeft().accept(this), expression.getRight().accept(this));
+            }
+
+            @Override
+            public Object visitOrExpression(OrFilterExpression expression) {
+                return flatten(OR, expression.getLeft().accept(this), expression.getRight().accept(this));
+            }
+
+            @Override
+            public Object visitNotExpression(NotFilterExpression expression) {
+                return Pair.of(NOT, expression.getNegated().accept(this));
+            }
+        });
+    }
+
+    private static Object flatten(String operator, Object left, Object right) {
+        Set<Object> operands = new HashSet<>();
+        for (Object operand : Arrays.asList(left, right)) {
+            if (operand instanceof Pair && operator.equals(((Pair<?, ?>) operand).getLeft())) {
+                operands.addAll((Set<?>) ((Pair<?, ?>) operand).getRight());
+            } else {
+                operands.add(operand);
+            }
+        }
+        return Pair.of(operator, Collections.unmodifiableSet(operands));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Bounds the results a {@link CachingDataStore} holds for one entity type.
+ */
+@Value
+public class CacheSettings {
+
+    /**
+     * Disables caching.
+     */
+    public static final CacheSettings DISABLED = new CacheSettings(0, Duration.ZERO);
+
+    /**
+     * The maximum number of cached lookups and collections.  Zero disables caching.
+     */
+    private final long maximumSize;
+
+    /**
+     * How long a result is served after it was loaded.  This bounds how stale results become when the
+     * underlying data is changed by something other than this data store.
+     */
+    private final Duration timeToLive;
+
+    /**
+     * Whether the records themselves are cached rather than their ids.  A cache hit is then served without
+     * touching the wrapped store, but the same instances are handed to every transaction.  Only enable it for
+     * stores without a session (whose records are not bound to the transaction that loaded them) or for entities
+     * which are never changed through the cached instances.
+     */
+    private final boolean cacheInstances;
+
+    public CacheSettings(long maximumSize, Duration timeToLive) {
+        this(maximumSize, timeToLive, false);
+    }
+
+    public CacheSettings(long maximumSize, Duration timeToLive, boolean cacheInstances) {
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.cacheInstances = cacheInstances;
+    }
+
+    public boolean isEnabled() {
+        return maximumSize > 0 && !timeToLive.isZero() && !timeToLive.isNegative();
+    }
+}
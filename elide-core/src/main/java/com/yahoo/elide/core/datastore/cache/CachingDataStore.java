@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data Store that wraps another store and caches the results of read transactions.
+ * <p>
+ * Lookups by id are cached by type, id and filter.  Collections are cached by type, filter, sorting and page.
+ * Every result is evicted when a write transaction through this store commits a change to a type the result
+ * depends on.  Changes made outside of this store (or by other processes) are only picked up once the
+ * configured time to live expires.
+ * <p>
+ * By default only the ids of the matching records are cached.  A cached collection is loaded again through the
+ * live transaction with a single lookup by id, so records are never shared between transactions and lazy
+ * relationships stay usable, but every hit still costs a round trip to the wrapped store.  Types whose
+ * {@link CacheSettings#isCacheInstances()} is set cache the records themselves instead and serve hits without the
+ * wrapped store, which is only safe for stores without a session or for read only entities.  Write transactions
+ * never read from the cache.
+ */
+public class CachingDataStore implements DataStore {
+
+    /**
+     * The cached result of a lookup or collection: the matching id or the ids of the page in order, or the
+     * records themselves for types which cache instances.
+     */
+    static class CachedResult {
+        final Object value;
+        final Long pageTotals;
+        final boolean pageTotalsExact;
+
+        CachedResult(Object value, Long pageTotals, boolean pageTotalsExact) {
+            this.value = value;
+            this.pageTotals = pageTotals;
+            this.pageTotalsExact = pageTotalsExact;
+        }
+    }
+
+    private final DataStore wrappedStore;
+    private final CacheSettings defaultSettings;
+    private final Map<Class<?>, CacheSettings> entitySettings = new HashMap<>();
+    private final Map<Class<?>, Optional<Cache<CacheKey, CachedResult>>> caches = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param wrappedStore the store to cache
+     * @param defaultSettings the cache bounds of types without settings of their own
+     */
+    public CachingDataStore(DataStore wrappedStore, CacheSettings defaultSettings) {
+        this.wrappedStore = wrappedStore;
+        this.defaultSettings = defaultSettings;
+    }
+
+    /**
+     * Overrides the cache bounds of one entity type.
+     *
+     * @param entityClass the entity type
+     * @param settings the cache bounds or {@link CacheSettings#DISABLED}
+     * @return this store
+     */
+    public CachingDataStore withEntitySettings(Class<?> entityClass, CacheSettings settings) {
+        entitySettings.put(entityClass, settings);
+        caches.remove(entityClass);
+        return this;
+    }
+
+    @Override
+    public void populateEntityDictionary(EntityDictionary dictionary) {
+        wrappedStore.populateEntityDictionary(dictionary);
+    }
+
+    @Override
+    public DataStoreTransaction beginTransaction() {
+        return new InvalidatingTransaction(wrappedStore.beginTransaction(), this);
+    }
+
+    @Override
+    public DataStoreTransaction beginReadTransaction() {
+        return new CachingTransaction(wrappedStore.beginReadTransaction(), this);
+    }
+
+    /**
+     * Hit, miss and eviction counts of the results cached for a type.
+     *
+     * @param entityClass the entity type
+     * @return the cache statistics or empty if the type is not cached
+     */
+    public Optional<CacheStats> getStats(Class<?> entityClass) {
+        return getCache(entityClass).map(Cache::stats);
+    }
+
+    /**
+     * Evicts every result which depends on the given types.
+     *
+     * @param changedTypes the changed entity types
+     */
+    public void invalidate(Set<Class<?>> changedTypes) {
+        if (changedTypes.isEmpty()) {
+            return;
+        }
+        generation.incrementAndGet();
+
+        caches.forEach((cachedType, cache) -> cache.ifPresent(results -> {
+            if (changedTypes.stream().anyMatch(cachedType::isAssignableFrom)) {
+                results.invalidateAll();
+            } else {
+                results.asMap().keySet().removeIf(key -> changedTypes.stream().anyMatch(key::dependsOn));
+            }
+        }));
+    }
+
+    /**
+     * Whether the records of a type are cached rather than their ids.
+     *
+     * @param entityClass the entity type
+     * @return true if cache hits are served without the wrapped store
+     */
+    boolean isCachingInstances(Class<?> entityClass) {
+        return entitySettings.getOrDefault(entityClass, defaultSettings).isCacheInstances();
+    }
+
+    Optional<Cache<CacheKey, CachedResult>> getCache(Class<?> entityClass) {
+        return caches.computeIfAbsent(entityClass, cls -> {
+            CacheSettings settings = entitySettings.getOrDefault(cls, defaultSettings);
+            if (!settings.isEnabled()) {
+                return Optional.empty();
+            }
+            Cache<CacheKey, CachedResult> cache = CacheBuilder.newBuilder()
+                    .maximumSize(settings.getMaximumSize())
+                    .expireAfterWrite(settings.getTimeToLive().toNanos(), TimeUnit.NANOSECONDS)
+                    .recordStats()
+                    .build();
+            return Optional.of(cache);
+        });
+    }
+
+    /**
+     * The number of invalidations so far.  A reader records it before loading a result so that a result which
+     * was loaded while a write committed is not cached.
+     *
+     * @return the current generation
+     */
+    long getGeneration() {
+        return generation.get();
+    }
+
+    void put(Cache<CacheKey, CachedResult> cache, CacheKey key, CachedResult result, long loadedGeneration) {
+        cache.put(key, result);
+        if (generation.get() != loadedGeneration) {
+            cache.invalidate(key);
+        }
+    }
+}
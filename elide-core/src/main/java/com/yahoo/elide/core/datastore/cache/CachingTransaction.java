@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path.PathElement;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.cache.CachingDataStore.CachedResult;
+import com.yahoo.elide.core.datastore.wrapped.TransactionWrapper;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import com.google.common.cache.Cache;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Read transaction which serves lookups and collections from the cache of a {@link CachingDataStore}.
+ * <p>
+ * By default only the ids of the matching records are cached.  The records themselves are loaded by id through the
+ * wrapped transaction, so they belong to the live transaction and reflect the latest committed state of their
+ * relationships.  This saves evaluating the filter, sorting and page totals again but not the round trip to the
+ * wrapped store.  Types which cache instances are served from the cache alone and share their records between
+ * transactions.
+ */
+public class CachingTransaction extends TransactionWrapper {
+    private final CachingDataStore store;
+
+    public CachingTransaction(DataStoreTransaction tx, CachingDataStore store) {
+        super(tx);
+        this.store = store;
+    }
+
+    @Override
+    public Object loadObject(Class<?> entityClass, Serializable id, Optional<FilterExpression> filterExpression,
+                             RequestScope scope) {
+        Optional<Cache<CacheKey, CachedResult>> cache = store.getCache(entityClass);
+        boolean cachingInstances = store.isCachingInstances(entityClass);
+
+        // Unless records are cached, a lookup without a filter is already a lookup by id.
+        if (!cache.isPresent() || (!filterExpression.isPresent() && !cachingInstances)) {
+            return super.loadObject(entityClass, id, filterExpression, scope);
+        }
+
+        CacheKey key = CacheKey.forObject(entityClass, id, filterExpression);
+        CachedResult cached = cache.get().getIfPresent(key);
+        if (cached != null) {
+            return cachingInstances ? cached.value : super.loadObject(entityClass, id, Optional.empty(), scope);
+        }
+
+        long generation = store.getGeneration();
+        Object loaded = super.loadObject(entityClass, id, filterExpression, scope);
+
+        // Misses are not cached so that a newly created record is visible immediately.
+        if (loaded != null) {
+            store.put(cache.get(), key, new CachedResult(cachingInstances ? loaded : id, null, true), generation);
+        }
+        return loaded;
+    }
+
+    @Override
+    public Iterable<Object> loadObjects(Class<?> entityClass,
+                                        Optional<FilterExpression> filterExpression,
+                                        Optional<Sorting> sorting,
+                                        Optional<Pagination> pagination,
+                                        RequestScope requestScope) {
+        Optional<Cache<CacheKey, CachedResult>> cache = store.getCache(entityClass);
+        if (!cache.isPresent()) {
+            return super.loadObjects(entityClass, filterExpression, sorting, pagination, requestScope);
+        }
+
+        EntityDictionary dictionary = requestScope.getDictionary();
+        CacheKey key = CacheKey.forObjects(entityClass, filterExpression, sorting, pagination, dictionary);
+        boolean cachingInstances = store.isCachingInstances(entityClass);
+        CachedResult cached = cache.get().getIfPresent(key);
+        if (cached != null) {
+            if (cached.pageTotals != null) {
+                pagination.get().setPageTotals(cached.pageTotals, cached.pageTotalsExact);
+            }
+            List<Object> cachedValue = (List<Object>) cached.value;
+            return cachingInstances ? cachedValue : loadByIds(entityClass, cachedValue, requestScope);
+        }
+
+        long generation = store.getGeneration();
+        List<Object> loaded = new ArrayList<>();
+        super.loadObjects(entityClass, filterExpression, sorting, pagination, requestScope).forEach(loaded::add);
+
+        Long pageTotals = pagination
+                .filter(Pagination::isGenerateTotals)
+                .map(Pagination::getPageTotals)
+                .orElse(null);
+        boolean pageTotalsExact = pagination.map(Pagination::isPageTotalsExact).orElse(true);
+
+        List<Object> value;
+        if (cachingInstances) {
+            value = new ArrayList<>(loaded);
+        } else {
+            String idField = dictionary.getIdFieldName(entityClass);
+            value = loaded.stream()
+                    .map(record -> dictionary.getValue(record, idField, requestScope))
+                    .collect(Collectors.toList());
+        }
+        store.put(cache.get(), key, new CachedResult(Collections.unmodifiableList(value), pageTotals,
+                pageTotalsExact), generation);
+        return loaded;
+    }
+
+    /**
+     * Loads cached records with a single lookup by id and returns them in their cached order.  Records deleted
+     * since they were cached are skipped.
+     */
+    private List<Object> loadByIds(Class<?> entityClass, List<Object> ids, RequestScope requestScope) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        EntityDictionary dictionary = requestScope.getDictionary();
+        String idField = dictionary.getIdFieldName(entityClass);
+        PathElement idPath = new PathElement(entityClass, dictionary.getIdType(entityClass), idField);
+
+        Map<Object, Object> recordsById = new HashMap<>();
+        super.loadObjects(entityClass, Optional.of(new InPredicate(idPath, ids)), Optional.empty(), Optional.empty(),
+                requestScope).forEach(record -> recordsById.put(dictionary.getValue(record, idField, requestScope),
+                record));
+
+        return ids.stream()
+                .map(recordsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.wrapped.TransactionWrapper;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Write transaction which records the entity types it changes and evicts the cached results of a
+ * {@link CachingDataStore} which depend on them once it commits.
+ */
+public class InvalidatingTransaction extends TransactionWrapper {
+    private final CachingDataStore store;
+    private final Set<Class<?>> changedTypes = new HashSet<>();
+
+    public InvalidatingTransaction(DataStoreTransaction tx, CachingDataStore store) {
+        super(tx);
+        this.store = store;
+    }
+
+    @Override
+    public void createObject(Object o, RequestScope requestScope) {
+        changed(o);
+        super.createObject(o, requestScope);
+    }
+
+    @Override
+    public void save(Object o, RequestScope requestScope) {
+        changed(o);
+        super.save(o, requestScope);
+    }
+
+    @Override
+    public void delete(Object o, RequestScope requestScope) {
+        changed(o);
+        super.delete(o, requestScope);
+    }
+
+    @Override
+    public void setAttribute(Object entity, String attributeName, Object attributeValue, RequestScope scope) {
+        changed(entity);
+        super.setAttribute(entity, attributeName, attributeValue, scope);
+    }
+
+    @Override
+    public void updateToManyRelation(DataStoreTransaction relationTx, Object entity, String relationName,
+                                     Set<Object> newRelationships, Set<Object> deletedRelationships,
+                                     RequestScope scope) {
+        changedRelationship(entity, relationName, scope);
+        super.updateToManyRelation(relationTx, entity, relationName, newRelationships, deletedRelationships, scope);
+    }
+
+    @Override
+    public void updateToOneRelation(DataStoreTransaction relationTx, Object entity,
+                                    String relationName, Object relationshipValue, RequestScope scope) {
+        changedRelationship(entity, relationName, scope);
+        super.updateToOneRelation(relationTx, entity, relationName, relationshipValue, scope);
+    }
+
+    @Override
+    public void commit(RequestScope requestScope) {
+        super.commit(requestScope);
+        store.invalidate(changedTypes);
+        changedTypes.clear();
+    }
+
+    private void changed(Object entity) {
+        if (entity != null) {
+            changedTypes.add(entity.getClass());
+        }
+    }
+
+    private void changedRelationship(Object entity, String relationName, RequestScope scope) {
+        changed(entity);
+
+        // The inverse side of both the old and the new related records changes too.
+        changedTypes.add(scope.getDictionary().getParameterizedType(entity, relationName));
+    }
+}
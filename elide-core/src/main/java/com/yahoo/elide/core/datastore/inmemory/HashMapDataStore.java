@@ -25,12 +25,16 @@ import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Simple in-memory only database.
+ * <p>
+ * Attributes annotated with {@link Indexed} are indexed so that filters on them are looked up rather than
+ * evaluated against every stored entity.
  */
 public class HashMapDataStore implements DataStore, DataStoreTestHarness {
     private final Map<Class<?>, Map<String, Object>> dataStore = Collections.synchronizedMap(new HashMap<>());
     @Getter private EntityDictionary dictionary;
     @Getter private final Set<Package> beanPackages;
     @Getter private final ConcurrentHashMap<Class<?>, AtomicLong> typeIds = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, HashMapIndex>> indexes = new ConcurrentHashMap<>();
 
     public HashMapDataStore(Package beanPackage) {
         this(Sets.newHashSet(beanPackage));
@@ -53,11 +57,39 @@ public class HashMapDataStore implements DataStore, DataStoreTestHarness {
         }
 
         this.dictionary = dictionary;
+        buildIndexes();
+    }
+
+    private void buildIndexes() {
+        synchronized (dataStore) {
+            indexes.clear();
+            for (Class<?> clazz : dataStore.keySet()) {
+                Map<String, HashMapIndex> typeIndexes = new HashMap<>();
+                for (String attribute : dictionary.getAttributes(clazz)) {
+                    Indexed indexed = dictionary.getAttributeOrRelationAnnotation(clazz, Indexed.class, attribute);
+                    if (indexed != null) {
+                        typeIndexes.put(attribute,
+                                new HashMapIndex(attribute, dictionary.getType(clazz, attribute), indexed.value()));
+                    }
+                }
+
+                if (typeIndexes.isEmpty()) {
+                    continue;
+                }
+
+                for (Map.Entry<String, Object> entry : dataStore.get(clazz).entrySet()) {
+                    for (HashMapIndex index : typeIndexes.values()) {
+                        index.put(entry.getKey(), dictionary.getValue(entry.getValue(), index.getFieldName(), null));
+                    }
+                }
+                indexes.put(clazz, typeIndexes);
+            }
+        }
     }
 
     @Override
     public DataStoreTransaction beginTransaction() {
-        return new HashMapStoreTransaction(dataStore, dictionary, typeIds);
+        return new HashMapStoreTransaction(dataStore, dictionary, typeIds, indexes);
     }
 
     @Override
@@ -81,8 +113,13 @@ public class HashMapDataStore implements DataStore, DataStoreTestHarness {
 
     @Override
     public void cleanseTestData() {
-        for (Map<String, Object> objects : dataStore.values()) {
-            objects.clear();
+        synchronized (dataStore) {
+            for (Map<String, Object> objects : dataStore.values()) {
+                objects.clear();
+            }
+            for (Map<String, HashMapIndex> typeIndexes : indexes.values()) {
+                typeIndexes.values().forEach(HashMapIndex::clear);
+            }
         }
         typeIds.clear();
     }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A secondary index over one attribute of the entities of a {@link HashMapDataStore} type.  The index maps
+ * attribute values to the ids of the entities which hold them.  Null values are not indexed.
+ * <p>
+ * The index holds the values which were last committed.  Stored entities are modified in place by open
+ * transactions, so lookups only narrow down the candidates and callers check the filter again.
+ * <p>
+ * Indexes are read and written while holding the lock of the data store they belong to.
+ */
+public class HashMapIndex {
+    @Getter private final String fieldName;
+    @Getter private final Indexed.Type type;
+    private final Class<?> fieldType;
+    private final Map<Object, Set<String>> idsByValue;
+    private final Map<String, Object> valuesById = new HashMap<>();
+
+    public HashMapIndex(String fieldName, Class<?> fieldType, Indexed.Type type) {
+        this.fieldName = fieldName;
+        this.fieldType = ClassUtils.primitiveToWrapper(fieldType);
+        this.type = type;
+
+        if (type == Indexed.Type.SORTED) {
+            if (!Comparable.class.isAssignableFrom(this.fieldType)) {
+                throw new IllegalArgumentException("Sorted index on " + fieldName + " requires a comparable type");
+            }
+            idsByValue = new ConcurrentSkipListMap<>();
+        } else {
+            idsByValue = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Indexes the value an entity holds, replacing any value previously indexed for it.
+     *
+     * @param id the entity id
+     * @param value the attribute value
+     */
+    public void put(String id, Object value) {
+        remove(id);
+        if (value == null) {
+            return;
+        }
+        idsByValue.computeIfAbsent(value, unused -> new LinkedHashSet<>()).add(id);
+        valuesById.put(id, value);
+    }
+
+    /**
+     * Removes an entity from the index.
+     *
+     * @param id the entity id
+     */
+    public void remove(String id) {
+        Object value = valuesById.remove(id);
+        if (value == null) {
+            return;
+        }
+
+        Set<String> ids = idsByValue.get(value);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByValue.remove(value);
+            }
+        }
+    }
+
+    public void clear() {
+        idsByValue.clear();
+        valuesById.clear();
+    }
+
+    /**
+     * Whether the index can answer a filter.
+     *
+     * @param operator the filter operator
+     * @param values the filter values
+     * @return true if {@link #lookup(Operator, List)} returns exactly the entities whose committed values match
+     */
+    public boolean supports(Operator operator, List<Object> values) {
+        switch (operator) {
+            case IN:
+                return true;
+            case LT:
+            case LE:
+            case GT:
+            case GE:
+                return type == Indexed.Type.SORTED && !values.isEmpty();
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the ids of the entities which match a filter.  Like in memory filtering, an entity matches when
+     * its value matches any of the filter values.
+     *
+     * @param operator the filter operator
+     * @param values the filter values
+     * @return the ids of the matching entities
+     */
+    public Set<String> lookup(Operator operator, List<Object> values) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (Object value : values) {
+            Object key = CoerceUtil.coerce(value, fieldType);
+            if (key == null) {
+                continue;
+            }
+
+            switch (operator) {
+                case IN:
+                    ids.addAll(idsByValue.getOrDefault(key, Collections.emptySet()));
+                    break;
+                case LT:
+                    addAll(ids, sorted().headMap(key, false).values());
+                    break;
+                case LE:
+                    addAll(ids, sorted().headMap(key, true).values());
+                    break;
+                case GT:
+                    addAll(ids, sorted().tailMap(key, false).values());
+                    break;
+                case GE:
+                    addAll(ids, sorted().tailMap(key, true).values());
+                    break;
+                default:
+                    throw new IllegalArgumentException("Index on " + fieldName + " does not support " + operator);
+            }
+        }
+        return ids;
+    }
+
+    private NavigableMap<Object, Set<String>> sorted() {
+        return (NavigableMap<Object, Set<String>>) idsByValue;
+    }
+
+    private static void addAll(Set<String> ids, Collection<Set<String>> matches) {
+        for (Set<String> match : matches) {
+            ids.addAll(match);
+        }
+    }
+}
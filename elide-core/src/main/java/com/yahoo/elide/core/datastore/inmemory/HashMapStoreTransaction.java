@@ -9,17 +9,29 @@ import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.InMemoryFilterExecutor;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javax.persistence.GeneratedValue;
 
@@ -31,13 +43,28 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
     private final List<Operation> operations;
     private final EntityDictionary dictionary;
     private final Map<Class<?>, AtomicLong> typeIds;
+    private final Map<Class<?>, Map<String, HashMapIndex>> indexes;
+
+    /**
+     * The ids of stored entities this transaction has changed or is about to change.  Their indexed values may be
+     * stale until they are indexed again on commit or close.
+     */
+    private final Map<Class<?>, Set<String>> touchedIds = new HashMap<>();
+    private RequestScope touchedScope;
 
     public HashMapStoreTransaction(Map<Class<?>, Map<String, Object>> dataStore,
                                    EntityDictionary dictionary, Map<Class<?>, AtomicLong> typeIds) {
+        this(dataStore, dictionary, typeIds, Collections.emptyMap());
+    }
+
+    public HashMapStoreTransaction(Map<Class<?>, Map<String, Object>> dataStore,
+                                   EntityDictionary dictionary, Map<Class<?>, AtomicLong> typeIds,
+                                   Map<Class<?>, Map<String, HashMapIndex>> indexes) {
         this.dataStore = dataStore;
         this.dictionary = dictionary;
         this.operations = new ArrayList<>();
         this.typeIds = typeIds;
+        this.indexes = indexes;
     }
 
     @Override
@@ -55,9 +82,15 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
             createObject(object, requestScope);
         }
         id = dictionary.getId(object);
+        touch(object, requestScope);
         operations.add(new Operation(id, object, object.getClass(), Operation.OpType.UPDATE));
     }
 
+    @Override
+    public void markDirty(Object entity, RequestScope scope) {
+        touch(entity, scope);
+    }
+
     @Override
     public void delete(Object object, RequestScope requestScope) {
         if (object == null) {
@@ -71,22 +104,36 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
     @Override
     public void commit(RequestScope scope) {
         synchronized (dataStore) {
+            // Reject duplicates before changing anything so the data and its indexes are updated together.
+            boolean duplicate = operations.stream()
+                    .filter(op -> op.getInstance() != null && op.getOpType() == Operation.OpType.CREATE)
+                    .anyMatch(op -> dataStore.get(op.getType()).get(op.getId()) != null);
+            if (duplicate) {
+                throw new TransactionException(new IllegalStateException("Duplicate key"));
+            }
+
             operations.stream()
                     .filter(op -> op.getInstance() != null)
                     .forEach(op -> {
                         Object instance = op.getInstance();
                         String id = op.getId();
                         Map<String, Object> data = dataStore.get(op.getType());
+                        Collection<HashMapIndex> typeIndexes =
+                                indexes.getOrDefault(op.getType(), Collections.emptyMap()).values();
                         if (op.getOpType() == Operation.OpType.DELETE) {
                             data.remove(id);
+                            typeIndexes.forEach(index -> index.remove(id));
                         } else {
                             if (op.getOpType() == Operation.OpType.CREATE && data.get(id) != null) {
                                 throw new TransactionException(new IllegalStateException("Duplicate key"));
                             }
                             data.put(id, instance);
+                            typeIndexes.forEach(index ->
+                                    index.put(id, dictionary.getValue(instance, index.getFieldName(), scope)));
                         }
                     });
             operations.clear();
+            reindexTouched(scope);
         }
     }
 
@@ -121,6 +168,7 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
             id = dictionary.getId(entity);
         }
 
+        touch(entity, scope);
         operations.add(new Operation(id, entity, entity.getClass(), Operation.OpType.CREATE));
     }
 
@@ -136,7 +184,17 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
                               Optional<Sorting> sorting,
                               Optional<Pagination> pagination,
                               RequestScope scope) {
-        return dictionary.getValue(entity, relationName, scope);
+        Object values = dictionary.getValue(entity, relationName, scope);
+
+        // Relationship members are not looked up through the index so any filter reported as supported is
+        // applied here.
+        if (filterExpression.isPresent() && values instanceof Collection) {
+            Predicate predicate = filterExpression.get().accept(new InMemoryFilterExecutor(scope));
+            return ((Collection<Object>) values).stream()
+                    .filter(predicate::test)
+                    .collect(Collectors.toList());
+        }
+        return values;
     }
 
     @Override
@@ -145,7 +203,19 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
                                         RequestScope scope) {
         synchronized (dataStore) {
             Map<String, Object> data = dataStore.get(entityClass);
-            return data.values();
+            Set<String> ids = filterExpression.map(expression -> lookupIds(entityClass, expression)).orElse(null);
+            if (ids == null) {
+                return data.values();
+            }
+
+            // Stored entities are modified in place, so an index may be stale until the change is committed.
+            ids.addAll(touchedIds.getOrDefault(entityClass, Collections.emptySet()));
+            Predicate predicate = filterExpression.get().accept(new InMemoryFilterExecutor(scope));
+            return ids.stream()
+                    .map(data::get)
+                    .filter(Objects::nonNull)
+                    .filter(predicate::test)
+                    .collect(Collectors.toList());
         }
     }
 
@@ -159,17 +229,104 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
             if (data == null) {
                 return null;
             }
-            return data.get(id.toString());
+
+            String key = id.toString();
+            Object object = data.get(key);
+            if (object != null && filterExpression.isPresent()) {
+                Set<String> ids = lookupIds(entityClass, filterExpression.get());
+                boolean candidate = ids != null && (ids.contains(key)
+                        || touchedIds.getOrDefault(entityClass, Collections.emptySet()).contains(key));
+                if (ids != null && !(candidate
+                        && filterExpression.get().accept(new InMemoryFilterExecutor(scope)).test(object))) {
+                    return null;
+                }
+            }
+            return object;
         }
     }
 
     @Override
     public void close() throws IOException {
         operations.clear();
+
+        // Entities changed by a request which did not commit keep their new values, so index what they now hold.
+        if (!touchedIds.isEmpty()) {
+            synchronized (dataStore) {
+                reindexTouched(touchedScope);
+            }
+        }
+    }
+
+    /**
+     * Records an entity this transaction changes so that it remains a filter candidate until it is indexed again.
+     */
+    private void touch(Object entity, RequestScope scope) {
+        if (entity == null) {
+            return;
+        }
+        String id = dictionary.getId(entity);
+        if (id == null || "null".equals(id)) {
+            return;
+        }
+        touchedIds.computeIfAbsent(entity.getClass(), unused -> new HashSet<>()).add(id);
+        touchedScope = scope;
     }
 
+    /**
+     * Indexes the current values of the touched entities which are stored.  Must hold the data store lock.
+     */
+    private void reindexTouched(RequestScope scope) {
+        touchedIds.forEach((type, ids) -> {
+            Map<String, Object> data = dataStore.get(type);
+            Collection<HashMapIndex> typeIndexes = indexes.getOrDefault(type, Collections.emptyMap()).values();
+            if (data == null || typeIndexes.isEmpty()) {
+                return;
+            }
+            for (String id : ids) {
+                Object instance = data.get(id);
+                typeIndexes.forEach(index -> {
+                    if (instance == null) {
+                        index.remove(id);
+                    } else {
+                        index.put(id, dictionary.getValue(instance, index.getFieldName(), scope));
+                    }
+                });
+            }
+        });
+        touchedIds.clear();
+        touchedScope = null;
+    }
+
+    /**
+     * Indexed predicates are only partially supported.  Entities are modified in place before they are committed,
+     * so the indexes narrow down the candidates and the filter is checked again against their current values.
+     */
     @Override
     public FeatureSupport supportsFiltering(Class<?> entityClass, FilterExpression expression) {
+        if (expression instanceof FilterPredicate) {
+            return getIndex(entityClass, (FilterPredicate) expression) != null
+                    ? FeatureSupport.PARTIAL
+                    : FeatureSupport.NONE;
+        }
+
+        if (expression instanceof AndFilterExpression) {
+            AndFilterExpression and = (AndFilterExpression) expression;
+            FeatureSupport left = supportsFiltering(entityClass, and.getLeft());
+            FeatureSupport right = supportsFiltering(entityClass, and.getRight());
+            return (left != FeatureSupport.NONE || right != FeatureSupport.NONE)
+                    ? FeatureSupport.PARTIAL
+                    : FeatureSupport.NONE;
+        }
+
+        if (expression instanceof OrFilterExpression) {
+            OrFilterExpression or = (OrFilterExpression) expression;
+            FeatureSupport left = supportsFiltering(entityClass, or.getLeft());
+            FeatureSupport right = supportsFiltering(entityClass, or.getRight());
+            return (left != FeatureSupport.NONE && right != FeatureSupport.NONE)
+                    ? FeatureSupport.PARTIAL
+                    : FeatureSupport.NONE;
+        }
+
         return FeatureSupport.NONE;
     }
 
@@ -183,6 +340,59 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
         return false;
     }
 
+    /**
+     * Returns the index which can answer a filter predicate.
+     *
+     * @return the index or null if the predicate cannot be answered from an index
+     */
+    private HashMapIndex getIndex(Class<?> entityClass, FilterPredicate predicate) {
+        if (predicate.getPath().getPathElements().size() != 1) {
+            return null;
+        }
+
+        HashMapIndex index = indexes.getOrDefault(entityClass, Collections.emptyMap()).get(predicate.getField());
+        return (index != null && index.supports(predicate.getOperator(), predicate.getValues())) ? index : null;
+    }
+
+    /**
+     * Looks up the ids of the entities which may match a filter expression according to the indexes.  The indexes
+     * hold the committed values, so the candidates must be checked against the filter again and the entities this
+     * transaction touched must be checked as well.
+     *
+     * @return the candidate ids or null if the indexes cannot narrow down the entities
+     */
+    private Set<String> lookupIds(Class<?> entityClass, FilterExpression expression) {
+        if (expression instanceof FilterPredicate) {
+            FilterPredicate predicate = (FilterPredicate) expression;
+            HashMapIndex index = getIndex(entityClass, predicate);
+            return index == null ? null : index.lookup(predicate.getOperator(), predicate.getValues());
+        }
+
+        if (expression instanceof AndFilterExpression) {
+            AndFilterExpression and = (AndFilterExpression) expression;
+            Set<String> left = lookupIds(entityClass, and.getLeft());
+            Set<String> right = lookupIds(entityClass, and.getRight());
+            if (left == null || right == null) {
+                return left == null ? right : left;
+            }
+            left.retainAll(right);
+            return left;
+        }
+
+        if (expression instanceof OrFilterExpression) {
+            OrFilterExpression or = (OrFilterExpression) expression;
+            Set<String> left = lookupIds(entityClass, or.getLeft());
+            Set<String> right = lookupIds(entityClass, or.getRight());
+            if (left == null || right == null) {
+                return null;
+            }
+            left.addAll(right);
+            return left;
+        }
+
+        return null;
+    }
+
     private boolean containsObject(Object obj) {
         return dataStore.get(obj.getClass()).containsValue(obj);
     }
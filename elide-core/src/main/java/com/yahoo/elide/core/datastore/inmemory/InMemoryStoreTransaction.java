@@ -15,6 +15,7 @@ import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterPredicatePushdownExtractor;
 import com.yahoo.elide.core.filter.expression.InMemoryExecutionVerifier;
 import com.yahoo.elide.core.filter.expression.InMemoryFilterExecutor;
+import com.yahoo.elide.core.pagination.KeysetCursor;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.security.User;
@@ -22,9 +23,11 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -128,6 +131,51 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         return fetchData(fetcher, relationClass, filterExpression, sorting, pagination, filterInMemory, scope);
     }
 
+    @Override
+    public Map<Object, Object> getRelations(DataStoreTransaction relationTx,
+                                            Collection<Object> entities,
+                                            String relationName,
+                                            Optional<FilterExpression> filterExpression,
+                                            Optional<Sorting> sorting,
+                                            RequestScope scope) {
+        if (entities.isEmpty()) {
+            return new IdentityHashMap<>();
+        }
+
+        Class<?> relationClass = scope.getDictionary()
+                .getParameterizedType(entities.iterator().next(), relationName);
+
+        boolean filterInMemory = scope.getNewPersistentResources().size() > 0;
+
+        Pair<Optional<FilterExpression>, Optional<FilterExpression>> expressionSplit = splitFilterExpression(
+                relationClass, filterExpression, filterInMemory, scope);
+
+        Optional<FilterExpression> dataStoreFilter = expressionSplit.getLeft();
+        Optional<FilterExpression> inMemoryFilter = expressionSplit.getRight();
+
+        Pair<Optional<Sorting>, Optional<Sorting>> sortSplit = splitSorting(relationClass,
+                sorting, inMemoryFilter.isPresent());
+
+        Map<Object, Object> results = tx.getRelations(relationTx, entities, relationName,
+                dataStoreFilter, sortSplit.getLeft(), scope);
+
+        for (Map.Entry<Object, Object> entry : results.entrySet()) {
+            if (! (entry.getValue() instanceof Iterable)) {
+                continue;
+            }
+
+            Iterable<Object> loadedRecords = (Iterable<Object>) entry.getValue();
+
+            if (inMemoryFilter.isPresent()) {
+                loadedRecords = filterLoadedData(loadedRecords, filterExpression, scope);
+            }
+
+            entry.setValue(sortAndPaginateLoadedData(loadedRecords, relationClass,
+                    sortSplit.getRight(), Optional.empty(), scope));
+        }
+        return results;
+    }
+
     @Override
     public void updateToManyRelation(DataStoreTransaction relationTx,
                                      Object entity,
@@ -158,6 +206,11 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
 
     }
 
+    @Override
+    public void markDirty(Object entity, RequestScope scope) {
+        tx.markDirty(entity, scope);
+    }
+
     @Override
     public void flush(RequestScope scope) {
         tx.flush(scope);
@@ -207,6 +260,39 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
                 filterExpression, sorting, pagination, false, scope);
     }
 
+    @Override
+    public Iterable<Object> streamObjects(Class<?> entityClass,
+                                          Optional<FilterExpression> filterExpression,
+                                          Optional<Sorting> sorting,
+                                          RequestScope scope) {
+
+        Pair<Optional<FilterExpression>, Optional<FilterExpression>> expressionSplit = splitFilterExpression(
+                entityClass, filterExpression, false, scope);
+
+        Optional<FilterExpression> inMemoryFilter = expressionSplit.getRight();
+
+        Pair<Optional<Sorting>, Optional<Sorting>> sortSplit = splitSorting(entityClass,
+                sorting, inMemoryFilter.isPresent());
+
+        //Sorting in memory needs every record at once.
+        if (sortSplit.getRight().isPresent()) {
+            return loadObjects(entityClass, filterExpression, sorting, Optional.empty(), scope);
+        }
+
+        Iterable<Object> records = tx.streamObjects(entityClass, expressionSplit.getLeft(), sortSplit.getLeft(),
+                scope);
+
+        if (! inMemoryFilter.isPresent()) {
+            return records;
+        }
+
+        Predicate predicate = filterExpression.get().accept(new InMemoryFilterExecutor(scope));
+
+        return () -> StreamSupport.stream(records.spliterator(), false)
+                .filter(predicate::test)
+                .iterator();
+    }
+
     @Override
     public void close() throws IOException {
         tx.close();
@@ -253,6 +339,11 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         Optional<Pagination> dataStorePagination = paginationSplit.getLeft();
         Optional<Pagination> inMemoryPagination = paginationSplit.getRight();
 
+        // Keyset pages are ordered by the full sort order, even when the store has already sorted the records.
+        if (inMemoryPagination.isPresent() && inMemoryPagination.get().isKeyset()) {
+            inMemorySort = sorting;
+        }
+
         Object result = fetcher.fetch(dataStoreFilter, dataStoreSort, dataStorePagination, scope);
 
         if (! (result instanceof Iterable)) {
@@ -288,9 +379,13 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
 
         EntityDictionary dictionary = scope.getDictionary();
 
-        Map<Path, Sorting.SortOrder> sortRules = sorting
-                .map((s) -> s.getValidSortingRules(entityClass, dictionary))
-                .orElse(new HashMap<>());
+        boolean keyset = pagination.isPresent() && pagination.get().isKeyset();
+
+        Map<Path, Sorting.SortOrder> sortRules = keyset
+                ? KeysetCursor.getSortingRules(entityClass, sorting, dictionary)
+                : sorting
+                        .map((s) -> s.getValidSortingRules(entityClass, dictionary))
+                        .orElse(new HashMap<>());
 
         // No sorting required for this type & no pagination.
         if (sortRules.isEmpty() && ! pagination.isPresent()) {
@@ -303,7 +398,9 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
             results = sortInMemory(results, sortRules, scope);
         }
 
-        if (pagination.isPresent()) {
+        if (keyset) {
+            results = paginateAfterCursor(results, entityClass, sorting, pagination.get(), scope);
+        } else if (pagination.isPresent()) {
             results = paginateInMemory(results, pagination.get());
         }
 
@@ -328,6 +425,26 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         return records.subList(offset, endIdx);
     }
 
+    private List<Object> paginateAfterCursor(List<Object> records,
+                                             Class<?> entityClass,
+                                             Optional<Sorting> sorting,
+                                             Pagination pagination,
+                                             RequestScope scope) {
+        if (pagination.isGenerateTotals()) {
+            pagination.setPageTotals(records.size());
+        }
+
+        Optional<FilterExpression> after = pagination.getCursor()
+                .getFilterExpression(entityClass, sorting, scope.getDictionary());
+
+        List<Object> remaining = records;
+        if (after.isPresent()) {
+            Predicate predicate = after.get().accept(new InMemoryFilterExecutor(scope));
+            remaining = records.stream().filter(predicate::test).collect(Collectors.toList());
+        }
+        return remaining.subList(0, Math.min(pagination.getLimit(), remaining.size()));
+    }
+
     private List<Object> sortInMemory(List<Object> records,
                                         Map<Path, Sorting.SortOrder> sortRules,
                                         RequestScope scope) {
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an attribute of a model stored in a {@link HashMapDataStore} as indexed.  Filters on indexed attributes
+ * are answered from the index rather than by scanning every stored entity.
+ */
+@Target({METHOD, FIELD})
+@Retention(RUNTIME)
+public @interface Indexed {
+
+    /**
+     * The kind of index to maintain.
+     */
+    enum Type {
+        /**
+         * Answers equality (IN) filters.
+         */
+        HASH,
+
+        /**
+         * Answers equality and range (LT, LE, GT, GE) filters.  The attribute must be comparable.
+         */
+        SORTED
+    }
+
+    /**
+     * The kind of index to maintain.
+     *
+     * @return the index type
+     */
+    Type value() default Type.HASH;
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.wrapped;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.exceptions.ServiceUnavailableException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Data Store that bounds the number of transactions open against a wrapped store at once.
+ * <p>
+ * A transaction holds a permit from the time it begins until it is closed.  Requests which cannot get a permit
+ * within the configured wait are rejected with {@link ServiceUnavailableException} instead of queueing without
+ * bound.  This takes the place of thread pool sizing as back pressure when requests run on cheap threads.
+ */
+public class ConcurrencyLimitedDataStore implements DataStore {
+    private final DataStore wrappedStore;
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param wrappedStore the store to bound
+     * @param maxTransactions the number of transactions which may be open at once
+     * @param maxWait how long a request waits for another transaction to close
+     */
+    public ConcurrencyLimitedDataStore(DataStore wrappedStore, int maxTransactions, Duration maxWait) {
+        if (maxTransactions < 1) {
+            throw new IllegalArgumentException("maxTransactions must be positive");
+        }
+        this.wrappedStore = wrappedStore;
+        this.permits = new Semaphore(maxTransactions, true);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public void populateEntityDictionary(EntityDictionary dictionary) {
+        wrappedStore.populateEntityDictionary(dictionary);
+    }
+
+    @Override
+    public DataStoreTransaction beginTransaction() {
+        return begin(wrappedStore::beginTransaction);
+    }
+
+    @Override
+    public DataStoreTransaction beginReadTransaction() {
+        return begin(wrappedStore::beginReadTransaction);
+    }
+
+    /**
+     * The number of transactions which could begin without waiting.
+     *
+     * @return the free permits
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private DataStoreTransaction begin(Supplier<DataStoreTransaction> transaction) {
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw new ServiceUnavailableException("Too many concurrent transactions");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted waiting for a transaction");
+        }
+
+        try {
+            return new PermitTransaction(transaction.get());
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns its permit when closed.
+     */
+    private class PermitTransaction extends TransactionWrapper {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitTransaction(DataStoreTransaction tx) {
+            super(tx);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
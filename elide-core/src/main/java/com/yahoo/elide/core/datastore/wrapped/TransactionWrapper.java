@@ -17,6 +17,8 @@ import lombok.Data;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -56,6 +58,13 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         return tx.getRelation(relationTx, entity, relationName, filterExpression, sorting, pagination, scope);
     }
 
+    @Override
+    public Map<Object, Object> getRelations(DataStoreTransaction relationTx, Collection<Object> entities,
+                                            String relationName, Optional<FilterExpression> filterExpression,
+                                            Optional<Sorting> sorting, RequestScope scope) {
+        return tx.getRelations(relationTx, entities, relationName, filterExpression, sorting, scope);
+    }
+
     @Override
     public void updateToManyRelation(DataStoreTransaction relationTx, Object entity, String relationName,
                                      Set<Object> newRelationships, Set<Object> deletedRelationships,
@@ -80,6 +89,11 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         tx.setAttribute(entity, attributeName, attributeValue, scope);
     }
 
+    @Override
+    public void markDirty(Object entity, RequestScope scope) {
+        tx.markDirty(entity, scope);
+    }
+
     @Override
     public FeatureSupport supportsFiltering(Class<?> entityClass, FilterExpression expression) {
         return tx.supportsFiltering(entityClass, expression);
@@ -131,6 +145,14 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         return tx.loadObjects(entityClass, filterExpression, sorting, pagination, requestScope);
     }
 
+    @Override
+    public Iterable<Object> streamObjects(Class<?> entityClass,
+                                          Optional<FilterExpression> filterExpression,
+                                          Optional<Sorting> sorting,
+                                          RequestScope requestScope) {
+        return tx.streamObjects(entityClass, filterExpression, sorting, requestScope);
+    }
+
     @Override
     public void close() throws IOException {
         tx.close();
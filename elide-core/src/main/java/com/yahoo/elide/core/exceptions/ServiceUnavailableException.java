@@ -0,0 +1,21 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.exceptions;
+
+import com.yahoo.elide.core.HttpStatus;
+
+/**
+ * Exception representing a request which could not be served because the service is at capacity.
+ *
+ * {@link com.yahoo.elide.core.HttpStatus#SC_SERVICE_UNAVAILABLE}
+ */
+public class ServiceUnavailableException extends HttpStatusException {
+    private static final long serialVersionUID = 1L;
+
+    public ServiceUnavailableException(String message) {
+        super(HttpStatus.SC_SERVICE_UNAVAILABLE, message);
+    }
+}
@@ -143,9 +143,35 @@ public class FilterPredicate implements FilterExpression, Function<RequestScope,
         return visitor.visitPredicate(this);
     }
 
+    /**
+     * Compiles this predicate for in memory evaluation.  The accessors along the path and the filter values are
+     * resolved once so the returned predicate can be applied to many entities.
+     *
+     * @param requestScope the request scope
+     * @return a predicate which tests entities against this filter
+     */
     @Override
-    public Predicate apply(RequestScope dictionary) {
-        return operator.contextualize(getFieldPath(), values, dictionary);
+    public Predicate apply(RequestScope requestScope) {
+        return operator.compile(getValueAccessor(requestScope), values);
+    }
+
+    private Function<Object, Object> getValueAccessor(RequestScope requestScope) {
+        EntityDictionary dictionary = requestScope.getDictionary();
+        List<Function<Object, Object>> accessors = path.getPathElements().stream()
+                .filter(element -> !"this".equals(element.getFieldName()))
+                .map(element -> dictionary.getValueAccessor(element.getType(), element.getFieldName(), requestScope))
+                .collect(Collectors.toList());
+
+        return entity -> {
+            Object val = entity;
+            for (Function<Object, Object> accessor : accessors) {
+                if (val == null) {
+                    break;
+                }
+                val = accessor.apply(val);
+            }
+            return val;
+        };
     }
 
     public boolean isMatchingOperator() {
@@ -11,6 +11,8 @@ import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.InvalidOperatorNegationException;
 import com.yahoo.elide.utils.coerce.CoerceUtil;
 
+import org.apache.commons.lang3.tuple.Pair;
+
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -18,8 +20,11 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Operator enum for predicates.
@@ -28,142 +33,141 @@ import java.util.function.Predicate;
 public enum Operator {
     IN("in", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return in(field, values, requestScope);
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return in(fieldValue, values);
         }
     },
 
     IN_INSENSITIVE("ini", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return in(field, values, requestScope, FOLD_CASE);
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return in(fieldValue, values, FOLD_CASE);
         }
     },
 
     NOT("not", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(field, values, requestScope).test(entity);
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return Operator.<T>in(fieldValue, values).negate();
         }
     },
 
     NOT_INSENSITIVE("noti", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(field, values, requestScope, FOLD_CASE).test(entity);
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return Operator.<T>in(fieldValue, values, FOLD_CASE).negate();
         }
     },
 
     PREFIX_CASE_INSENSITIVE("prefixi", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return prefix(field, values, requestScope, s -> s.toLowerCase(Locale.ENGLISH));
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return prefix(fieldValue, values, FOLD_CASE);
         }
     },
 
     PREFIX("prefix", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return prefix(field, values, requestScope, Function.identity());
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return prefix(fieldValue, values, Function.identity());
         }
     },
 
     POSTFIX("postfix", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return postfix(field, values, requestScope, Function.identity());
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return postfix(fieldValue, values, Function.identity());
         }
     },
 
     POSTFIX_CASE_INSENSITIVE("postfixi", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return postfix(field, values, requestScope, FOLD_CASE);
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return postfix(fieldValue, values, FOLD_CASE);
         }
     },
 
     INFIX("infix", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return infix(field, values, requestScope, Function.identity());
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return infix(fieldValue, values, Function.identity());
         }
     },
 
     INFIX_CASE_INSENSITIVE("infixi", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return infix(field, values, requestScope, FOLD_CASE);
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return infix(fieldValue, values, FOLD_CASE);
         }
     },
 
     ISNULL("isnull", false) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return isNull(field, requestScope);
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return isNull(fieldValue);
         }
     },
 
     NOTNULL("notnull", false) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return (val) -> !isNull(field, requestScope).test(val);
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return Operator.<T>isNull(fieldValue).negate();
         }
     },
 
     LT("lt", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return lt(field, values, requestScope);
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return lt(fieldValue, values);
         }
     },
 
     LE("le", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return le(field, values, requestScope);
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return le(fieldValue, values);
         }
     },
 
     GT("gt", true) {
         @Override
-        public <T> Predicate<T> contextualize(
-                String field, List<Object> values, RequestScope requestScope) {
-            return gt(field, values, requestScope);
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return gt(fieldValue, values);
         }
     },
 
     GE("ge", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return ge(field, values, requestScope);
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return ge(fieldValue, values);
         }
     },
 
     TRUE("true", false) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
             return isTrue();
         }
     },
 
     FALSE("false", false) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
             return isFalse();
         }
     },
 
     ISEMPTY("isempty", false) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return isEmpty(field, requestScope);
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return isEmpty(fieldValue);
         }
     },
 
     NOTEMPTY("notempty", false) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return (entity) -> !isEmpty(field, requestScope).test(entity);
+        public <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values) {
+            return Operator.<T>isEmpty(fieldValue).negate();
         }
     }
     ;
@@ -207,7 +211,29 @@ public enum Operator {
         throw new BadRequestException("Unknown operator in filter: " + string);
     }
 
-    public abstract <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope);
+    /**
+     * Builds a predicate which evaluates this operator against the value of a field.  The predicate is built once
+     * and reused for every entity so any work which does not depend on the entity is done here.
+     *
+     * @param <T> the type of entity to test
+     * @param fieldValue reads the value of the field (or path) from an entity
+     * @param values the filter values
+     * @return the predicate
+     */
+    public abstract <T> Predicate<T> compile(Function<Object, Object> fieldValue, List<Object> values);
+
+    /**
+     * Builds a predicate which evaluates this operator against a field path such as {@code this.book.author}.
+     *
+     * @param <T> the type of entity to test
+     * @param field the field path
+     * @param values the filter values
+     * @param requestScope the request scope
+     * @return the predicate
+     */
+    public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
+        return compile(entity -> getFieldValue(entity, field, requestScope), values);
+    }
 
     //
     // Predicate generation
@@ -215,115 +241,100 @@ public enum Operator {
 
     //
     // In with strict equality
-    private static <T> Predicate<T> in(String field, List<Object> values, RequestScope requestScope) {
+    private static <T> Predicate<T> in(Function<Object, Object> fieldValue, List<Object> values) {
+        CoercedValues coercedValues = new CoercedValues(values, (value, cls) -> CoerceUtil.coerce(value, cls));
         return (T entity) -> {
-            Object val = getFieldValue(entity, field, requestScope);
+            Object val = fieldValue.apply(entity);
 
-            return val != null && values.stream()
-                    .map(v -> CoerceUtil.coerce(v, val.getClass()))
-                    .anyMatch(val::equals);
+            return val != null && coercedValues.to(val.getClass()).contains(val);
         };
     }
 
     //
     // String-like In with optional transformation
-    private static <T> Predicate<T> in(String field, List<Object> values,
-                                       RequestScope requestScope, Function<String, String> transform) {
+    private static <T> Predicate<T> in(Function<Object, Object> fieldValue, List<Object> values,
+                                       Function<String, String> transform) {
+        List<String> transformedValues = values.stream()
+                .map(v -> transform.apply(CoerceUtil.coerce(v, String.class)))
+                .collect(Collectors.toList());
+
         return (T entity) -> {
-            Object fieldValue = getFieldValue(entity, field, requestScope);
+            Object value = fieldValue.apply(entity);
 
-            if (fieldValue == null) {
+            if (value == null) {
                 return false;
             }
 
-            if (!fieldValue.getClass().isAssignableFrom(String.class)) {
+            if (!value.getClass().isAssignableFrom(String.class)) {
                 throw new IllegalStateException("Cannot case insensitive compare non-string values");
             }
 
-            String val = transform.apply((String) fieldValue);
-            return val != null && values.stream()
-                    .map(v -> transform.apply(CoerceUtil.coerce(v, String.class)))
-                    .anyMatch(val::equals);
+            String val = transform.apply((String) value);
+            return val != null && transformedValues.contains(val);
         };
     }
 
     //
     // String-like prefix matching with optional transformation
-    private static <T> Predicate<T> prefix(String field, List<Object> values,
-                                           RequestScope requestScope, Function<String, String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("PREFIX can only take one argument");
-            }
-
-            Object val = getFieldValue(entity, field, requestScope);
-            String valStr = CoerceUtil.coerce(val, String.class);
-            String filterStr = CoerceUtil.coerce(values.get(0), String.class);
-
-            return valStr != null
-                    && filterStr != null
-                    && transform.apply(valStr).startsWith(transform.apply(filterStr));
-        };
+    private static <T> Predicate<T> prefix(Function<Object, Object> fieldValue, List<Object> values,
+                                           Function<String, String> transform) {
+        return matches("PREFIX", fieldValue, values, transform, String::startsWith);
     }
 
     //
     // String-like postfix matching with optional transformation
-    private static <T> Predicate<T> postfix(String field, List<Object> values,
-                                            RequestScope requestScope, Function<String, String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("POSTFIX can only take one argument");
-            }
-
-            Object val = getFieldValue(entity, field, requestScope);
-            String valStr = CoerceUtil.coerce(val, String.class);
-            String filterStr = CoerceUtil.coerce(values.get(0), String.class);
-
-            return valStr != null
-                    && filterStr != null
-                    && transform.apply(valStr).endsWith(transform.apply(filterStr));
-        };
+    private static <T> Predicate<T> postfix(Function<Object, Object> fieldValue, List<Object> values,
+                                            Function<String, String> transform) {
+        return matches("POSTFIX", fieldValue, values, transform, String::endsWith);
     }
 
     //
     // String-like infix matching with optional transformation
-    private static <T> Predicate<T> infix(String field, List<Object> values,
-                                          RequestScope requestScope, Function<String, String> transform) {
+    private static <T> Predicate<T> infix(Function<Object, Object> fieldValue, List<Object> values,
+                                          Function<String, String> transform) {
+        return matches("INFIX", fieldValue, values, transform, String::contains);
+    }
+
+    private static <T> Predicate<T> matches(String name, Function<Object, Object> fieldValue, List<Object> values,
+                                            Function<String, String> transform,
+                                            BiPredicate<String, String> condition) {
+        String filterStr = values.size() == 1 ? CoerceUtil.coerce(values.get(0), String.class) : null;
+        String transformedFilterStr = filterStr == null ? null : transform.apply(filterStr);
+
         return (T entity) -> {
             if (values.size() != 1) {
-                throw new BadRequestException("INFIX can only take one argument");
+                throw new BadRequestException(name + " can only take one argument");
             }
 
-            Object val = getFieldValue(entity, field, requestScope);
+            Object val = fieldValue.apply(entity);
             String valStr = CoerceUtil.coerce(val, String.class);
-            String filterStr = CoerceUtil.coerce(values.get(0), String.class);
 
             return valStr != null
-                    && filterStr != null
-                    && transform.apply(valStr).contains(transform.apply(filterStr));
+                    && transformedFilterStr != null
+                    && condition.test(transform.apply(valStr), transformedFilterStr);
         };
     }
 
     //
     // Null checking
-    private static <T> Predicate<T> isNull(String field, RequestScope requestScope) {
-        return (T entity) -> getFieldValue(entity, field, requestScope) == null;
+    private static <T> Predicate<T> isNull(Function<Object, Object> fieldValue) {
+        return (T entity) -> fieldValue.apply(entity) == null;
     }
 
-    private static <T> Predicate<T> lt(String field, List<Object> values, RequestScope requestScope) {
-        return getComparator(field, values, requestScope, compareResult -> compareResult < 0);
+    private static <T> Predicate<T> lt(Function<Object, Object> fieldValue, List<Object> values) {
+        return getComparator(fieldValue, values, compareResult -> compareResult < 0);
     }
 
-    private static <T> Predicate<T> le(String field, List<Object> values, RequestScope requestScope) {
-        return getComparator(field, values, requestScope, compareResult -> compareResult <= 0);
+    private static <T> Predicate<T> le(Function<Object, Object> fieldValue, List<Object> values) {
+        return getComparator(fieldValue, values, compareResult -> compareResult <= 0);
     }
 
-    private static <T> Predicate<T> gt(String field, List<Object> values, RequestScope requestScope) {
-        return getComparator(field, values, requestScope, compareResult -> compareResult > 0);
+    private static <T> Predicate<T> gt(Function<Object, Object> fieldValue, List<Object> values) {
+        return getComparator(fieldValue, values, compareResult -> compareResult > 0);
     }
 
-    private static <T> Predicate<T> ge(String field, List<Object> values, RequestScope requestScope) {
-        return getComparator(field, values, requestScope, compareResult -> compareResult >= 0);
+    private static <T> Predicate<T> ge(Function<Object, Object> fieldValue, List<Object> values) {
+        return getComparator(fieldValue, values, compareResult -> compareResult >= 0);
     }
 
     private static <T> Predicate<T> isTrue() {
@@ -334,10 +345,10 @@ public enum Operator {
         return (T entity) -> false;
     }
 
-    private static <T> Predicate<T> isEmpty(String field, RequestScope requestScope) {
+    private static <T> Predicate<T> isEmpty(Function<Object, Object> fieldValue) {
         return (T entity) -> {
 
-            Object val = getFieldValue(entity, field, requestScope);
+            Object val = fieldValue.apply(entity);
             if (val == null) { return false; }
             if (val instanceof Collection<?>) {
                 return ((Collection<?>) val).isEmpty();
@@ -373,26 +384,29 @@ public enum Operator {
         return val;
     }
 
-    private static <T> Predicate<T> getComparator(String field, List<Object> values,
-                                                  RequestScope requestScope, Predicate<Integer> condition) {
+    private static <T> Predicate<T> getComparator(Function<Object, Object> fieldValue, List<Object> values,
+                                                  Predicate<Integer> condition) {
+        CoercedValues coercedValues = new CoercedValues(values,
+                (value, cls) -> CoerceUtil.coerce(CoerceUtil.coerce(value, cls), Comparable.class));
+
         return (T entity) -> {
             if (values.size() == 0) {
                 throw new BadRequestException("No value to compare");
             }
-            Object fieldVal = getFieldValue(entity, field, requestScope);
-            return fieldVal != null
-                    && values.stream()
-                    .anyMatch(testVal -> condition.test(compare(fieldVal, testVal)));
-        };
-
-    }
+            Object fieldVal = fieldValue.apply(entity);
+            if (fieldVal == null) {
+                return false;
+            }
 
-    private static int compare(Object fieldValue, Object rawTestValue) {
-        Object testValue = CoerceUtil.coerce(rawTestValue, fieldValue.getClass());
-        Comparable testComp = CoerceUtil.coerce(testValue, Comparable.class);
-        Comparable fieldComp = CoerceUtil.coerce(fieldValue, Comparable.class);
+            Comparable fieldComp = CoerceUtil.coerce(fieldVal, Comparable.class);
+            for (Object testComp : coercedValues.to(fieldVal.getClass())) {
+                if (condition.test(fieldComp.compareTo(testComp))) {
+                    return true;
+                }
+            }
+            return false;
+        };
 
-        return fieldComp.compareTo(testComp);
     }
 
     public Operator negate() {
@@ -401,4 +415,31 @@ public enum Operator {
         }
         return negated;
     }
+
+    /**
+     * Filter values coerced to the type of the field they are compared with.  The values are coerced once per field
+     * type rather than once per entity.  The most recent coercion is kept since the field values of a collection
+     * almost always share a type.
+     */
+    private static final class CoercedValues {
+        private final List<Object> values;
+        private final BiFunction<Object, Class<?>, Object> coercion;
+        private volatile Pair<Class<?>, List<Object>> coerced;
+
+        private CoercedValues(List<Object> values, BiFunction<Object, Class<?>, Object> coercion) {
+            this.values = values;
+            this.coercion = coercion;
+        }
+
+        private List<Object> to(Class<?> cls) {
+            Pair<Class<?>, List<Object>> current = coerced;
+            if (current == null || current.getLeft() != cls) {
+                current = Pair.of(cls, values.stream()
+                        .map(value -> coercion.apply(value, cls))
+                        .collect(Collectors.toList()));
+                coerced = current;
+            }
+            return current.getRight();
+        }
+    }
 }
@@ -29,8 +29,21 @@ import javax.ws.rs.core.MultivaluedMap;
  */
 public class DefaultFilterDialect implements JoinFilterDialect, SubqueryFilterDialect {
     private final EntityDictionary dictionary;
+    private final FilterExpressionCache expressionCache;
+
     public DefaultFilterDialect(EntityDictionary dictionary) {
+        this(dictionary, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param dictionary the entity dictionary
+     * @param expressionCache cache of parsed predicates shared across requests (or null to always parse)
+     */
+    public DefaultFilterDialect(EntityDictionary dictionary, FilterExpressionCache expressionCache) {
         this.dictionary = dictionary;
+        this.expressionCache = expressionCache;
     }
 
     /**
@@ -64,27 +77,49 @@ public class DefaultFilterDialect implements JoinFilterDialect, SubqueryFilterDi
             final Operator operator = (matcher.group(3) == null) ? Operator.IN
                     : Operator.fromString(matcher.group(3));
 
-            Path path = getPath(keyParts);
-            List<Path.PathElement> elements = path.getPathElements();
-            Path.PathElement last = elements.get(elements.size() - 1);
-
-            final List<Object> values = new ArrayList<>();
-            if (operator.isParameterized()) {
-                for (String valueParams : paramValues) {
-                    for (String valueParam : valueParams.split(",")) {
-                        values.add(CoerceUtil.coerce(valueParam, last.getFieldType()));
-                    }
-                }
+            FilterPredicate filterPredicate;
+            if (expressionCache == null) {
+                filterPredicate = parsePredicate(keyParts, operator, paramValues);
+            } else {
+                filterPredicate = (FilterPredicate) expressionCache.get(this,
+                        dictionary.getEntityClass(keyParts[0]),
+                        paramName + "=" + String.join(",", paramValues),
+                        () -> parsePredicate(keyParts, operator, paramValues));
             }
 
-            FilterPredicate filterPredicate = new FilterPredicate(path, operator, values);
-
             filterPredicates.add(filterPredicate);
         }
 
         return filterPredicates;
     }
 
+    /**
+     * Builds the predicate for a single filter parameter.
+     *
+     * @param keyParts the type and field path of the filter parameter
+     * @param operator the filter operator
+     * @param paramValues the values of the filter parameter
+     * @return the predicate
+     * @throws ParseException when the field path cannot be resolved
+     */
+    private FilterPredicate parsePredicate(String[] keyParts, Operator operator, List<String> paramValues)
+            throws ParseException {
+        Path path = getPath(keyParts);
+        List<Path.PathElement> elements = path.getPathElements();
+        Path.PathElement last = elements.get(elements.size() - 1);
+
+        final List<Object> values = new ArrayList<>();
+        if (operator.isParameterized()) {
+            for (String valueParams : paramValues) {
+                for (String valueParam : valueParams.split(",")) {
+                    values.add(CoerceUtil.coerce(valueParam, last.getFieldType()));
+                }
+            }
+        }
+
+        return new FilterPredicate(path, operator, values);
+    }
+
     @Override
     public FilterExpression parseGlobalExpression(String path, MultivaluedMap<String, String> filterParams)
             throws ParseException {
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.filter.dialect;
+
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import org.apache.commons.lang3.tuple.Triple;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A bounded cache of parsed filter expressions which is shared by every request.  Filter expressions are
+ * immutable once parsed so the same tree can be handed to concurrent requests.
+ * <p>
+ * Entries are keyed by the dialect which parsed them, the entity type the filter applies to and the
+ * filter text.  The least recently used entries are evicted once the cache is full.  Failed parses are never cached.
+ * <p>
+ * Only dialects constructed with a cache use one.  Custom dialects, including an {@link RSQLFilterDialect} built
+ * without a cache, parse every filter.
+ */
+public class FilterExpressionCache {
+
+    /**
+     * Parses a filter expression on a cache miss.
+     */
+    @FunctionalInterface
+    public interface Parser {
+        FilterExpression parse() throws ParseException;
+    }
+
+    private final Cache<Triple<Object, Class<?>, String>, FilterExpression> cache;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of parsed expressions to hold
+     */
+    public FilterExpressionCache(long maximumSize) {
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached expression or parses and caches it.
+     *
+     * @param dialect identifies the dialect and any of its settings which affect the result
+     * @param entityType the entity type the filter applies to
+     * @param filter the filter text
+     * @param parser parses the filter on a cache miss
+     * @return the parsed filter expression
+     * @throws ParseException if the filter cannot be parsed
+     */
+    public FilterExpression get(Object dialect, Class<?> entityType, String filter, Parser parser)
+            throws ParseException {
+        try {
+            return cache.get(Triple.of(dialect, entityType, filter), parser::parse);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Hit, miss and eviction counts of the cache since it was created.
+     *
+     * @return the cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * The number of expressions currently cached.
+     *
+     * @return the approximate number of cached expressions
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Discards every cached expression, for example after the entity dictionary changes.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
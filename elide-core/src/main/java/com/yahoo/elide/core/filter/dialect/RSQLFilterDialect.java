@@ -28,6 +28,7 @@ import com.yahoo.elide.utils.coerce.CoerceUtil;
 import com.google.common.collect.ImmutableMap;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.tuple.Pair;
 
 import cz.jirutka.rsql.parser.RSQLParser;
 import cz.jirutka.rsql.parser.RSQLParserException;
@@ -74,15 +75,29 @@ public class RSQLFilterDialect implements SubqueryFilterDialect, JoinFilterDiale
     private final RSQLParser parser;
     private final EntityDictionary dictionary;
     private final CaseSensitivityStrategy caseSensitivityStrategy;
+    private final FilterExpressionCache expressionCache;
 
     public RSQLFilterDialect(EntityDictionary dictionary) {
         this(dictionary, new CaseSensitivityStrategy.FIQLCompliant());
     }
 
     public RSQLFilterDialect(EntityDictionary dictionary, CaseSensitivityStrategy caseSensitivityStrategy) {
+        this(dictionary, caseSensitivityStrategy, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param dictionary the entity dictionary
+     * @param caseSensitivityStrategy how string comparisons are translated
+     * @param expressionCache cache of parsed expressions shared across requests (or null to always parse)
+     */
+    public RSQLFilterDialect(EntityDictionary dictionary, CaseSensitivityStrategy caseSensitivityStrategy,
+                             FilterExpressionCache expressionCache) {
         parser = new RSQLParser(getDefaultOperatorsWithIsnull());
         this.dictionary = dictionary;
         this.caseSensitivityStrategy = caseSensitivityStrategy;
+        this.expressionCache = expressionCache;
     }
 
     //add rsql isnull op to the default ops
@@ -179,6 +194,17 @@ public class RSQLFilterDialect implements SubqueryFilterDialect, JoinFilterDiale
     public FilterExpression parseFilterExpression(String expressionText,
                                                   Class<?> entityType,
                                                   boolean allowNestedToManyAssociations) throws ParseException {
+        if (expressionCache != null) {
+            return expressionCache.get(Pair.of(this, allowNestedToManyAssociations), entityType, expressionText,
+                    () -> parseUncachedFilterExpression(expressionText, entityType, allowNestedToManyAssociations));
+        }
+        return parseUncachedFilterExpression(expressionText, entityType, allowNestedToManyAssociations);
+    }
+
+    private FilterExpression parseUncachedFilterExpression(String expressionText,
+                                                           Class<?> entityType,
+                                                           boolean allowNestedToManyAssociations)
+            throws ParseException {
         try {
             Node ast = parser.parse(expressionText);
             RSQL2FilterExpressionVisitor visitor = new RSQL2FilterExpressionVisitor(allowNestedToManyAssociations);
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.pagination;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.GTPredicate;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.filter.LTPredicate;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+import com.yahoo.elide.utils.coerce.converters.Serde;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An opaque keyset pagination cursor.  A cursor records the sort key values and the id of the last record of a
+ * page.  The next page is every record which sorts after it, so the data store can seek straight to it rather than
+ * counting past an offset.
+ * <p>
+ * Cursors are keyed by the attributes of the collection being paged.  The id is always the final key so that
+ * records with equal sort keys are still totally ordered.  An empty cursor requests the first page in keyset order.
+ */
+@EqualsAndHashCode
+@ToString
+public class KeysetCursor {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    private static final TypeReference<LinkedHashMap<String, Object>> KEYS_TYPE =
+            new TypeReference<LinkedHashMap<String, Object>>() { };
+
+    private final Map<String, Object> keys;
+
+    public KeysetCursor(Map<String, Object> keys) {
+        this.keys = Collections.unmodifiableMap(new LinkedHashMap<>(keys));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor the encoded cursor
+     * @return the cursor
+     * @throws InvalidValueException if the cursor is malformed
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return new KeysetCursor(Collections.emptyMap());
+        }
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            Map<String, Object> keys = MAPPER.readValue(json, KEYS_TYPE);
+            if (keys == null || keys.isEmpty()) {
+                throw new InvalidValueException(cursor, "Empty pagination cursor");
+            }
+            return new KeysetCursor(keys);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidValueException("Invalid pagination cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Encodes the cursor as a URL safe string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(keys));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Builds the cursor of a record.  Every sort key must be readable and set, because the next page is selected
+     * by comparing with the keys of the cursor and records with a null key cannot be ordered the same way by every
+     * data store.
+     *
+     * @param resource the last record of a page
+     * @param sorting the sorting of the page
+     * @return the cursor
+     * @throws InvalidValueException if a sort key is null or cannot be read by the requesting user
+     */
+    public static KeysetCursor fromResource(PersistentResource<?> resource, Optional<Sorting> sorting) {
+        EntityDictionary dictionary = resource.getDictionary();
+        Class<?> entityClass = dictionary.lookupEntityClass(resource.getResourceClass());
+        String idFieldName = dictionary.getIdFieldName(entityClass);
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Path path : getSortingRules(entityClass, sorting, dictionary).keySet()) {
+            String fieldName = path.getFieldPath();
+            Object value;
+            try {
+                value = fieldName.equals(idFieldName)
+                        ? dictionary.getId(resource.getObject())
+                        : resource.getAttribute(fieldName);
+            } catch (ForbiddenAccessException e) {
+                throw new InvalidValueException(fieldName,
+                        "Cursor pagination can only sort by attributes which can be read");
+            }
+            if (value == null) {
+                throw new InvalidValueException(fieldName,
+                        "Cursor pagination can only sort by attributes which are never null");
+            }
+            keys.put(fieldName, serialize(value));
+        }
+        return new KeysetCursor(keys);
+    }
+
+    /**
+     * Returns the sorting rules a keyset page is ordered by: the requested rules followed by the id.
+     *
+     * @param entityClass the type being paged
+     * @param sorting the requested sorting
+     * @param dictionary the entity dictionary
+     * @return the ordered sorting rules
+     * @throws InvalidValueException if a sort key is not an attribute of the type
+     */
+    public static Map<Path, Sorting.SortOrder> getSortingRules(Class<?> entityClass,
+                                                               Optional<Sorting> sorting,
+                                                               EntityDictionary dictionary) {
+        Map<Path, Sorting.SortOrder> rules = new LinkedHashMap<>();
+        if (sorting.isPresent() && !sorting.get().isDefaultInstance()) {
+            rules.putAll(sorting.get().getValidSortingRules(entityClass, dictionary));
+        }
+
+        for (Path path : rules.keySet()) {
+            if (path.getPathElements().size() > 1) {
+                throw new InvalidValueException(path.getFieldPath(),
+                        "Cursor pagination can only sort by attributes of the collection");
+            }
+        }
+
+        Path idPath = new Path(entityClass, dictionary, dictionary.getIdFieldName(entityClass));
+        if (!rules.containsKey(idPath)) {
+            rules.put(idPath, Sorting.SortOrder.asc);
+        }
+        return rules;
+    }
+
+    /**
+     * Returns the sorting a keyset page is ordered by: the requested sorting followed by the id.
+     *
+     * @param entityClass the type being paged
+     * @param sorting the requested sorting
+     * @param dictionary the entity dictionary
+     * @return the sorting
+     */
+    public static Sorting getSorting(Class<?> entityClass, Optional<Sorting> sorting, EntityDictionary dictionary) {
+        Map<String, Sorting.SortOrder> rules = new LinkedHashMap<>();
+        getSortingRules(entityClass, sorting, dictionary)
+                .forEach((path, order) -> rules.put(path.getFieldPath(), order));
+        return new Sorting(rules);
+    }
+
+    /**
+     * Builds the filter matching every record which sorts after this cursor.  The row value comparison
+     * {@code (a, b) > (:a, :b)} is expanded to {@code a > :a OR (a = :a AND b > :b)} so that it can be evaluated
+     * by any data store and honour a mix of ascending and descending keys.
+     *
+     * @param entityClass the type being paged
+     * @param sorting the requested sorting
+     * @param dictionary the entity dictionary
+     * @return the filter expression or empty for the first page
+     * @throws InvalidValueException if the cursor was not produced for this type and sorting
+     */
+    public Optional<FilterExpression> getFilterExpression(Class<?> entityClass,
+                                                          Optional<Sorting> sorting,
+                                                          EntityDictionary dictionary) {
+        Map<Path, Sorting.SortOrder> rules = getSortingRules(entityClass, sorting, dictionary);
+        if (keys.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<String> expectedKeys = new ArrayList<>();
+        rules.keySet().forEach(path -> expectedKeys.add(path.getFieldPath()));
+        if (!expectedKeys.equals(new ArrayList<>(keys.keySet()))) {
+            throw new InvalidValueException(encode(), "Pagination cursor does not match the requested sort order");
+        }
+
+        List<Map.Entry<Path, Sorting.SortOrder>> entries = new ArrayList<>(rules.entrySet());
+        FilterExpression expression = null;
+        for (int idx = entries.size() - 1; idx >= 0; idx--) {
+            Path path = entries.get(idx).getKey();
+            Object value = deserialize(keys.get(path.getFieldPath()), path.lastElement().get().getFieldType());
+
+            FilterExpression after = entries.get(idx).getValue() == Sorting.SortOrder.asc
+                    ? new GTPredicate(path, value)
+                    : new LTPredicate(path, value);
+
+            expression = expression == null
+                    ? after
+                    : new OrFilterExpression(after,
+                            new AndFilterExpression(new InPredicate(path, value), expression));
+        }
+        return Optional.of(expression);
+    }
+
+    private static Object serialize(Object value) {
+        if (value instanceof Number || value instanceof String || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+
+        Serde serde = CoerceUtil.lookup(value.getClass());
+        return serde != null ? serde.serialize(value) : String.valueOf(value);
+    }
+
+    private Object deserialize(Object value, Class<?> fieldType) {
+        if (value == null) {
+            throw new InvalidValueException(encode(), "Pagination cursor contains an empty key");
+        }
+        return CoerceUtil.coerce(value, fieldType);
+    }
+}
@@ -15,6 +15,7 @@ import lombok.Getter;
 import lombok.ToString;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -30,7 +31,7 @@ public class Pagination {
     /**
      * Denotes the internal field names for paging.
      */
-    public enum PaginationKey { offset, number, size, limit, totals }
+    public enum PaginationKey { offset, number, size, limit, totals, after }
 
     public static final int DEFAULT_OFFSET = 0;
     public static final int DEFAULT_PAGE_LIMIT = 500;
@@ -51,6 +52,9 @@ public class Pagination {
     // For requesting total pages/records be included in the response page meta data
     public static final String PAGE_TOTALS_KEY = "page[totals]";
 
+    // For requesting the records which follow a keyset cursor
+    public static final String PAGE_AFTER_KEY = "page[after]";
+
     public static final Map<String, PaginationKey> PAGE_KEYS = new HashMap<>();
     static {
         PAGE_KEYS.put(PAGE_NUMBER_KEY, PaginationKey.number);
@@ -58,9 +62,11 @@ public class Pagination {
         PAGE_KEYS.put(PAGE_OFFSET_KEY, PaginationKey.offset);
         PAGE_KEYS.put(PAGE_LIMIT_KEY, PaginationKey.limit);
         PAGE_KEYS.put(PAGE_TOTALS_KEY, PaginationKey.totals);
+        PAGE_KEYS.put(PAGE_AFTER_KEY, PaginationKey.after);
     }
 
     private long pageTotals = 0;
+    private boolean pageTotalsExact = true;
 
     private static final String PAGE_KEYS_CSV = PAGE_KEYS.keySet().stream().collect(Collectors.joining(", "));
 
@@ -76,6 +82,9 @@ public class Pagination {
     @Getter
     private boolean generateTotals;
 
+    @Getter
+    private KeysetCursor cursor;
+
     private final int defaultMaxPageSize;
     private final int defaultPageSize;
 
@@ -117,7 +126,7 @@ public class Pagination {
      * Given an offset and first parameter from GraphQL, generate page and pageSize values.
      *
      * @param firstOpt Provided first string
-     * @param offsetOpt Provided offset string
+     * @param offsetOpt Provided offset string, or a keyset cursor produced by {@link KeysetCursor#encode()}
      * @param generatePageTotals True if page totals should be generated, false otherwise
      * @param elideSettings Elide settings object containing default pagination values
      * @return The new Pagination object.
@@ -126,39 +135,52 @@ public class Pagination {
                                                           Optional<String> offsetOpt,
                                                           boolean generatePageTotals,
                                                           ElideSettings elideSettings) {
-        return firstOpt.map(firstString -> {
-            int offset;
-            int first;
-
-            try {
-                offset = offsetOpt.map(Integer::parseInt).orElse(0);
-                first = Integer.parseInt(firstString);
-            } catch (NumberFormatException e) {
-                throw new InvalidValueException("Offset and first must be numeric values.");
-            }
-
-            if (offset < 0) {
-                throw new InvalidValueException("Offset values must be non-negative.");
-            } else if (first < 1) {
-                throw new InvalidValueException("Limit values must be positive.");
-            }
+        // Numeric values are offsets, anything else is a keyset cursor
+        Optional<KeysetCursor> cursor = offsetOpt
+                .filter(after -> !isInteger(after))
+                .map(KeysetCursor::decode);
 
-            ImmutableMap.Builder<PaginationKey, Integer> pageData = ImmutableMap.<PaginationKey, Integer>builder()
-                    .put(PAGE_KEYS.get(PAGE_OFFSET_KEY), offset)
-                    .put(PAGE_KEYS.get(PAGE_LIMIT_KEY), first);
-            if (generatePageTotals) {
-                pageData.put(PAGE_KEYS.get(PAGE_TOTALS_KEY), 1);
-            }
-
-            return Optional.of(getPagination(pageData.build(), elideSettings));
-        }).orElseGet(() -> {
+        if (!firstOpt.isPresent() && !cursor.isPresent()) {
             if (generatePageTotals) {
                 Pagination pagination = getDefaultPagination(elideSettings);
                 pagination.pageData.put(PAGE_KEYS.get(PAGE_TOTALS_KEY), 1);
                 return Optional.of(pagination);
             }
             return Optional.empty();
-        });
+        }
+
+        int offset;
+        int first;
+
+        try {
+            offset = cursor.isPresent() ? 0 : offsetOpt.map(Integer::parseInt).orElse(0);
+            first = firstOpt.map(Integer::parseInt).orElse(elideSettings.getDefaultPageSize());
+        } catch (NumberFormatException e) {
+            throw new InvalidValueException("Offset and first must be numeric values.");
+        }
+
+        if (offset < 0) {
+            throw new InvalidValueException("Offset values must be non-negative.");
+        } else if (first < 1) {
+            throw new InvalidValueException("Limit values must be positive.");
+        }
+
+        ImmutableMap.Builder<PaginationKey, Integer> pageData = ImmutableMap.builder();
+        if (cursor.isPresent()) {
+            pageData.put(PAGE_KEYS.get(PAGE_AFTER_KEY), 0);
+        } else {
+            pageData.put(PAGE_KEYS.get(PAGE_OFFSET_KEY), offset);
+        }
+        if (firstOpt.isPresent()) {
+            pageData.put(PAGE_KEYS.get(PAGE_LIMIT_KEY), first);
+        }
+        if (generatePageTotals) {
+            pageData.put(PAGE_KEYS.get(PAGE_TOTALS_KEY), 1);
+        }
+
+        Pagination pagination = getPagination(pageData.build(), elideSettings);
+        pagination.cursor = cursor.orElse(null);
+        return Optional.of(pagination);
     }
 
     /**
@@ -173,30 +195,36 @@ public class Pagination {
                                               ElideSettings elideSettings)
             throws InvalidValueException {
         final Map<PaginationKey, Integer> pageData = new HashMap<>();
-        queryParams.entrySet()
-                .forEach(paramEntry -> {
-                    final String queryParamKey = paramEntry.getKey();
-                    if (PAGE_KEYS.containsKey(queryParamKey)) {
-                        PaginationKey paginationKey = PAGE_KEYS.get(queryParamKey);
-                        if (paginationKey.equals(PaginationKey.totals)) {
-                            // page[totals] is a valueless parameter, use value of 0 just so that its presence can
-                            // be recorded in the map
-                            pageData.put(paginationKey, 0);
-                        } else {
-                            final String value = paramEntry.getValue().get(0);
-                            try {
-                                int intValue = Integer.parseInt(value, 10);
-                                pageData.put(paginationKey, intValue);
-                            } catch (NumberFormatException e) {
-                                throw new InvalidValueException("page values must be integers");
-                            }
-                        }
-                    } else if (queryParamKey.startsWith("page[")) {
-                        throw new InvalidValueException("Invalid Pagination Parameter. Accepted values are "
-                                + PAGE_KEYS_CSV);
+        KeysetCursor cursor = null;
+        for (Map.Entry<String, List<String>> paramEntry : queryParams.entrySet()) {
+            final String queryParamKey = paramEntry.getKey();
+            if (PAGE_KEYS.containsKey(queryParamKey)) {
+                PaginationKey paginationKey = PAGE_KEYS.get(queryParamKey);
+                if (paginationKey.equals(PaginationKey.totals)) {
+                    // page[totals] is a valueless parameter, use value of 0 just so that its presence can
+                    // be recorded in the map
+                    pageData.put(paginationKey, 0);
+                } else if (paginationKey.equals(PaginationKey.after)) {
+                    // page[after] holds an opaque cursor rather than an integer, record its presence the same way
+                    cursor = KeysetCursor.decode(paramEntry.getValue().get(0));
+                    pageData.put(paginationKey, 0);
+                } else {
+                    final String value = paramEntry.getValue().get(0);
+                    try {
+                        int intValue = Integer.parseInt(value, 10);
+                        pageData.put(paginationKey, intValue);
+                    } catch (NumberFormatException e) {
+                        throw new InvalidValueException("page values must be integers");
                     }
-                });
-        return getPagination(pageData, elideSettings);
+                }
+            } else if (queryParamKey.startsWith("page[")) {
+                throw new InvalidValueException("Invalid Pagination Parameter. Accepted values are "
+                        + PAGE_KEYS_CSV);
+            }
+        }
+        Pagination pagination = getPagination(pageData, elideSettings);
+        pagination.cursor = cursor;
+        return pagination;
     }
 
     /**
@@ -204,7 +232,17 @@ public class Pagination {
      * @param total the total number of records found
      */
     public void setPageTotals(long total) {
+        setPageTotals(total, true);
+    }
+
+    /**
+     * Sets the total number of records for the paginated query, which may be an estimate.
+     * @param total the total number of records found or estimated
+     * @param exact false if the total is an estimate
+     */
+    public void setPageTotals(long total, boolean exact) {
         this.pageTotals = total;
+        this.pageTotalsExact = exact;
     }
 
     /**
@@ -215,6 +253,14 @@ public class Pagination {
         return pageTotals;
     }
 
+    /**
+     * Whether the page totals were counted exactly rather than estimated by the data store.
+     * @return true unless the totals are an estimate
+     */
+    public boolean isPageTotalsExact() {
+        return pageTotalsExact;
+    }
+
     /**
      * Construct a pagination object from page data and elide settings.
      *
@@ -257,8 +303,19 @@ public class Pagination {
     }
 
     private boolean hasInvalidCombination(Map<PaginationKey, Integer> pageData) {
-        return (pageData.containsKey(PaginationKey.size) || pageData.containsKey(PaginationKey.number))
-                && (pageData.containsKey(PaginationKey.limit) || pageData.containsKey(PaginationKey.offset));
+        return ((pageData.containsKey(PaginationKey.size) || pageData.containsKey(PaginationKey.number))
+                && (pageData.containsKey(PaginationKey.limit) || pageData.containsKey(PaginationKey.offset)))
+                || (pageData.containsKey(PaginationKey.after)
+                && (pageData.containsKey(PaginationKey.number) || pageData.containsKey(PaginationKey.offset)));
+    }
+
+    private static boolean isInteger(String value) {
+        try {
+            Integer.parseInt(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
     }
 
     private void pageByOffset(int defaultLimit, int maxLimit) {
@@ -314,6 +371,15 @@ public class Pagination {
         return this;
     }
 
+    /**
+     * Whether records are paged by a keyset cursor rather than an offset.  Keyset pages always start at offset 0
+     * of the records which sort after the cursor.
+     * @return true if a cursor was provided
+     */
+    public boolean isKeyset() {
+        return cursor != null;
+    }
+
     /**
      * Know if this is the default instance.
      * @return The default pagination values.
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.extensions;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.annotation.OnReadPostCommit;
+import com.yahoo.elide.annotation.OnReadPreCommit;
+import com.yahoo.elide.annotation.OnReadPreSecurity;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.core.exceptions.InvalidCollectionException;
+import com.yahoo.elide.jsonapi.models.Resource;
+import com.yahoo.elide.security.PermissionExecutor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.Getter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming export of a root collection as newline delimited JSON:API resources or as CSV.
+ * <p>
+ * Rows are read from the data store with {@link com.yahoo.elide.core.DataStoreTransaction#streamObjects} and
+ * written to the response one at a time, so memory is bounded by a row rather than by the size of the collection.
+ * Read permission and sparse fields apply as they do to a GET of the collection.  Exports are not paginated and
+ * do not include relationships or related resources.
+ * <p>
+ * Each NDJSON line holds one resource object with its id and attributes.  CSV rows hold the id and the attributes
+ * of one resource, with a header row naming the columns.  Attributes which are not readable are left empty.
+ */
+public class JsonApiExport {
+    private static final String CSV_LINE_END = "\r\n";
+    private static final List<Class<? extends Annotation>> READ_TRIGGERS =
+            Arrays.asList(OnReadPreSecurity.class, OnReadPreCommit.class, OnReadPostCommit.class);
+
+    /**
+     * Formats a collection can be exported in.
+     */
+    public enum Format {
+        NDJSON(Elide.NDJSON_CONTENT_TYPE),
+        CSV(Elide.CSV_CONTENT_TYPE);
+
+        @Getter private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        /**
+         * Picks the export format requested by an Accept header.  Media types are considered in the order they are
+         * listed.  A JSON:API response is preferred when it is acceptable before any export format.
+         *
+         * @param accept the Accept header or null
+         * @return the export format or empty if a JSON:API document is wanted
+         */
+        public static Optional<Format> fromAccept(String accept) {
+            if (accept == null) {
+                return Optional.empty();
+            }
+
+            for (String mediaRange : accept.split(",")) {
+                String mediaType = StringUtils.substringBefore(mediaRange, ";").trim().toLowerCase(Locale.ENGLISH);
+                for (Format format : values()) {
+                    if (format.contentType.equals(mediaType)) {
+                        return Optional.of(format);
+                    }
+                }
+                if (mediaType.equals(Elide.JSONAPI_CONTENT_TYPE) || mediaType.equals("application/json")
+                        || mediaType.equals("application/*") || mediaType.equals("*/*")) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private final Format format;
+    private final Class<?> entityClass;
+    private final RequestScope requestScope;
+    private final Iterable<PersistentResource> records;
+
+    private JsonApiExport(Format format, Class<?> entityClass, RequestScope requestScope,
+                          Iterable<PersistentResource> records) {
+        this.format = format;
+        this.entityClass = entityClass;
+        this.requestScope = requestScope;
+        this.records = records;
+    }
+
+    /**
+     * Opens the export of a root collection.  The query runs before this returns so that failures are reported
+     * before any of the response is written.
+     *
+     * @param path the collection, such as {@code /book}
+     * @param format the export format
+     * @param requestScope the request scope
+     * @return the export
+     */
+    public static JsonApiExport open(String path, Format format, RequestScope requestScope) {
+        String[] segments = StringUtils.strip(path, "/").split("/");
+        if (segments.length != 1) {
+            throw new BadRequestException("Only root collections can be exported");
+        }
+
+        EntityDictionary dictionary = requestScope.getDictionary();
+        Class<?> entityClass = dictionary.getEntityClass(segments[0]);
+        if (entityClass == null || !dictionary.isRoot(entityClass)) {
+            throw new InvalidCollectionException(segments[0]);
+        }
+
+        Iterable<PersistentResource> records = PersistentResource.streamRecords(
+                entityClass,
+                requestScope.getLoadFilterExpression(entityClass),
+                Optional.ofNullable(requestScope.getSorting()),
+                requestScope);
+
+        return new JsonApiExport(format, entityClass, requestScope, records);
+    }
+
+    /**
+     * Whether reading the exported rows queues read triggers.  Triggers run when the transaction commits, so an
+     * export which has any must be written before then.
+     *
+     * @return true if the exported type or one of its exported fields has a read trigger
+     */
+    public boolean hasReadTriggers() {
+        EntityDictionary dictionary = requestScope.getDictionary();
+        List<String> fields = getColumns();
+        return READ_TRIGGERS.stream().anyMatch(trigger ->
+                !dictionary.getTriggers(entityClass, trigger).isEmpty()
+                        || fields.stream().anyMatch(field -> !dictionary.getTriggers(entityClass, trigger, field)
+                                .isEmpty()));
+    }
+
+    /**
+     * Writes the exported rows.  Rows are written as they are read, so this may only be called once.
+     *
+     * @param outputStream the response body
+     * @throws IOException if the body cannot be written
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ObjectMapper objectMapper = requestScope.getMapper().getObjectMapper();
+        PermissionExecutor permissionExecutor = requestScope.getPermissionExecutor();
+
+        List<String> columns = null;
+        if (format == Format.CSV) {
+            columns = getColumns();
+            writer.write(columns.stream().map(JsonApiExport::escape).collect(Collectors.joining(",")));
+            writer.write(CSV_LINE_END);
+        }
+
+        for (PersistentResource record : records) {
+            // Relationships would be loaded for every row, so they are not exported.
+            Resource resource = record.toResourceWithoutRelationships();
+            if (format == Format.CSV) {
+                writeRow(writer, objectMapper, columns, resource);
+            } else {
+                writer.write(objectMapper.writeValueAsString(resource));
+                writer.write('\n');
+            }
+
+            // Each row is checked once, so its results are not worth keeping.
+            permissionExecutor.clearResultCache();
+        }
+        writer.flush();
+    }
+
+    private List<String> getColumns() {
+        EntityDictionary dictionary = requestScope.getDictionary();
+        Set<String> sparseFields = requestScope.getSparseFields().get(dictionary.getJsonAliasFor(entityClass));
+
+        List<String> columns = dictionary.getAttributes(entityClass).stream()
+                .filter(attribute -> sparseFields == null || sparseFields.contains(attribute))
+                .collect(Collectors.toList());
+        columns.add(0, "id");
+        return columns;
+    }
+
+    private static void writeRow(Writer writer, ObjectMapper objectMapper, List<String> columns, Resource resource)
+            throws IOException {
+        Map<String, Object> attributes = resource.getAttributes() == null
+                ? Collections.emptyMap()
+                : resource.getAttributes();
+
+        writer.write(escape(resource.getId()));
+        for (String column : columns.subList(1, columns.size())) {
+            writer.write(',');
+            writer.write(escape(toCell(objectMapper, attributes.get(column))));
+        }
+        writer.write(CSV_LINE_END);
+    }
+
+    /**
+     * Renders an attribute as text.  Scalars are written as they serialize to JSON, without quotes.  Complex
+     * attributes are written as JSON.
+     */
+    private static String toCell(ObjectMapper objectMapper, Object value) {
+        if (value == null) {
+            return "";
+        }
+        JsonNode node = objectMapper.valueToTree(value);
+        if (node.isNull()) {
+            return "";
+        }
+        return node.isValueNode() ? node.asText() : node.toString();
+    }
+
+    /**
+     * Quotes a field as RFC 4180 requires.
+     */
+    private static String escape(String field) {
+        if (StringUtils.containsAny(field, ',', '"', '\r', '\n')) {
+            return '"' + field.replace("\"", "\"\"") + '"';
+        }
+        return field;
+    }
+}
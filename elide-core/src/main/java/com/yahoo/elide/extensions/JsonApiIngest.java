@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.extensions;
+
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.exceptions.InvalidEntityBodyException;
+import com.yahoo.elide.jsonapi.JsonApiMapper;
+import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+import com.yahoo.elide.parsers.JsonApiParser;
+import com.yahoo.elide.parsers.PostVisitor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Bulk ingest of newline delimited JSON:API resources.
+ * <p>
+ * Each line of the body holds one resource object, as it would appear as the data of a POST to the same path.
+ * Records are read and created in chunks.  Every chunk runs in its own transaction through the same permission
+ * checks and lifecycle hooks as a POST, and is committed before the next chunk is read, so memory is bounded by the
+ * chunk size rather than by the size of the body.  Resources may refer to other resources of the same chunk by
+ * temporary id.
+ * <p>
+ * A chunk which fails is rolled back and reported with the range of records it held.  Later chunks are still
+ * ingested.
+ */
+public class JsonApiIngest {
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final BufferedReader reader;
+    private final int chunkSize;
+    private final JsonApiMapper mapper;
+    private final ArrayNode errors = JsonNodeFactory.instance.arrayNode();
+    private long records;
+    private long created;
+    private long chunks;
+    private Integer failureStatus;
+
+    /**
+     * Constructor.
+     *
+     * @param body newline delimited resources
+     * @param chunkSize the number of records committed together
+     * @param mapper the JSON:API mapper
+     */
+    public JsonApiIngest(InputStream body, int chunkSize, JsonApiMapper mapper) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        this.chunkSize = chunkSize;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Reads the next chunk of records.  Blank lines are skipped.
+     *
+     * @return up to chunk size records, or an empty list once the body is exhausted
+     * @throws IOException if the body cannot be read
+     */
+    public List<String> nextChunk() throws IOException {
+        List<String> chunk = new ArrayList<>(chunkSize);
+        String line;
+        while (chunk.size() < chunkSize && (line = reader.readLine()) != null) {
+            if (!line.trim().isEmpty()) {
+                chunk.add(line);
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Creates the records of a chunk.
+     *
+     * @param path the collection the records are created in
+     * @param chunk the records
+     * @param requestScope the request scope of the chunk
+     */
+    public static void create(String path, List<String> chunk, PatchRequestScope requestScope) {
+        JsonApiMapper mapper = requestScope.getMapper();
+        ParseTree parseTree = JsonApiParser.parse(path);
+        for (String record : chunk) {
+            JsonApiDocument document;
+            try {
+                document = mapper.readJsonApiPatchExtValue(mapper.getObjectMapper().readTree(record));
+            } catch (IOException e) {
+                throw new InvalidEntityBodyException(record);
+            }
+
+            PostVisitor visitor = new PostVisitor(new PatchRequestScope(path, document, requestScope));
+            visitor.visit(parseTree);
+        }
+    }
+
+    /**
+     * Records the outcome of a chunk.
+     *
+     * @param chunkRecords the number of records in the chunk
+     * @param response the response of the chunk's transaction
+     */
+    public void recordChunk(int chunkRecords, ElideResponse response) {
+        long firstRecord = records + 1;
+        records += chunkRecords;
+        chunks++;
+
+        if (response.getResponseCode() == HttpStatus.SC_CREATED) {
+            created += chunkRecords;
+            return;
+        }
+        addError(response.getResponseCode(), details(response.getBody()), firstRecord, records);
+    }
+
+    /**
+     * Records that the body could not be read past the records already ingested.
+     *
+     * @param cause the read failure
+     */
+    public void recordUnreadable(IOException cause) {
+        addError(HttpStatus.SC_BAD_REQUEST, "Could not read records: " + cause.getMessage(), records + 1, null);
+    }
+
+    /**
+     * Builds the summary of the ingest.  The response is 201 when every chunk was committed and otherwise carries
+     * the status of the first failed chunk.  Committed chunks stay committed either way.
+     *
+     * @return the response
+     */
+    public ElideResponse toResponse() {
+        ObjectNode summary = JsonNodeFactory.instance.objectNode();
+        summary.putObject("meta")
+                .put("records", records)
+                .put("created", created)
+                .put("chunks", chunks)
+                .put("failedChunks", errors.size());
+        if (errors.size() > 0) {
+            summary.set("errors", errors);
+        }
+
+        int status = failureStatus == null ? HttpStatus.SC_CREATED : failureStatus;
+        try {
+            return new ElideResponse(status, mapper.writeJsonApiDocument(summary));
+        } catch (JsonProcessingException e) {
+            return new ElideResponse(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.toString());
+        }
+    }
+
+    private void addError(int status, String detail, long firstRecord, Long lastRecord) {
+        if (failureStatus == null) {
+            failureStatus = status;
+        }
+
+        ObjectNode error = errors.addObject();
+        error.put("status", status);
+        error.put("detail", detail);
+        ObjectNode meta = error.putObject("meta");
+        meta.put("firstRecord", firstRecord);
+        if (lastRecord != null) {
+            meta.put("lastRecord", lastRecord);
+        }
+    }
+
+    /**
+     * Joins the error details of a failed chunk's response body.
+     */
+    private String details(String body) {
+        if (body == null) {
+            return null;
+        }
+
+        JsonNode errorList;
+        try {
+            errorList = mapper.getObjectMapper().readTree(body).path("errors");
+        } catch (IOException e) {
+            return body;
+        }
+
+        StringJoiner details = new StringJoiner("; ");
+        for (JsonNode error : errorList) {
+            details.add(error.isTextual() ? error.asText() : error.path("detail").asText(error.toString()));
+        }
+        return details.length() == 0 ? body : details.toString();
+    }
+}
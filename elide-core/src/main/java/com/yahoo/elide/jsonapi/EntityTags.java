@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.jsonapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Computes and compares the entity tags of JSON-API responses.
+ * <p>
+ * A tag is a hash of the serialized response document, so two responses have the same tag exactly when they have
+ * the same body.  Tags can be computed from an already serialized body or from the document itself, in which case
+ * the document is hashed as it is serialized and the body is never held in memory.
+ */
+public class EntityTags {
+    private static final String ALGORITHM = "SHA-256";
+    private static final int TAG_BYTES = 16;
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTags() {
+    }
+
+    /**
+     * Computes the tag of a serialized response body.
+     *
+     * @param body the response body
+     * @return the quoted entity tag
+     */
+    public static String of(String body) {
+        return toTag(newDigest().digest(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Computes the tag of a response document without building its body.
+     *
+     * @param mapper the mapper which serializes responses
+     * @param document the response document
+     * @return the quoted entity tag
+     * @throws IOException if the document cannot be serialized
+     */
+    public static String of(JsonApiMapper mapper, JsonNode document) throws IOException {
+        MessageDigest digest = newDigest();
+        try (OutputStream out = new DigestOutputStream(ByteStreams.nullOutputStream(), digest)) {
+            mapper.writeJsonApiDocument(document, out);
+        }
+        return toTag(digest.digest());
+    }
+
+    /**
+     * Whether an If-None-Match header matches a tag.  Tags are compared weakly, as required for If-None-Match.
+     *
+     * @param ifNoneMatch the If-None-Match header
+     * @param tag the quoted entity tag of the current response
+     * @return true if the client's copy is current
+     */
+    public static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null || tag == null) {
+            return false;
+        }
+        String current = stripWeakPrefix(tag);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> ANY.equals(candidate) || current.equals(stripWeakPrefix(candidate)));
+    }
+
+    private static String stripWeakPrefix(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+
+    private static String toTag(byte[] hash) {
+        return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, TAG_BYTES)) + '"';
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -8,6 +8,7 @@ package com.yahoo.elide.jsonapi;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
 import com.yahoo.elide.jsonapi.models.Patch;
+import com.yahoo.elide.jsonapi.models.Resource;
 import com.yahoo.elide.utils.coerce.CoerceUtil;
 import com.yahoo.elide.utils.coerce.converters.Serde;
 
@@ -15,13 +16,17 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.POJONode;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Date;
 import java.util.List;
 
@@ -119,6 +124,67 @@ public class JsonApiMapper {
         return mapper.writeValueAsString(node);
     }
 
+    /**
+     * Write json api document directly to an output stream.  The stream is left open.
+     *
+     * @param node the node
+     * @param outputStream the output stream
+     * @throws IOException the iO exception
+     */
+    public void writeJsonApiDocument(JsonNode node, OutputStream outputStream) throws IOException {
+        mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, node);
+    }
+
+    /**
+     * Wrap a document writer in a json node.  Nothing is serialized until the node itself is written, so
+     * the document is never held in memory as a tree.
+     *
+     * @param documentWriter writes the document to a json generator
+     * @return the json node
+     */
+    public JsonNode toStreamingJsonObject(DocumentWriter documentWriter) {
+        return new POJONode(new JsonSerializable.Base() {
+            @Override
+            public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+                documentWriter.write(generator);
+            }
+
+            @Override
+            public void serializeWithType(JsonGenerator generator, SerializerProvider provider,
+                                          TypeSerializer typeSerializer) throws IOException {
+                serialize(generator, provider);
+            }
+        });
+    }
+
+    /**
+     * Write a json api collection document one resource at a time.
+     *
+     * @param generator the json generator
+     * @param data the primary data, which may be produced lazily while iterating
+     * @param trailer document holding the meta and included resources written after the primary data
+     * @throws IOException the iO exception
+     */
+    public void writeJsonApiCollection(JsonGenerator generator, Iterable<Resource> data, JsonApiDocument trailer)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("data");
+        for (Resource resource : data) {
+            generator.writeObject(resource);
+        }
+        generator.writeEndArray();
+        if (trailer.getMeta() != null) {
+            generator.writeObjectField("meta", trailer.getMeta());
+        }
+        if (trailer.getLinks() != null) {
+            generator.writeObjectField("links", trailer.getLinks());
+        }
+        if (trailer.getIncluded() != null) {
+            generator.writeObjectField("included", trailer.getIncluded());
+        }
+        generator.writeEndObject();
+    }
+
     /**
      * Read json api document.
      *
@@ -173,4 +239,12 @@ public class JsonApiMapper {
     public ObjectMapper getObjectMapper() {
         return mapper;
     }
+
+    /**
+     * Writes a json api document to a json generator.
+     */
+    @FunctionalInterface
+    public interface DocumentWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
 }
@@ -14,9 +14,16 @@ import com.google.common.collect.Lists;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.ws.rs.core.MultivaluedMap;
 
@@ -36,7 +43,7 @@ public class IncludedProcessor implements DocumentProcessor {
     public void execute(JsonApiDocument jsonApiDocument, PersistentResource resource,
                         Optional<MultivaluedMap<String, String>> queryParams) {
         if (isPresent(queryParams, INCLUDE)) {
-            addIncludedResources(jsonApiDocument, resource, queryParams.get().get(INCLUDE));
+            addIncludedResources(jsonApiDocument, Collections.singleton(resource), queryParams.get().get(INCLUDE));
         }
     }
 
@@ -48,27 +55,66 @@ public class IncludedProcessor implements DocumentProcessor {
     public void execute(JsonApiDocument jsonApiDocument, Set<PersistentResource> resources,
                         Optional<MultivaluedMap<String, String>> queryParams) {
         if (isPresent(queryParams, INCLUDE)) {
-
-            // Process include for each resource
-            resources.forEach(resource ->
-                    addIncludedResources(jsonApiDocument, resource, queryParams.get().get(INCLUDE)));
+            addIncludedResources(jsonApiDocument, resources, queryParams.get().get(INCLUDE));
         }
     }
 
     /**
      * Adds the requested relation resources to the included block of the JsonApiDocument.
+     * Every relationship along the requested paths is first loaded a level at a time for all the resources
+     * at that level so the data store can batch the fetches.
      */
-    private void addIncludedResources(JsonApiDocument jsonApiDocument, PersistentResource rec,
+    private void addIncludedResources(JsonApiDocument jsonApiDocument, Set<PersistentResource> resources,
             List<String> requestedRelationPaths) {
-        // Process each include relation path
+        List<List<String>> relationPaths = new ArrayList<>();
+
         requestedRelationPaths.forEach(pathParam -> {
             List<String> pathList = Arrays.asList(pathParam.split(RELATION_PATH_SEPARATOR));
 
-            pathList.forEach(requestedRelationPath -> {
-                List<String> relationPath = Lists.newArrayList(requestedRelationPath.split(RELATION_PATH_DELIMITER));
-                addResourcesForPath(jsonApiDocument, rec, relationPath);
-            });
+            pathList.forEach(requestedRelationPath ->
+                relationPaths.add(Lists.newArrayList(requestedRelationPath.split(RELATION_PATH_DELIMITER))));
         });
+
+        Map<PersistentResource, Map<String, Set<PersistentResource>>> loaded = new IdentityHashMap<>();
+        relationPaths.forEach(relationPath -> loadResourcesForPath(resources, relationPath, loaded));
+
+        // Process include for each resource
+        resources.forEach(resource ->
+            relationPaths.forEach(relationPath ->
+                addResourcesForPath(jsonApiDocument, resource, new ArrayList<>(relationPath), loaded)));
+    }
+
+    /**
+     * Loads all the relation resources for a given relation path, one level of the path at a time.
+     */
+    private void loadResourcesForPath(Collection<PersistentResource> resources, List<String> relationPath,
+                                      Map<PersistentResource, Map<String, Set<PersistentResource>>> loaded) {
+        Collection<PersistentResource> level = resources;
+
+        for (String relation : relationPath) {
+            Map<String, List<PersistentResource>> unloadedByType = level.stream()
+                    .filter(resource -> !loaded.getOrDefault(resource, Collections.emptyMap()).containsKey(relation))
+                    .collect(Collectors.groupingBy(PersistentResource::getType, LinkedHashMap::new,
+                            Collectors.toList()));
+
+            unloadedByType.values().forEach(group -> {
+                Optional<FilterExpression> filterExpression =
+                        group.get(0).getRequestScope().getExpressionForRelation(group.get(0), relation);
+                try {
+                    PersistentResource.getRelationsCheckedFiltered(group, relation, filterExpression, Optional.empty())
+                            .forEach((resource, collection) ->
+                                loaded.computeIfAbsent(resource, key -> new HashMap<>()).put(relation, collection));
+                } catch (ForbiddenAccessException e) {
+                    // Leave the group unloaded; each resource is then evaluated on its own.
+                }
+            });
+
+            List<PersistentResource> next = new ArrayList<>();
+            level.forEach(resource -> next.addAll(
+                    loaded.getOrDefault(resource, Collections.emptyMap()).getOrDefault(relation,
+                            Collections.emptySet())));
+            level = next;
+        }
     }
 
     /**
@@ -76,17 +122,22 @@ public class IncludedProcessor implements DocumentProcessor {
      * JsonApiDocument.
      */
     private void addResourcesForPath(JsonApiDocument jsonApiDocument, PersistentResource<?> rec,
-                                     List<String> relationPath) {
+                                     List<String> relationPath,
+                                     Map<PersistentResource, Map<String, Set<PersistentResource>>> loaded) {
 
         //Pop off a relation of relation path
         String relation = relationPath.remove(0);
 
-        Optional<FilterExpression> filterExpression = rec.getRequestScope().getExpressionForRelation(rec, relation);
-        Set<PersistentResource> collection;
-        try {
-            collection = rec.getRelationCheckedFiltered(relation, filterExpression, Optional.empty(), Optional.empty());
-        } catch (ForbiddenAccessException e) {
-            return;
+        Set<PersistentResource> collection = loaded.getOrDefault(rec, Collections.emptyMap()).get(relation);
+        if (collection == null) {
+            Optional<FilterExpression> filterExpression =
+                    rec.getRequestScope().getExpressionForRelation(rec, relation);
+            try {
+                collection = rec.getRelationCheckedFiltered(relation, filterExpression,
+                        Optional.empty(), Optional.empty());
+            } catch (ForbiddenAccessException e) {
+                return;
+            }
         }
 
         collection.forEach(resource -> {
@@ -95,7 +146,7 @@ public class IncludedProcessor implements DocumentProcessor {
             //If more relations left in the path, process a level deeper
             if (!relationPath.isEmpty()) {
                 //Use a copy of the relationPath to preserve the path for remaining branches of the relationship tree
-                addResourcesForPath(jsonApiDocument, resource, new ArrayList<>(relationPath));
+                addResourcesForPath(jsonApiDocument, resource, new ArrayList<>(relationPath), loaded);
             }
         });
     }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.metrics;
+
+/**
+ * Receives the time each request spent in each {@link RequestPhase} and the estimated cost of GraphQL queries.
+ * <p>
+ * Phases are reported once per request when it completes, with the time summed across every call made in that
+ * phase.  Phases the request did not enter are not reported.  Implementations are called from request threads and
+ * must be thread safe.
+ */
+@FunctionalInterface
+public interface ElideMetrics {
+
+    /**
+     * Metrics which discards everything.  Requests are not timed when this is configured.
+     */
+    ElideMetrics NONE = (phase, operation, entityType, durationNanos) -> { };
+
+    /**
+     * Records the time a request spent in a phase.
+     *
+     * @param phase the request phase
+     * @param operation the kind of request, such as {@code get} or {@code mutation}
+     * @param entityType the type named by the request or {@code unknown}
+     * @param durationNanos the time spent in the phase in nanoseconds
+     */
+    void record(RequestPhase phase, String operation, String entityType, long durationNanos);
+
+    /**
+     * Records the estimated cost of a GraphQL query, whether or not it was executed.
+     *
+     * @param operation the kind of request, such as {@code query} or {@code mutation}
+     * @param entityType the type named by the request or {@code unknown}
+     * @param cost the estimated cost
+     */
+    default void recordQueryCost(String operation, String entityType, long cost) {
+    }
+}
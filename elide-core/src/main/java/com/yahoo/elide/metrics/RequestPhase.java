@@ -0,0 +1,32 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.metrics;
+
+/**
+ * The phases of a request which are timed and reported to {@link ElideMetrics}.
+ */
+public enum RequestPhase {
+    /** Parsing the JSON:API path or parsing and validating the GraphQL document. */
+    PATH_PARSE,
+
+    /** Parsing filter, sparse field and sort parameters or arguments. */
+    FILTER_SORT_PARSE,
+
+    /** Reading objects and relationships from the data store. */
+    LOAD,
+
+    /** Evaluating security checks. */
+    PERMISSIONS,
+
+    /** Running lifecycle hooks. */
+    TRIGGERS,
+
+    /** Writing the response document. */
+    SERIALIZATION,
+
+    /** Flushing and committing the data store transaction. */
+    COMMIT
+}
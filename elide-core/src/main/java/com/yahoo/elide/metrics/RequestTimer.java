@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Accumulates the time a single request spends in each {@link RequestPhase}.
+ * <p>
+ * Each phase is charged its own time only.  While a different phase runs inside it, the outer phase is paused, so
+ * a load which runs during a permission check counts as load time and not as both.  Nested timing of the same
+ * phase is counted once, so a load which triggers another load is not double counted.  Time is summed with
+ * {@link LongAdder} because multiplexed data stores may load on several threads.
+ */
+public class RequestTimer {
+    public static final String UNKNOWN = "unknown";
+
+    private final ElideMetrics metrics;
+    private final Map<RequestPhase, LongAdder> durations = new EnumMap<>(RequestPhase.class);
+    private final ThreadLocal<Timing> activeTiming = new ThreadLocal<>();
+    private final Timing untimed = new Timing(null, null);
+
+    @Getter @Setter private String operation = UNKNOWN;
+    @Getter @Setter private String entityType = UNKNOWN;
+
+    /**
+     * The estimated cost of a GraphQL query or a negative value when the request was not costed.
+     */
+    @Getter @Setter private long queryCost = -1;
+
+    public RequestTimer(ElideMetrics metrics) {
+        this.metrics = metrics == null ? ElideMetrics.NONE : metrics;
+        for (RequestPhase phase : RequestPhase.values()) {
+            durations.put(phase, new LongAdder());
+        }
+    }
+
+    /**
+     * A phase which is being timed on the current thread.  Closing it adds the time since it started, less the time
+     * spent in other phases inside it, and resumes the phase it interrupted.
+     */
+    public final class Timing implements AutoCloseable {
+        private final RequestPhase phase;
+        private final Timing outer;
+        private long start;
+
+        private Timing(RequestPhase phase, Timing outer) {
+            this.phase = phase;
+            this.outer = outer;
+        }
+
+        @Override
+        public void close() {
+            if (phase == null) {
+                return;
+            }
+
+            long end = System.nanoTime();
+            durations.get(phase).add(end - start);
+            if (outer == null) {
+                activeTiming.remove();
+            } else {
+                outer.start = end;
+                activeTiming.set(outer);
+            }
+        }
+    }
+
+    /**
+     * Starts timing a phase on the current thread and pauses the phase which is already running, if it is a
+     * different one.  The returned timing must be closed on the same thread, which allows work that throws checked
+     * exceptions to be timed with try-with-resources.
+     *
+     * @param phase the phase
+     * @return the running timing
+     */
+    public Timing start(RequestPhase phase) {
+        Timing outer = activeTiming.get();
+        if (metrics == ElideMetrics.NONE || (outer != null && outer.phase == phase)) {
+            return untimed;
+        }
+
+        Timing timing = new Timing(phase, outer);
+        long now = System.nanoTime();
+        if (outer != null) {
+            durations.get(outer.phase).add(now - outer.start);
+        }
+        timing.start = now;
+        activeTiming.set(timing);
+        return timing;
+    }
+
+    /**
+     * Runs an action and adds its duration to a phase.
+     *
+     * @param phase the phase the action belongs to
+     * @param action the action
+     * @param <T> the result type
+     * @return the result of the action
+     */
+    public <T> T time(RequestPhase phase, Supplier<T> action) {
+        try (Timing timing = start(phase)) {
+            return action.get();
+        }
+    }
+
+    /**
+     * Runs an action and adds its duration to a phase.
+     *
+     * @param phase the phase the action belongs to
+     * @param action the action
+     */
+    public void time(RequestPhase phase, Runnable action) {
+        time(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Adds time measured by the caller to a phase.  The time is not taken out of any phase running on the current
+     * thread, so prefer {@link #start} for work done on it.
+     *
+     * @param phase the phase
+     * @param durationNanos the duration in nanoseconds
+     */
+    public void record(RequestPhase phase, long durationNanos) {
+        durations.get(phase).add(durationNanos);
+    }
+
+    /**
+     * Gets the time recorded so far for a phase.
+     *
+     * @param phase the phase
+     * @return the duration in nanoseconds
+     */
+    public long getDuration(RequestPhase phase) {
+        return durations.get(phase).sum();
+    }
+
+    /**
+     * Reports every phase with recorded time, and the query cost if there is one, to the configured metrics.
+     */
+    public void report() {
+        for (Map.Entry<RequestPhase, LongAdder> entry : durations.entrySet()) {
+            long duration = entry.getValue().sum();
+            if (duration > 0) {
+                metrics.record(entry.getKey(), operation, entityType, duration);
+            }
+        }
+        if (queryCost >= 0) {
+            metrics.recordQueryCost(operation, entityType, queryCost);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.parsers.expression;
+
+import com.yahoo.elide.core.CheckInstantiator;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.generated.parsers.ExpressionBaseVisitor;
+import com.yahoo.elide.generated.parsers.ExpressionParser;
+import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.permissions.expressions.AndExpression;
+import com.yahoo.elide.security.permissions.expressions.ExpressionTemplate;
+import com.yahoo.elide.security.permissions.expressions.NotExpression;
+import com.yahoo.elide.security.permissions.expressions.OrExpression;
+
+/**
+ * Compiles a permission parse tree into an {@link ExpressionTemplate}.  Check identifiers are resolved to their
+ * classes once, but the checks themselves are instantiated every time the template is bound.
+ */
+public class ExpressionTemplateVisitor extends ExpressionBaseVisitor<ExpressionTemplate>
+        implements CheckInstantiator {
+    private final EntityDictionary dictionary;
+
+    public ExpressionTemplateVisitor(EntityDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public ExpressionTemplate visitNOT(ExpressionParser.NOTContext ctx) {
+        ExpressionTemplate expression = visit(ctx.expression());
+        return (checkFn) -> new NotExpression(expression.bind(checkFn));
+    }
+
+    @Override
+    public ExpressionTemplate visitOR(ExpressionParser.ORContext ctx) {
+        ExpressionTemplate left = visit(ctx.left);
+        ExpressionTemplate right = visit(ctx.right);
+        return (checkFn) -> new OrExpression(left.bind(checkFn), right.bind(checkFn));
+    }
+
+    @Override
+    public ExpressionTemplate visitAND(ExpressionParser.ANDContext ctx) {
+        ExpressionTemplate left = visit(ctx.left);
+        ExpressionTemplate right = visit(ctx.right);
+        return (checkFn) -> new AndExpression(left.bind(checkFn), right.bind(checkFn));
+    }
+
+    @Override
+    public ExpressionTemplate visitPAREN(ExpressionParser.PARENContext ctx) {
+        return visit(ctx.expression());
+    }
+
+    @Override
+    public ExpressionTemplate visitPermissionClass(ExpressionParser.PermissionClassContext ctx) {
+        Class<? extends Check> checkClass = dictionary.getCheck(ctx.getText());
+
+        // Checks may keep state, so each binding gets its own instance.
+        return (checkFn) -> checkFn.apply(instantiateCheck(checkClass));
+    }
+}
@@ -15,6 +15,7 @@ import com.yahoo.elide.core.exceptions.InvalidObjectIdentifierException;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.exceptions.UnknownEntityException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.KeysetCursor;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
@@ -29,6 +30,7 @@ import com.yahoo.elide.jsonapi.models.Resource;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
 
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -66,11 +68,34 @@ public class CollectionTerminalState extends BaseState {
 
     @Override
     public Supplier<Pair<Integer, JsonNode>> handleGet(StateContext state) {
-        JsonApiDocument jsonApiDocument = new JsonApiDocument();
         RequestScope requestScope = state.getRequestScope();
         Optional<MultivaluedMap<String, String>> queryParams = requestScope.getQueryParams();
 
         Set<PersistentResource> collection = getResourceCollection(requestScope);
+        Meta meta = getPaginationMeta(requestScope, collection);
+
+        if (requestScope.getElideSettings().isStreamingResponses()) {
+            JsonApiMapper mapper = requestScope.getMapper();
+
+            // Resources are read while the transaction is open, so that the request can still fail before the
+            // response is sent, and are serialized one at a time while the response is written.
+            List<Resource> data = collection.stream()
+                    .map(PersistentResource::toResource)
+                    .collect(Collectors.toList());
+            JsonApiDocument trailer = new JsonApiDocument();
+            trailer.setMeta(meta);
+
+            // Run include processor
+            DocumentProcessor includedProcessor = new IncludedProcessor();
+            includedProcessor.execute(trailer, collection, queryParams);
+
+            JsonNode responseBody = mapper.toStreamingJsonObject(
+                    (generator) -> mapper.writeJsonApiCollection(generator, data, trailer));
+
+            return () -> Pair.of(HttpStatus.SC_OK, responseBody);
+        }
+
+        JsonApiDocument jsonApiDocument = new JsonApiDocument();
         // Set data
         jsonApiDocument.setData(getData(collection));
 
@@ -79,31 +104,48 @@ public class CollectionTerminalState extends BaseState {
         includedProcessor.execute(jsonApiDocument, collection, queryParams);
 
         // Add pagination meta data
+        jsonApiDocument.setMeta(meta);
+
+        JsonNode responseBody = requestScope.getMapper().toJsonObject(jsonApiDocument);
+
+        return () -> Pair.of(HttpStatus.SC_OK, responseBody);
+    }
+
+    private static Meta getPaginationMeta(RequestScope requestScope, Set<PersistentResource> collection) {
         Pagination pagination = requestScope.getPagination();
-        if (!pagination.isEmpty()) {
+        if (pagination.isEmpty()) {
+            return null;
+        }
 
-            Map<String, Number> pageMetaData = new HashMap<>();
+        Map<String, Object> pageMetaData = new HashMap<>();
+        if (pagination.isKeyset()) {
+            // A full page may be followed by more records, which are requested with page[after]
+            if (collection.size() >= pagination.getLimit() && !collection.isEmpty()) {
+                Optional<Sorting> sorting = Optional.ofNullable(requestScope.getSorting());
+                pageMetaData.put("endCursor",
+                        KeysetCursor.fromResource(Iterables.getLast(collection), sorting).encode());
+            }
+        } else {
             pageMetaData.put("number", (pagination.getOffset() / pagination.getLimit()) + 1);
-            pageMetaData.put("limit", pagination.getLimit());
-
-            // Get total records if it has been requested and add to the page meta data
-            if (pagination.isGenerateTotals()) {
-                Long totalRecords = pagination.getPageTotals();
-                pageMetaData.put("totalPages", totalRecords / pagination.getLimit()
-                        + ((totalRecords % pagination.getLimit()) > 0 ? 1 : 0));
-                pageMetaData.put("totalRecords", totalRecords);
+        }
+        pageMetaData.put("limit", pagination.getLimit());
+
+        // Get total records if it has been requested and add to the page meta data
+        if (pagination.isGenerateTotals()) {
+            Long totalRecords = pagination.getPageTotals();
+            pageMetaData.put("totalPages", totalRecords / pagination.getLimit()
+                    + ((totalRecords % pagination.getLimit()) > 0 ? 1 : 0));
+            pageMetaData.put("totalRecords", totalRecords);
+            if (!pagination.isPageTotalsExact()) {
+                // The data store estimated the totals rather than counting every record.
+                pageMetaData.put("totalRecordsExact", false);
             }
-
-            Map<String, Object> allMetaData = new HashMap<>();
-            allMetaData.put("page", pageMetaData);
-
-            Meta meta = new Meta(allMetaData);
-            jsonApiDocument.setMeta(meta);
         }
 
-        JsonNode responseBody = requestScope.getMapper().toJsonObject(jsonApiDocument);
+        Map<String, Object> allMetaData = new HashMap<>();
+        allMetaData.put("page", pageMetaData);
 
-        return () -> Pair.of(HttpStatus.SC_OK, responseBody);
+        return new Meta(allMetaData);
     }
 
     @Override
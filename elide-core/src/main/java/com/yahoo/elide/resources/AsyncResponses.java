@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.resources;
+
+import com.yahoo.elide.ElideResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.CompletionCallback;
+import javax.ws.rs.core.Response;
+
+/**
+ * Resumes suspended JAX-RS requests once Elide has answered them.
+ */
+@Slf4j
+public class AsyncResponses {
+    private AsyncResponses() {
+    }
+
+    /**
+     * Resumes a suspended request with the response, or with the failure so that the container's exception
+     * mappers can handle it.  A streamed {@link ElideResponse} is closed once the container has finished with the
+     * response, including when it fails, or at once if the request can no longer be resumed.
+     *
+     * @param asyncResponse the suspended request
+     * @param pending the pending Elide response
+     * @param build converts the Elide response into a JAX-RS response
+     * @param <T> the Elide response type
+     */
+    public static <T> void resume(AsyncResponse asyncResponse,
+                                  CompletableFuture<T> pending,
+                                  Function<T, Response> build) {
+        pending.whenComplete((response, error) -> {
+            if (error == null) {
+                if (response instanceof ElideResponse && ((ElideResponse) response).isStreaming()) {
+                    ElideResponse elideResponse = (ElideResponse) response;
+                    asyncResponse.register((CompletionCallback) (failure) -> closeQuietly(elideResponse));
+                    if (!asyncResponse.resume(build.apply(response))) {
+                        closeQuietly(elideResponse);
+                    }
+                    return;
+                }
+                asyncResponse.resume(build.apply(response));
+            } else if (error instanceof CompletionException && error.getCause() != null) {
+                asyncResponse.resume(error.getCause());
+            } else {
+                asyncResponse.resume(error);
+            }
+        });
+    }
+
+    private static void closeQuietly(ElideResponse response) {
+        try {
+            response.close();
+        } catch (IOException e) {
+            log.debug("Failed to close streamed response", e);
+        }
+    }
+}
@@ -5,12 +5,17 @@
  */
 package com.yahoo.elide.resources;
 
+import static com.yahoo.elide.Elide.CSV_CONTENT_TYPE;
 import static com.yahoo.elide.Elide.JSONAPI_CONTENT_TYPE;
+import static com.yahoo.elide.Elide.NDJSON_CONTENT_TYPE;
 
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.annotation.PATCH;
+import com.yahoo.elide.extensions.JsonApiExport;
 
+import java.io.InputStream;
+import java.util.Optional;
 import java.util.function.Function;
 
 import javax.inject.Inject;
@@ -24,14 +29,22 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 /**
  * Default endpoint/servlet for using Elide and JSONAPI.
+ * <p>
+ * The JAX-RS handlers resume an {@link AsyncResponse} from the request executor of the Elide settings and return
+ * nothing.  Each has a synchronous overload without the {@link AsyncResponse} which returns the {@link Response}
+ * built on the calling thread.  Subclasses which override a handler must override the asynchronous signature.
  */
 @Singleton
 @Produces(JSONAPI_CONTENT_TYPE)
@@ -56,34 +69,146 @@ public class JsonApiEndpoint {
      * @param path request path
      * @param securityContext security context
      * @param jsonapiDocument post data as jsonapi document
-     * @return response
+     * @param asyncResponse resumed with the response
      */
     @POST
     @Path("{path:.*}")
     @Consumes(JSONAPI_CONTENT_TYPE)
-    public Response post(
+    public void post(
         @PathParam("path") String path,
         @Context SecurityContext securityContext,
-        String jsonapiDocument) {
+        String jsonapiDocument,
+        @Suspended AsyncResponse asyncResponse) {
+        AsyncResponses.resume(asyncResponse,
+                elide.postAsync(path, jsonapiDocument, getUser.apply(securityContext)),
+                JsonApiEndpoint::build);
+    }
+
+    /**
+     * Runs a create request on the calling thread.
+     *
+     * @param path request path
+     * @param securityContext security context
+     * @param jsonapiDocument post data as jsonapi document
+     * @return response
+     */
+    public Response post(String path, SecurityContext securityContext, String jsonapiDocument) {
         return build(elide.post(path, jsonapiDocument, getUser.apply(securityContext)));
     }
 
     /**
-     * Read handler.
+     * Bulk ingest handler.  Creates newline delimited resources in committed chunks.
+     *
+     * @param path request path
+     * @param securityContext security context
+     * @param records one jsonapi resource per line
+     * @param asyncResponse resumed with the response
+     */
+    @POST
+    @Path("{path:.*}")
+    @Consumes(NDJSON_CONTENT_TYPE)
+    public void ingest(
+        @PathParam("path") String path,
+        @Context SecurityContext securityContext,
+        InputStream records,
+        @Suspended AsyncResponse asyncResponse) {
+        AsyncResponses.resume(asyncResponse,
+                elide.ingestAsync(path, records, getUser.apply(securityContext)),
+                JsonApiEndpoint::build);
+    }
+
+    /**
+     * Runs a bulk ingest on the calling thread.
      *
      * @param path request path
-     * @param uriInfo URI info
      * @param securityContext security context
+     * @param records one jsonapi resource per line
      * @return response
      */
+    public Response ingest(String path, SecurityContext securityContext, InputStream records) {
+        return build(elide.ingest(path, records, getUser.apply(securityContext)));
+    }
+
+    /**
+     * Read handler.  Root collections are exported as NDJSON or CSV when the client accepts either before
+     * JSON:API.
+     *
+     * @param path request path
+     * @param uriInfo URI info
+     * @param securityContext security context
+     * @param ifNoneMatch entity tags of the client's cached copy
+     * @param accept response MIME types
+     * @param asyncResponse resumed with the response
+     */
     @GET
     @Path("{path:.*}")
-    public Response get(
+    @Produces({JSONAPI_CONTENT_TYPE, NDJSON_CONTENT_TYPE, CSV_CONTENT_TYPE})
+    public void get(
         @PathParam("path") String path,
         @Context UriInfo uriInfo,
-        @Context SecurityContext securityContext) {
+        @Context SecurityContext securityContext,
+        @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+        @HeaderParam(HttpHeaders.ACCEPT) String accept,
+        @Suspended AsyncResponse asyncResponse) {
         MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
-        return build(elide.get(path, queryParams, getUser.apply(securityContext)));
+        Optional<JsonApiExport.Format> export = JsonApiExport.Format.fromAccept(accept);
+        if (export.isPresent()) {
+            AsyncResponses.resume(asyncResponse,
+                    elide.exportAsync(path, queryParams, getUser.apply(securityContext), export.get()),
+                    response -> build(response, export.get().getContentType()));
+            return;
+        }
+        AsyncResponses.resume(asyncResponse,
+                elide.getAsync(path, queryParams, getUser.apply(securityContext), ifNoneMatch),
+                response -> build(response, JSONAPI_CONTENT_TYPE));
+    }
+
+    /**
+     * Runs a read request on the calling thread.
+     *
+     * @param path request path
+     * @param uriInfo URI info
+     * @param securityContext security context
+     * @return response
+     */
+    public Response get(String path, UriInfo uriInfo, SecurityContext securityContext) {
+        return get(path, uriInfo, securityContext, null, null);
+    }
+
+    /**
+     * Runs a read request on the calling thread.
+     *
+     * @param path request path
+     * @param uriInfo URI info
+     * @param securityContext security context
+     * @param ifNoneMatch entity tags of the client's cached copy
+     * @return response
+     */
+    public Response get(String path, UriInfo uriInfo, SecurityContext securityContext, String ifNoneMatch) {
+        return get(path, uriInfo, securityContext, ifNoneMatch, null);
+    }
+
+    /**
+     * Runs a read request on the calling thread.  Root collections are exported as NDJSON or CSV when the client
+     * accepts either before JSON:API.
+     *
+     * @param path request path
+     * @param uriInfo URI info
+     * @param securityContext security context
+     * @param ifNoneMatch entity tags of the client's cached copy
+     * @param accept response MIME types
+     * @return response
+     */
+    public Response get(String path, UriInfo uriInfo, SecurityContext securityContext, String ifNoneMatch,
+                        String accept) {
+        MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
+        Optional<JsonApiExport.Format> export = JsonApiExport.Format.fromAccept(accept);
+        if (export.isPresent()) {
+            return build(elide.export(path, queryParams, getUser.apply(securityContext), export.get()),
+                    export.get().getContentType());
+        }
+        return build(elide.get(path, queryParams, getUser.apply(securityContext), ifNoneMatch),
+                JSONAPI_CONTENT_TYPE);
     }
 
     /**
@@ -94,17 +219,35 @@ public class JsonApiEndpoint {
      * @param path request path
      * @param securityContext security context
      * @param jsonapiDocument patch data as jsonapi document
-     * @return response
+     * @param asyncResponse resumed with the response
      */
     @PATCH
     @Path("{path:.*}")
     @Consumes(JSONAPI_CONTENT_TYPE)
-    public Response patch(
+    public void patch(
         @HeaderParam("Content-Type") String contentType,
         @HeaderParam("accept") String accept,
         @PathParam("path") String path,
         @Context SecurityContext securityContext,
-        String jsonapiDocument) {
+        String jsonapiDocument,
+        @Suspended AsyncResponse asyncResponse) {
+        AsyncResponses.resume(asyncResponse,
+                elide.patchAsync(contentType, accept, path, jsonapiDocument, getUser.apply(securityContext)),
+                JsonApiEndpoint::build);
+    }
+
+    /**
+     * Runs an update request on the calling thread.
+     *
+     * @param contentType document MIME type
+     * @param accept response MIME type
+     * @param path request path
+     * @param securityContext security context
+     * @param jsonapiDocument patch data as jsonapi document
+     * @return response
+     */
+    public Response patch(String contentType, String accept, String path, SecurityContext securityContext,
+                          String jsonapiDocument) {
         return build(elide.patch(contentType, accept, path, jsonapiDocument, getUser.apply(securityContext)));
     }
 
@@ -114,19 +257,54 @@ public class JsonApiEndpoint {
      * @param path request path
      * @param securityContext security context
      * @param jsonApiDocument DELETE document
-     * @return response
+     * @param asyncResponse resumed with the response
      */
     @DELETE
     @Path("{path:.*}")
     @Consumes(JSONAPI_CONTENT_TYPE)
-    public Response delete(
+    public void delete(
         @PathParam("path") String path,
         @Context SecurityContext securityContext,
-        String jsonApiDocument) {
+        String jsonApiDocument,
+        @Suspended AsyncResponse asyncResponse) {
+        AsyncResponses.resume(asyncResponse,
+                elide.deleteAsync(path, jsonApiDocument, getUser.apply(securityContext)),
+                JsonApiEndpoint::build);
+    }
+
+    /**
+     * Runs a delete request on the calling thread.
+     *
+     * @param path request path
+     * @param securityContext security context
+     * @param jsonApiDocument DELETE document
+     * @return response
+     */
+    public Response delete(String path, SecurityContext securityContext, String jsonApiDocument) {
         return build(elide.delete(path, jsonApiDocument, getUser.apply(securityContext)));
     }
 
     private static Response build(ElideResponse response) {
-        return Response.status(response.getResponseCode()).entity(response.getBody()).build();
+        return responseBuilder(response).build();
+    }
+
+    /**
+     * Builds the response of a request which can produce more than one type.  Errors are JSON:API documents.
+     */
+    private static Response build(ElideResponse response, String contentType) {
+        boolean isSuccess = response.getResponseCode() < 300;
+        return responseBuilder(response).type(isSuccess ? contentType : JSONAPI_CONTENT_TYPE).build();
+    }
+
+    private static Response.ResponseBuilder responseBuilder(ElideResponse response) {
+        Response.ResponseBuilder builder = Response.status(response.getResponseCode());
+        if (response.getEtag() != null) {
+            builder.header(HttpHeaders.ETAG, response.getEtag());
+        }
+        if (response.isStreaming()) {
+            StreamingOutput body = response::writeBody;
+            return builder.entity(body);
+        }
+        return builder.entity(response.getBody());
     }
 }
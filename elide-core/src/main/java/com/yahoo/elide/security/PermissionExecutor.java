@@ -134,6 +134,13 @@ public interface PermissionExecutor {
         return false;
     }
 
+    /**
+     * Forgets the check results cached for the resources of this request.  Requests which visit many resources
+     * once each, such as exports, call this after each resource so that memory does not grow with their number.
+     */
+    default void clearResultCache() {
+    }
+
     /**
      * Evaluate filterPredicate for a provided resource, or return PASS or FAIL.
      * Return UNEVALUATED for default handling.
@@ -18,6 +18,8 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.metrics.RequestPhase;
+import com.yahoo.elide.metrics.RequestTimer;
 import com.yahoo.elide.security.ChangeSpec;
 import com.yahoo.elide.security.PermissionExecutor;
 import com.yahoo.elide.security.PersistentResource;
@@ -51,6 +53,7 @@ public class ActivePermissionExecutor implements PermissionExecutor {
 
     private final RequestScope requestScope;
     private final PermissionExpressionBuilder expressionBuilder;
+    private final ExpressionResultCache expressionResultCache;
     private final Map<Triple<Class<? extends Annotation>, Class, String>, ExpressionResult> userPermissionCheckCache;
     private final Map<String, Long> checkStats;
     private final boolean verbose;
@@ -71,10 +74,10 @@ public class ActivePermissionExecutor implements PermissionExecutor {
      * @param requestScope Request scope
      */
     public ActivePermissionExecutor(boolean verbose, final RequestScope requestScope) {
-        ExpressionResultCache cache = new ExpressionResultCache();
+        this.expressionResultCache = new ExpressionResultCache();
 
         this.requestScope = requestScope;
-        this.expressionBuilder = new PermissionExpressionBuilder(cache, requestScope.getDictionary());
+        this.expressionBuilder = new PermissionExpressionBuilder(expressionResultCache, requestScope.getDictionary());
         userPermissionCheckCache = new HashMap<>();
         checkStats = new HashMap<>();
         this.verbose = verbose;
@@ -372,7 +375,7 @@ public class ActivePermissionExecutor implements PermissionExecutor {
     public void executeCommitChecks() {
         commitCheckQueue.forEach((expr) -> {
             Expression expression = expr.getExpression();
-            ExpressionResult result = expression.evaluate(Expression.EvaluationMode.ALL_CHECKS);
+            ExpressionResult result = evaluate(expression, Expression.EvaluationMode.ALL_CHECKS);
             if (result == FAIL) {
                 ForbiddenAccessException e = new ForbiddenAccessException(
                         EntityDictionary.getSimpleName(expr.getAnnotationClass()),
@@ -397,7 +400,7 @@ public class ActivePermissionExecutor implements PermissionExecutor {
                                                 final Class<? extends Annotation> annotationClass,
                                                 Expression.EvaluationMode mode) {
 
-        ExpressionResult result = expression.evaluate(mode);
+        ExpressionResult result = evaluate(expression, mode);
 
         // Record the check
         if (log.isTraceEnabled()) {
@@ -420,7 +423,7 @@ public class ActivePermissionExecutor implements PermissionExecutor {
 
             if (isInlineOnlyCheck(annotationClass)) {
                 // Force evaluation of checks that can only be executed inline.
-                result = expression.evaluate(Expression.EvaluationMode.ALL_CHECKS);
+                result = evaluate(expression, Expression.EvaluationMode.ALL_CHECKS);
                 if (result == FAIL) {
                     ForbiddenAccessException e = new ForbiddenAccessException(
                         EntityDictionary.getSimpleName(annotationClass),
@@ -448,6 +451,21 @@ public class ActivePermissionExecutor implements PermissionExecutor {
         return result;
     }
 
+    /**
+     * Evaluates an expression and adds the time taken to the request's permission time.
+     *
+     * @param expression The expression to evaluate.
+     * @param mode The evaluation mode of the expression.
+     * @return The result of the evaluation.
+     */
+    private ExpressionResult evaluate(final Expression expression, Expression.EvaluationMode mode) {
+        RequestTimer requestTimer = requestScope.getRequestTimer();
+        if (requestTimer == null) {
+            return expression.evaluate(mode);
+        }
+        return requestTimer.time(RequestPhase.PERMISSIONS, () -> expression.evaluate(mode));
+    }
+
     /**
      * Check whether or not this check can only be run inline or not.
      *
@@ -492,6 +510,11 @@ public class ActivePermissionExecutor implements PermissionExecutor {
         return verbose;
     }
 
+    @Override
+    public void clearResultCache() {
+        expressionResultCache.clear();
+    }
+
     /**
      * Check strictly user permissions on an entity field.
      *
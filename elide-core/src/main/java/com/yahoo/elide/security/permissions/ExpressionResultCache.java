@@ -37,4 +37,11 @@ public class ExpressionResultCache {
     public ExpressionResult getResultFor(Class<? extends Check> checkClass, PersistentResource resource) {
         return computedResults.get(checkClass).get(resource);
     }
+
+    /**
+     * Forgets every stored result.
+     */
+    public void clear() {
+        computedResults.clear();
+    }
 }
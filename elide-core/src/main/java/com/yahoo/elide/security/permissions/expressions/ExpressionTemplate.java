@@ -0,0 +1,27 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.security.permissions.expressions;
+
+import com.yahoo.elide.security.checks.Check;
+
+import java.util.function.Function;
+
+/**
+ * A permission expression compiled from its parse tree with its check classes already resolved.
+ * Templates hold no request state and are shared across requests.  Binding a template instantiates its checks
+ * and produces a new {@link Expression} which can be evaluated for a single resource.
+ */
+@FunctionalInterface
+public interface ExpressionTemplate {
+
+    /**
+     * Creates an expression from this template.
+     *
+     * @param checkFn builds the leaf expression for each new check instance in the template
+     * @return the expression
+     */
+    Expression bind(Function<Check, Expression> checkFn);
+}
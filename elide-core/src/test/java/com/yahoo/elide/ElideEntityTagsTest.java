@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.datastore.inmemory.InMemoryDataStore;
+import com.yahoo.elide.jsonapi.EntityTags;
+
+import org.glassfish.jersey.internal.util.collection.MultivaluedStringMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import indexed.IndexedBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests conditional reads with entity tags.
+ */
+public class ElideEntityTagsTest {
+    private HashMapDataStore wrapped;
+
+    @BeforeEach
+    public void setUp() {
+        wrapped = new HashMapDataStore(IndexedBook.class.getPackage());
+    }
+
+    @Test
+    public void testNotModified() {
+        Elide elide = buildElide(true);
+        addBook(1, "Dune");
+
+        ElideResponse response = elide.get("/indexedBook/1", new MultivaluedStringMap(), null);
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertNotNull(response.getBody());
+        assertNotNull(response.getEtag());
+
+        ElideResponse notModified = elide.get("/indexedBook/1", new MultivaluedStringMap(), null,
+                "\"stale\", " + response.getEtag());
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, notModified.getResponseCode());
+        assertNull(notModified.getBody());
+        assertEquals(response.getEtag(), notModified.getEtag());
+
+        ElideResponse weak = elide.get("/indexedBook/1", new MultivaluedStringMap(), null,
+                "W/" + response.getEtag());
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, weak.getResponseCode());
+    }
+
+    @Test
+    public void testModifiedCollection() {
+        Elide elide = buildElide(true);
+        addBook(1, "Dune");
+
+        ElideResponse response = elide.get("/indexedBook", new MultivaluedStringMap(), null);
+        addBook(2, "Emma");
+
+        ElideResponse modified = elide.get("/indexedBook", new MultivaluedStringMap(), null, response.getEtag());
+        assertEquals(HttpStatus.SC_OK, modified.getResponseCode());
+        assertNotNull(modified.getBody());
+        assertNotEquals(response.getEtag(), modified.getEtag());
+    }
+
+    @Test
+    public void testErrorsNotTagged() {
+        Elide elide = buildElide(true);
+
+        ElideResponse response = elide.get("/indexedBook/7", new MultivaluedStringMap(), null, "*");
+        assertEquals(HttpStatus.SC_NOT_FOUND, response.getResponseCode());
+        assertNull(response.getEtag());
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        Elide elide = buildElide(false);
+        addBook(1, "Dune");
+
+        ElideResponse response = elide.get("/indexedBook/1", new MultivaluedStringMap(), null, "*");
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertNull(response.getEtag());
+    }
+
+    @Test
+    public void testStreamedResponseTagged() throws IOException {
+        Elide elide = buildElide(true, true);
+        addBook(1, "Dune");
+
+        ElideResponse response = elide.get("/indexedBook", new MultivaluedStringMap(), null);
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertTrue(response.isStreaming());
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.writeBody(body);
+        assertEquals(EntityTags.of(new String(body.toByteArray(), StandardCharsets.UTF_8)), response.getEtag());
+
+        ElideResponse notModified = elide.get("/indexedBook", new MultivaluedStringMap(), null, response.getEtag());
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, notModified.getResponseCode());
+        assertFalse(notModified.isStreaming());
+        assertNull(notModified.getBody());
+        assertEquals(response.getEtag(), notModified.getEtag());
+    }
+
+    private Elide buildElide(boolean entityTags) {
+        return buildElide(entityTags, false);
+    }
+
+    private Elide buildElide(boolean entityTags, boolean streamingResponses) {
+        return new Elide(new ElideSettingsBuilder(new InMemoryDataStore(wrapped))
+                .withEntityTags(entityTags)
+                .withStreamingResponses(streamingResponses)
+                .build());
+    }
+
+    private void addBook(long id, String title) {
+        IndexedBook book = new IndexedBook();
+        book.setId(id);
+        book.setTitle(title);
+
+        RequestScope scope = mock(RequestScope.class);
+        DataStoreTransaction tx = wrapped.beginTransaction();
+        tx.createObject(book, scope);
+        tx.commit(scope);
+    }
+}
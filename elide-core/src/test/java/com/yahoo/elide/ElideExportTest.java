@@ -0,0 +1,232 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.datastore.inmemory.InMemoryDataStore;
+import com.yahoo.elide.core.datastore.wrapped.ConcurrencyLimitedDataStore;
+import com.yahoo.elide.core.datastore.wrapped.TransactionWrapper;
+import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.extensions.JsonApiExport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.glassfish.jersey.internal.util.collection.MultivaluedStringMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import indexed.IndexedBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import javax.validation.ConstraintViolationException;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Tests streaming export of root collections and streamed responses.
+ */
+public class ElideExportTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private InMemoryDataStore store;
+    private Elide elide;
+    private RuntimeException commitFailure;
+    private int openTransactions;
+
+    @BeforeEach
+    public void setUp() {
+        HashMapDataStore wrapped = new HashMapDataStore(IndexedBook.class.getPackage());
+        store = new InMemoryDataStore(wrapped);
+        elide = new Elide(new ElideSettingsBuilder(store).build());
+
+        String books = String.join("\n",
+                book(1, "Dune", "scifi"),
+                book(2, "Emma", "classic"),
+                book(3, "Foundation, Book \\\"One\\\"", "scifi"));
+        elide.ingest("/indexedBook", new ByteArrayInputStream(books.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    @Test
+    public void testExportNdjson() throws IOException {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.putSingle("filter[indexedBook.genre]", "scifi");
+        queryParams.putSingle("sort", "-title");
+
+        ElideResponse response = elide.export("/indexedBook", queryParams, null, JsonApiExport.Format.NDJSON);
+
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertTrue(response.isStreaming());
+
+        List<String> lines = lines(response);
+        assertEquals(2, lines.size());
+
+        JsonNode first = MAPPER.readTree(lines.get(0));
+        assertEquals("indexedBook", first.get("type").asText());
+        assertEquals("3", first.get("id").asText());
+        assertEquals("1", MAPPER.readTree(lines.get(1)).get("id").asText());
+    }
+
+    @Test
+    public void testExportCsv() throws IOException {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.putSingle("fields[indexedBook]", "title");
+        queryParams.putSingle("sort", "title");
+
+        ElideResponse response = elide.export("/indexedBook", queryParams, null, JsonApiExport.Format.CSV);
+
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertEquals(Arrays.asList(
+                "id,title",
+                "1,Dune",
+                "2,Emma",
+                "3,\"Foundation, Book \"\"One\"\"\""), lines(response));
+    }
+
+    @Test
+    public void testExportRejectsNestedPath() {
+        ElideResponse response = elide.export("/indexedBook/1", new MultivaluedStringMap(), null,
+                JsonApiExport.Format.CSV);
+
+        assertEquals(HttpStatus.SC_BAD_REQUEST, response.getResponseCode());
+        assertFalse(response.isStreaming());
+    }
+
+    @Test
+    public void testExportClosedWithoutWriting() throws IOException {
+        Elide tracked = new Elide(new ElideSettingsBuilder(trackedStore()).withStreamingResponses(true).build());
+
+        ElideResponse response = tracked.export("/indexedBook", new MultivaluedStringMap(), null,
+                JsonApiExport.Format.CSV);
+
+        assertTrue(response.isStreaming());
+        assertEquals(1, openTransactions);
+        response.close();
+        assertEquals(0, openTransactions);
+    }
+
+    @Test
+    public void testStreamedGetFailsBeforeResponse() throws IOException {
+        Elide tracked = new Elide(new ElideSettingsBuilder(trackedStore()).withStreamingResponses(true).build());
+
+        ElideResponse response = tracked.get("/indexedBook", new MultivaluedStringMap(), null);
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertEquals(0, openTransactions);
+        assertEquals(3, MAPPER.readTree(String.join("\n", lines(response))).get("data").size());
+
+        commitFailure = new TransactionException(new IllegalStateException("Commit failed"));
+        response = tracked.get("/indexedBook", new MultivaluedStringMap(), null);
+        assertEquals(HttpStatus.SC_LOCKED, response.getResponseCode());
+        assertFalse(response.isStreaming());
+        assertEquals(0, openTransactions);
+    }
+
+    @Test
+    public void testStreamedGetReportsConstraintViolation() {
+        Elide tracked = new Elide(new ElideSettingsBuilder(trackedStore()).withStreamingResponses(true).build());
+
+        commitFailure = new ConstraintViolationException("Invalid book", Collections.emptySet());
+        ElideResponse response = tracked.get("/indexedBook", new MultivaluedStringMap(), null);
+        assertEquals(HttpStatus.SC_BAD_REQUEST, response.getResponseCode());
+        assertFalse(response.isStreaming());
+        assertEquals(0, openTransactions);
+    }
+
+    @Test
+    public void testRejectedWhenTransactionsExhausted() throws IOException {
+        ConcurrencyLimitedDataStore limited = new ConcurrencyLimitedDataStore(store, 1, Duration.ofMillis(10));
+        Elide limitedElide = new Elide(new ElideSettingsBuilder(limited).withStreamingResponses(true).build());
+
+        DataStoreTransaction held = limited.beginReadTransaction();
+        try {
+            ElideResponse response = limitedElide.export("/indexedBook", new MultivaluedStringMap(), null,
+                    JsonApiExport.Format.CSV);
+            assertEquals(HttpStatus.SC_SERVICE_UNAVAILABLE, response.getResponseCode());
+            assertFalse(response.isStreaming());
+
+            response = limitedElide.get("/indexedBook", new MultivaluedStringMap(), null);
+            assertEquals(HttpStatus.SC_SERVICE_UNAVAILABLE, response.getResponseCode());
+        } finally {
+            held.close();
+        }
+        assertEquals(1, limited.getAvailablePermits());
+    }
+
+    @Test
+    public void testFormatFromAccept() {
+        assertEquals(Optional.of(JsonApiExport.Format.CSV), JsonApiExport.Format.fromAccept("text/csv"));
+        assertEquals(Optional.of(JsonApiExport.Format.NDJSON),
+                JsonApiExport.Format.fromAccept("application/x-ndjson; q=0.9, application/vnd.api+json; q=0.8"));
+        assertEquals(Optional.empty(), JsonApiExport.Format.fromAccept("application/vnd.api+json, text/csv"));
+        assertEquals(Optional.empty(), JsonApiExport.Format.fromAccept("*/*"));
+        assertEquals(Optional.empty(), JsonApiExport.Format.fromAccept(null));
+    }
+
+    /**
+     * Wraps the store to count open read transactions and to fail their commits on demand.
+     */
+    private DataStore trackedStore() {
+        return new DataStore() {
+            @Override
+            public void populateEntityDictionary(EntityDictionary dictionary) {
+                store.populateEntityDictionary(dictionary);
+            }
+
+            @Override
+            public DataStoreTransaction beginTransaction() {
+                return store.beginTransaction();
+            }
+
+            @Override
+            public DataStoreTransaction beginReadTransaction() {
+                openTransactions++;
+                return new TransactionWrapper(store.beginReadTransaction()) {
+                    @Override
+                    public void commit(RequestScope requestScope) {
+                        if (commitFailure != null) {
+                            throw commitFailure;
+                        }
+                        super.commit(requestScope);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        openTransactions--;
+                        super.close();
+                    }
+                };
+            }
+        };
+    }
+
+    private static List<String> lines(ElideResponse response) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.writeBody(body);
+        return Arrays.asList(new String(body.toByteArray(), StandardCharsets.UTF_8).split("\r?\n"));
+    }
+
+    private static String book(long id, String title, String genre) {
+        return "{\"type\": \"indexedBook\", \"id\": \"" + id + "\", \"attributes\": {\"title\": \"" + title
+                + "\", \"genre\": \"" + genre + "\"}}";
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.datastore.inmemory.InMemoryDataStore;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.glassfish.jersey.internal.util.collection.MultivaluedStringMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import indexed.IndexedBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests bulk ingest of newline delimited resources.
+ */
+public class ElideIngestTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private Elide elide;
+
+    @BeforeEach
+    public void setUp() {
+        HashMapDataStore wrapped = new HashMapDataStore(IndexedBook.class.getPackage());
+        elide = new Elide(new ElideSettingsBuilder(new InMemoryDataStore(wrapped))
+                .withIngestChunkSize(2)
+                .build());
+    }
+
+    @Test
+    public void testIngestInChunks() throws IOException {
+        ElideResponse response = elide.ingest("/indexedBook", records(
+                book(1, "Dune"),
+                "",
+                book(2, "Emma"),
+                book(3, "Ulysses")), null);
+
+        assertEquals(HttpStatus.SC_CREATED, response.getResponseCode());
+        JsonNode summary = MAPPER.readTree(response.getBody());
+        assertEquals(3, summary.get("meta").get("records").asInt());
+        assertEquals(3, summary.get("meta").get("created").asInt());
+        assertEquals(2, summary.get("meta").get("chunks").asInt());
+        assertFalse(summary.has("errors"));
+
+        assertEquals(3, countBooks());
+    }
+
+    @Test
+    public void testFailedChunkRolledBack() throws IOException {
+        ElideResponse response = elide.ingest("/indexedBook", records(
+                book(1, "Dune"),
+                book(2, "Emma"),
+                book(3, "Ulysses"),
+                "{\"type\": \"indexedBook\", ",
+                book(5, "Beloved")), null);
+
+        assertEquals(HttpStatus.SC_BAD_REQUEST, response.getResponseCode());
+        JsonNode summary = MAPPER.readTree(response.getBody());
+        assertEquals(5, summary.get("meta").get("records").asInt());
+        assertEquals(3, summary.get("meta").get("created").asInt());
+        assertEquals(1, summary.get("meta").get("failedChunks").asInt());
+
+        JsonNode error = summary.get("errors").get(0);
+        assertEquals(HttpStatus.SC_BAD_REQUEST, error.get("status").asInt());
+        assertEquals(3, error.get("meta").get("firstRecord").asInt());
+        assertEquals(4, error.get("meta").get("lastRecord").asInt());
+
+        // Books 1, 2 and 5 were committed; book 3 was rolled back with the malformed record.
+        assertEquals(3, countBooks());
+        assertEquals(HttpStatus.SC_NOT_FOUND,
+                elide.get("/indexedBook/3", new MultivaluedStringMap(), null).getResponseCode());
+    }
+
+    private int countBooks() throws IOException {
+        ElideResponse response = elide.get("/indexedBook", new MultivaluedStringMap(), null);
+        return MAPPER.readTree(response.getBody()).get("data").size();
+    }
+
+    private static String book(long id, String title) {
+        return "{\"type\": \"indexedBook\", \"id\": \"" + id + "\", \"attributes\": {\"title\": \"" + title + "\"}}";
+    }
+
+    private static InputStream records(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -8,7 +8,10 @@ package com.yahoo.elide.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -23,15 +26,20 @@ import com.yahoo.elide.annotation.MappedInterface;
 import com.yahoo.elide.annotation.OnUpdatePreSecurity;
 import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.annotation.SecurityCheck;
+import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.core.exceptions.InternalServerErrorException;
 import com.yahoo.elide.core.exceptions.InvalidAttributeException;
 import com.yahoo.elide.functions.LifeCycleHook;
 import com.yahoo.elide.models.generics.Employee;
 import com.yahoo.elide.models.generics.Manager;
+import com.yahoo.elide.security.checks.Check;
 import com.yahoo.elide.security.checks.UserCheck;
 import com.yahoo.elide.security.checks.prefab.Collections.AppendOnly;
 import com.yahoo.elide.security.checks.prefab.Collections.RemoveOnly;
 import com.yahoo.elide.security.checks.prefab.Common.UpdateOnCreate;
 import com.yahoo.elide.security.checks.prefab.Role;
+import com.yahoo.elide.security.permissions.expressions.ExpressionTemplate;
+import com.yahoo.elide.security.permissions.expressions.OrExpression;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -48,11 +56,13 @@ import example.Left;
 import example.Parent;
 import example.Right;
 import example.StringId;
+import example.TestCheckMappings;
 import example.User;
 
 import org.junit.jupiter.api.Test;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -124,6 +134,38 @@ public class EntityDictionaryTest extends EntityDictionary {
         assertEquals("User is Admin", testDictionary.getCheckIdentifier(Foo.class));
     }
 
+    @Test
+    public void testPermissionTemplatesAreCompiledOnce() {
+        EntityDictionary testDictionary = new EntityDictionary(TestCheckMappings.MAPPINGS);
+        testDictionary.bindEntity(FunWithPermissions.class);
+
+        ExpressionTemplate classTemplate =
+                testDictionary.getPermissionTemplateForClass(FunWithPermissions.class, ReadPermission.class);
+        assertSame(classTemplate,
+                testDictionary.getPermissionTemplateForClass(FunWithPermissions.class, ReadPermission.class));
+
+        List<Check> checks = new ArrayList<>();
+        classTemplate.bind(check -> {
+            checks.add(check);
+            return OrExpression.SUCCESSFUL_EXPRESSION;
+        });
+        classTemplate.bind(check -> {
+            checks.add(check);
+            return OrExpression.SUCCESSFUL_EXPRESSION;
+        });
+        assertEquals(2, checks.size());
+        assertTrue(checks.get(0) instanceof Role.ALL);
+        assertTrue(checks.get(1) instanceof Role.ALL);
+        assertNotSame(checks.get(0), checks.get(1));
+
+        assertNotNull(testDictionary.getPermissionTemplateForField(
+                FunWithPermissions.class, "field3", ReadPermission.class));
+        assertNull(testDictionary.getPermissionTemplateForField(
+                FunWithPermissions.class, "field4", ReadPermission.class));
+        assertNull(testDictionary.getPermissionTemplateForField(
+                FunWithPermissions.class, null, ReadPermission.class));
+    }
+
     @Test
     public void testGetAttributeOrRelationAnnotation() {
         String[] fields = { "field1", "field2", "field3", "relation1", "relation2" };
@@ -813,6 +855,65 @@ public class EntityDictionaryTest extends EntityDictionary {
         assertEquals(ImmutableSet.of(3.0, 4.0), bean.set);
     }
 
+    @Test
+    public void testGeneratedAccessors() throws Exception {
+        bindEntity(Book.class);
+        EntityBinding binding = getEntityBinding(Book.class);
+        assertNotNull(binding.fieldsToGetters.get("title"));
+        assertNotNull(binding.fieldsToSetters.get("title"));
+        assertNotNull(binding.fieldsToGetters.get("authors"));
+        assertNotNull(binding.fieldsToSetters.get("authors"));
+
+        Book book = new Book();
+        setValue(book, "title", "Elide");
+        assertEquals("Elide", book.getTitle());
+        assertEquals("Elide", getValue(book, "title", mock(RequestScope.class)));
+
+        setValue(book, "publishDate", 1234L);
+        assertEquals(1234L, book.getPublishDate());
+        assertEquals(1234L, getValue(book, "publishDate", mock(RequestScope.class)));
+    }
+
+    @Test
+    public void testGeneratedAccessorExceptions() throws Exception {
+        @Entity
+        @Include
+        class ThrowingBean {
+            @Id
+            public long getId() {
+                return 1;
+            }
+
+            public void setId(long id) {
+            }
+
+            public String getBadRequest() {
+                throw new BadRequestException("Bad request");
+            }
+
+            public void setBadRequest(String badRequest) {
+                throw new BadRequestException("Bad request");
+            }
+
+            public String getFailure() {
+                throw new IllegalStateException();
+            }
+
+            public void setFailure(String failure) {
+                throw new IllegalStateException();
+            }
+        }
+
+        bindEntity(ThrowingBean.class);
+        ThrowingBean bean = new ThrowingBean();
+        RequestScope scope = mock(RequestScope.class);
+
+        assertThrows(BadRequestException.class, () -> getValue(bean, "badRequest", scope));
+        assertThrows(BadRequestException.class, () -> setValue(bean, "badRequest", "value"));
+        assertThrows(InternalServerErrorException.class, () -> getValue(bean, "failure", scope));
+        assertThrows(InternalServerErrorException.class, () -> setValue(bean, "failure", "value"));
+    }
+
     public static class TestCheck extends UserCheck {
 
         @Override
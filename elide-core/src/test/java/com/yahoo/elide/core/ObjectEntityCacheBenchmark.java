@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the entity cache for the access pattern of a large JSON Patch request: every operation
+ * registers a new entity under its client id and then resolves the entities it references.
+ * <p>
+ * {@code legacyConcatenatedKey} replays the same pattern against the former {@code type + "_" + id} keying
+ * and serves as the baseline.  {@link #main(String[])} runs both with the GC profiler enabled so that
+ * {@code gc.alloc.rate.norm} can be compared directly; it can be launched from the elide-core test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectEntityCacheBenchmark {
+    private static final String[] TYPES = {"author", "book", "chapter", "publisher"};
+
+    @Param({"5000"})
+    private int operations;
+
+    private String[] types;
+    private String[] ids;
+    private Object[] entities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        types = new String[operations];
+        ids = new String[operations];
+        entities = new Object[operations];
+        for (int i = 0; i < operations; i++) {
+            types[i] = TYPES[i % TYPES.length];
+            ids[i] = "12345678-1234-1234-1234-" + String.format("%012d", i);
+            entities[i] = new Object();
+        }
+    }
+
+    @Benchmark
+    public void objectEntityCache(Blackhole blackhole) {
+        ObjectEntityCache cache = new ObjectEntityCache();
+        for (int i = 0; i < operations; i++) {
+            cache.put(types[i], ids[i], entities[i]);
+
+            //Each operation references the entity it created and the one created by the previous operation
+            blackhole.consume(cache.get(types[i], ids[i]));
+            int parent = i == 0 ? 0 : i - 1;
+            blackhole.consume(cache.get(types[parent], ids[parent]));
+            blackhole.consume(cache.getUUID(entities[i]));
+        }
+    }
+
+    @Benchmark
+    public void legacyConcatenatedKey(Blackhole blackhole) {
+        Map<String, Object> cache = new LinkedHashMap<>();
+        for (int i = 0; i < operations; i++) {
+            cache.put(types[i] + "_" + ids[i], entities[i]);
+
+            int parent = i == 0 ? 0 : i - 1;
+            blackhole.consume(cache.get(types[i] + "_" + ids[i]));
+            blackhole.consume(cache.get(types[parent] + "_" + ids[parent]));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ObjectEntityCacheBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class ObjectEntityCacheTest {
+    @Test
+    public void testPutAndGet() {
+        ObjectEntityCache cache = new ObjectEntityCache();
+        Object book = new Object();
+
+        assertNull(cache.put("book", "1", book));
+        assertSame(book, cache.get("book", "1"));
+        assertEquals("1", cache.getUUID(book));
+        assertNull(cache.get("book", "2"));
+        assertNull(cache.get("author", "1"));
+    }
+
+    @Test
+    public void testTypeAndIdDoNotCollide() {
+        ObjectEntityCache cache = new ObjectEntityCache();
+        Object first = new Object();
+        Object second = new Object();
+
+        cache.put("a_b", "c", first);
+        cache.put("a", "b_c", second);
+
+        assertSame(first, cache.get("a_b", "c"));
+        assertSame(second, cache.get("a", "b_c"));
+    }
+
+    @Test
+    public void testReplaceEntity() {
+        ObjectEntityCache cache = new ObjectEntityCache();
+        Object original = new Object();
+        Object replacement = new Object();
+
+        cache.put("book", "1", original);
+
+        assertSame(original, cache.put("book", "1", replacement));
+        assertSame(replacement, cache.get("book", "1"));
+    }
+}
@@ -14,10 +14,12 @@ import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.annotation.Paginate;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.pagination.KeysetCursor;
 import com.yahoo.elide.core.pagination.Pagination;
 import org.glassfish.jersey.internal.util.collection.MultivaluedStringMap;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import javax.ws.rs.core.MultivaluedMap;
@@ -192,6 +194,52 @@ public class PaginationLogicTest {
         assertTrue(pageData.isGenerateTotals());
     }
 
+    @Test
+    public void shouldParseKeysetCursor() {
+        String cursor = new KeysetCursor(Collections.singletonMap("id", "1")).encode();
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[after]", cursor);
+        queryParams.add("page[limit]", "10");
+        Pagination pageData = Pagination.parseQueryParams(queryParams, elideSettings);
+        pageData = pageData.evaluate(PaginationLogicTest.class);
+
+        assertTrue(pageData.isKeyset());
+        assertEquals(cursor, pageData.getCursor().encode());
+        assertEquals(0, pageData.getOffset());
+        assertEquals(10, pageData.getLimit());
+    }
+
+    @Test
+    public void shouldThrowExceptionForKeysetCursorWithOffset() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[after]", "");
+        queryParams.add("page[offset]", "10");
+        Pagination pageData = Pagination.parseQueryParams(queryParams, elideSettings);
+        assertThrows(InvalidValueException.class, () -> pageData.evaluate(PaginationLogicTest.class));
+    }
+
+    @Test
+    public void shouldThrowExceptionForMalformedKeysetCursor() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[after]", "not a cursor");
+        assertThrows(InvalidValueException.class, () -> Pagination.parseQueryParams(queryParams, elideSettings));
+    }
+
+    @Test
+    public void shouldTreatNonNumericAfterAsKeysetCursor() {
+        String cursor = new KeysetCursor(Collections.singletonMap("id", "1")).encode();
+
+        Pagination pageData = Pagination.fromOffsetAndFirst(Optional.empty(), Optional.of(cursor), false,
+                elideSettings).get();
+        assertTrue(pageData.isKeyset());
+        assertEquals(elideSettings.getDefaultPageSize(), pageData.evaluate(PaginationLogicTest.class).getLimit());
+
+        pageData = Pagination.fromOffsetAndFirst(Optional.of("5"), Optional.of("10"), false, elideSettings).get();
+        assertFalse(pageData.isKeyset());
+        assertEquals(10, pageData.evaluate(PaginationLogicTest.class).getOffset());
+    }
+
     @Test
     public void shouldNotSetGenerateTotals() {
         MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
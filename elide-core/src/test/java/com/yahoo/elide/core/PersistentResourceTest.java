@@ -877,6 +877,19 @@ public class PersistentResourceTest extends PersistenceResourceTestSetup {
         assertThrows(ForbiddenAccessException.class, () -> getRelation(funResource, "relation1"));
     }
 
+    @Test
+    public void testGetRelationsForbiddenByFieldLeftOut() {
+        List<PersistentResource> funResources = Arrays.asList(
+                new PersistentResource<>(new FunWithPermissions(), null, "3", badUserScope),
+                new PersistentResource<>(new FunWithPermissions(), null, "4", badUserScope));
+
+        Map<PersistentResource, Set<PersistentResource>> relations = PersistentResource.getRelationsCheckedFiltered(
+                funResources, "relation1", Optional.empty(), Optional.empty());
+
+        // Each resource is left out so that the failure can be reported for it alone.
+        assertTrue(relations.isEmpty());
+    }
+
     @Test
     public void testGetRelationForbiddenByEntityAllowedByField() {
         FirstClassFields firstClassFields = new FirstClassFields();
@@ -1085,6 +1098,7 @@ public class PersistentResourceTest extends PersistenceResourceTestSetup {
         PersistentResource<FunWithPermissions> funResource = new PersistentResource<>(fun, null, "3", goodScope);
         PersistentResource<Child> childResource = new PersistentResource<>(child, null, "1", goodScope);
         funResource.addRelation("relation1", childResource);
+        verify(tx, times(1)).markDirty(fun, goodScope);
 
         goodScope.saveOrCreateObjects();
         verify(tx, never()).save(child, goodScope); // Child wasn't modified
@@ -1154,6 +1168,8 @@ public class PersistentResourceTest extends PersistenceResourceTestSetup {
         PersistentResource<Child> childResource = new PersistentResource<>(child, null, "1", goodScope);
         PersistentResource<Object> removeResource = new PersistentResource<>(parent1, null, "1", goodScope);
         childResource.removeRelation("parents", removeResource);
+        verify(tx, times(1)).markDirty(child, goodScope);
+        verify(tx, times(1)).markDirty(parent1, goodScope);
 
         assertEquals(2, child.getParents().size(), "The many-2-many relationship should be cleared");
         assertEquals(0, parent1.getChildren().size(), "The many-2-many inverse relationship should be cleared");
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.Path.PathElement;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+
+import example.Author;
+import example.Book;
+import example.Editor;
+import example.Publisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import indexed.IndexedBook;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Tests caching read transactions and invalidating them on commit.
+ */
+public class CachingDataStoreTest {
+    private final DataStore wrappedStore = mock(DataStore.class);
+    private final DataStoreTransaction wrappedTx = mock(DataStoreTransaction.class);
+    private final RequestScope scope = mock(RequestScope.class);
+    private EntityDictionary dictionary;
+    private CachingDataStore store;
+
+    @BeforeEach
+    public void setUp() {
+        dictionary = new EntityDictionary(Collections.EMPTY_MAP);
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Editor.class);
+
+        when(scope.getDictionary()).thenReturn(dictionary);
+        when(wrappedStore.beginTransaction()).thenReturn(wrappedTx);
+        when(wrappedStore.beginReadTransaction()).thenReturn(wrappedTx);
+        when(wrappedTx.loadObjects(eq(Book.class), any(), any(), any(), any()))
+                .thenAnswer(invocation -> Arrays.asList(book(1), book(2)));
+
+        store = new CachingDataStore(wrappedStore, new CacheSettings(100, Duration.ofMinutes(10)));
+    }
+
+    @Test
+    public void testCollectionCached() {
+        loadBooks(Optional.of(title("Dune")));
+        loadBooks(Optional.of(title("Dune")));
+        loadBooks(Optional.of(title("Emma")));
+
+        assertEquals(1, store.getStats(Book.class).get().hitCount());
+        assertEquals(2, store.getStats(Book.class).get().missCount());
+
+        // The cached ids are loaded again through the live transaction.
+        verify(wrappedTx).loadObjects(eq(Book.class), eq(Optional.of(new InPredicate(
+                new PathElement(Book.class, long.class, "id"), Arrays.asList(1L, 2L)))), any(), any(), any());
+    }
+
+    @Test
+    public void testEquivalentFiltersShareEntry() {
+        FilterExpression genre = new InPredicate(new Path(Book.class, dictionary, "genre"), "sci-fi");
+
+        loadBooks(Optional.of(new AndFilterExpression(title("Dune"), genre)));
+        loadBooks(Optional.of(new AndFilterExpression(genre, title("Dune"))));
+
+        assertEquals(1, store.getStats(Book.class).get().hitCount());
+    }
+
+    @Test
+    public void testCommitInvalidatesChangedType() {
+        loadBooks(Optional.empty());
+
+        DataStoreTransaction writeTx = store.beginTransaction();
+        writeTx.save(new Book(), scope);
+        writeTx.commit(scope);
+
+        loadBooks(Optional.empty());
+        assertEquals(2, store.getStats(Book.class).get().missCount());
+    }
+
+    @Test
+    public void testCommitInvalidatesDependentFilters() {
+        FilterExpression byAuthor = new InPredicate(new Path(Book.class, dictionary, "authors.name"), "Herbert");
+        loadBooks(Optional.of(byAuthor));
+        loadBooks(Optional.empty());
+
+        DataStoreTransaction writeTx = store.beginTransaction();
+        writeTx.save(new Author(), scope);
+        writeTx.commit(scope);
+
+        loadBooks(Optional.of(byAuthor));
+        loadBooks(Optional.empty());
+        assertEquals(1, store.getStats(Book.class).get().hitCount());
+        assertEquals(3, store.getStats(Book.class).get().missCount());
+    }
+
+    @Test
+    public void testRollbackKeepsCache() {
+        loadBooks(Optional.empty());
+
+        DataStoreTransaction writeTx = store.beginTransaction();
+        writeTx.save(new Book(), scope);
+
+        loadBooks(Optional.empty());
+        assertEquals(1, store.getStats(Book.class).get().hitCount());
+    }
+
+    @Test
+    public void testPageTotalsCached() {
+        doAnswer(invocation -> {
+            ((Optional<Pagination>) invocation.getArgument(3)).ifPresent(page -> page.setPageTotals(42, false));
+            return Collections.singletonList(book(1));
+        }).when(wrappedTx).loadObjects(eq(Book.class), any(), any(), any(), any());
+
+        store.beginReadTransaction().loadObjects(Book.class, Optional.empty(), Optional.empty(),
+                Optional.of(Pagination.fromOffsetAndLimit(10, 0, true)), scope);
+
+        Pagination pagination = Pagination.fromOffsetAndLimit(10, 0, true);
+        store.beginReadTransaction().loadObjects(Book.class, Optional.empty(), Optional.empty(),
+                Optional.of(pagination), scope);
+
+        assertEquals(42, pagination.getPageTotals());
+        assertFalse(pagination.isPageTotalsExact());
+        assertEquals(1, store.getStats(Book.class).get().hitCount());
+    }
+
+    @Test
+    public void testFilteredLookupCached() {
+        Book book = book(1);
+        Optional<FilterExpression> dune = Optional.of(title("Dune"));
+        when(wrappedTx.loadObject(eq(Book.class), eq(1L), any(), any())).thenReturn(book);
+
+        assertSame(book, store.beginReadTransaction().loadObject(Book.class, 1L, dune, scope));
+        assertSame(book, store.beginReadTransaction().loadObject(Book.class, 1L, dune, scope));
+        assertNull(store.beginReadTransaction().loadObject(Book.class, 2L, dune, scope));
+        assertNull(store.beginReadTransaction().loadObject(Book.class, 2L, dune, scope));
+
+        // A cached match is loaded again by id alone.
+        verify(wrappedTx, times(1)).loadObject(eq(Book.class), eq(1L), eq(dune), any());
+        verify(wrappedTx, times(1)).loadObject(eq(Book.class), eq(1L), eq(Optional.empty()), any());
+        verify(wrappedTx, times(2)).loadObject(eq(Book.class), eq(2L), any(), any());
+    }
+
+    @Test
+    public void testCachedIdsReloadedFromStore() {
+        HashMapDataStore hashMapStore = new HashMapDataStore(IndexedBook.class.getPackage());
+        CachingDataStore cachingStore = new CachingDataStore(hashMapStore,
+                new CacheSettings(100, Duration.ofMinutes(10)));
+        EntityDictionary hashMapDictionary = new EntityDictionary(new HashMap<>());
+        cachingStore.populateEntityDictionary(hashMapDictionary);
+        RequestScope hashMapScope = mock(RequestScope.class);
+        when(hashMapScope.getDictionary()).thenReturn(hashMapDictionary);
+
+        DataStoreTransaction tx = cachingStore.beginTransaction();
+        tx.createObject(indexedBook(1, "Dune"), hashMapScope);
+        tx.createObject(indexedBook(2, "Emma"), hashMapScope);
+        tx.commit(hashMapScope);
+
+        assertEquals(Arrays.asList("Dune", "Emma"), loadTitles(cachingStore, hashMapScope));
+
+        // Changed behind the cache, so nothing is evicted.
+        DataStoreTransaction bypassTx = hashMapStore.beginTransaction();
+        bypassTx.save(indexedBook(1, "Dune Messiah"), hashMapScope);
+        bypassTx.delete(indexedBook(2, "Emma"), hashMapScope);
+        bypassTx.commit(hashMapScope);
+
+        assertEquals(Collections.singletonList("Dune Messiah"), loadTitles(cachingStore, hashMapScope));
+        assertEquals(1, cachingStore.getStats(IndexedBook.class).get().hitCount());
+    }
+
+    @Test
+    public void testInstancesServedWithoutStore() {
+        store.withEntitySettings(Book.class, new CacheSettings(100, Duration.ofMinutes(10), true));
+        Book book = book(1);
+        when(wrappedTx.loadObject(eq(Book.class), eq(1L), any(), any())).thenReturn(book);
+
+        List<Object> first = (List<Object>) loadBooks(Optional.of(title("Dune")));
+        List<Object> second = (List<Object>) loadBooks(Optional.of(title("Dune")));
+        assertSame(first.get(0), second.get(0));
+        assertSame(first.get(1), second.get(1));
+        assertSame(book, store.beginReadTransaction().loadObject(Book.class, 1L, Optional.empty(), scope));
+        assertSame(book, store.beginReadTransaction().loadObject(Book.class, 1L, Optional.empty(), scope));
+
+        verify(wrappedTx, times(1)).loadObjects(eq(Book.class), any(), any(), any(), any());
+        verify(wrappedTx, times(1)).loadObject(eq(Book.class), eq(1L), any(), any());
+        assertEquals(2, store.getStats(Book.class).get().hitCount());
+    }
+
+    @Test
+    public void testDisabledEntityNotCached() {
+        store.withEntitySettings(Book.class, CacheSettings.DISABLED);
+
+        loadBooks(Optional.empty());
+        loadBooks(Optional.empty());
+
+        verify(wrappedTx, times(2)).loadObjects(eq(Book.class), any(), any(), any(), any());
+        assertEquals(Optional.empty(), store.getStats(Book.class));
+    }
+
+    private static Book book(long id) {
+        Book book = new Book();
+        book.setId(id);
+        return book;
+    }
+
+    private static IndexedBook indexedBook(long id, String title) {
+        IndexedBook book = new IndexedBook();
+        book.setId(id);
+        book.setTitle(title);
+        return book;
+    }
+
+    private static List<String> loadTitles(CachingDataStore cachingStore, RequestScope requestScope) {
+        List<String> titles = new ArrayList<>();
+        cachingStore.beginReadTransaction()
+                .loadObjects(IndexedBook.class, Optional.empty(), Optional.empty(), Optional.empty(), requestScope)
+                .forEach(book -> titles.add(((IndexedBook) book).getTitle()));
+        return titles;
+    }
+
+    private FilterExpression title(String title) {
+        return new InPredicate(new Path(Book.class, dictionary, "title"), title);
+    }
+
+    private Iterable<Object> loadBooks(Optional<FilterExpression> filter) {
+        List<Object> books = (List<Object>) store.beginReadTransaction()
+                .loadObjects(Book.class, filter, Optional.empty(), Optional.empty(), scope);
+        assertEquals(2, books.size());
+        return books;
+    }
+}
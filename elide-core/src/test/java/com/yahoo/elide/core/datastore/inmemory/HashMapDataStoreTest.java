@@ -0,0 +1,193 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.DataStoreTransaction.FeatureSupport;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path.PathElement;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.filter.GEPredicate;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.filter.InfixPredicate;
+import com.yahoo.elide.core.filter.LTPredicate;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import indexed.IndexedBook;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Tests the secondary indexes of the HashMapDataStore.
+ */
+public class HashMapDataStoreTest {
+    private static final PathElement TITLE = new PathElement(IndexedBook.class, String.class, "title");
+    private static final PathElement YEAR = new PathElement(IndexedBook.class, int.class, "year");
+    private static final PathElement GENRE = new PathElement(IndexedBook.class, String.class, "genre");
+
+    private final RequestScope scope = mock(RequestScope.class);
+    private HashMapDataStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = new HashMapDataStore(IndexedBook.class.getPackage());
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        store.populateEntityDictionary(dictionary);
+        when(scope.getDictionary()).thenReturn(dictionary);
+
+        DataStoreTransaction tx = store.beginTransaction();
+        tx.createObject(book(1, "Dune", 1965, "sci-fi"), scope);
+        tx.createObject(book(2, "Emma", 1815, "romance"), scope);
+        tx.createObject(book(3, "Neuromancer", 1984, "sci-fi"), scope);
+        tx.createObject(book(4, "Dune", 2021, "sci-fi"), scope);
+        tx.commit(scope);
+    }
+
+    @Test
+    public void testSupportsFiltering() {
+        DataStoreTransaction tx = store.beginTransaction();
+
+        assertEquals(FeatureSupport.PARTIAL, tx.supportsFiltering(IndexedBook.class, new InPredicate(TITLE, "Dune")));
+        assertEquals(FeatureSupport.PARTIAL, tx.supportsFiltering(IndexedBook.class, new LTPredicate(YEAR, "1900")));
+        assertEquals(FeatureSupport.NONE, tx.supportsFiltering(IndexedBook.class, new InPredicate(GENRE, "sci-fi")));
+        assertEquals(FeatureSupport.NONE, tx.supportsFiltering(IndexedBook.class, new LTPredicate(TITLE, "E")));
+        assertEquals(FeatureSupport.NONE, tx.supportsFiltering(IndexedBook.class, new InfixPredicate(TITLE, "un")));
+
+        assertEquals(FeatureSupport.PARTIAL, tx.supportsFiltering(IndexedBook.class,
+                new AndFilterExpression(new InPredicate(TITLE, "Dune"), new GEPredicate(YEAR, "2000"))));
+        assertEquals(FeatureSupport.PARTIAL, tx.supportsFiltering(IndexedBook.class,
+                new AndFilterExpression(new InPredicate(TITLE, "Dune"), new InPredicate(GENRE, "sci-fi"))));
+        assertEquals(FeatureSupport.NONE, tx.supportsFiltering(IndexedBook.class,
+                new OrFilterExpression(new InPredicate(TITLE, "Dune"), new InPredicate(GENRE, "sci-fi"))));
+    }
+
+    @Test
+    public void testIndexLookups() {
+        assertEquals(ids(1, 4), load(new InPredicate(TITLE, "Dune")));
+        assertEquals(ids(2, 1), load(new LTPredicate(YEAR, "1984")));
+        assertEquals(ids(3, 4), load(new GEPredicate(YEAR, 1984)));
+        assertEquals(ids(4), load(new AndFilterExpression(new InPredicate(TITLE, "Dune"),
+                new GEPredicate(YEAR, 2000))));
+        assertEquals(ids(2, 3), load(new OrFilterExpression(new InPredicate(TITLE, "Emma"),
+                new InPredicate(TITLE, "Neuromancer"))));
+
+        DataStoreTransaction tx = store.beginTransaction();
+        assertNotNull(tx.loadObject(IndexedBook.class, 1L, Optional.of(new InPredicate(TITLE, "Dune")), scope));
+        assertNull(tx.loadObject(IndexedBook.class, 2L, Optional.of(new InPredicate(TITLE, "Dune")), scope));
+    }
+
+    @Test
+    public void testIndexesUpdatedOnCommit() {
+        DataStoreTransaction tx = store.beginTransaction();
+        IndexedBook emma = (IndexedBook) tx.loadObject(IndexedBook.class, 2L, Optional.empty(), scope);
+        emma.setYear(2000);
+        tx.save(emma, scope);
+        IndexedBook neuromancer = (IndexedBook) tx.loadObject(IndexedBook.class, 3L, Optional.empty(), scope);
+        tx.delete(neuromancer, scope);
+        tx.commit(scope);
+
+        assertEquals(ids(1), load(new LTPredicate(YEAR, 1984)));
+        assertEquals(ids(2, 4), load(new GEPredicate(YEAR, 1984)));
+        assertEquals(ids(), load(new InPredicate(TITLE, "Neuromancer")));
+    }
+
+    @Test
+    public void testDuplicateRejectedBeforeChanges() {
+        DataStoreTransaction tx = store.beginTransaction();
+        tx.createObject(book(5, "Beloved", 1987, "fiction"), scope);
+        tx.createObject(book(1, "Ulysses", 1922, "fiction"), scope);
+
+        assertThrows(TransactionException.class, () -> tx.commit(scope));
+
+        assertEquals(ids(), load(new InPredicate(TITLE, "Beloved")));
+        assertEquals(ids(1, 4), load(new InPredicate(TITLE, "Dune")));
+    }
+
+    @Test
+    public void testRolledBackChangeNotMatched() throws IOException {
+        DataStoreTransaction tx = store.beginTransaction();
+        IndexedBook dune = (IndexedBook) tx.loadObject(IndexedBook.class, 1L, Optional.empty(), scope);
+        dune.setTitle("Dune Messiah");
+        tx.save(dune, scope);
+        tx.close();
+
+        assertEquals(ids(4), load(new InPredicate(TITLE, "Dune")));
+
+        DataStoreTransaction readTx = store.beginTransaction();
+        assertNull(readTx.loadObject(IndexedBook.class, 1L, Optional.of(new InPredicate(TITLE, "Dune")), scope));
+    }
+
+    @Test
+    public void testUncommittedChangeMatched() {
+        DataStoreTransaction tx = store.beginTransaction();
+        IndexedBook emma = (IndexedBook) tx.loadObject(IndexedBook.class, 2L, Optional.empty(), scope);
+        tx.markDirty(emma, scope);
+        emma.setTitle("Persuasion");
+
+        assertEquals(ids(2), load(tx, new InPredicate(TITLE, "Persuasion")));
+        assertNotNull(tx.loadObject(IndexedBook.class, 2L, Optional.of(new InPredicate(TITLE, "Persuasion")),
+                scope));
+        assertEquals(ids(), load(tx, new InPredicate(TITLE, "Emma")));
+    }
+
+    @Test
+    public void testFailedRequestReindexedOnClose() throws IOException {
+        DataStoreTransaction tx = store.beginTransaction();
+        IndexedBook dune = (IndexedBook) tx.loadObject(IndexedBook.class, 1L, Optional.empty(), scope);
+        tx.markDirty(dune, scope);
+        dune.setTitle("Dune Messiah");
+        tx.close();
+
+        // The stored instance keeps the value it was changed to, so filters on that value must find it.
+        assertEquals(ids(1), load(new InPredicate(TITLE, "Dune Messiah")));
+        assertEquals(ids(4), load(new InPredicate(TITLE, "Dune")));
+    }
+
+    private List<Long> load(FilterExpression filter) {
+        return load(store.beginTransaction(), filter);
+    }
+
+    private List<Long> load(DataStoreTransaction tx, FilterExpression filter) {
+        List<Long> ids = new ArrayList<>();
+        tx.loadObjects(IndexedBook.class, Optional.of(filter), Optional.empty(), Optional.empty(), scope)
+                .forEach(book -> ids.add(((IndexedBook) book).getId()));
+        return ids;
+    }
+
+    private static List<Long> ids(long... ids) {
+        List<Long> result = new ArrayList<>();
+        for (long id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    private static IndexedBook book(long id, String title, int year, String genre) {
+        IndexedBook book = new IndexedBook();
+        book.setId(id);
+        book.setTitle(title);
+        book.setYear(year);
+        book.setGenre(genre);
+        return book;
+    }
+}
@@ -25,6 +25,7 @@ import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.filter.InPredicate;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.KeysetCursor;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 
@@ -34,6 +35,7 @@ import example.Author;
 import example.Book;
 import example.Editor;
 import example.Publisher;
+import org.glassfish.jersey.internal.util.collection.MultivaluedStringMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -41,12 +43,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.ws.rs.core.MultivaluedMap;
+
 public class InMemoryStoreTransactionTest {
 
     private DataStoreTransaction wrappedTransaction = mock(DataStoreTransaction.class);
@@ -511,4 +516,39 @@ public class InMemoryStoreTransactionTest {
         assertTrue(loaded.contains(book2));
         assertTrue(loaded.contains(book3));
     }
+
+    @Test
+    public void testKeysetRequiresInMemoryPagination() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("title", "Book 1");
+        keys.put("id", "1");
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[after]", new KeysetCursor(keys).encode());
+        queryParams.add("page[limit]", "1");
+        queryParams.add("page[totals]", null);
+        Pagination pagination = Pagination.parseQueryParams(queryParams, elideSettings).evaluate(Book.class);
+
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("title", Sorting.SortOrder.asc);
+
+        Sorting sorting = new Sorting(sortOrder);
+
+        when(wrappedTransaction.supportsSorting(eq(Book.class),
+                any())).thenReturn(true);
+        when(wrappedTransaction.supportsPagination(eq(Book.class))).thenReturn(false);
+
+        when(wrappedTransaction.loadObjects(eq(Book.class), eq(Optional.empty()),
+                eq(Optional.of(sorting)), eq(Optional.empty()), eq(scope))).thenReturn((Set) books);
+
+        Collection<Object> loaded = (Collection<Object>) inMemoryStoreTransaction.loadObjects(
+                Book.class,
+                Optional.empty(),
+                Optional.of(sorting),
+                Optional.of(pagination),
+                scope);
+
+        assertEquals(Lists.newArrayList(book2), new ArrayList<>(loaded));
+        assertEquals(3, pagination.getPageTotals());
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.core.datastore.wrapped;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.exceptions.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+public class ConcurrencyLimitedDataStoreTest {
+    private final DataStore wrappedStore = mock(DataStore.class);
+    private final DataStoreTransaction wrappedTx = mock(DataStoreTransaction.class);
+    private ConcurrencyLimitedDataStore store;
+
+    @BeforeEach
+    public void setUp() {
+        when(wrappedStore.beginTransaction()).thenReturn(wrappedTx);
+        when(wrappedStore.beginReadTransaction()).thenReturn(wrappedTx);
+        store = new ConcurrencyLimitedDataStore(wrappedStore, 2, Duration.ofMillis(10));
+    }
+
+    @Test
+    public void testPermitHeldUntilClose() throws Exception {
+        DataStoreTransaction first = store.beginTransaction();
+        DataStoreTransaction second = store.beginReadTransaction();
+        assertEquals(0, store.getAvailablePermits());
+
+        assertThrows(ServiceUnavailableException.class, () -> store.beginTransaction());
+
+        first.close();
+        assertEquals(1, store.getAvailablePermits());
+        store.beginTransaction().close();
+
+        second.close();
+        assertEquals(2, store.getAvailablePermits());
+        verify(wrappedTx, times(3)).close();
+    }
+
+    @Test
+    public void testCloseTwiceReleasesOnce() throws Exception {
+        DataStoreTransaction tx = store.beginTransaction();
+        tx.close();
+        tx.close();
+
+        assertEquals(2, store.getAvailablePermits());
+    }
+
+    @Test
+    public void testFailedBeginReleasesPermit() {
+        when(wrappedStore.beginTransaction()).thenThrow(new IllegalStateException());
+
+        assertThrows(IllegalStateException.class, () -> store.beginTransaction());
+        assertEquals(2, store.getAvailablePermits());
+    }
+}
@@ -19,6 +19,8 @@ import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.security.User;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public class TransactionWrapperTest {
@@ -202,6 +204,16 @@ public class TransactionWrapperTest {
         verify(wrapped, times(1)).setAttribute(any(), any(), any(), any());
     }
 
+    @Test
+    public void testMarkDirty() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        DataStoreTransaction wrapper = new TestTransactionWrapper(wrapped);
+
+        wrapper.markDirty(null, null);
+
+        verify(wrapped, times(1)).markDirty(any(), any());
+    }
+
     @Test
     public void testUpdateToOneRelation() {
         DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
@@ -236,6 +248,20 @@ public class TransactionWrapperTest {
         assertEquals(1L, actual);
     }
 
+    @Test
+    public void testGetRelations() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        DataStoreTransaction wrapper = new TestTransactionWrapper(wrapped);
+
+        Map<Object, Object> expected = new HashMap<>();
+        when(wrapped.getRelations(any(), any(), any(), any(), any(), any())).thenReturn(expected);
+
+        Map<Object, Object> actual = wrapper.getRelations(null, null, null, null, null, null);
+
+        verify(wrapped, times(1)).getRelations(any(), any(), any(), any(), any(), any());
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void testLoadObject() {
         DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.filter.dialect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+
+import example.Author;
+import example.Book;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Tests the filter expression cache shared by the filter dialects.
+ */
+public class FilterExpressionCacheTest {
+    private EntityDictionary dictionary;
+    private FilterExpressionCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        dictionary = new EntityDictionary(Collections.EMPTY_MAP);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Book.class);
+
+        cache = new FilterExpressionCache(100);
+    }
+
+    @Test
+    public void testRSQLExpressionCached() throws Exception {
+        RSQLFilterDialect dialect = new RSQLFilterDialect(dictionary,
+                new CaseSensitivityStrategy.FIQLCompliant(), cache);
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.add("filter", "title==*foo*;authors.name==Hemingway");
+
+        FilterExpression first = dialect.parseGlobalExpression("/book", queryParams);
+        FilterExpression second = dialect.parseGlobalExpression("/book", queryParams);
+
+        assertSame(first, second);
+        assertEquals(1, cache.getStats().missCount());
+        assertEquals(1, cache.getStats().hitCount());
+    }
+
+    @Test
+    public void testRSQLExpressionKeyedByEntityType() throws Exception {
+        RSQLFilterDialect dialect = new RSQLFilterDialect(dictionary,
+                new CaseSensitivityStrategy.FIQLCompliant(), cache);
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.add("filter[book]", "id==1");
+        queryParams.add("filter[author]", "id==1");
+
+        Map<String, FilterExpression> expressions = dialect.parseTypedExpression("/author", queryParams);
+
+        assertNotSame(expressions.get("book"), expressions.get("author"));
+        assertEquals(Book.class, ((FilterPredicate) expressions.get("book")).getEntityType());
+        assertEquals(Author.class, ((FilterPredicate) expressions.get("author")).getEntityType());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testParseErrorsNotCached() {
+        RSQLFilterDialect dialect = new RSQLFilterDialect(dictionary,
+                new CaseSensitivityStrategy.FIQLCompliant(), cache);
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.add("filter", "nonexistent==foo");
+
+        assertThrows(ParseException.class, () -> dialect.parseGlobalExpression("/book", queryParams));
+        assertThrows(ParseException.class, () -> dialect.parseGlobalExpression("/book", queryParams));
+
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getStats().missCount());
+    }
+
+    @Test
+    public void testDefaultPredicateCached() throws Exception {
+        DefaultFilterDialect dialect = new DefaultFilterDialect(dictionary, cache);
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.add("filter[book.title][infix]", "foo");
+
+        Map<String, FilterExpression> first = dialect.parseTypedExpression("/book", queryParams);
+        Map<String, FilterExpression> second = dialect.parseTypedExpression("/book", queryParams);
+
+        assertSame(first.get("book"), second.get("book"));
+        assertEquals(1, cache.getStats().hitCount());
+    }
+
+    @Test
+    public void testDialectsDoNotShareEntries() throws Exception {
+        RSQLFilterDialect sensitive = new RSQLFilterDialect(dictionary,
+                new CaseSensitivityStrategy.UseColumnCollation(), cache);
+        RSQLFilterDialect insensitive = new RSQLFilterDialect(dictionary,
+                new CaseSensitivityStrategy.FIQLCompliant(), cache);
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.add("filter", "title==foo");
+
+        assertEquals("book.title IN [foo]",
+                sensitive.parseGlobalExpression("/book", queryParams).toString());
+        assertEquals("book.title IN_INSENSITIVE [foo]",
+                insensitive.parseGlobalExpression("/book", queryParams).toString());
+    }
+}
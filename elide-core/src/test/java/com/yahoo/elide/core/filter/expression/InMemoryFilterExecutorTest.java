@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.core.filter.expression;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
@@ -38,6 +39,7 @@ import example.Book;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -429,4 +431,30 @@ public class InMemoryFilterExecutorTest {
         fn = expression.accept(visitor);
         assertFalse(fn.test(author));
     }
+
+    @Test
+    public void compiledPredicateReuseTest() throws Exception {
+        expression = new AndFilterExpression(
+                new GEPredicate(authorIdElement, "2"),
+                new NotInPredicate(authorNameElement, "Author3"));
+        fn = expression.accept(visitor);
+
+        List<Author> authors = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            Author candidate = new Author();
+            candidate.setId(id);
+            candidate.setName("Author" + id);
+            authors.add(candidate);
+        }
+
+        long matches = authors.stream().filter(fn::test).count();
+        assertEquals(3, matches);
+
+        // The same predicate evaluates a second pass without being rebuilt.
+        assertEquals(matches, authors.stream().filter(fn::test).count());
+
+        author = new Author();
+        author.setId(4L);
+        assertTrue(fn.test(author));
+    }
 }
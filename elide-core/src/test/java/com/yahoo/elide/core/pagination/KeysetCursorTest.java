@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.security.User;
+
+import example.Author;
+import example.Book;
+import example.Editor;
+import example.Publisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tests keyset pagination cursors.
+ */
+public class KeysetCursorTest {
+    private EntityDictionary dictionary;
+
+    @BeforeEach
+    public void setUp() {
+        dictionary = new EntityDictionary(Collections.EMPTY_MAP);
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Editor.class);
+    }
+
+    @Test
+    public void testEncodeDecode() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("title", "Dune");
+        keys.put("id", "4");
+        KeysetCursor cursor = new KeysetCursor(keys);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+        assertFalse(cursor.encode().contains("="));
+    }
+
+    @Test
+    public void testFilterExpression() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("title", "Dune");
+        keys.put("id", "4");
+        KeysetCursor cursor = new KeysetCursor(keys);
+
+        assertEquals("(book.title LT [Dune] OR (book.title IN [Dune] AND book.id GT [4]))",
+                cursor.getFilterExpression(Book.class, Optional.of(Sorting.parseSortRule("-title")), dictionary)
+                        .get().toString());
+    }
+
+    @Test
+    public void testIdOnlyFilterExpression() {
+        KeysetCursor cursor = new KeysetCursor(Collections.singletonMap("id", "4"));
+
+        assertEquals("book.id GT [4]",
+                cursor.getFilterExpression(Book.class, Optional.empty(), dictionary).get().toString());
+        assertFalse(KeysetCursor.decode("")
+                .getFilterExpression(Book.class, Optional.empty(), dictionary).isPresent());
+    }
+
+    @Test
+    public void testSortingAddsId() {
+        Map<String, Sorting.SortOrder> expected = new LinkedHashMap<>();
+        expected.put("title", Sorting.SortOrder.desc);
+        expected.put("id", Sorting.SortOrder.asc);
+
+        Map<String, Sorting.SortOrder> actual = new LinkedHashMap<>();
+        KeysetCursor.getSortingRules(Book.class, Optional.of(Sorting.parseSortRule("-title")), dictionary)
+                .forEach((path, order) -> actual.put(path.getFieldPath(), order));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testMismatchedSortingRejected() {
+        KeysetCursor cursor = new KeysetCursor(Collections.singletonMap("id", "4"));
+
+        assertThrows(InvalidValueException.class, () -> cursor.getFilterExpression(Book.class,
+                Optional.of(Sorting.parseSortRule("title")), dictionary));
+    }
+
+    @Test
+    public void testRelationshipSortingRejected() {
+        assertThrows(InvalidValueException.class, () -> KeysetCursor.getSortingRules(Book.class,
+                Optional.of(Sorting.parseSortRule("publisher.name")), dictionary));
+    }
+
+    @Test
+    public void testFromResource() {
+        Book book = new Book();
+        book.setId(4);
+        book.setTitle("Dune");
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("title", "Dune");
+        keys.put("id", "4");
+
+        assertEquals(new KeysetCursor(keys),
+                KeysetCursor.fromResource(resource(book), Optional.of(Sorting.parseSortRule("-title"))));
+    }
+
+    @Test
+    public void testNullSortKeyRejected() {
+        Book book = new Book();
+        book.setId(4);
+
+        assertThrows(InvalidValueException.class,
+                () -> KeysetCursor.fromResource(resource(book), Optional.of(Sorting.parseSortRule("title"))));
+    }
+
+    private PersistentResource<Book> resource(Book book) {
+        RequestScope scope = new RequestScope(null, null, null, new User(null), null,
+                new ElideSettingsBuilder(null).withEntityDictionary(dictionary).build());
+        return new PersistentResource<>(book, null, "4", scope);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.jsonapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests entity tags of response documents.
+ */
+public class EntityTagsTest {
+    private final JsonApiMapper mapper = new JsonApiMapper();
+
+    @Test
+    public void testDocumentAndBodyTagsAgree() throws Exception {
+        JsonNode document = mapper.getObjectMapper()
+                .readTree("{\"data\":{\"type\":\"book\",\"id\":\"1\",\"attributes\":{\"title\":\"Überwald\"}}}");
+
+        String tag = EntityTags.of(mapper, document);
+        assertEquals(tag, EntityTags.of(mapper.writeJsonApiDocument(document)));
+        assertTrue(tag.startsWith("\"") && tag.endsWith("\""));
+        assertNotEquals(tag, EntityTags.of("{}"));
+    }
+
+    @Test
+    public void testMatches() {
+        String tag = EntityTags.of("{}");
+
+        assertTrue(EntityTags.matches(tag, tag));
+        assertTrue(EntityTags.matches("W/" + tag, tag));
+        assertTrue(EntityTags.matches("\"other\" , " + tag, tag));
+        assertTrue(EntityTags.matches("*", tag));
+        assertFalse(EntityTags.matches("\"other\"", tag));
+        assertFalse(EntityTags.matches(null, tag));
+    }
+}
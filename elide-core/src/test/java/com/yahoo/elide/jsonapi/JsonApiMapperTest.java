@@ -8,16 +8,26 @@ package com.yahoo.elide.jsonapi;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import com.yahoo.elide.jsonapi.models.Data;
+import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+import com.yahoo.elide.jsonapi.models.Meta;
+import com.yahoo.elide.jsonapi.models.Resource;
 import com.yahoo.elide.utils.coerce.CoerceUtil;
 import com.yahoo.elide.utils.coerce.converters.ISO8601DateSerde;
 import com.yahoo.elide.utils.coerce.converters.Serde;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.TimeZone;
 
 public class JsonApiMapperTest {
@@ -77,4 +87,34 @@ public class JsonApiMapperTest {
         String result = mapper.writeValueAsString(new java.sql.Time(0));
         assertEquals("\"1970-01-01T00:00Z\"", result);
     }
+
+    @Test
+    public void testStreamingCollectionSerialization() throws Exception {
+        JsonApiMapper jsonApiMapper = new JsonApiMapper();
+
+        Resource first = new Resource("book", "1");
+        first.setAttributes(ImmutableMap.of("title", "first"));
+        Resource second = new Resource("book", "2");
+        second.setAttributes(ImmutableMap.of("title", "second"));
+        List<Resource> resources = Arrays.asList(first, second);
+        Meta meta = new Meta(ImmutableMap.of("page", ImmutableMap.of("number", 1, "limit", 2)));
+
+        JsonApiDocument document = new JsonApiDocument(new Data<>(resources));
+        document.setMeta(meta);
+        document.addIncluded(new Resource("author", "1"));
+
+        JsonNode streamingNode = jsonApiMapper.toStreamingJsonObject((generator) -> {
+            JsonApiDocument trailer = new JsonApiDocument();
+            trailer.setMeta(meta);
+            trailer.addIncluded(new Resource("author", "1"));
+            jsonApiMapper.writeJsonApiCollection(generator, resources, trailer);
+        });
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        jsonApiMapper.writeJsonApiDocument(streamingNode, outputStream);
+
+        ObjectMapper mapper = jsonApiMapper.getObjectMapper();
+        assertEquals(jsonApiMapper.toJsonObject(document),
+                mapper.readTree(new String(outputStream.toByteArray(), StandardCharsets.UTF_8)));
+    }
 }
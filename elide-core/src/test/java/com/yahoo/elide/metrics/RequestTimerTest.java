@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.datastore.inmemory.InMemoryDataStore;
+
+import org.glassfish.jersey.internal.util.collection.MultivaluedStringMap;
+import org.junit.jupiter.api.Test;
+
+import indexed.IndexedBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tests timing of request phases.
+ */
+public class RequestTimerTest {
+
+    @Test
+    public void testNestedPhaseCountedOnce() {
+        Map<RequestPhase, Long> recorded = new EnumMap<>(RequestPhase.class);
+        RequestTimer timer = new RequestTimer((phase, operation, entityType, durationNanos) ->
+                recorded.put(phase, durationNanos));
+
+        timer.time(RequestPhase.LOAD, () -> timer.time(RequestPhase.LOAD, () -> sleep(20)));
+        timer.time(RequestPhase.PERMISSIONS, () -> { });
+        timer.report();
+
+        long load = timer.getDuration(RequestPhase.LOAD);
+        assertTrue(load >= 20_000_000L);
+        assertTrue(load < 40_000_000L);
+        assertEquals(load, recorded.get(RequestPhase.LOAD));
+        assertFalse(recorded.containsKey(RequestPhase.COMMIT));
+    }
+
+    @Test
+    public void testInnerPhasePausesOuterPhase() {
+        RequestTimer timer = new RequestTimer((phase, operation, entityType, durationNanos) -> { });
+
+        timer.time(RequestPhase.PERMISSIONS, () -> {
+            sleep(20);
+            timer.time(RequestPhase.LOAD, () -> sleep(40));
+        });
+
+        long permissions = timer.getDuration(RequestPhase.PERMISSIONS);
+        long load = timer.getDuration(RequestPhase.LOAD);
+        assertTrue(permissions >= 20_000_000L);
+        assertTrue(permissions < 40_000_000L);
+        assertTrue(load >= 40_000_000L);
+    }
+
+    @Test
+    public void testStartedPhase() throws IOException {
+        RequestTimer timer = new RequestTimer((phase, operation, entityType, durationNanos) -> { });
+
+        try (RequestTimer.Timing timing = timer.start(RequestPhase.SERIALIZATION)) {
+            sleep(20);
+            timer.time(RequestPhase.LOAD, () -> sleep(40));
+            write();
+        }
+
+        long serialization = timer.getDuration(RequestPhase.SERIALIZATION);
+        assertTrue(serialization >= 20_000_000L);
+        assertTrue(serialization < 40_000_000L);
+        assertTrue(timer.getDuration(RequestPhase.LOAD) >= 40_000_000L);
+    }
+
+    @Test
+    public void testRequestPhasesReported() {
+        Set<RequestPhase> phases = new HashSet<>();
+        Set<String> tags = new HashSet<>();
+        ElideMetrics metrics = (phase, operation, entityType, durationNanos) -> {
+            phases.add(phase);
+            tags.add(operation + ":" + entityType);
+        };
+
+        HashMapDataStore wrapped = new HashMapDataStore(IndexedBook.class.getPackage());
+        Elide elide = new Elide(new ElideSettingsBuilder(new InMemoryDataStore(wrapped))
+                .withMetrics(metrics)
+                .build());
+
+        ElideResponse created = elide.post("/indexedBook",
+                "{\"data\": {\"type\": \"indexedBook\", \"id\": \"1\", \"attributes\": {\"title\": \"Dune\"}}}",
+                null);
+        assertEquals(HttpStatus.SC_CREATED, created.getResponseCode());
+
+        phases.clear();
+        tags.clear();
+
+        MultivaluedStringMap queryParams = new MultivaluedStringMap();
+        queryParams.putSingle("sort", "title");
+        ElideResponse response = elide.get("/indexedBook", queryParams, null);
+
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertTrue(phases.contains(RequestPhase.PATH_PARSE));
+        assertTrue(phases.contains(RequestPhase.FILTER_SORT_PARSE));
+        assertTrue(phases.contains(RequestPhase.LOAD));
+        assertTrue(phases.contains(RequestPhase.SERIALIZATION));
+        assertTrue(phases.contains(RequestPhase.COMMIT));
+        assertEquals(1, tags.size());
+        assertTrue(tags.contains("get:indexedBook"));
+    }
+
+    private static void write() throws IOException {
+        new ByteArrayOutputStream().write(new byte[] { 1 });
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
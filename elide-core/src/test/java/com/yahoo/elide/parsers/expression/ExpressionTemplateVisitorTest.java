@@ -6,6 +6,7 @@
 package com.yahoo.elide.parsers.expression;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 import com.yahoo.elide.annotation.CreatePermission;
 import com.yahoo.elide.annotation.DeletePermission;
@@ -21,6 +22,7 @@ import com.yahoo.elide.security.checks.UserCheck;
 import com.yahoo.elide.security.checks.prefab.Role;
 import com.yahoo.elide.security.permissions.ExpressionResult;
 import com.yahoo.elide.security.permissions.expressions.Expression;
+import com.yahoo.elide.security.permissions.expressions.ExpressionTemplate;
 
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,7 +30,9 @@ import org.junit.jupiter.api.Test;
 
 import lombok.AllArgsConstructor;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import javax.persistence.Entity;
@@ -36,7 +40,7 @@ import javax.persistence.Entity;
 /**
  * Test the expression language.
  */
-public class PermissionExpressionVisitorTest {
+public class ExpressionTemplateVisitorTest {
     private EntityDictionary dictionary;
 
     @BeforeEach
@@ -90,12 +94,34 @@ public class PermissionExpressionVisitorTest {
         assertEquals(ExpressionResult.PASS, expression2.evaluate(Expression.EvaluationMode.ALL_CHECKS));
     }
 
+    @Test
+    public void testEachBindingInstantiatesChecks() {
+        ExpressionTemplate template = getTemplateForPermission(ReadPermission.class, Model.class);
+        List<Check> checks = new ArrayList<>();
+        template.bind(check -> {
+            checks.add(check);
+            return new DummyExpression(check);
+        });
+        template.bind(check -> {
+            checks.add(check);
+            return new DummyExpression(check);
+        });
+
+        assertEquals(4, checks.size());
+        assertNotSame(checks.get(0), checks.get(2));
+        assertNotSame(checks.get(1), checks.get(3));
+    }
+
     private Expression getExpressionForPermission(Class<? extends Annotation> permission) {
         return getExpressionForPermission(permission, Model.class);
     }
 
     private Expression getExpressionForPermission(Class<? extends Annotation> permission, Class model) {
-        PermissionExpressionVisitor v = new PermissionExpressionVisitor(dictionary, DummyExpression::new);
+        return getTemplateForPermission(permission, model).bind(DummyExpression::new);
+    }
+
+    private ExpressionTemplate getTemplateForPermission(Class<? extends Annotation> permission, Class model) {
+        ExpressionTemplateVisitor v = new ExpressionTemplateVisitor(dictionary);
         ParseTree permissions = dictionary.getPermissionsForClass(model, permission);
 
         return v.visit(permissions);
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package indexed;
+
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.core.datastore.inmemory.Indexed;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * Model with indexed attributes for the {@link com.yahoo.elide.core.datastore.inmemory.HashMapDataStore}.
+ */
+@Include(rootLevel = true)
+@Entity
+public class IndexedBook {
+    private long id;
+    private String title;
+    private int year;
+    private String genre;
+
+    @Id
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    @Indexed
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    @Indexed(Indexed.Type.SORTED)
+    public int getYear() {
+        return year;
+    }
+
+    public void setYear(int year) {
+        this.year = year;
+    }
+
+    public String getGenre() {
+        return genre;
+    }
+
+    public void setGenre(String genre) {
+        this.genre = genre;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate;
+
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+
+import java.util.Optional;
+
+/**
+ * Estimates page totals for tables too large to count exactly on every request.  Implementations might read the
+ * row estimate from the database statistics for unfiltered requests, or run a capped count and report
+ * "at least N" records.
+ */
+@FunctionalInterface
+public interface ApproximateCountStrategy {
+
+    /**
+     * Always runs the exact count.
+     */
+    ApproximateCountStrategy EXACT = (entityClass, filterExpression) -> Optional.empty();
+
+    /**
+     * Estimates the number of records of a root collection.
+     *
+     * @param entityClass The type being counted
+     * @param filterExpression The request and security filters of the page
+     * @return The estimate or empty to run the exact count.  Estimates are reported to clients as inexact unless
+     *         they are built with {@link RecordCount#exact}.
+     */
+    Optional<RecordCount> approximateCount(Class<?> entityClass, Optional<FilterExpression> filterExpression);
+}
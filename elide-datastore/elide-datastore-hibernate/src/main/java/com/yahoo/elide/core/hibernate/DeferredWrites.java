@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+
+/**
+ * Writes a transaction defers until it flushes.
+ * <p>
+ * Writes are handed to the session in the order the request made them, so a record created and then deleted in
+ * the same request stays deleted.  Grouping statements into JDBC batches is left to Hibernate, which reorders
+ * them by type when {@code hibernate.order_inserts} and {@code hibernate.order_updates} are set along with a JDBC
+ * batch size.
+ * <p>
+ * Inserts of types whose ids are generated by an identity column run one statement per row because the id is only
+ * known once the row is inserted.  A warning is logged the first time such a type is written.
+ */
+@Slf4j
+public class DeferredWrites {
+    private static final Set<Class<?>> IDENTITY_TYPES_REPORTED = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Kinds of deferred write.
+     */
+    enum Operation {
+        DELETE,
+        CREATE,
+        SAVE
+    }
+
+    private final Map<Operation, Consumer<Object>> writers = new EnumMap<>(Operation.class);
+    private final List<Pair<Operation, Object>> writes = new ArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param delete Removes a record from the session
+     * @param create Adds a new record to the session
+     * @param save Adds a changed record to the session
+     */
+    public DeferredWrites(Consumer<Object> delete, Consumer<Object> create, Consumer<Object> save) {
+        writers.put(Operation.DELETE, delete);
+        writers.put(Operation.CREATE, create);
+        writers.put(Operation.SAVE, save);
+    }
+
+    /**
+     * Defers the insert of a new record.
+     *
+     * @param entity The new record
+     * @param scope The request scope
+     */
+    public void create(Object entity, RequestScope scope) {
+        if (scope != null) {
+            reportIdentityInsert(entity.getClass(), scope.getDictionary());
+        }
+        add(Operation.CREATE, entity);
+    }
+
+    /**
+     * Defers the update of a changed record.
+     *
+     * @param entity The changed record
+     */
+    public void save(Object entity) {
+        add(Operation.SAVE, entity);
+    }
+
+    /**
+     * Defers the removal of a record.
+     *
+     * @param entity The removed record
+     */
+    public void delete(Object entity) {
+        add(Operation.DELETE, entity);
+    }
+
+    /**
+     * Hands every deferred write to the session in request order and forgets them.
+     */
+    public void flush() {
+        writes.forEach(write -> writers.get(write.getLeft()).accept(write.getRight()));
+        writes.clear();
+    }
+
+    /**
+     * Forgets every deferred write.
+     */
+    public void clear() {
+        writes.clear();
+    }
+
+    /**
+     * Whether no writes are deferred.
+     *
+     * @return true if nothing is deferred
+     */
+    public boolean isEmpty() {
+        return writes.isEmpty();
+    }
+
+    private void add(Operation operation, Object entity) {
+        writes.add(Pair.of(operation, entity));
+    }
+
+    private static void reportIdentityInsert(Class<?> entityClass, EntityDictionary dictionary) {
+        if (IDENTITY_TYPES_REPORTED.contains(entityClass) || dictionary == null) {
+            return;
+        }
+
+        String idFieldName = dictionary.getIdFieldName(entityClass);
+        GeneratedValue generatedValue = idFieldName == null
+                ? null
+                : dictionary.getAttributeOrRelationAnnotation(entityClass, GeneratedValue.class, idFieldName);
+
+        if (generatedValue != null && generatedValue.strategy() == GenerationType.IDENTITY
+                && IDENTITY_TYPES_REPORTED.add(entityClass)) {
+            log.warn("{} ids are generated by an identity column so its inserts cannot be batched. "
+                    + "Use a pooled sequence or table generator for bulk loads.", entityClass.getName());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate;
+
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Computes the page totals of a root collection.
+ * <p>
+ * Totals come from the {@link ApproximateCountStrategy} when it provides an estimate.  Otherwise the COUNT query
+ * runs in the requesting transaction before the page is fetched or, when an executor is configured, on a separate
+ * read only session while the page is fetched.  A separate session does not see uncommitted changes of the
+ * requesting transaction.
+ */
+public class PageTotalsCounter {
+
+    /**
+     * Counts exactly, in the requesting transaction.
+     */
+    public static final PageTotalsCounter SERIAL = new PageTotalsCounter(ApproximateCountStrategy.EXACT, null);
+
+    private final ApproximateCountStrategy approximateCountStrategy;
+    private final Executor executor;
+
+    /**
+     * Constructor.
+     *
+     * @param approximateCountStrategy Estimates totals for large tables
+     * @param executor Runs count queries concurrently with the page fetch, or null to run them serially
+     */
+    public PageTotalsCounter(ApproximateCountStrategy approximateCountStrategy, Executor executor) {
+        this.approximateCountStrategy = approximateCountStrategy;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts counting the records of a root collection.
+     *
+     * @param entityClass The type being counted
+     * @param filterExpression The request and security filters of the page
+     * @param count Runs the COUNT query in the requesting transaction
+     * @param isolatedCount Runs the COUNT query in its own read only session, or null if none can be opened
+     * @return The pending count
+     */
+    public CompletableFuture<RecordCount> count(Class<?> entityClass,
+                                                Optional<FilterExpression> filterExpression,
+                                                Supplier<Long> count,
+                                                Supplier<Long> isolatedCount) {
+        Optional<RecordCount> approximateCount =
+                approximateCountStrategy.approximateCount(entityClass, filterExpression);
+        if (approximateCount.isPresent()) {
+            return CompletableFuture.completedFuture(approximateCount.get());
+        }
+
+        if (executor == null || isolatedCount == null) {
+            return CompletableFuture.completedFuture(RecordCount.exact(count.get()));
+        }
+        return CompletableFuture.supplyAsync(() -> RecordCount.exact(isolatedCount.get()), executor);
+    }
+
+    /**
+     * Waits for a count started by {@link #count}.
+     *
+     * @param count The pending count
+     * @return The record count
+     */
+    public static RecordCount await(CompletableFuture<RecordCount> count) {
+        try {
+            return count.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate;
+
+/**
+ * The number of records of a root collection and whether it was counted exactly or estimated.
+ */
+public final class RecordCount {
+    private final long count;
+    private final boolean exact;
+
+    private RecordCount(long count, boolean exact) {
+        this.count = count;
+        this.exact = exact;
+    }
+
+    /**
+     * A count of every matching record.
+     *
+     * @param count The number of records
+     * @return The record count
+     */
+    public static RecordCount exact(long count) {
+        return new RecordCount(count, true);
+    }
+
+    /**
+     * An estimate, such as a row estimate from table statistics or a capped count.
+     *
+     * @param count The estimated number of records
+     * @return The record count
+     */
+    public static RecordCount approximate(long count) {
+        return new RecordCount(count, false);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isExact() {
+        return exact;
+    }
+}
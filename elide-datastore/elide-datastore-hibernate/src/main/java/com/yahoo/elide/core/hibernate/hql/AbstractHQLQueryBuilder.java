@@ -9,10 +9,12 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RelationshipType;
 import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.pagination.KeysetCursor;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 
@@ -140,6 +142,40 @@ public abstract class AbstractHQLQueryBuilder {
         }
     }
 
+    /**
+     * Returns the filter expression to fetch a page with.  When paging by keyset cursor, the records which sort
+     * after the cursor are selected in the WHERE clause rather than skipped with an offset.
+     * @param entityClass The class being fetched
+     * @return The client filter expression combined with any cursor predicate
+     */
+    protected Optional<FilterExpression> getFetchFilterExpression(Class<?> entityClass) {
+        if (!pagination.isPresent() || !pagination.get().isKeyset()) {
+            return filterExpression;
+        }
+
+        Optional<FilterExpression> after = pagination.get().getCursor()
+                .getFilterExpression(entityClass, sorting, dictionary);
+        if (!after.isPresent()) {
+            return filterExpression;
+        }
+        return Optional.of(filterExpression
+                .<FilterExpression>map(expression -> new AndFilterExpression(expression, after.get()))
+                .orElse(after.get()));
+    }
+
+    /**
+     * Returns the sorting to fetch a page with.  Keyset pages are additionally ordered by id so that the cursor
+     * identifies a unique position.
+     * @param entityClass The class being fetched
+     * @return The client sorting, extended with the id when paging by keyset cursor
+     */
+    protected Optional<Sorting> getFetchSorting(Class<?> entityClass) {
+        if (!pagination.isPresent() || !pagination.get().isKeyset()) {
+            return sorting;
+        }
+        return Optional.of(KeysetCursor.getSorting(entityClass, sorting, dictionary));
+    }
+
     /**
      * Extracts a join clause from a filter predicate (if it exists).
      * @param predicate The predicate to examine
@@ -9,11 +9,14 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.FilterTranslator;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.sort.Sorting;
 
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Constructs a HQL query to fetch a root collection.
@@ -38,6 +41,8 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
     public Query build() {
         String entityName = entityClass.getCanonicalName();
         String entityAlias = FilterPredicate.getTypeAlias(entityClass);
+        Optional<FilterExpression> filterExpression = getFetchFilterExpression(entityClass);
+        Optional<Sorting> sorting = getFetchSorting(entityClass);
 
         Query query;
         if (filterExpression.isPresent()) {
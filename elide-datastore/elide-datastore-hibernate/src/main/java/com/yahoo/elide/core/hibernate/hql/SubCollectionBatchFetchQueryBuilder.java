@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.FilterTranslator;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.Session;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Constructs a HQL query to fetch the members of the same relationship for many parent objects at once.
+ * Each row of the result is a pair of (parent, child).
+ */
+public class SubCollectionBatchFetchQueryBuilder extends AbstractHQLQueryBuilder {
+
+    private final Class<?> parentType;
+    private final Class<?> childType;
+    private final String relationshipName;
+    private final Collection<?> parents;
+
+    public SubCollectionBatchFetchQueryBuilder(Class<?> parentType,
+                                               Class<?> childType,
+                                               String relationshipName,
+                                               Collection<?> parents,
+                                               EntityDictionary dictionary,
+                                               Session session) {
+        super(dictionary, session);
+        this.parentType = parentType;
+        this.childType = childType;
+        this.relationshipName = relationshipName;
+        this.parents = parents;
+    }
+
+    @Override
+    protected String extractToOneMergeJoins(Class<?> entityClass, String alias) {
+        Function<String, Boolean> shouldSkip = (relationName) -> {
+            String inverseRelationName = dictionary.getRelationInverse(entityClass, relationName);
+            if (inverseRelationName.isEmpty()) {
+                return false;
+            }
+
+            Class<?> relationshipClass = dictionary.getParameterizedType(entityClass, relationName);
+
+            //We don't need (or want) to fetch join the parent object.
+            return relationshipClass.equals(parentType)
+                    && inverseRelationName.equals(relationshipName);
+        };
+
+        return extractToOneMergeJoins(entityClass, alias, shouldSkip);
+    }
+
+    /**
+     * Constructs a query that returns the parents together with the members of their relationship.
+     * Pagination is not supported as it would apply across all of the parents.
+     *
+     * @return the constructed query
+     */
+    @Override
+    public Query build() {
+        String childAlias = FilterPredicate.getTypeAlias(childType);
+        String parentAlias = FilterPredicate.getTypeAlias(parentType) + "__fetch";
+        String parentName = parentType.getCanonicalName();
+        String parentsClause = parentAlias + " IN (:" + parentAlias + ")";
+
+        Query query = filterExpression.map(fe -> {
+            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
+            Collection<FilterPredicate> predicates = fe.accept(extractor);
+            String filterClause = new FilterTranslator().apply(fe, USE_ALIAS);
+
+            String joinClause =  getJoinClauseFromFilters(filterExpression.get())
+                    + extractToOneMergeJoins(childType, childAlias);
+
+            //SELECT parent, parent_children from Parent parent JOIN parent.children parent_children
+            Query q = session.createQuery(SELECT
+                            + parentAlias + COMMA + childAlias
+                            + FROM
+                            + parentName + SPACE + parentAlias
+                            + JOIN
+                            + parentAlias + PERIOD + relationshipName + SPACE + childAlias
+                            + joinClause
+                            + SPACE
+                            + filterClause
+                            + " AND " + parentsClause
+                            + SPACE
+                            + getSortClause(sorting, childType, USE_ALIAS)
+            );
+
+            supplyFilterQueryParameters(q, predicates);
+            return q;
+        }).orElse(session.createQuery(SELECT
+                            + parentAlias + COMMA + childAlias
+                            + FROM
+                            + parentName + SPACE + parentAlias
+                            + JOIN
+                            + parentAlias + PERIOD + relationshipName + SPACE + childAlias
+                            + extractToOneMergeJoins(childType, childAlias)
+                            + " WHERE " + parentsClause
+                            + getSortClause(sorting, childType, USE_ALIAS)
+        ));
+
+        query.setParameterList(parentAlias, parents);
+
+        return query;
+    }
+}
@@ -8,11 +8,14 @@ package com.yahoo.elide.core.hibernate.hql;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.FilterTranslator;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.sort.Sorting;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -61,6 +64,9 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
             return null;
         }
 
+        Optional<FilterExpression> filterExpression = getFetchFilterExpression(relationship.getChildType());
+        Optional<Sorting> sorting = getFetchSorting(relationship.getChildType());
+
         String childAlias = FilterPredicate.getTypeAlias(relationship.getChildType());
         String parentAlias = FilterPredicate.getTypeAlias(relationship.getParentType()) + "__fetch";
         String parentName = relationship.getParentType().getCanonicalName();
@@ -71,7 +77,7 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
             Collection<FilterPredicate> predicates = fe.accept(extractor);
             String filterClause = new FilterTranslator().apply(fe, USE_ALIAS);
 
-            String joinClause =  getJoinClauseFromFilters(filterExpression.get())
+            String joinClause =  getJoinClauseFromFilters(fe)
                     + extractToOneMergeJoins(relationship.getChildType(), childAlias);
 
             //SELECT parent_children from Parent parent JOIN parent.children parent_children
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests replaying deferred writes.
+ */
+public class DeferredWritesTest {
+    private final List<String> written = new ArrayList<>();
+    private final DeferredWrites writes = new DeferredWrites(
+            entity -> written.add("delete " + entity),
+            entity -> written.add("create " + entity),
+            entity -> written.add("save " + entity));
+
+    @Test
+    public void testFlushKeepsRequestOrder() {
+        writes.create("a", null);
+        writes.create(1, null);
+        writes.save("b");
+        writes.delete(2);
+        writes.save("d");
+
+        assertFalse(writes.isEmpty());
+        writes.flush();
+
+        assertEquals(Arrays.asList("create a", "create 1", "save b", "delete 2", "save d"), written);
+        assertTrue(writes.isEmpty());
+    }
+
+    @Test
+    public void testCreateThenDeleteStaysDeleted() {
+        writes.create("a", null);
+        writes.delete("a");
+
+        writes.flush();
+
+        assertEquals(Arrays.asList("create a", "delete a"), written);
+    }
+
+    @Test
+    public void testClearForgetsWrites() {
+        writes.create("a", null);
+        writes.delete("b");
+
+        writes.clear();
+        writes.flush();
+
+        assertTrue(writes.isEmpty());
+        assertTrue(written.isEmpty());
+    }
+}
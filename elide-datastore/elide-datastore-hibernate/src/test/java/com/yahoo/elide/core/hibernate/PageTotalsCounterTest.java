@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests counting page totals.
+ */
+public class PageTotalsCounterTest {
+
+    @Test
+    public void testSerialCountRunsInline() {
+        CompletableFuture<RecordCount> count = PageTotalsCounter.SERIAL.count(Object.class, Optional.empty(),
+                () -> 5L, () -> fail("Serial counts must not open a separate session"));
+
+        RecordCount records = PageTotalsCounter.await(count);
+        assertEquals(5L, records.getCount());
+        assertTrue(records.isExact());
+    }
+
+    @Test
+    public void testApproximateCountSkipsQuery() {
+        PageTotalsCounter counter = new PageTotalsCounter(
+                (entityClass, filter) -> Optional.of(RecordCount.approximate(1000L)), null);
+
+        CompletableFuture<RecordCount> count = counter.count(Object.class, Optional.empty(),
+                () -> fail("Approximate counts must not query"), () -> fail("Approximate counts must not query"));
+
+        RecordCount records = PageTotalsCounter.await(count);
+        assertEquals(1000L, records.getCount());
+        assertFalse(records.isExact());
+    }
+
+    @Test
+    public void testConcurrentCountOverlapsFetch() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PageTotalsCounter counter = new PageTotalsCounter(ApproximateCountStrategy.EXACT, executor);
+            CountDownLatch fetched = new CountDownLatch(1);
+
+            CompletableFuture<RecordCount> count = counter.count(Object.class, Optional.empty(),
+                    () -> fail("Concurrent counts must use a separate session"),
+                    () -> {
+                        try {
+                            fetched.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return 7L;
+                    });
+
+            assertFalse(count.isDone());
+            fetched.countDown();
+            assertEquals(7L, PageTotalsCounter.await(count).getCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentCountWithoutSessionRunsInline() {
+        PageTotalsCounter counter = new PageTotalsCounter(ApproximateCountStrategy.EXACT, Runnable::run);
+
+        assertEquals(3L, PageTotalsCounter.await(counter.count(Object.class, Optional.empty(), () -> 3L, null))
+                .getCount());
+    }
+
+    @Test
+    public void testAwaitRethrowsCountFailure() {
+        PageTotalsCounter counter = new PageTotalsCounter(ApproximateCountStrategy.EXACT, Runnable::run);
+
+        CompletableFuture<RecordCount> count = counter.count(Object.class, Optional.empty(), () -> 3L, () -> {
+            throw new IllegalStateException("count failed");
+        });
+
+        assertThrows(IllegalStateException.class, () -> PageTotalsCounter.await(count));
+    }
+}
@@ -8,6 +8,7 @@ package com.yahoo.elide.datastores.hibernate.hql;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
@@ -19,6 +20,7 @@ import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
+import com.yahoo.elide.core.pagination.KeysetCursor;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 
@@ -32,6 +34,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -197,4 +200,33 @@ public class RootCollectionFetchQueryBuilderTest {
 
         assertEquals(expected, actual);
     }
+
+    @Test
+    public void testRootFetchWithKeysetPagination() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(TITLE, "ABC");
+        keys.put("id", "1");
+
+        Pagination pagination = Pagination.fromOffsetAndFirst(Optional.of("10"),
+                Optional.of(new KeysetCursor(keys).encode()), false, new ElideSettingsBuilder(null).build()).get();
+
+        RootCollectionFetchQueryBuilder builder = new RootCollectionFetchQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder
+                .withPossibleSorting(Optional.of(Sorting.parseSortRule(TITLE)))
+                .withPossiblePagination(Optional.of(pagination))
+                .build();
+
+        String expected =
+                "SELECT example_Book FROM example.Book AS example_Book  LEFT JOIN FETCH example_Book.publisher  "
+                + "WHERE (example_Book.title > :title_XXX OR (example_Book.title IN (:title_XXX) "
+                + "AND example_Book.id > :id_XXX))  order by example_Book.title asc,example_Book.id asc";
+
+        String actual = query.getQueryText();
+        actual = actual.replaceAll(":title_\\w+", ":title_XXX");
+        actual = actual.replaceAll(":id_\\w+", ":id_XXX");
+
+        assertEquals(expected, actual);
+    }
 }
@@ -7,13 +7,17 @@ package com.yahoo.elide.datastores.hibernate5;
 
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
-
 import com.yahoo.elide.core.datastore.JPQLDataStore;
+import com.yahoo.elide.core.hibernate.ApproximateCountStrategy;
+import com.yahoo.elide.core.hibernate.PageTotalsCounter;
+
 import org.hibernate.ScrollMode;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.jpa.HibernateEntityManagerFactory;
 
+import java.util.concurrent.Executor;
+
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.metamodel.EntityType;
 
@@ -25,6 +29,9 @@ public abstract class AbstractHibernateStore implements JPQLDataStore {
     protected final boolean isScrollEnabled;
     protected final ScrollMode scrollMode;
     protected final HibernateTransactionSupplier transactionSupplier;
+    protected PageTotalsCounter pageTotalsCounter = PageTotalsCounter.SERIAL;
+    protected Integer jdbcBatchSize;
+    protected Integer streamFetchSize;
 
     /**
      * Constructor.
@@ -58,6 +65,40 @@ public abstract class AbstractHibernateStore implements JPQLDataStore {
         this.transactionSupplier = transactionSupplier;
     }
 
+    /**
+     * Sets how page totals are counted.
+     *
+     * @param pageTotalsCounter Page totals counter
+     * @return this store
+     */
+    public AbstractHibernateStore withPageTotalsCounter(PageTotalsCounter pageTotalsCounter) {
+        this.pageTotalsCounter = pageTotalsCounter;
+        return this;
+    }
+
+    /**
+     * Sets the JDBC batch size of the sessions this store opens.  Set {@code hibernate.order_inserts} and
+     * {@code hibernate.order_updates} as well so that bulk requests flush as batched statements.
+     *
+     * @param jdbcBatchSize JDBC batch size, or null to use the session factory setting
+     * @return this store
+     */
+    public AbstractHibernateStore withJdbcBatchSize(Integer jdbcBatchSize) {
+        this.jdbcBatchSize = jdbcBatchSize;
+        return this;
+    }
+
+    /**
+     * Sets how many rows streamed collections fetch from the database per round trip.
+     *
+     * @param streamFetchSize JDBC fetch size, or null to use the default
+     * @return this store
+     */
+    public AbstractHibernateStore withStreamFetchSize(Integer streamFetchSize) {
+        this.streamFetchSize = streamFetchSize;
+        return this;
+    }
+
     /**
      * Builder object to configuration hibernate store.
      */
@@ -66,6 +107,10 @@ public abstract class AbstractHibernateStore implements JPQLDataStore {
         private boolean isScrollEnabled;
         private ScrollMode scrollMode;
         private EntityManagerFactory emf;
+        private Executor pageTotalsExecutor;
+        private ApproximateCountStrategy approximateCountStrategy = ApproximateCountStrategy.EXACT;
+        private Integer jdbcBatchSize;
+        private Integer streamFetchSize;
 
         public Builder(final SessionFactory sessionFactory) {
             this.sessionFactory = sessionFactory;
@@ -89,6 +134,13 @@ public abstract class AbstractHibernateStore implements JPQLDataStore {
             this.emf = entityManagerFactory;
         }
 
+        /**
+         * Whether collections are read from a scrollable cursor.  Streamed collections, such as exports, are loaded
+         * into memory at once when scrolling is disabled.
+         *
+         * @param isScrollEnabled true to scroll collections
+         * @return this builder
+         */
         public Builder withScrollEnabled(final boolean isScrollEnabled) {
             this.isScrollEnabled = isScrollEnabled;
             return this;
@@ -99,11 +151,56 @@ public abstract class AbstractHibernateStore implements JPQLDataStore {
             return this;
         }
 
+        /**
+         * Runs page totals count queries on their own read only sessions, concurrently with the page fetch.
+         *
+         * @param pageTotalsExecutor Executor for count queries
+         * @return this builder
+         */
+        public Builder withPageTotalsExecutor(final Executor pageTotalsExecutor) {
+            this.pageTotalsExecutor = pageTotalsExecutor;
+            return this;
+        }
+
+        public Builder withApproximateCountStrategy(final ApproximateCountStrategy approximateCountStrategy) {
+            this.approximateCountStrategy = approximateCountStrategy;
+            return this;
+        }
+
+        /**
+         * Sends deferred writes to the database in JDBC batches of the given size.
+         *
+         * @param jdbcBatchSize JDBC batch size
+         * @return this builder
+         */
+        public Builder withJdbcBatchSize(final int jdbcBatchSize) {
+            this.jdbcBatchSize = jdbcBatchSize;
+            return this;
+        }
+
+        /**
+         * Fetches streamed collections from the database this many rows per round trip.
+         *
+         * @param streamFetchSize JDBC fetch size
+         * @return this builder
+         */
+        public Builder withStreamFetchSize(final int streamFetchSize) {
+            this.streamFetchSize = streamFetchSize;
+            return this;
+        }
+
         public AbstractHibernateStore build() {
+            PageTotalsCounter pageTotalsCounter = new PageTotalsCounter(approximateCountStrategy, pageTotalsExecutor);
             if (sessionFactory != null) {
-                return new HibernateSessionFactoryStore(sessionFactory, isScrollEnabled, scrollMode);
+                return new HibernateSessionFactoryStore(sessionFactory, isScrollEnabled, scrollMode)
+                        .withPageTotalsCounter(pageTotalsCounter)
+                        .withJdbcBatchSize(jdbcBatchSize)
+                        .withStreamFetchSize(streamFetchSize);
             } else if (emf != null) {
-                return new HibernateEntityManagerStore(emf, isScrollEnabled, scrollMode);
+                return new HibernateEntityManagerStore(emf, isScrollEnabled, scrollMode)
+                        .withPageTotalsCounter(pageTotalsCounter)
+                        .withJdbcBatchSize(jdbcBatchSize)
+                        .withStreamFetchSize(streamFetchSize);
             }
             throw new IllegalStateException("Either an EntityManager or SessionFactory is required!");
         }
@@ -40,7 +40,11 @@ public class HibernateEntityManagerStore extends AbstractHibernateStore {
         Session session = manager.unwrap(Session.class);
         session.beginTransaction();
         session.clear();
-        return transactionSupplier.get(session, isScrollEnabled, scrollMode);
+        return transactionSupplier.get(session, isScrollEnabled, scrollMode)
+                .withPageTotalsCounter(pageTotalsCounter,
+                        () -> entityManagerFactory.createEntityManager().unwrap(Session.class))
+                .withJdbcBatchSize(jdbcBatchSize)
+                .withStreamFetchSize(streamFetchSize);
     }
 
     @Override
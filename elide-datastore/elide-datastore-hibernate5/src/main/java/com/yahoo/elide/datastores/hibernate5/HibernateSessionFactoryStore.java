@@ -34,6 +34,9 @@ public class HibernateSessionFactoryStore extends AbstractHibernateStore {
         Session session = sessionFactory.getCurrentSession();
         Preconditions.checkNotNull(session);
         session.beginTransaction();
-        return transactionSupplier.get(session, isScrollEnabled, scrollMode);
+        return transactionSupplier.get(session, isScrollEnabled, scrollMode)
+                .withPageTotalsCounter(pageTotalsCounter, sessionFactory::openSession)
+                .withJdbcBatchSize(jdbcBatchSize)
+                .withStreamFetchSize(streamFetchSize);
     }
 }
@@ -15,10 +15,14 @@ import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.InPredicate;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.hibernate.DeferredWrites;
+import com.yahoo.elide.core.hibernate.PageTotalsCounter;
+import com.yahoo.elide.core.hibernate.RecordCount;
 import com.yahoo.elide.core.hibernate.hql.AbstractHQLQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RelationshipImpl;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionPageTotalsQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.SubCollectionBatchFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionPageTotalsQueryBuilder;
 import com.yahoo.elide.core.pagination.Pagination;
@@ -27,19 +31,29 @@ import com.yahoo.elide.datastores.hibernate5.porting.QueryWrapper;
 import com.yahoo.elide.datastores.hibernate5.porting.SessionWrapper;
 import com.yahoo.elide.security.User;
 
+import com.google.common.collect.Lists;
+
 import org.hibernate.FlushMode;
 import org.hibernate.ObjectNotFoundException;
 import org.hibernate.ScrollMode;
 import org.hibernate.Session;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.collection.internal.AbstractPersistentCollection;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import javax.persistence.PersistenceException;
 
@@ -48,11 +62,19 @@ import javax.persistence.PersistenceException;
  */
 @Slf4j
 public class HibernateTransaction implements DataStoreTransaction {
+    // Upper bound on the number of parents bound to a single IN clause when fetching relationships in bulk.
+    private static final int RELATION_BATCH_SIZE = 500;
+    // Rows fetched per round trip when streaming a collection, unless configured otherwise.
+    private static final int DEFAULT_STREAM_FETCH_SIZE = 1000;
+    private static final AtomicBoolean UNORDERED_BATCHING_REPORTED = new AtomicBoolean();
 
     private final Session session;
     private final SessionWrapper sessionWrapper;
-    private final LinkedHashSet<Runnable> deferredTasks = new LinkedHashSet<>();
+    private final DeferredWrites deferredWrites;
     private final boolean isScrollEnabled;
+    private PageTotalsCounter pageTotalsCounter = PageTotalsCounter.SERIAL;
+    private Supplier<Session> countSessionSupplier;
+    private int streamFetchSize = DEFAULT_STREAM_FETCH_SIZE;
 
     /**
      * Constructor.
@@ -70,23 +92,74 @@ public class HibernateTransaction implements DataStoreTransaction {
         }
         this.sessionWrapper = new SessionWrapper(session);
         this.isScrollEnabled = isScrollEnabled;
+        this.deferredWrites = new DeferredWrites(session::delete, session::persist, session::saveOrUpdate);
+    }
+
+    /**
+     * Configures how many statements of one kind are sent to the database in a single JDBC batch when this
+     * transaction flushes.  Writes are flushed in request order, so batches stay small unless the session factory
+     * also enables {@code hibernate.order_inserts} and {@code hibernate.order_updates}; a warning is logged if it
+     * does not.
+     *
+     * @param jdbcBatchSize JDBC batch size, or null to use the session factory setting
+     * @return this transaction
+     */
+    public HibernateTransaction withJdbcBatchSize(Integer jdbcBatchSize) {
+        session.setJdbcBatchSize(jdbcBatchSize);
+        if (jdbcBatchSize != null && jdbcBatchSize > 1 && !UNORDERED_BATCHING_REPORTED.get()) {
+            SessionFactoryOptions options = session.getSessionFactory().getSessionFactoryOptions();
+            if (!(options.isOrderInsertsEnabled() && options.isOrderUpdatesEnabled())
+                    && UNORDERED_BATCHING_REPORTED.compareAndSet(false, true)) {
+                log.warn("A JDBC batch size is set but hibernate.order_inserts and hibernate.order_updates are not "
+                        + "both enabled, so writes to different types interleave and are sent in small batches.");
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Configures how many rows streamed collections fetch from the database per round trip.  Some drivers only
+     * stream rows with particular fetch sizes or connection settings (MySQL needs {@code useCursorFetch=true},
+     * PostgreSQL needs auto commit off) and otherwise read the whole result first.
+     *
+     * @param streamFetchSize JDBC fetch size, or null to use the default
+     * @return this transaction
+     */
+    public HibernateTransaction withStreamFetchSize(Integer streamFetchSize) {
+        if (streamFetchSize != null) {
+            this.streamFetchSize = streamFetchSize;
+        }
+        return this;
+    }
+
+    /**
+     * Configures how page totals are counted.
+     *
+     * @param pageTotalsCounter Page totals counter
+     * @param countSessionSupplier Opens the sessions which run concurrent count queries
+     * @return this transaction
+     */
+    public HibernateTransaction withPageTotalsCounter(PageTotalsCounter pageTotalsCounter,
+                                                      Supplier<Session> countSessionSupplier) {
+        this.pageTotalsCounter = pageTotalsCounter;
+        this.countSessionSupplier = countSessionSupplier;
+        return this;
     }
 
     @Override
     public void delete(Object object, RequestScope scope) {
-        deferredTasks.add(() -> session.delete(object));
+        deferredWrites.delete(object);
     }
 
     @Override
     public void save(Object object, RequestScope scope) {
-        deferredTasks.add(() -> session.saveOrUpdate(object));
+        deferredWrites.save(object);
     }
 
     @Override
     public void flush(RequestScope requestScope) {
         try {
-            deferredTasks.forEach(Runnable::run);
-            deferredTasks.clear();
+            deferredWrites.flush();
             hibernateFlush(requestScope);
         } catch (PersistenceException e) {
             log.error("Caught hibernate exception during flush", e);
@@ -113,7 +186,7 @@ public class HibernateTransaction implements DataStoreTransaction {
 
     @Override
     public void createObject(Object entity, RequestScope scope) {
-        deferredTasks.add(() -> session.persist(entity));
+        deferredWrites.create(entity, scope);
     }
 
     /**
@@ -167,24 +240,68 @@ public class HibernateTransaction implements DataStoreTransaction {
             Optional<Pagination> pagination,
             RequestScope scope) {
 
-        pagination.ifPresent(p -> {
-            if (p.isGenerateTotals()) {
-                p.setPageTotals(getTotalRecords(entityClass, filterExpression, scope.getDictionary()));
-            }
-        });
+        EntityDictionary dictionary = scope.getDictionary();
+
+        Optional<CompletableFuture<RecordCount>> pageTotals = pagination
+                .filter(Pagination::isGenerateTotals)
+                .map(p -> pageTotalsCounter.count(entityClass, filterExpression,
+                        () -> getTotalRecords(entityClass, filterExpression, dictionary, sessionWrapper),
+                        countSessionSupplier == null ? null
+                                : () -> getTotalRecordsInReadOnlySession(entityClass, filterExpression, dictionary)));
 
         final QueryWrapper query =
-                (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, scope.getDictionary(), sessionWrapper)
+                (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, dictionary, sessionWrapper)
                         .withPossibleFilterExpression(filterExpression)
                         .withPossibleSorting(sorting)
                         .withPossiblePagination(pagination)
                         .build();
 
-
+        Iterable<Object> results;
         if (isScrollEnabled) {
-            return new ScrollableIterator<>(query.getQuery().scroll());
+            results = new ScrollableIterator<>(query.getQuery().scroll());
+        } else {
+            results = (Iterable) query.getQuery().list();
         }
-        return (Iterable) query.getQuery().list();
+
+        pageTotals.ifPresent(pending -> {
+            RecordCount count = PageTotalsCounter.await(pending);
+            pagination.get().setPageTotals(count.getCount(), count.isExact());
+        });
+
+        return results;
+    }
+
+    /**
+     * Scrolls a read only, forward only cursor over the collection.  Each row is evicted from the session once the
+     * next row is read so that the session does not grow with the collection.
+     * <p>
+     * When scrolling is disabled for the store the whole collection is loaded with {@link #loadObjects} instead, and
+     * a warning is logged because the memory used grows with the collection.
+     */
+    @Override
+    public Iterable<Object> streamObjects(
+            Class<?> entityClass,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            RequestScope scope) {
+
+        if (!isScrollEnabled) {
+            log.warn("Scrolling is disabled, so the streamed collection of {} is loaded into memory at once",
+                    entityClass.getSimpleName());
+            return DataStoreTransaction.super.streamObjects(entityClass, filterExpression, sorting, scope);
+        }
+
+        final QueryWrapper query =
+                (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, scope.getDictionary(), sessionWrapper)
+                        .withPossibleFilterExpression(filterExpression)
+                        .withPossibleSorting(sorting)
+                        .build();
+
+        org.hibernate.Query<?> cursor = query.getQuery();
+        cursor.setReadOnly(true);
+        cursor.setFetchSize(streamFetchSize);
+
+        return new ScrollableIterator<>(cursor.scroll(ScrollMode.FORWARD_ONLY), session::evict);
     }
 
     @Override
@@ -242,27 +359,112 @@ public class HibernateTransaction implements DataStoreTransaction {
         return val;
     }
 
+    @Override
+    public Map<Object, Object> getRelations(
+            DataStoreTransaction relationTx,
+            Collection<Object> entities,
+            String relationName,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            RequestScope scope) {
+
+        EntityDictionary dictionary = scope.getDictionary();
+        Map<Object, Object> relations = new IdentityHashMap<>();
+        List<Object> unloaded = new ArrayList<>();
+
+        for (Object entity : entities) {
+            Object val = com.yahoo.elide.core.PersistentResource.getValue(entity, relationName, scope);
+            if (val instanceof AbstractPersistentCollection && ! ((AbstractPersistentCollection) val).wasInitialized()) {
+                unloaded.add(entity);
+            } else {
+                relations.put(entity, getRelation(relationTx, entity, relationName,
+                        filterExpression, sorting, Optional.empty(), scope));
+            }
+        }
+
+        /*
+         * A single collection proxy is left for the ORM to initialize.  Otherwise, fetch the members of all the
+         * uninitialized collections with one query per batch of parents rather than one query per parent.
+         */
+        if (unloaded.size() == 1) {
+            Object entity = unloaded.get(0);
+            relations.put(entity, getRelation(relationTx, entity, relationName,
+                    filterExpression, sorting, Optional.empty(), scope));
+        } else if (! unloaded.isEmpty()) {
+            Class<?> parentClass = dictionary.lookupEntityClass(unloaded.get(0).getClass());
+            Class<?> relationClass = dictionary.getParameterizedType(unloaded.get(0), relationName);
+
+            Map<String, List<Object>> membersById = new HashMap<>();
+            for (List<Object> batch : Lists.partition(unloaded, RELATION_BATCH_SIZE)) {
+                QueryWrapper query = (QueryWrapper)
+                        new SubCollectionBatchFetchQueryBuilder(parentClass, relationClass, relationName, batch,
+                                dictionary, sessionWrapper)
+                                .withPossibleFilterExpression(filterExpression)
+                                .withPossibleSorting(sorting)
+                                .build();
+
+                for (Object row : query.getQuery().list()) {
+                    Object[] parentAndChild = (Object[]) row;
+                    membersById.computeIfAbsent(dictionary.getId(parentAndChild[0]), key -> new ArrayList<>())
+                            .add(parentAndChild[1]);
+                }
+            }
+
+            unloaded.forEach(entity -> relations.put(entity,
+                    membersById.getOrDefault(dictionary.getId(entity), new ArrayList<>())));
+        }
+        return relations;
+    }
+
     /**
      * Returns the total record count for a root entity and an optional filter expression.
      * @param entityClass The entity type to count
      * @param filterExpression optional security and request filters
      * @param dictionary the entity dictionary
+     * @param session the session to count with
      * @param <T> The type of entity
      * @return The total row count.
      */
     private <T> Long getTotalRecords(Class<T> entityClass,
                                      Optional<FilterExpression> filterExpression,
-                                     EntityDictionary dictionary) {
+                                     EntityDictionary dictionary,
+                                     SessionWrapper session) {
 
 
         QueryWrapper query = (QueryWrapper)
-                new RootCollectionPageTotalsQueryBuilder(entityClass, dictionary, sessionWrapper)
+                new RootCollectionPageTotalsQueryBuilder(entityClass, dictionary, session)
                 .withPossibleFilterExpression(filterExpression)
                 .build();
 
         return (Long) query.getQuery().uniqueResult();
     }
 
+    /**
+     * Returns the total record count for a root entity using a session of its own, so that the count can run
+     * while this transaction fetches the page.
+     * @param entityClass The entity type to count
+     * @param filterExpression optional security and request filters
+     * @param dictionary the entity dictionary
+     * @param <T> The type of entity
+     * @return The total row count.
+     */
+    private <T> Long getTotalRecordsInReadOnlySession(Class<T> entityClass,
+                                                      Optional<FilterExpression> filterExpression,
+                                                      EntityDictionary dictionary) {
+        Session countSession = countSessionSupplier.get();
+        try {
+            countSession.setDefaultReadOnly(true);
+            countSession.beginTransaction();
+            try {
+                return getTotalRecords(entityClass, filterExpression, dictionary, new SessionWrapper(countSession));
+            } finally {
+                countSession.getTransaction().rollback();
+            }
+        } finally {
+            countSession.close();
+        }
+    }
+
     /**
      * Returns the total record count for a entity relationship
      * @param relationship The relationship
@@ -14,6 +14,7 @@ import lombok.NonNull;
 
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.function.Consumer;
 
 /**
  * Wraps ScrollableResult as Iterator.
@@ -22,11 +23,24 @@ import java.util.Iterator;
  */
 public class ScrollableIterator<T> implements Iterable<T>, Iterator<T> {
     private final ScrollableResults scroll;
+    private final Consumer<T> release;
     private boolean inUse = false;
     private boolean hasNext = false;
+    private T previous;
 
     public ScrollableIterator(ScrollableResults scroll) {
+        this(scroll, row -> { });
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param scroll the results
+     * @param release called with each row once the next row is read, when the caller is done with it
+     */
+    public ScrollableIterator(ScrollableResults scroll, Consumer<T> release) {
         this.scroll = scroll;
+        this.release = release;
 
         hasNext = scroll.next();
     }
@@ -51,6 +65,10 @@ public class ScrollableIterator<T> implements Iterable<T>, Iterator<T> {
         @SuppressWarnings("unchecked")
         @NonNull T row = (T) scroll.get()[0];
         Preconditions.checkNotNull(row);
+        if (previous != null) {
+            release.accept(previous);
+        }
+        previous = row;
         hasNext = scroll.next();
         return row;
     }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.datastores.hibernate5.bulk.BulkNote;
+import com.yahoo.elide.datastores.hibernate5.bulk.BulkRecord;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Environment;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures rows/sec of bulk inserts and updates written through a {@link DataStoreTransaction} against H2.  Each
+ * request alternates between records and their notes, as a JSON Patch creating both would, and is flushed one
+ * statement at a time, in JDBC batches without statement ordering and in JDBC batches with statement ordering.
+ * <p>
+ * Excluded from the default build.  Run it with:
+ * <pre>
+ * mvn test -pl elide-datastore/elide-datastore-hibernate5 -DexcludeTags= -Dtest=BulkWriteBenchmarkTest
+ * </pre>
+ * Sizes can be changed with the elide.bulk.rows and elide.bulk.batchSize system properties.
+ */
+@Slf4j
+@Tag("benchmark")
+public class BulkWriteBenchmarkTest {
+    private static final int ROWS = Integer.getInteger("elide.bulk.rows", 20000);
+    private static final int BATCH_SIZE = Integer.getInteger("elide.bulk.batchSize", 50);
+
+    @Test
+    public void testBulkWriteThroughput() throws IOException {
+        Result unbatched = run("unbatched", 1, true);
+        Result unordered = run("unordered", BATCH_SIZE, false);
+        Result batched = run("batched", BATCH_SIZE, true);
+
+        log.info("Insert speedup (batched / unbatched): {}, (unordered / unbatched): {}",
+                String.format("%.2f", batched.insertRowsPerSecond() / unbatched.insertRowsPerSecond()),
+                String.format("%.2f", unordered.insertRowsPerSecond() / unbatched.insertRowsPerSecond()));
+        log.info("Update speedup (batched / unbatched): {}, (unordered / unbatched): {}",
+                String.format("%.2f", batched.updateRowsPerSecond() / unbatched.updateRowsPerSecond()),
+                String.format("%.2f", unordered.updateRowsPerSecond() / unbatched.updateRowsPerSecond()));
+    }
+
+    private Result run(String name, int batchSize, boolean ordered) throws IOException {
+        SessionFactory sessionFactory = sessionFactory(name, ordered);
+        try {
+            DataStore store = new AbstractHibernateStore.Builder(sessionFactory)
+                    .withJdbcBatchSize(batchSize)
+                    .build();
+
+            List<BulkRecord> records = new ArrayList<>(ROWS);
+            List<BulkNote> notes = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                BulkRecord record = new BulkRecord();
+                record.setName("record" + i);
+                record.setQuantity(i);
+                records.add(record);
+
+                BulkNote note = new BulkNote();
+                note.setText("note" + i);
+                note.setRecord(record);
+                notes.add(note);
+            }
+
+            long insertBegin = System.nanoTime();
+            try (DataStoreTransaction tx = store.beginTransaction()) {
+                for (int i = 0; i < ROWS; i++) {
+                    tx.createObject(records.get(i), null);
+                    tx.createObject(notes.get(i), null);
+                }
+                tx.commit(null);
+            }
+            long insertNanos = System.nanoTime() - insertBegin;
+            long insertStatements = sessionFactory.getStatistics().getPrepareStatementCount();
+
+            records.forEach(record -> record.setQuantity(record.getQuantity() + 1));
+            notes.forEach(note -> note.setText(note.getText() + "!"));
+
+            long updateBegin = System.nanoTime();
+            try (DataStoreTransaction tx = store.beginTransaction()) {
+                for (int i = 0; i < ROWS; i++) {
+                    tx.save(records.get(i), null);
+                    tx.save(notes.get(i), null);
+                }
+                tx.commit(null);
+            }
+            long updateNanos = System.nanoTime() - updateBegin;
+            long updateStatements = sessionFactory.getStatistics().getPrepareStatementCount() - insertStatements;
+
+            try (Session session = sessionFactory.openSession()) {
+                assertEquals((long) ROWS, session.createQuery("SELECT COUNT(*) FROM BulkRecord").uniqueResult());
+                assertEquals((long) ROWS * (ROWS + 1) / 2,
+                        session.createQuery("SELECT SUM(quantity) FROM BulkRecord").uniqueResult());
+                assertEquals((long) ROWS, session.createQuery(
+                        "SELECT COUNT(*) FROM BulkNote WHERE text LIKE '%!' AND record IS NOT NULL").uniqueResult());
+            }
+
+            Result result = new Result(insertNanos, updateNanos);
+            log.info("{} (batch size {}): {} rows inserted/s in {} statements, {} rows updated/s in {} statements",
+                    name, batchSize, String.format("%.0f", result.insertRowsPerSecond()), insertStatements,
+                    String.format("%.0f", result.updateRowsPerSecond()), updateStatements);
+            return result;
+        } finally {
+            sessionFactory.close();
+        }
+    }
+
+    private static SessionFactory sessionFactory(String name, boolean ordered) {
+        return new MetadataSources(
+                new StandardServiceRegistryBuilder()
+                        .applySetting(Environment.CURRENT_SESSION_CONTEXT_CLASS, "thread")
+                        .applySetting(Environment.DIALECT, "org.hibernate.dialect.H2Dialect")
+                        .applySetting(Environment.DRIVER, "org.h2.Driver")
+                        .applySetting(Environment.URL, "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1")
+                        .applySetting(Environment.USER, "sa")
+                        .applySetting(Environment.PASS, "")
+                        .applySetting(Environment.HBM2DDL_AUTO, "create-drop")
+                        .applySetting(Environment.ORDER_INSERTS, String.valueOf(ordered))
+                        .applySetting(Environment.ORDER_UPDATES, String.valueOf(ordered))
+                        .applySetting(Environment.GENERATE_STATISTICS, "true")
+                        .build())
+                .addAnnotatedClass(BulkRecord.class)
+                .addAnnotatedClass(BulkNote.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    /**
+     * Timings of one run.
+     */
+    private static class Result {
+        private final long insertNanos;
+        private final long updateNanos;
+
+        Result(long insertNanos, long updateNanos) {
+            this.insertNanos = insertNanos;
+            this.updateNanos = updateNanos;
+        }
+
+        double insertRowsPerSecond() {
+            return 2 * ROWS / (insertNanos / 1e9);
+        }
+
+        double updateRowsPerSecond() {
+            return 2 * ROWS / (updateNanos / 1e9);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.cache.CacheSettings;
+import com.yahoo.elide.core.datastore.cache.CachingDataStore;
+import com.yahoo.elide.datastores.hibernate5.cache.Shelf;
+import com.yahoo.elide.datastores.hibernate5.cache.ShelvedBook;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Environment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Tests a {@link CachingDataStore} wrapping a Hibernate store, whose records are detached once their session closes.
+ */
+public class CachingHibernateStoreTest {
+    private final RequestScope scope = mock(RequestScope.class);
+    private SessionFactory sessionFactory;
+    private CachingDataStore store;
+    private long bookId;
+
+    @BeforeEach
+    public void setUp() {
+        sessionFactory = new MetadataSources(
+                new StandardServiceRegistryBuilder()
+                        .applySetting(Environment.CURRENT_SESSION_CONTEXT_CLASS, "thread")
+                        .applySetting(Environment.DIALECT, "org.hibernate.dialect.H2Dialect")
+                        .applySetting(Environment.DRIVER, "org.h2.Driver")
+                        .applySetting(Environment.URL, "jdbc:h2:mem:cache;DB_CLOSE_DELAY=-1")
+                        .applySetting(Environment.USER, "sa")
+                        .applySetting(Environment.PASS, "")
+                        .applySetting(Environment.HBM2DDL_AUTO, "create-drop")
+                        .build())
+                .addAnnotatedClass(Shelf.class)
+                .addAnnotatedClass(ShelvedBook.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        store = new CachingDataStore(new AbstractHibernateStore.Builder(sessionFactory).build(),
+                new CacheSettings(100, Duration.ofMinutes(10)));
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        store.populateEntityDictionary(dictionary);
+        when(scope.getDictionary()).thenReturn(dictionary);
+
+        DataStoreTransaction tx = store.beginTransaction();
+        Shelf shelf = new Shelf();
+        shelf.setName("Classics");
+        tx.createObject(shelf, scope);
+        List<ShelvedBook> books = new ArrayList<>();
+        for (String title : new String[] {"Dune", "Emma"}) {
+            ShelvedBook book = new ShelvedBook();
+            book.setTitle(title);
+            book.setShelf(shelf);
+            tx.createObject(book, scope);
+            books.add(book);
+        }
+        tx.commit(scope);
+        bookId = books.get(0).getId();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    public void testCachedRecordsBelongToLiveSession() {
+        DataStoreTransaction first = store.beginReadTransaction();
+        Shelf loaded = loadShelves(first).get(0);
+        first.commit(scope);
+
+        DataStoreTransaction second = store.beginReadTransaction();
+        Shelf cached = loadShelves(second).get(0);
+
+        // The lazy relationship of a record from a closed session could not be read.
+        assertNotSame(loaded, cached);
+        assertEquals(2, cached.getBooks().size());
+        second.commit(scope);
+
+        assertEquals(1, store.getStats(Shelf.class).get().hitCount());
+    }
+
+    @Test
+    public void testCachedRecordsSeeRelatedChanges() {
+        loadShelfBookTitles();
+
+        DataStoreTransaction writeTx = store.beginTransaction();
+        ShelvedBook book = (ShelvedBook) writeTx.loadObject(ShelvedBook.class, bookId, Optional.empty(), scope);
+        book.setTitle("Dune Messiah");
+        writeTx.save(book, scope);
+        writeTx.commit(scope);
+
+        List<String> titles = loadShelfBookTitles();
+        assertEquals(1, store.getStats(Shelf.class).get().hitCount());
+        assertEquals(2, titles.size());
+        assertTrue(titles.contains("Dune Messiah"));
+    }
+
+    private List<String> loadShelfBookTitles() {
+        DataStoreTransaction tx = store.beginReadTransaction();
+        List<String> titles = loadShelves(tx).get(0).getBooks().stream()
+                .map(ShelvedBook::getTitle)
+                .collect(Collectors.toList());
+        tx.commit(scope);
+        return titles;
+    }
+
+    private List<Shelf> loadShelves(DataStoreTransaction tx) {
+        List<Shelf> shelves = new ArrayList<>();
+        tx.loadObjects(Shelf.class, Optional.empty(), Optional.empty(), Optional.empty(), scope)
+                .forEach(shelf -> shelves.add((Shelf) shelf));
+        return shelves;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.datastores.hibernate5.cache.Shelf;
+import com.yahoo.elide.datastores.hibernate5.cache.ShelvedBook;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Environment;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tests fetching a to-many relationship of many parents at once from H2.
+ */
+public class RelationBatchingHibernateStoreTest {
+    // One more parent than fits in a single IN clause.
+    private static final int SHELVES = 501;
+
+    private final RequestScope scope = mock(RequestScope.class);
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    private DataStore store;
+    private DataStoreTransaction tx;
+
+    @BeforeEach
+    public void setUp() {
+        sessionFactory = new MetadataSources(
+                new StandardServiceRegistryBuilder()
+                        .applySetting(Environment.CURRENT_SESSION_CONTEXT_CLASS, "thread")
+                        .applySetting(Environment.DIALECT, "org.hibernate.dialect.H2Dialect")
+                        .applySetting(Environment.DRIVER, "org.h2.Driver")
+                        .applySetting(Environment.URL, "jdbc:h2:mem:relations;DB_CLOSE_DELAY=-1")
+                        .applySetting(Environment.USER, "sa")
+                        .applySetting(Environment.PASS, "")
+                        .applySetting(Environment.HBM2DDL_AUTO, "create-drop")
+                        .applySetting(Environment.GENERATE_STATISTICS, "true")
+                        .build())
+                .addAnnotatedClass(Shelf.class)
+                .addAnnotatedClass(ShelvedBook.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+
+        store = new AbstractHibernateStore.Builder(sessionFactory).build();
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        store.populateEntityDictionary(dictionary);
+        when(scope.getDictionary()).thenReturn(dictionary);
+
+        // Shelf 0 is empty; every other shelf holds two books named after it.
+        DataStoreTransaction writeTx = store.beginTransaction();
+        for (int i = 0; i < SHELVES; i++) {
+            Shelf shelf = new Shelf();
+            shelf.setName("shelf" + i);
+            writeTx.createObject(shelf, scope);
+            if (i > 0) {
+                for (String suffix : new String[] {"a", "b"}) {
+                    ShelvedBook book = new ShelvedBook();
+                    book.setTitle(i + suffix);
+                    book.setShelf(shelf);
+                    writeTx.createObject(book, scope);
+                }
+            }
+        }
+        writeTx.commit(scope);
+
+        tx = store.beginReadTransaction();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tx.commit(scope);
+        sessionFactory.close();
+    }
+
+    @Test
+    public void testSingleCollectionLeftToProxy() {
+        Shelf shelf = loadShelves().get(1);
+        statistics.clear();
+
+        Map<Object, Object> relations = getBooks(Collections.singletonList(shelf));
+
+        assertSame(shelf.getBooks(), relations.get(shelf));
+        assertEquals(0, statistics.getQueryExecutionCount());
+        assertEquals(Arrays.asList("1a", "1b"), titles(relations.get(shelf)));
+    }
+
+    @Test
+    public void testMembersFetchedInBatchesAndGroupedByParent() {
+        List<Shelf> shelves = loadShelves();
+        statistics.clear();
+
+        Map<Object, Object> relations = getBooks(new ArrayList<>(shelves));
+
+        assertEquals(2, statistics.getQueryExecutionCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+        assertEquals(SHELVES, relations.size());
+        for (int i = 1; i < SHELVES; i++) {
+            assertEquals(Arrays.asList(i + "a", i + "b"), titles(relations.get(shelves.get(i))));
+        }
+    }
+
+    @Test
+    public void testEmptyRelationshipIsEmptyList() {
+        List<Shelf> shelves = loadShelves();
+        statistics.clear();
+
+        Map<Object, Object> relations = getBooks(Arrays.asList(shelves.get(0), shelves.get(1)));
+
+        assertEquals(1, statistics.getQueryExecutionCount());
+        assertEquals(Collections.emptyList(), relations.get(shelves.get(0)));
+        assertEquals(Arrays.asList("1a", "1b"), titles(relations.get(shelves.get(1))));
+    }
+
+    @Test
+    public void testInitializedCollectionsNotFetchedAgain() {
+        List<Shelf> shelves = loadShelves();
+        Hibernate.initialize(shelves.get(1).getBooks());
+        statistics.clear();
+
+        Map<Object, Object> relations = getBooks(Arrays.asList(shelves.get(1), shelves.get(2), shelves.get(3)));
+
+        assertSame(shelves.get(1).getBooks(), relations.get(shelves.get(1)));
+        assertEquals(1, statistics.getQueryExecutionCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+        assertFalse(Hibernate.isInitialized(shelves.get(2).getBooks()));
+        assertEquals(Arrays.asList("1a", "1b"), titles(relations.get(shelves.get(1))));
+        assertEquals(Arrays.asList("2a", "2b"), titles(relations.get(shelves.get(2))));
+        assertEquals(Arrays.asList("3a", "3b"), titles(relations.get(shelves.get(3))));
+    }
+
+    private Map<Object, Object> getBooks(List<Object> shelves) {
+        return tx.getRelations(tx, shelves, "books", Optional.empty(), Optional.empty(), scope);
+    }
+
+    /**
+     * Loads every shelf, ordered so that shelf i is at index i.
+     */
+    private List<Shelf> loadShelves() {
+        Shelf[] shelves = new Shelf[SHELVES];
+        tx.loadObjects(Shelf.class, Optional.empty(), Optional.empty(), Optional.empty(), scope)
+                .forEach(shelf -> shelves[Integer.parseInt(((Shelf) shelf).getName().substring(5))] = (Shelf) shelf);
+        return Arrays.asList(shelves);
+    }
+
+    private static List<String> titles(Object books) {
+        List<String> titles = new ArrayList<>();
+        ((Iterable<?>) books).forEach(book -> titles.add(((ShelvedBook) book).getTitle()));
+        Collections.sort(titles);
+        return titles;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate5.bulk;
+
+import com.yahoo.elide.annotation.Include;
+
+import lombok.Data;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+
+/**
+ * Model written in bulk alongside {@link BulkRecord}, so that the writes of a request alternate between types.
+ */
+@Entity
+@Include(rootLevel = true)
+@Data
+public class BulkNote {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bulkNoteIds")
+    @SequenceGenerator(name = "bulkNoteIds", sequenceName = "bulk_note_ids", allocationSize = 100)
+    private Long id;
+
+    private String text;
+
+    @ManyToOne
+    private BulkRecord record;
+}
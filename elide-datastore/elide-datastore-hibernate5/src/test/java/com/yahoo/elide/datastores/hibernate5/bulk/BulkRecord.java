@@ -0,0 +1,34 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate5.bulk;
+
+import com.yahoo.elide.annotation.Include;
+
+import lombok.Data;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+
+/**
+ * Model written in bulk.  Ids come from a pooled sequence so that inserts need one sequence round trip per
+ * allocation rather than one per row, and can be batched.
+ */
+@Entity
+@Include(rootLevel = true)
+@Data
+public class BulkRecord {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bulkRecordIds")
+    @SequenceGenerator(name = "bulkRecordIds", sequenceName = "bulk_record_ids", allocationSize = 100)
+    private Long id;
+
+    private String name;
+
+    private int quantity;
+}
@@ -8,6 +8,8 @@ package com.yahoo.elide.datastores.jpa;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.datastore.JPQLDataStore;
+import com.yahoo.elide.core.hibernate.PageTotalsCounter;
+import com.yahoo.elide.datastores.jpa.transaction.AbstractJpaTransaction;
 import com.yahoo.elide.datastores.jpa.transaction.JpaTransaction;
 
 import java.util.HashSet;
@@ -24,6 +26,8 @@ public class JpaDataStore implements JPQLDataStore {
     protected final JpaTransactionSupplier readTransactionSupplier;
     protected final JpaTransactionSupplier writeTransactionSupplier;
     protected final Set<Class<?>> modelsToBind;
+    protected Integer jdbcBatchSize;
+    protected PageTotalsCounter pageTotalsCounter;
 
     public JpaDataStore(EntityManagerSupplier entityManagerSupplier,
                         JpaTransactionSupplier readTransactionSupplier,
@@ -45,6 +49,33 @@ public class JpaDataStore implements JPQLDataStore {
         this(entityManagerSupplier, transactionSupplier, transactionSupplier, models);
     }
 
+    /**
+     * Sets the JDBC batch size of the transactions this store begins.  Only applies to transactions extending
+     * {@link AbstractJpaTransaction} whose provider supports a per session batch size (Hibernate).  Statements are
+     * only grouped by type when the persistence unit enables {@code hibernate.order_inserts} and
+     * {@code hibernate.order_updates}; a warning is logged if it does not.
+     *
+     * @param jdbcBatchSize JDBC batch size, or null to use the persistence unit setting
+     * @return this store
+     */
+    public JpaDataStore withJdbcBatchSize(Integer jdbcBatchSize) {
+        this.jdbcBatchSize = jdbcBatchSize;
+        return this;
+    }
+
+    /**
+     * Sets how the transactions this store begins count the page totals of root collections.  Concurrent counts
+     * run on entity managers created by the store's entity manager supplier.  Only applies to transactions
+     * extending {@link AbstractJpaTransaction}.
+     *
+     * @param pageTotalsCounter Page totals counter, or null to count serially in the requesting transaction
+     * @return this store
+     */
+    public JpaDataStore withPageTotalsCounter(PageTotalsCounter pageTotalsCounter) {
+        this.pageTotalsCounter = pageTotalsCounter;
+        return this;
+    }
+
     @Override
     public void populateEntityDictionary(EntityDictionary dictionary) {
         // If the user provided models, we'll manually add them and skip scanning for entities.
@@ -73,7 +104,7 @@ public class JpaDataStore implements JPQLDataStore {
     @Override
     public DataStoreTransaction beginReadTransaction() {
         EntityManager entityManager = entityManagerSupplier.get();
-        JpaTransaction transaction = readTransactionSupplier.get(entityManager);
+        JpaTransaction transaction = configure(readTransactionSupplier.get(entityManager));
         transaction.begin();
         return transaction;
     }
@@ -81,11 +112,25 @@ public class JpaDataStore implements JPQLDataStore {
     @Override
     public DataStoreTransaction beginTransaction() {
         EntityManager entityManager = entityManagerSupplier.get();
-        JpaTransaction transaction = writeTransactionSupplier.get(entityManager);
+        JpaTransaction transaction = configure(writeTransactionSupplier.get(entityManager));
         transaction.begin();
         return transaction;
     }
 
+    private JpaTransaction configure(JpaTransaction transaction) {
+        if (!(transaction instanceof AbstractJpaTransaction)) {
+            return transaction;
+        }
+        if (jdbcBatchSize != null) {
+            ((AbstractJpaTransaction) transaction).withJdbcBatchSize(jdbcBatchSize);
+        }
+        if (pageTotalsCounter != null) {
+            ((AbstractJpaTransaction) transaction).withPageTotalsCounter(pageTotalsCounter,
+                    entityManagerSupplier::get);
+        }
+        return transaction;
+    }
+
     /**
      * Functional interface for describing a method to supply EntityManager.
      */
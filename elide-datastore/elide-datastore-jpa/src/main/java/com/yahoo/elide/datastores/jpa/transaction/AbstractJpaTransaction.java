@@ -14,10 +14,14 @@ import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.Operator;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.hibernate.DeferredWrites;
+import com.yahoo.elide.core.hibernate.PageTotalsCounter;
+import com.yahoo.elide.core.hibernate.RecordCount;
 import com.yahoo.elide.core.hibernate.hql.AbstractHQLQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RelationshipImpl;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionPageTotalsQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.SubCollectionBatchFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionPageTotalsQueryBuilder;
 import com.yahoo.elide.core.pagination.Pagination;
@@ -27,15 +31,26 @@ import com.yahoo.elide.datastores.jpa.porting.QueryWrapper;
 import com.yahoo.elide.datastores.jpa.transaction.checker.PersistentCollectionChecker;
 import com.yahoo.elide.security.User;
 
+import com.google.common.collect.Lists;
+
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javax.persistence.EntityManager;
 import javax.persistence.FlushModeType;
@@ -49,28 +64,117 @@ import javax.validation.ConstraintViolationException;
 public abstract class AbstractJpaTransaction implements JpaTransaction {
     private static final Predicate<Collection<?>> IS_PERSISTENT_COLLECTION =
             new PersistentCollectionChecker();
+    // Upper bound on the number of parents bound to a single IN clause when fetching relationships in bulk.
+    private static final int RELATION_BATCH_SIZE = 500;
+    // Rows fetched per round trip when streaming a collection, unless configured otherwise.
+    private static final int DEFAULT_STREAM_FETCH_SIZE = 1000;
+    private static final String ORDER_INSERTS = "hibernate.order_inserts";
+    private static final String ORDER_UPDATES = "hibernate.order_updates";
+    private static final AtomicBoolean UNORDERED_BATCHING_REPORTED = new AtomicBoolean();
 
     protected final EntityManager em;
     private final EntityManagerWrapper emWrapper;
-    private final LinkedHashSet<Runnable> deferredTasks = new LinkedHashSet<>();
+    private final DeferredWrites deferredWrites;
+    private PageTotalsCounter pageTotalsCounter = PageTotalsCounter.SERIAL;
+    private Supplier<EntityManager> countEntityManagerSupplier;
+    private int streamFetchSize = DEFAULT_STREAM_FETCH_SIZE;
 
     protected AbstractJpaTransaction(EntityManager em) {
         this.em = em;
         this.emWrapper = new EntityManagerWrapper(em);
+        this.deferredWrites = new DeferredWrites(
+                em::remove,
+                entity -> {
+                    if (!em.contains(entity)) {
+                        em.persist(entity);
+                    }
+                },
+                entity -> {
+                    if (!em.contains(entity)) {
+                        em.merge(entity);
+                    }
+                });
+    }
+
+    /**
+     * Configures how many statements of one kind are sent to the database in a single JDBC batch when this
+     * transaction flushes.  Only applies to providers whose sessions can change their batch size (Hibernate);
+     * other providers keep their persistence unit setting.
+     * <p>
+     * Writes are flushed in request order, so statements for different types interleave and batches stay small
+     * unless the persistence unit also sets {@code hibernate.order_inserts} and {@code hibernate.order_updates}.
+     * Those are factory settings which cannot be changed per session; a warning is logged if they are missing.
+     *
+     * @param jdbcBatchSize JDBC batch size, or null to use the persistence unit setting
+     * @return this transaction
+     */
+    public AbstractJpaTransaction withJdbcBatchSize(Integer jdbcBatchSize) {
+        Object delegate = em.getDelegate();
+        if (delegate == null) {
+            return this;
+        }
+        try {
+            Method setJdbcBatchSize = delegate.getClass().getMethod("setJdbcBatchSize", Integer.class);
+            setJdbcBatchSize.invoke(delegate, jdbcBatchSize);
+        } catch (ReflectiveOperationException e) {
+            log.debug("{} does not support a per session JDBC batch size", delegate.getClass().getName());
+            return this;
+        }
+        if (jdbcBatchSize != null && jdbcBatchSize > 1) {
+            reportUnorderedBatching();
+        }
+        return this;
+    }
+
+    private void reportUnorderedBatching() {
+        if (UNORDERED_BATCHING_REPORTED.get()) {
+            return;
+        }
+        Map<String, Object> properties = em.getEntityManagerFactory().getProperties();
+        boolean ordered = Boolean.parseBoolean(String.valueOf(properties.get(ORDER_INSERTS)))
+                && Boolean.parseBoolean(String.valueOf(properties.get(ORDER_UPDATES)));
+        if (!ordered && UNORDERED_BATCHING_REPORTED.compareAndSet(false, true)) {
+            log.warn("A JDBC batch size is set but {} and {} are not both enabled, so writes to different types "
+                    + "interleave and are sent in small batches.", ORDER_INSERTS, ORDER_UPDATES);
+        }
+    }
+
+    /**
+     * Configures how many rows streamed collections fetch from the database per round trip.  The fetch size is
+     * passed as a query hint understood by Hibernate and EclipseLink.
+     *
+     * @param streamFetchSize JDBC fetch size, or null to use the default
+     * @return this transaction
+     */
+    public AbstractJpaTransaction withStreamFetchSize(Integer streamFetchSize) {
+        if (streamFetchSize != null) {
+            this.streamFetchSize = streamFetchSize;
+        }
+        return this;
+    }
+
+    /**
+     * Configures how page totals are counted.
+     *
+     * @param pageTotalsCounter Page totals counter
+     * @param countEntityManagerSupplier Creates the entity managers which run concurrent count queries
+     * @return this transaction
+     */
+    public AbstractJpaTransaction withPageTotalsCounter(PageTotalsCounter pageTotalsCounter,
+                                                        Supplier<EntityManager> countEntityManagerSupplier) {
+        this.pageTotalsCounter = pageTotalsCounter;
+        this.countEntityManagerSupplier = countEntityManagerSupplier;
+        return this;
     }
 
     @Override
     public void delete(Object object, RequestScope scope) {
-        deferredTasks.add(() -> em.remove(object));
+        deferredWrites.delete(object);
     }
 
     @Override
     public void save(Object object, RequestScope scope) {
-        deferredTasks.add(() -> {
-            if (!em.contains(object)) {
-                em.merge(object);
-            }
-        });
+        deferredWrites.save(object);
     }
 
     @Override
@@ -79,8 +183,7 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
             return;
         }
         try {
-            deferredTasks.forEach(Runnable::run);
-            deferredTasks.clear();
+            deferredWrites.flush();
             FlushModeType flushMode = em.getFlushMode();
             if (flushMode == FlushModeType.AUTO && isOpen()) {
                 em.flush();
@@ -110,7 +213,7 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
 
     @Override
     public void rollback() {
-        deferredTasks.clear();
+        deferredWrites.clear();
     }
 
     @Override
@@ -118,19 +221,14 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
         if (isOpen()) {
             rollback();
         }
-        if (deferredTasks.size() > 0) {
+        if (!deferredWrites.isEmpty()) {
             throw new IOException("Transaction not closed");
         }
     }
 
     @Override
     public void createObject(Object entity, RequestScope scope) {
-
-         deferredTasks.add(() -> {
-            if (!em.contains(entity)) {
-                em.persist(entity);
-            }
-         });
+        deferredWrites.create(entity, scope);
     }
 
     /**
@@ -184,20 +282,77 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
             Optional<Pagination> pagination,
             RequestScope scope) {
 
-        pagination.ifPresent(p -> {
-            if (p.isGenerateTotals()) {
-                p.setPageTotals(getTotalRecords(entityClass, filterExpression, scope.getDictionary()));
-            }
+        EntityDictionary dictionary = scope.getDictionary();
+
+        Optional<CompletableFuture<RecordCount>> pageTotals = pagination
+                .filter(Pagination::isGenerateTotals)
+                .map(p -> pageTotalsCounter.count(entityClass, filterExpression,
+                        () -> getTotalRecords(entityClass, filterExpression, dictionary, emWrapper),
+                        countEntityManagerSupplier == null ? null
+                                : () -> getTotalRecordsInSeparateEntityManager(entityClass, filterExpression,
+                                        dictionary)));
+
+        QueryWrapper query =
+                (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, dictionary, emWrapper)
+                        .withPossibleFilterExpression(filterExpression)
+                        .withPossibleSorting(sorting)
+                        .withPossiblePagination(pagination)
+                        .build();
+
+        List<Object> results = query.getQuery().getResultList();
+
+        pageTotals.ifPresent(pending -> {
+            RecordCount count = PageTotalsCounter.await(pending);
+            pagination.get().setPageTotals(count.getCount(), count.isExact());
         });
 
+        return results;
+    }
+
+    /**
+     * Streams the collection from a read only cursor.  Each row is detached from the entity manager once the next
+     * row is read so that the persistence context does not grow with the collection.
+     */
+    @Override
+    public Iterable<Object> streamObjects(
+            Class<?> entityClass,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            RequestScope scope) {
+
         QueryWrapper query =
                 (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, scope.getDictionary(), emWrapper)
                         .withPossibleFilterExpression(filterExpression)
                         .withPossibleSorting(sorting)
-                        .withPossiblePagination(pagination)
                         .build();
 
-        return query.getQuery().getResultList();
+        Iterator<Object> rows = query.getQuery()
+                .setHint("org.hibernate.fetchSize", streamFetchSize)
+                .setHint("org.hibernate.readOnly", true)
+                .setHint("eclipselink.jdbc.fetch-size", streamFetchSize)
+                .getResultStream()
+                .iterator();
+
+        Iterator<Object> detaching = new Iterator<Object>() {
+            private Object previous;
+
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public Object next() {
+                Object row = rows.next();
+                if (previous != null) {
+                    em.detach(previous);
+                }
+                previous = row;
+                return row;
+            }
+        };
+
+        return () -> detaching;
     }
 
     @Override
@@ -255,28 +410,110 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
         return val;
     }
 
+    @Override
+    public Map<Object, Object> getRelations(
+            DataStoreTransaction relationTx,
+            Collection<Object> entities,
+            String relationName,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            RequestScope scope) {
+
+        EntityDictionary dictionary = scope.getDictionary();
+        Map<Object, Object> relations = new IdentityHashMap<>();
+        List<Object> unloaded = new ArrayList<>();
+
+        for (Object entity : entities) {
+            Object val = com.yahoo.elide.core.PersistentResource.getValue(entity, relationName, scope);
+            if (val instanceof Collection && IS_PERSISTENT_COLLECTION.test((Collection<?>) val)
+                    && ! em.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(entity, relationName)) {
+                unloaded.add(entity);
+            } else {
+                relations.put(entity, getRelation(relationTx, entity, relationName,
+                        filterExpression, sorting, Optional.empty(), scope));
+            }
+        }
+
+        /*
+         * A single collection proxy is left for the ORM to initialize.  Otherwise, fetch the members of all the
+         * uninitialized collections with one query per batch of parents rather than one query per parent.
+         */
+        if (unloaded.size() == 1) {
+            Object entity = unloaded.get(0);
+            relations.put(entity, getRelation(relationTx, entity, relationName,
+                    filterExpression, sorting, Optional.empty(), scope));
+        } else if (! unloaded.isEmpty()) {
+            Class<?> parentClass = dictionary.lookupEntityClass(unloaded.get(0).getClass());
+            Class<?> relationClass = dictionary.getParameterizedType(unloaded.get(0), relationName);
+
+            Map<String, List<Object>> membersById = new HashMap<>();
+            for (List<Object> batch : Lists.partition(unloaded, RELATION_BATCH_SIZE)) {
+                QueryWrapper query = (QueryWrapper)
+                        new SubCollectionBatchFetchQueryBuilder(parentClass, relationClass, relationName, batch,
+                                dictionary, emWrapper)
+                                .withPossibleFilterExpression(filterExpression)
+                                .withPossibleSorting(sorting)
+                                .build();
+
+                for (Object row : query.getQuery().getResultList()) {
+                    Object[] parentAndChild = (Object[]) row;
+                    membersById.computeIfAbsent(dictionary.getId(parentAndChild[0]), key -> new ArrayList<>())
+                            .add(parentAndChild[1]);
+                }
+            }
+
+            unloaded.forEach(entity -> relations.put(entity,
+                    membersById.getOrDefault(dictionary.getId(entity), new ArrayList<>())));
+        }
+        return relations;
+    }
+
     /**
      * Returns the total record count for a root entity and an optional filter expression.
      *
      * @param entityClass      The entity type to count
      * @param filterExpression optional security and request filters
      * @param dictionary       the entity dictionary
+     * @param entityManager    the entity manager to count with
      * @param <T>              The type of entity
      * @return The total row count.
      */
     private <T> Long getTotalRecords(Class<T> entityClass,
                                      Optional<FilterExpression> filterExpression,
-                                     EntityDictionary dictionary) {
+                                     EntityDictionary dictionary,
+                                     EntityManagerWrapper entityManager) {
 
 
         QueryWrapper query = (QueryWrapper)
-                new RootCollectionPageTotalsQueryBuilder(entityClass, dictionary, emWrapper)
+                new RootCollectionPageTotalsQueryBuilder(entityClass, dictionary, entityManager)
                         .withPossibleFilterExpression(filterExpression)
                         .build();
 
         return (Long) query.getQuery().getSingleResult();
     }
 
+    /**
+     * Returns the total record count for a root entity using an entity manager of its own, so that the count can
+     * run while this transaction fetches the page.
+     *
+     * @param entityClass      The entity type to count
+     * @param filterExpression optional security and request filters
+     * @param dictionary       the entity dictionary
+     * @param <T>              The type of entity
+     * @return The total row count.
+     */
+    private <T> Long getTotalRecordsInSeparateEntityManager(Class<T> entityClass,
+                                                            Optional<FilterExpression> filterExpression,
+                                                            EntityDictionary dictionary) {
+        EntityManager countEntityManager = countEntityManagerSupplier.get();
+        try {
+            return getTotalRecords(entityClass, filterExpression, dictionary,
+                    new EntityManagerWrapper(countEntityManager));
+        } finally {
+            countEntityManager.close();
+        }
+    }
+
     /**
      * Returns the total record count for a entity relationship.
      *
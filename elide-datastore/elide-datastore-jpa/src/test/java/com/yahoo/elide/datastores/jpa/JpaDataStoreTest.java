@@ -7,7 +7,10 @@
 package com.yahoo.elide.datastores.jpa;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.annotation.Include;
@@ -17,6 +20,9 @@ import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.FilterTranslator;
 import com.yahoo.elide.core.filter.JPQLPredicateGenerator;
 import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.hibernate.ApproximateCountStrategy;
+import com.yahoo.elide.core.hibernate.PageTotalsCounter;
+import com.yahoo.elide.datastores.jpa.transaction.AbstractJpaTransaction;
 
 import com.google.common.collect.Sets;
 import org.junit.jupiter.api.Test;
@@ -73,6 +79,20 @@ public class JpaDataStoreTest {
         }
     }
 
+    @Test
+    public void verifyPageTotalsCounterConfigured() {
+        EntityManager managerMock = mock(EntityManager.class);
+        AbstractJpaTransaction transaction = mock(AbstractJpaTransaction.class);
+        PageTotalsCounter counter = new PageTotalsCounter(ApproximateCountStrategy.EXACT, Runnable::run);
+
+        JpaDataStore store = new JpaDataStore(() -> managerMock, (unused) -> transaction)
+                .withPageTotalsCounter(counter);
+        store.beginReadTransaction();
+
+        verify(transaction).withPageTotalsCounter(eq(counter), any());
+        verify(transaction).begin();
+    }
+
     @Test
     public void verifyManualEntityBinding() {
 
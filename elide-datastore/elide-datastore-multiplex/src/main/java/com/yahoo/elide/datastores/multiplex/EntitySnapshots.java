@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.multiplex;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shallow copies of entities used to reverse a commit.  The public fields and getter/setter pairs of each class
+ * are looked up once and reused for every copy.
+ */
+class EntitySnapshots {
+    private final Map<Class<?>, List<Accessor>> accessors = new ConcurrentHashMap<>();
+
+    /**
+     * Copies the state of an entity into a new instance of its class.
+     *
+     * @param cls the bound class of the entity
+     * @param entity the entity
+     * @return the copy or null if the class cannot be copied
+     */
+    Object take(Class<?> cls, Object entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        try {
+            Object snapshot = cls.newInstance();
+            for (Accessor accessor : accessors.computeIfAbsent(cls, EntitySnapshots::findAccessors)) {
+                accessor.copy(entity, snapshot);
+            }
+            return snapshot;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static List<Accessor> findAccessors(Class<?> cls) {
+        List<Accessor> found = new ArrayList<>();
+        for (Field field : cls.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+                found.add((source, target) -> field.set(target, field.get(source)));
+            }
+        }
+        for (Method setter : cls.getMethods()) {
+            if (!setter.getName().startsWith("set") || setter.getParameterCount() != 1
+                    || Modifier.isStatic(setter.getModifiers())) {
+                continue;
+            }
+            Method getter = findGetter(cls, setter.getName().substring(3));
+            if (getter != null) {
+                found.add((source, target) -> setter.invoke(target, getter.invoke(source)));
+            }
+        }
+        return Collections.unmodifiableList(found);
+    }
+
+    private static Method findGetter(Class<?> cls, String property) {
+        for (String prefix : new String[] {"get", "is"}) {
+            try {
+                return cls.getMethod(prefix + property);
+            } catch (NoSuchMethodException e) {
+                // try the next prefix
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Copies one property between instances.
+     */
+    @FunctionalInterface
+    private interface Accessor {
+        void copy(Object source, Object target) throws ReflectiveOperationException;
+    }
+}
@@ -12,6 +12,7 @@ import com.yahoo.elide.core.EntityDictionary;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Allows multiple database handlers to each process their own beans while keeping the main
@@ -32,6 +33,8 @@ public class MultiplexManager implements DataStore {
 
     protected final List<DataStore> dataStores;
     protected final ConcurrentHashMap<Class<?>, DataStore> dataStoreMap = new ConcurrentHashMap<>();
+    protected Executor executor = Runnable::run;
+    final EntitySnapshots snapshots = new EntitySnapshots();
     private EntityDictionary dictionary;
 
     /**
@@ -42,6 +45,23 @@ public class MultiplexManager implements DataStore {
         this.dataStores = Arrays.asList(dataStores);
     }
 
+    /**
+     * Run the subordinate transactions concurrently on the given executor.  Subordinate transactions are begun,
+     * flushed and closed in parallel, and relationships bridged to another store are loaded in parallel for each
+     * entity.  Commits still run one store at a time so that earlier commits can be reversed.
+     * <p>
+     * Each subordinate transaction must tolerate being used from a thread other than the one which began it, and
+     * a {@link BridgeableTransaction} must tolerate concurrent bridged loads.  By default everything runs on the
+     * calling thread.
+     *
+     * @param executor executor for subordinate transaction work
+     * @return this manager
+     */
+    public MultiplexManager withExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
     @Override
     public void populateEntityDictionary(EntityDictionary dictionary) {
         this.dictionary = dictionary;
@@ -21,10 +21,20 @@ import com.yahoo.elide.security.User;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Multiplex transaction handler.  Process each sub-database transactions within a single transaction.
@@ -44,14 +54,42 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         this.transactions = new LinkedHashMap<>(multiplexManager.dataStores.size());
 
         // create each subordinate transaction
+        List<CompletableFuture<DataStoreTransaction>> begun = submit(multiplexManager.dataStores,
+                this::beginTransaction);
+        List<DataStoreTransaction> subordinates;
+        try {
+            subordinates = await(begun);
+        } catch (RuntimeException | Error e) {
+            closeBegun(begun, e);
+            throw e;
+        }
+
         DataStoreTransaction transaction = null;
+        Iterator<DataStoreTransaction> iterator = subordinates.iterator();
         for (DataStore dataStore : multiplexManager.dataStores) {
-            transaction = beginTransaction(dataStore);
+            transaction = iterator.next();
             transactions.put(dataStore, transaction);
         }
         lastDataStoreTransaction = transaction;
     }
 
+    /**
+     * Close the subordinate transactions which did begin when another failed to, last store first.
+     */
+    private static void closeBegun(List<CompletableFuture<DataStoreTransaction>> begun, Throwable cause) {
+        for (int i = begun.size() - 1; i >= 0; i--) {
+            CompletableFuture<DataStoreTransaction> transaction = begun.get(i);
+            if (transaction.isCompletedExceptionally()) {
+                continue;
+            }
+            try {
+                transaction.join().close();
+            } catch (IOException | RuntimeException e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
     protected abstract DataStoreTransaction beginTransaction(DataStore dataStore);
 
     @Override
@@ -92,38 +130,56 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
                 scope);
     }
 
+    @Override
+    public Iterable<Object> streamObjects(
+            Class<?> entityClass,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            RequestScope scope) {
+        return getTransaction(entityClass).streamObjects(entityClass,
+                filterExpression,
+                sorting,
+                scope);
+    }
+
     @Override
     public void flush(RequestScope requestScope) {
-        transactions.values().forEach(dataStoreTransaction -> dataStoreTransaction.flush(requestScope));
+        forEachTransaction(dataStoreTransaction -> dataStoreTransaction.flush(requestScope));
     }
 
     @Override
     public void preCommit() {
-        transactions.values().forEach(DataStoreTransaction::preCommit);
+        forEachTransaction(DataStoreTransaction::preCommit);
     }
 
     @Override
     public void commit(RequestScope scope) {
         // flush all before commit
         flush(scope);
-        transactions.values().forEach(dataStoreTransaction -> dataStoreTransaction.commit(scope));
+        forEachTransaction(dataStoreTransaction -> dataStoreTransaction.commit(scope));
     }
 
     @Override
     public void close() throws IOException {
-
-        IOException cause = null;
-        for (DataStoreTransaction transaction : transactions.values()) {
+        List<Throwable> failures = await(submit(transactions.values(), transaction -> {
             try {
                 transaction.close();
+                return null;
             } catch (IOException | Error | RuntimeException e) {
-                if (cause != null) {
-                    cause.addSuppressed(e);
-                } else if (e instanceof IOException) {
-                    cause = (IOException) e;
-                } else {
-                    cause = new IOException(e);
-                }
+                return e;
+            }
+        }));
+
+        IOException cause = null;
+        for (Throwable e : failures) {
+            if (e == null) {
+                continue;
+            } else if (cause != null) {
+                cause.addSuppressed(e);
+            } else if (e instanceof IOException) {
+                cause = (IOException) e;
+            } else {
+                cause = new IOException(e);
             }
         }
         transactions.clear();
@@ -132,6 +188,67 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         }
     }
 
+    /**
+     * Run an action against every subordinate transaction on the executor of the manager and wait for all of them.
+     *
+     * @param action the action to run
+     */
+    protected void forEachTransaction(Consumer<DataStoreTransaction> action) {
+        await(submit(transactions.values(), transaction -> {
+            action.accept(transaction);
+            return null;
+        }));
+    }
+
+    /**
+     * Start applying a function to each item on the executor of the manager.
+     *
+     * @param items the items
+     * @param function the function to apply
+     * @param <T> item type
+     * @param <R> result type
+     * @return one future per item, in the order of the items
+     */
+    protected <T, R> List<CompletableFuture<R>> submit(Collection<T> items, Function<T, R> function) {
+        return items.stream()
+                .map(item -> CompletableFuture.supplyAsync(() -> function.apply(item), multiplexManager.executor))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Wait for every future to complete.  If any failed, the failure of the earliest one is thrown and the
+     * failures of the later ones are added to it as suppressed exceptions, whatever order they completed in.
+     *
+     * @param futures the futures to wait for
+     * @param <R> result type
+     * @return the results, in the order of the futures
+     */
+    protected static <R> List<R> await(List<CompletableFuture<R>> futures) {
+        List<R> results = new ArrayList<>(futures.size());
+        Throwable failure = null;
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() == null ? e : e.getCause();
+                if (failure == null) {
+                    failure = cause;
+                } else if (failure != cause) {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new IllegalStateException(failure);
+        }
+        return results;
+    }
+
     protected DataStoreTransaction getTransaction(Object object) {
         return getTransaction(object.getClass());
     }
@@ -158,7 +275,53 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
                               Optional<Sorting> sorting,
                               Optional<Pagination> pagination,
                               RequestScope scope) {
-        relationTx = getRelationTransaction(entity, relationName);
+        return loadRelation(entity, relationName, filter, sorting, pagination, scope);
+    }
+
+    /**
+     * Loads a relationship of several entities.  When the relationship is bridged to another store, the entities
+     * are loaded concurrently on the executor of the manager.
+     */
+    @Override
+    public Map<Object, Object> getRelations(DataStoreTransaction relationTx,
+                                            Collection<Object> entities,
+                                            String relationName,
+                                            Optional<FilterExpression> filter,
+                                            Optional<Sorting> sorting,
+                                            RequestScope scope) {
+        Map<Object, Object> relations = new IdentityHashMap<>();
+        if (entities.isEmpty()) {
+            return relations;
+        }
+
+        Object first = entities.iterator().next();
+        DataStoreTransaction bridgeTx = getRelationTransaction(first, relationName);
+        boolean bridged = bridgeTx != getTransaction(first.getClass()) && bridgeTx instanceof BridgeableTransaction;
+
+        if (!bridged) {
+            for (Object entity : entities) {
+                relations.put(entity, loadRelation(entity, relationName, filter, sorting, Optional.empty(), scope));
+            }
+            return relations;
+        }
+
+        List<Object> loaded = await(submit(entities, entity ->
+                loadRelation(entity, relationName, filter, sorting, Optional.empty(), scope)));
+
+        Iterator<Object> values = loaded.iterator();
+        for (Object entity : entities) {
+            relations.put(entity, values.next());
+        }
+        return relations;
+    }
+
+    private Object loadRelation(Object entity,
+                                String relationName,
+                                Optional<FilterExpression> filter,
+                                Optional<Sorting> sorting,
+                                Optional<Pagination> pagination,
+                                RequestScope scope) {
+        DataStoreTransaction relationTx = getRelationTransaction(entity, relationName);
         DataStoreTransaction entityTransaction = getTransaction(entity.getClass());
 
         EntityDictionary dictionary = scope.getDictionary();
@@ -218,6 +381,11 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         transaction.setAttribute(entity, attributeName, attributeValue, scope);
     }
 
+    @Override
+    public void markDirty(Object entity, RequestScope scope) {
+        getTransaction(entity).markDirty(entity, scope);
+    }
+
     @Override
     public FeatureSupport supportsFiltering(Class<?> entityClass, FilterExpression expression) {
         return getTransaction(entityClass).supportsFiltering(entityClass, expression);
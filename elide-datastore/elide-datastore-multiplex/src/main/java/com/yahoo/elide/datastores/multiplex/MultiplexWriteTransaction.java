@@ -10,20 +10,13 @@ import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.HttpStatusException;
 import com.yahoo.elide.core.exceptions.TransactionException;
-import com.yahoo.elide.core.filter.expression.FilterExpression;
-import com.yahoo.elide.core.pagination.Pagination;
-import com.yahoo.elide.core.sort.Sorting;
 
 import java.io.IOException;
-import java.io.Serializable;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.Optional;
 
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MultivaluedHashMap;
@@ -48,12 +41,14 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
 
     @Override
     public void save(Object entity, RequestScope requestScope) {
+        snapshot(entity);
         getTransaction(entity).save(entity, requestScope);
         dirtyObjects.add(this.multiplexManager.getSubManager(entity.getClass()), entity);
     }
 
     @Override
     public void delete(Object entity, RequestScope requestScope) {
+        snapshot(entity);
         getTransaction(entity).delete(entity, requestScope);
         dirtyObjects.add(this.multiplexManager.getSubManager(entity.getClass()), entity);
     }
@@ -92,7 +87,7 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
                     Object cloned = clonedObjects.get(dirtyObject);
                     if (cloned == NEWLY_CREATED_OBJECT) {
                         transaction.delete(dirtyObject, requestScope);
-                    } else {
+                    } else if (cloned != null) {
                         transaction.save(cloned, requestScope);
                     }
                 }
@@ -112,99 +107,22 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         clonedObjects.put(entity, NEWLY_CREATED_OBJECT);
     }
 
-    private <T> Iterable<T> hold(DataStoreTransaction transaction, Iterable<T> list) {
-        if (transaction != lastDataStoreTransaction) {
-            ArrayList<T> newList = new ArrayList<>();
-            list.forEach(newList::add);
-            for (T object : newList) {
-                hold(transaction, object);
-            }
-            return newList;
-        }
-        return list;
-    }
-
-    /**
-     * Save cloned copy of object for possible reverse transaction.
-     * @param subTransaction database sub-transaction
-     * @param object entity to clone
-     * @return original object
-     */
-    private <T> T hold(DataStoreTransaction subTransaction, T object) {
-        if (subTransaction != lastDataStoreTransaction) {
-            clonedObjects.put(object, cloneObject(object));
-        }
-        return object;
+    @Override
+    public void markDirty(Object entity, RequestScope scope) {
+        snapshot(entity);
+        super.markDirty(entity, scope);
     }
 
     /**
-     *  Clone contents of object for possible reverse transaction.
+     * Save a copy of an object for a possible reverse transaction the first time it is changed.  Objects of the last
+     * store are never reversed since its commit runs last.
+     * @param object entity to copy
      */
-    private Object cloneObject(Object object) {
-        if (object == null) {
-            return null;
+    private void snapshot(Object object) {
+        if (object == null || clonedObjects.containsKey(object) || getTransaction(object) == lastDataStoreTransaction) {
+            return;
         }
-
         Class<?> cls = multiplexManager.getDictionary().lookupBoundClass(object.getClass());
-        try {
-            Object clone = cls.newInstance();
-            for (Field field : cls.getFields()) {
-                field.set(clone, field.get(object));
-            }
-            for (Method method : cls.getMethods()) {
-                if (method.getName().startsWith("set")) {
-                    try {
-                        Method getMethod = cls.getMethod("get" + method.getName().substring(3));
-                        method.invoke(clone, getMethod.invoke(object));
-                    } catch (IllegalStateException | IllegalArgumentException
-                            | ReflectiveOperationException | SecurityException e) {
-                        return null;
-                    }
-                }
-            }
-            return clone;
-        } catch (InstantiationException | IllegalAccessException e) {
-            // ignore
-        }
-        return null;
-    }
-
-    @Override
-    public Object loadObject(Class<?> entityClass,
-                             Serializable id,
-                             Optional<FilterExpression> filterExpression,
-                             RequestScope scope) {
-        DataStoreTransaction transaction = getTransaction(entityClass);
-        return hold(transaction, transaction.loadObject(entityClass, id, filterExpression, scope));
-    }
-
-    @Override
-    public Iterable<Object> loadObjects(
-            Class<?> entityClass,
-            Optional<FilterExpression> filterExpression,
-            Optional<Sorting> sorting,
-            Optional<Pagination> pagination,
-            RequestScope scope) {
-        DataStoreTransaction transaction = getTransaction(entityClass);
-        return hold(transaction, transaction.loadObjects(entityClass, filterExpression, sorting, pagination, scope));
-    }
-
-    @Override
-    public Object getRelation(DataStoreTransaction relationTx,
-                              Object entity,
-                              String relationName,
-                              Optional<FilterExpression> filter,
-                              Optional<Sorting> sorting,
-                              Optional<Pagination> pagination,
-                              RequestScope scope) {
-        DataStoreTransaction transaction = getTransaction(entity.getClass());
-        Object relation = super.getRelation(relationTx, entity, relationName,
-                filter, sorting, pagination, scope);
-
-        if (relation instanceof Iterable) {
-            return hold(transaction, (Iterable<?>) relation);
-        }
-
-        return hold(transaction, relation);
+        clonedObjects.put(object, multiplexManager.snapshots.take(cls, object));
     }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.multiplex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.example.beans.FirstBean;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests EntitySnapshots.
+ */
+public class EntitySnapshotsTest {
+    private final EntitySnapshots snapshots = new EntitySnapshots();
+
+    /**
+     * Bean with a boolean property and a setter without a getter.
+     */
+    public static class Flagged {
+        private boolean flagged;
+        private String note;
+
+        public boolean isFlagged() {
+            return flagged;
+        }
+
+        public void setFlagged(boolean flagged) {
+            this.flagged = flagged;
+        }
+
+        public void setNote(String note) {
+            this.note = note;
+        }
+    }
+
+    @Test
+    public void testCopiesFieldsAndProperties() {
+        FirstBean bean = new FirstBean();
+        bean.id = "1";
+        bean.name = "name";
+
+        FirstBean snapshot = (FirstBean) snapshots.take(FirstBean.class, bean);
+        bean.name = "update";
+
+        assertNotSame(bean, snapshot);
+        assertEquals("1", snapshot.id);
+        assertEquals("name", snapshot.name);
+    }
+
+    @Test
+    public void testBooleanGetterAndSetterWithoutGetter() {
+        Flagged bean = new Flagged();
+        bean.setFlagged(true);
+        bean.setNote("note");
+
+        Flagged snapshot = (Flagged) snapshots.take(Flagged.class, bean);
+
+        assertTrue(snapshot.isFlagged());
+        assertNull(snapshot.note);
+    }
+
+    @Test
+    public void testNull() {
+        assertNull(snapshots.take(FirstBean.class, null));
+    }
+}
@@ -103,6 +103,7 @@ public class MultiplexManagerTest {
         }
         try (DataStoreTransaction t = multiplexManager.beginTransaction()) {
             FirstBean firstBean = (FirstBean) t.loadObjects(FirstBean.class, Optional.empty(), Optional.empty(), Optional.empty(), null).iterator().next();
+            t.markDirty(firstBean, null);
             firstBean.name = "update";
             t.save(firstBean, null);
             OtherBean otherBean = OtherBean.class.newInstance();
@@ -5,18 +5,37 @@
  */
 package com.yahoo.elide.datastores.multiplex;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.DataStoreTransaction;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Tests MultiplexTransaction.
  */
 public class MultiplexTransactionTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
     @Test
     public void testPrecommit() throws Exception {
         DataStore store1 =  mock(DataStore.class);
@@ -36,4 +55,65 @@ public class MultiplexTransactionTest {
         verify(tx1).preCommit();
         verify(tx2).preCommit();
     }
+
+    @Test
+    public void testFlushRunsConcurrently() throws Exception {
+        DataStore store1 =  mock(DataStore.class);
+        DataStore store2 =  mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+
+        when(store1.beginReadTransaction()).thenReturn(tx1);
+        when(store2.beginReadTransaction()).thenReturn(tx2);
+
+        // Each flush waits for the other, so a sequential flush would time out.
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        doAnswer(invocation -> barrier.await(5, TimeUnit.SECONDS)).when(tx1).flush(any());
+        doAnswer(invocation -> barrier.await(5, TimeUnit.SECONDS)).when(tx2).flush(any());
+
+        MultiplexManager store = new MultiplexManager(store1, store2).withExecutor(executor);
+
+        store.beginReadTransaction().flush(null);
+
+        verify(tx1).flush(any());
+        verify(tx2).flush(any());
+    }
+
+    @Test
+    public void testEarliestFailureThrown() throws Exception {
+        DataStore store1 =  mock(DataStore.class);
+        DataStore store2 =  mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+
+        when(store1.beginReadTransaction()).thenReturn(tx1);
+        when(store2.beginReadTransaction()).thenReturn(tx2);
+
+        IllegalStateException failure1 = new IllegalStateException("store1");
+        IllegalStateException failure2 = new IllegalStateException("store2");
+        doThrow(failure1).when(tx1).preCommit();
+        doThrow(failure2).when(tx2).preCommit();
+
+        MultiplexManager store = new MultiplexManager(store1, store2).withExecutor(executor);
+        DataStoreTransaction multiplexTx = store.beginReadTransaction();
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, multiplexTx::preCommit);
+        assertSame(failure1, thrown);
+        assertArrayEquals(new Throwable[] {failure2}, thrown.getSuppressed());
+    }
+
+    @Test
+    public void testFailedBeginClosesBegunTransactions() throws Exception {
+        DataStore store1 =  mock(DataStore.class);
+        DataStore store2 =  mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+
+        when(store1.beginReadTransaction()).thenReturn(tx1);
+        when(store2.beginReadTransaction()).thenThrow(new IllegalStateException());
+
+        MultiplexManager store = new MultiplexManager(store1, store2).withExecutor(executor);
+
+        assertThrows(IllegalStateException.class, store::beginReadTransaction);
+        verify(tx1).close();
+    }
 }
@@ -84,6 +84,9 @@ public class SearchDataTransaction extends TransactionWrapper {
             canSearch = canSearch && canSort(sorting.get(), entityClass);
         }
 
+        //Keyset cursors are resolved by the wrapped store.
+        canSearch = canSearch && !(pagination.isPresent() && pagination.get().isKeyset());
+
         if (canSearch) {
             return search(entityClass, filterExpression.get(), sorting, pagination);
         }
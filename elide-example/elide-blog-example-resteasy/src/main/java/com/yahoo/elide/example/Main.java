@@ -26,6 +26,7 @@ public class Main {
 
         final ServletHolder servletHolder = servletContextHandler.addServlet(HttpServletDispatcher.class, "/*");
         servletHolder.setInitOrder(1);
+        servletHolder.setAsyncSupported(true);
 
         log.info("Web service starting...");
         server.start();
@@ -27,6 +27,7 @@ public class Main {
 
         final ServletHolder servletHolder = servletContextHandler.addServlet(ServletContainer.class, "/*");
         servletHolder.setInitOrder(1);
+        servletHolder.setAsyncSupported(true);
         servletHolder.setInitParameter("jersey.config.server.provider.packages",
                 JsonApiEndpoint.class.getPackage().getName());
         servletHolder.setInitParameter("javax.ws.rs.Application",
@@ -7,6 +7,7 @@ package com.yahoo.elide.graphql;
 
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.resources.AsyncResponses;
 import com.yahoo.elide.resources.DefaultOpaqueUserFunction;
 
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +21,8 @@ import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -49,19 +52,35 @@ public class GraphQLEndpoint {
     }
 
     /**
-     * Create handler.
+     * Create handler.  The request runs on the request executor of the Elide settings.
      *
      * @param securityContext security context
      * @param graphQLDocument post data as jsonapi document
-     * @return response
+     * @param asyncResponse resumed with the response
      */
     @POST
     @Consumes(MediaType.APPLICATION_JSON)
-    public Response post(
+    public void post(
             @Context SecurityContext securityContext,
-            String graphQLDocument) {
+            String graphQLDocument,
+            @Suspended AsyncResponse asyncResponse) {
+        AsyncResponses.resume(asyncResponse,
+                runner.runAsync(graphQLDocument, getUser.apply(securityContext)),
+                GraphQLEndpoint::build);
+    }
+
+    /**
+     * Runs a request on the calling thread.
+     *
+     * @param securityContext security context
+     * @param graphQLDocument post data as jsonapi document
+     * @return response
+     */
+    public Response post(SecurityContext securityContext, String graphQLDocument) {
+        return build(runner.run(graphQLDocument, getUser.apply(securityContext)));
+    }
 
-        ElideResponse response = runner.run(graphQLDocument, getUser.apply(securityContext));
+    private static Response build(ElideResponse response) {
         return Response.status(response.getResponseCode()).entity(response.getBody()).build();
     }
 }
@@ -7,13 +7,22 @@ package com.yahoo.elide.graphql;
 
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.security.User;
 
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.ws.rs.core.MultivaluedHashMap;
 
@@ -23,6 +32,13 @@ import javax.ws.rs.core.MultivaluedHashMap;
 public class GraphQLRequestScope extends RequestScope {
     @Getter private final Map<String, Long> totalRecordCounts = new HashMap<>();
 
+    // Resources which were loaded together, keyed by each member of the batch.
+    private final Map<PersistentResource, List<PersistentResource>> batches = new IdentityHashMap<>();
+
+    // Relationships loaded for a batch, keyed by the owning resource and then by the relationship fetch.
+    private final Map<PersistentResource, Map<Object, Set<PersistentResource>>> batchedRelations =
+            new IdentityHashMap<>();
+
     public GraphQLRequestScope(DataStoreTransaction transaction,
                                User user,
                                ElideSettings elideSettings) {
@@ -32,4 +48,64 @@ public class GraphQLRequestScope extends RequestScope {
         // Namely, we don't filter or paginate in the data store.
         super("/", null, transaction, user, new MultivaluedHashMap<>(), elideSettings);
     }
+
+    /**
+     * Records that a set of resources was loaded together (for example, the members of a connection).
+     * Relationships later requested for any one of them are loaded for all of them at once.
+     *
+     * @param resources the resources which make up the batch
+     */
+    public void registerBatch(Collection<PersistentResource> resources) {
+        List<PersistentResource> batch = new ArrayList<>(resources);
+        batch.forEach(resource -> batches.put(resource, batch));
+    }
+
+    /**
+     * Returns a relationship of a resource, loading the same relationship for every other resource
+     * of the same type in its batch the first time it is requested.  The resources returned for the whole batch
+     * become the next batch so that deeper levels of the query are coalesced as well.
+     *
+     * @param resource the resource which owns the relationship
+     * @param fetchKey identifies the relationship together with the arguments used to fetch it
+     * @param loader loads the relationship for a collection of resources of the same type.  Resources it leaves
+     *               out of its result are not loaded again as part of a batch.
+     * @return the resources in the relationship or null if the loader left the resource out, in which case the
+     *         caller must read the relationship of the resource on its own
+     */
+    public Set<PersistentResource> getBatchedRelation(
+            PersistentResource resource,
+            Object fetchKey,
+            Function<Collection<PersistentResource>, Map<PersistentResource, Set<PersistentResource>>> loader) {
+        Map<Object, Set<PersistentResource>> loaded = batchedRelations.getOrDefault(resource, Collections.emptyMap());
+        if (loaded.containsKey(fetchKey)) {
+            return loaded.get(fetchKey);
+        }
+
+        List<PersistentResource> pending = batches.getOrDefault(resource, Collections.singletonList(resource))
+                .stream()
+                .filter(member -> member == resource || (member.getType().equals(resource.getType())
+                        && !batchedRelations.getOrDefault(member, Collections.emptyMap()).containsKey(fetchKey)))
+                .collect(Collectors.toList());
+
+        Map<PersistentResource, Set<PersistentResource>> relations = loader.apply(pending);
+
+        List<PersistentResource> nextBatch = new ArrayList<>();
+        pending.forEach(member -> {
+            Set<PersistentResource> members = relations.get(member);
+            batchedRelations.computeIfAbsent(member, key -> new HashMap<>()).put(fetchKey, members);
+            if (members != null) {
+                nextBatch.addAll(members);
+            }
+        });
+        registerBatch(nextBatch);
+
+        return relations.get(resource);
+    }
+
+    /**
+     * Discards relationships loaded ahead of time for a batch.  They are loaded again on their next request.
+     */
+    public void clearBatchedRelations() {
+        batchedRelations.clear();
+    }
 }
@@ -126,6 +126,10 @@ public class ModelBuilder {
                         .name("totalRecords")
                         .dataFetcher(dataFetcher)
                         .type(Scalars.GraphQLLong))
+                .field(newFieldDefinition()
+                        .name("totalRecordsExact")
+                        .dataFetcher(dataFetcher)
+                        .type(Scalars.GraphQLBoolean))
                 .build();
 
         inputObjectRegistry = new HashMap<>();
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GraphQL documents addressed by the SHA-256 hash of their text, for the automatic persisted queries protocol.
+ * <p>
+ * Clients first send only the hash of a document.  When the hash is unknown they send the document with its hash,
+ * which is stored so that later requests can omit the document.  Stored documents are bounded and the least
+ * recently used are evicted.  Documents registered up front, for example an allow list loaded at startup, are never
+ * evicted.  Parsed documents are held by the {@link PreparsedDocumentCache} which is keyed by the same text.
+ */
+public class PersistedQueryStore {
+    public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final Map<String, String> registered = new ConcurrentHashMap<>();
+    private final Cache<String, String> cache;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of documents stored by clients to hold
+     */
+    public PersistedQueryStore(long maximumSize) {
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Computes the hash a document is addressed by.
+     *
+     * @param query the document text
+     * @return the lower case hex encoded SHA-256 hash of the document
+     */
+    public static String hash(String query) {
+        return Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Registers a document which is never evicted.
+     *
+     * @param query the document text
+     * @return the hash of the document
+     */
+    public String register(String query) {
+        String hash = hash(query);
+        registered.put(hash, query);
+        return hash;
+    }
+
+    /**
+     * Stores a document sent by a client.
+     *
+     * @param hash the hash the client sent, which must match the document
+     * @param query the document text
+     * @throws IllegalArgumentException if the hash does not match the document
+     */
+    public void put(String hash, String query) {
+        String normalized = normalize(hash);
+        if (!hash(query).equals(normalized)) {
+            throw new IllegalArgumentException("provided sha does not match query");
+        }
+        if (!registered.containsKey(normalized)) {
+            cache.put(normalized, query);
+        }
+    }
+
+    /**
+     * Looks up a document by its hash.
+     *
+     * @param hash the document hash
+     * @return the document text or empty if it is not known
+     */
+    public Optional<String> get(String hash) {
+        String normalized = normalize(hash);
+        String query = registered.get(normalized);
+        return query == null ? Optional.ofNullable(cache.getIfPresent(normalized)) : Optional.of(query);
+    }
+
+    /**
+     * Hit, miss and eviction counts of documents stored by clients.
+     *
+     * @return the cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * The number of documents currently held, including registered documents.
+     *
+     * @return the approximate number of documents
+     */
+    public long size() {
+        return registered.size() + cache.size();
+    }
+
+    private static String normalize(String hash) {
+        return hash.toLowerCase(Locale.ENGLISH);
+    }
+}
@@ -20,6 +20,8 @@ import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.graphql.containers.ConnectionContainer;
+import com.yahoo.elide.metrics.RequestPhase;
+import com.yahoo.elide.metrics.RequestTimer;
 
 import com.google.common.collect.Sets;
 
@@ -42,6 +44,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.MultivaluedHashMap;
@@ -82,6 +85,9 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
         /* sanity check for pagination/filtering/sorting arguments w any operation other than FETCH */
         if (operation != RelationshipOp.FETCH) {
             filterSortPaginateSanityCheck(context);
+
+            /* relationships loaded ahead for a batch may no longer be current */
+            context.requestScope.clearBatchedRelations();
         }
 
         /* delegate request */
@@ -174,8 +180,8 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
         String typeName = dictionary.getJsonAliasFor(entityClass);
 
         Optional<Pagination> pagination = buildPagination(first, offset, generateTotals);
-        Optional<Sorting> sorting = buildSorting(sort);
-        Optional<FilterExpression> filter = buildFilter(typeName, filters, requestScope);
+        Optional<Sorting> sorting = timeParse(requestScope, () -> buildSorting(sort));
+        Optional<FilterExpression> filter = timeParse(requestScope, () -> buildFilter(typeName, filters, requestScope));
 
         /* fetching a collection */
         Set<PersistentResource> records = ids.map((idList) -> {
@@ -190,7 +196,9 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
                 entityClass, /* Empty list of IDs */ new ArrayList<>(), filter, sorting, pagination, requestScope
         ));
 
-        return new ConnectionContainer(records, pagination, typeName);
+        context.requestScope.registerBatch(records);
+
+        return new ConnectionContainer(records, pagination, typeName, sorting);
     }
 
     /**
@@ -215,23 +223,36 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
                                      Optional<String> sort,
                                      Optional<String> filters,
                                      boolean generateTotals) {
-        EntityDictionary dictionary = parentResource.getRequestScope().getDictionary();
+        RequestScope requestScope = parentResource.getRequestScope();
+        EntityDictionary dictionary = requestScope.getDictionary();
         Class<?> entityClass = dictionary.getParameterizedType(parentResource.getObject(), fieldName);
         String typeName = dictionary.getJsonAliasFor(entityClass);
 
         Optional<Pagination> pagination = buildPagination(first, offset, generateTotals);
-        Optional<Sorting> sorting = buildSorting(sort);
-        Optional<FilterExpression> filter = buildFilter(typeName, filters, parentResource.getRequestScope());
+        Optional<Sorting> sorting = timeParse(requestScope, () -> buildSorting(sort));
+        Optional<FilterExpression> filter = timeParse(requestScope, () -> buildFilter(typeName, filters, requestScope));
 
         Set<PersistentResource> relations;
         if (ids.isPresent()) {
             relations = parentResource.getRelation(fieldName, ids.get(), filter, sorting, pagination);
+            context.requestScope.registerBatch(relations);
+        } else if (!pagination.isPresent()) {
+            /* Load the relationship for all the parents at this level of the query at once */
+            relations = context.requestScope.getBatchedRelation(parentResource,
+                    Arrays.asList(fieldName, sort.orElse(null), filters.orElse(null)),
+                    parents -> PersistentResource.getRelationsCheckedFiltered(parents, fieldName, filter, sorting));
+            if (relations == null) {
+                /* The relationship is forbidden for this parent, so read it alone to report the error */
+                relations = parentResource.getRelationCheckedFiltered(fieldName, filter, sorting, pagination);
+                context.requestScope.registerBatch(relations);
+            }
         } else {
             relations = parentResource.getRelationCheckedFiltered(fieldName,
                     filter, sorting, pagination);
+            context.requestScope.registerBatch(relations);
         }
 
-        return new ConnectionContainer(relations, pagination, typeName);
+        return new ConnectionContainer(relations, pagination, typeName, sorting);
     }
 
     private ConnectionContainer upsertObjects(Environment context) {
@@ -557,6 +578,15 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
         return Pagination.fromOffsetAndFirst(first, offset, generateTotals, settings);
     }
 
+    /**
+     * Runs a sort or filter parse and adds its duration to the request's parse time.  Scopes which were not built by
+     * Elide, such as test doubles, may not have a timer.
+     */
+    private static <T> T timeParse(RequestScope requestScope, Supplier<T> parse) {
+        RequestTimer timer = requestScope.getRequestTimer();
+        return timer == null ? parse.get() : timer.time(RequestPhase.FILTER_SORT_PARSE, parse);
+    }
+
     private Optional<Sorting> buildSorting(Optional<String> sort) {
         return sort.map(Sorting::parseSortRule);
     }
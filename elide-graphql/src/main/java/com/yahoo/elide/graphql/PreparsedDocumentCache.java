@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed and validated GraphQL documents which is shared by every request.  Clients tend to send
+ * a small number of distinct documents with different variables, so most requests skip parsing and validation.
+ * <p>
+ * Entries are keyed by the document text.  The least recently used entries are evicted once the cache is full.
+ * Documents which fail to parse or validate are never cached.
+ */
+public class PreparsedDocumentCache implements PreparsedDocumentProvider {
+    public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final Cache<String, PreparsedDocumentEntry> cache;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of documents to hold
+     */
+    public PreparsedDocumentCache(long maximumSize) {
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public PreparsedDocumentEntry get(String query, Function<String, PreparsedDocumentEntry> computeFunction) {
+        PreparsedDocumentEntry entry = cache.getIfPresent(query);
+        if (entry == null) {
+            entry = computeFunction.apply(query);
+            if (!entry.hasErrors()) {
+                cache.put(query, entry);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Hit, miss and eviction counts of the cache since it was created.
+     *
+     * @return the cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * The number of documents currently cached.
+     *
+     * @return the approximate number of cached documents
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Discards every cached document, for example after the schema changes.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
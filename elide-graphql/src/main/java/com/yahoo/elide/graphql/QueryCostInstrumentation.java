@@ -0,0 +1,240 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.yahoo.elide.annotation.QueryCost;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RelationshipType;
+import com.yahoo.elide.core.RequestScope;
+
+import graphql.analysis.QueryTraversal;
+import graphql.analysis.QueryVisitorEnvironment;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.NoOpInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.language.Document;
+import graphql.schema.GraphQLSchema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rejects GraphQL queries which are deeper or more expensive than the configured {@link QueryCostLimits}.
+ * <p>
+ * The query is checked after it is parsed and validated and before any data is fetched.  This runs for every
+ * request, including those whose document came from the {@link PreparsedDocumentCache}, because the cost depends
+ * on the variables.  The estimated cost is reported with the request metrics.
+ * <p>
+ * GraphQL collections and to-many relationships are not paginated unless they set {@code first} or a cursor, so
+ * a field without either may load every record and makes the cost of the query unbounded.  Unbounded queries are
+ * rejected whenever a maximum cost is configured.
+ */
+@Slf4j
+public class QueryCostInstrumentation extends NoOpInstrumentation {
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+
+    private final EntityDictionary dictionary;
+    private final int defaultPageSize;
+    private final QueryCostLimits limits;
+
+    /**
+     * Estimated depth and cost of a query.
+     */
+    @AllArgsConstructor
+    public static class Estimate {
+        public static final Estimate EMPTY = new Estimate(0, 0, null);
+
+        @Getter private final int depth;
+        @Getter private final long cost;
+
+        /**
+         * The first field which may load an unlimited number of records or null if the cost is bounded.
+         */
+        @Getter private final String unboundedField;
+
+        /**
+         * Whether the query may load an unlimited number of records.
+         * @return true if some collection or relationship is not paginated
+         */
+        public boolean isUnbounded() {
+            return unboundedField != null;
+        }
+
+        private Estimate plus(int fieldDepth, long fieldCost, String fieldUnbounded) {
+            return new Estimate(Math.max(depth, fieldDepth), saturatedAdd(cost, fieldCost),
+                    unboundedField != null ? unboundedField : fieldUnbounded);
+        }
+    }
+
+    /**
+     * Builds a new query cost instrumentation.
+     * @param dictionary The entity dictionary the schema was built from.
+     * @param defaultPageSize The page size of collections and relationships paged by a cursor without
+     *                        {@code first}.
+     * @param limits The largest queries which will be executed.
+     */
+    public QueryCostInstrumentation(EntityDictionary dictionary, int defaultPageSize, QueryCostLimits limits) {
+        this.dictionary = dictionary;
+        this.defaultPageSize = defaultPageSize;
+        this.limits = limits;
+    }
+
+    @Override
+    public ExecutionContext instrumentExecutionContext(ExecutionContext executionContext,
+                                                       InstrumentationExecutionParameters parameters) {
+        Estimate estimate = estimate(
+                executionContext.getGraphQLSchema(),
+                executionContext.getDocument(),
+                executionContext.getOperationDefinition().getName(),
+                executionContext.getVariables());
+
+        Object context = executionContext.getContext();
+        if (!estimate.isUnbounded() && context instanceof RequestScope
+                && ((RequestScope) context).getRequestTimer() != null) {
+            ((RequestScope) context).getRequestTimer().setQueryCost(estimate.getCost());
+        }
+
+        if (limits.getMaxDepth() > 0 && estimate.getDepth() > limits.getMaxDepth()) {
+            log.debug("Rejecting GraphQL query with depth {}", estimate.getDepth());
+            throw new AbortExecutionException(String.format("Query depth %d exceeds the maximum depth of %d",
+                    estimate.getDepth(), limits.getMaxDepth()));
+        }
+        if (limits.getMaxCost() > 0 && estimate.isUnbounded()) {
+            log.debug("Rejecting GraphQL query without pagination on {}", estimate.getUnboundedField());
+            throw new AbortExecutionException(String.format(
+                    "Query cost is unbounded because `%s` does not set `first`. The maximum cost is %d",
+                    estimate.getUnboundedField(), limits.getMaxCost()));
+        }
+        if (limits.getMaxCost() > 0 && estimate.getCost() > limits.getMaxCost()) {
+            log.debug("Rejecting GraphQL query with cost {}", estimate.getCost());
+            throw new AbortExecutionException(String.format("Query cost %d exceeds the maximum cost of %d",
+                    estimate.getCost(), limits.getMaxCost()));
+        }
+        return executionContext;
+    }
+
+    /**
+     * Estimates the depth and cost of a query.
+     * @param schema The schema built by {@link ModelBuilder}.
+     * @param document The validated document.
+     * @param operationName The operation to estimate or null if the document has one operation.
+     * @param variables The coerced variables of the request.
+     * @return The estimate.
+     */
+    public Estimate estimate(GraphQLSchema schema, Document document, String operationName,
+                             Map<String, Object> variables) {
+        QueryTraversal traversal = new QueryTraversal(schema, document, operationName, variables);
+        return traversal.reducePreOrder((environment, estimate) -> {
+            Class<?> entityClass = getEntityClass(environment);
+            if (entityClass == null) {
+                return estimate;
+            }
+
+            // Every entity collection or relationship is loaded once for each record of the one which encloses it.
+            int depth = 0;
+            long records = 1;
+            String unbounded = null;
+            for (QueryVisitorEnvironment current = environment; current != null;
+                 current = current.getParentEnvironment()) {
+                if (getEntityClass(current) != null) {
+                    long pageSize = getPageSize(current);
+                    if (pageSize == UNBOUNDED) {
+                        unbounded = current.getField().getName();
+                    }
+                    depth++;
+                    records = saturatedMultiply(records, pageSize);
+                }
+            }
+
+            return estimate.plus(depth, saturatedMultiply(records, getWeight(entityClass)), unbounded);
+        }, Estimate.EMPTY);
+    }
+
+    /**
+     * Finds the entity of a root collection or relationship field.
+     * @return the entity class or null if the field is an attribute or part of a connection
+     */
+    private Class<?> getEntityClass(QueryVisitorEnvironment environment) {
+        String typeName = environment.getFieldDefinition().getType().getName();
+        return typeName == null ? null : dictionary.getEntityClass(typeName);
+    }
+
+    /**
+     * The most records a root collection or relationship field may load for each record which encloses it, or
+     * {@link #UNBOUNDED} when the field is not paginated.  This mirrors {@code Pagination.fromOffsetAndFirst}.
+     */
+    private long getPageSize(QueryVisitorEnvironment environment) {
+        Class<?> parentClass = null;
+        for (QueryVisitorEnvironment parent = environment.getParentEnvironment(); parent != null && parentClass == null;
+             parent = parent.getParentEnvironment()) {
+            parentClass = getEntityClass(parent);
+        }
+
+        if (parentClass != null) {
+            RelationshipType type = dictionary.getRelationshipType(parentClass, environment.getField().getName());
+            if (type.isToOne()) {
+                return 1;
+            }
+        }
+
+        Map<String, Object> arguments = environment.getArguments();
+        Object ids = arguments.get(ModelBuilder.ARGUMENT_IDS);
+        if (ids instanceof List) {
+            return ((List<?>) ids).size();
+        }
+
+        Object first = arguments.get(ModelBuilder.ARGUMENT_FIRST);
+        if (first != null) {
+            try {
+                return Math.max(0, Long.parseLong(first.toString()));
+            } catch (NumberFormatException e) {
+                // Rejected when the relationship is fetched.
+                return 0;
+            }
+        }
+
+        Object after = arguments.get(ModelBuilder.ARGUMENT_AFTER);
+        if (after != null && !isInteger(after.toString())) {
+            // A keyset cursor pages by the default page size.
+            return defaultPageSize;
+        }
+        return UNBOUNDED;
+    }
+
+    private static boolean isInteger(String value) {
+        try {
+            Long.parseLong(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private long getWeight(Class<?> entityClass) {
+        QueryCost queryCost = dictionary.getAnnotation(entityClass, QueryCost.class);
+        return queryCost != null ? queryCost.weight() : 1;
+    }
+
+    private static long saturatedMultiply(long left, long right) {
+        try {
+            return Math.multiplyExact(left, right);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static long saturatedAdd(long left, long right) {
+        try {
+            return Math.addExact(left, right);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
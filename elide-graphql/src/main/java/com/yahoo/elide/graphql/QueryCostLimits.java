@@ -0,0 +1,26 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The largest GraphQL queries {@link QueryRunner} will execute.  A limit of zero or less is not enforced.
+ * <p>
+ * Depth counts the nested entity collections and relationships of a query, with each root collection at depth one.
+ * Cost estimates the records a query may load: each collection or to-many relationship loads up to its
+ * {@code first} argument for every record of its parent.  Records are weighted by the
+ * {@link com.yahoo.elide.annotation.QueryCost} of their entity.  Collections and to-many relationships without
+ * {@code first} are not paginated, so queries with them are rejected when a maximum cost is set.
+ */
+@AllArgsConstructor
+public class QueryCostLimits {
+    public static final QueryCostLimits UNLIMITED = new QueryCostLimits(0, 0);
+
+    @Getter private final int maxDepth;
+    @Getter private final long maxCost;
+}
@@ -7,6 +7,7 @@ package com.yahoo.elide.graphql;
 
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.ErrorObjects;
 import com.yahoo.elide.core.HttpStatus;
@@ -15,6 +16,8 @@ import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.exceptions.HttpStatusException;
 import com.yahoo.elide.core.exceptions.InvalidEntityBodyException;
 import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.metrics.RequestPhase;
+import com.yahoo.elide.metrics.RequestTimer;
 import com.yahoo.elide.security.User;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -24,6 +27,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.owasp.encoder.Encode;
@@ -32,12 +36,17 @@ import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.execution.instrumentation.ChainedInstrumentation;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -50,24 +59,76 @@ import javax.ws.rs.core.Response;
 @Slf4j
 public class QueryRunner {
     private final Elide elide;
+    private final PreparsedDocumentCache documentCache;
+    private final PersistedQueryStore persistedQueries;
     private GraphQL api;
 
     private static final String QUERY = "query";
     private static final String OPERATION_NAME = "operationName";
     private static final String VARIABLES = "variables";
     private static final String MUTATION = "mutation";
+    private static final String EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String SHA256_HASH = "sha256Hash";
+    private static final String VERSION = "version";
+    private static final int PERSISTED_QUERY_VERSION = 1;
+    private static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+    private static final String PERSISTED_QUERY_NOT_FOUND_CODE = "PERSISTED_QUERY_NOT_FOUND";
 
     /**
-     * Builds a new query runner.
+     * Builds a new query runner whose document cache, persisted queries and query limits are sized by the
+     * Elide settings.
      * @param elide The singular elide instance for this service.
      */
     public QueryRunner(Elide elide) {
+        this(elide, new PreparsedDocumentCache(elide.getElideSettings().getGraphQLDocumentCacheSize()));
+    }
+
+    /**
+     * Builds a new query runner whose persisted queries and query limits are set by the Elide settings.
+     * @param elide The singular elide instance for this service.
+     * @param documentCache Holds parsed and validated documents across requests.
+     */
+    public QueryRunner(Elide elide, PreparsedDocumentCache documentCache) {
+        this(elide, documentCache,
+                new PersistedQueryStore(elide.getElideSettings().getGraphQLPersistedQueryCacheSize()));
+    }
+
+    /**
+     * Builds a new query runner whose query limits are set by the Elide settings.
+     * @param elide The singular elide instance for this service.
+     * @param documentCache Holds parsed and validated documents across requests.
+     * @param persistedQueries Holds documents addressed by hash for automatic persisted queries.
+     */
+    public QueryRunner(Elide elide, PreparsedDocumentCache documentCache, PersistedQueryStore persistedQueries) {
+        this(elide, documentCache, persistedQueries, new QueryCostLimits(
+                elide.getElideSettings().getGraphQLMaxQueryDepth(),
+                elide.getElideSettings().getGraphQLMaxQueryCost()));
+    }
+
+    /**
+     * Builds a new query runner which rejects queries above the given depth and cost.
+     * @param elide The singular elide instance for this service.
+     * @param documentCache Holds parsed and validated documents across requests.
+     * @param persistedQueries Holds documents addressed by hash for automatic persisted queries.
+     * @param costLimits The largest queries which will be executed.
+     */
+    public QueryRunner(Elide elide, PreparsedDocumentCache documentCache, PersistedQueryStore persistedQueries,
+                       QueryCostLimits costLimits) {
         this.elide = elide;
+        this.documentCache = documentCache;
+        this.persistedQueries = persistedQueries;
 
         PersistentResourceFetcher fetcher = new PersistentResourceFetcher(elide.getElideSettings());
         ModelBuilder builder = new ModelBuilder(elide.getElideSettings().getDictionary(), fetcher);
+        QueryCostInstrumentation costInstrumentation = new QueryCostInstrumentation(
+                elide.getElideSettings().getDictionary(), elide.getElideSettings().getDefaultPageSize(), costLimits);
 
-        this.api = new GraphQL(builder.build());
+        this.api = GraphQL.newGraphQL(builder.build())
+                .preparsedDocumentProvider(documentCache)
+                .instrumentation(new ChainedInstrumentation(
+                        Arrays.asList(new RequestTimerInstrumentation(), costInstrumentation)))
+                .build();
 
         // TODO - add serializers to allow for custom handling of ExecutionResult and GraphQLError objects
         GraphQLErrorSerializer errorSerializer =
@@ -78,6 +139,32 @@ public class QueryRunner {
         elide.getElideSettings().getMapper().getObjectMapper().registerModule(module);
     }
 
+    /**
+     * The cache of parsed documents, for example to report its hit rate.
+     * @return The document cache.
+     */
+    public PreparsedDocumentCache getDocumentCache() {
+        return documentCache;
+    }
+
+    /**
+     * The documents addressed by hash, for example to register an allow list.
+     * @return The persisted query store.
+     */
+    public PersistedQueryStore getPersistedQueries() {
+        return persistedQueries;
+    }
+
+    /**
+     * Execute a GraphQL query on the request executor of the Elide settings.
+     * @param graphQLDocument The graphQL document (wrapped in JSON payload).
+     * @param user The user who issued the query.
+     * @return The pending response.
+     */
+    public CompletableFuture<ElideResponse> runAsync(String graphQLDocument, Object user) {
+        return elide.supplyAsync(() -> run(graphQLDocument, user));
+    }
+
     /**
      * Execute a GraphQL query and return the response.
      * @param graphQLDocument The graphQL document (wrapped in JSON payload).
@@ -139,10 +226,17 @@ public class QueryRunner {
 
     private ElideResponse executeGraphQLRequest(ObjectMapper mapper, Object principal,
                                                 String graphQLDocument, JsonNode jsonDocument) {
+        ElideResponse persistedQueryError = resolvePersistedQuery(mapper, jsonDocument);
+        if (persistedQueryError != null) {
+            return persistedQueryError;
+        }
+
         boolean isVerbose = false;
+        RequestTimer requestTimer = null;
         try (DataStoreTransaction tx = elide.getDataStore().beginTransaction()) {
             final User user = tx.accessUser(principal);
             GraphQLRequestScope requestScope = new GraphQLRequestScope(tx, user, elide.getElideSettings());
+            requestTimer = requestScope.getRequestTimer();
             isVerbose = requestScope.getPermissionExecutor().isVerbose();
 
             if (!jsonDocument.has(QUERY)) {
@@ -153,6 +247,8 @@ public class QueryRunner {
             }
 
             String query = jsonDocument.get(QUERY).asText();
+            boolean isMutation = query.trim().startsWith(MUTATION);
+            requestTimer.setOperation(isMutation ? MUTATION : QUERY);
 
             // Logging all queries. It is recommended to put any private information that shouldn't be logged into
             // the "variables" section of your query. Variable values are not logged.
@@ -172,11 +268,12 @@ public class QueryRunner {
             }
 
             ExecutionResult result = api.execute(executionInput);
+            tagEntityType(requestTimer, result);
 
             tx.preCommit();
             requestScope.runQueuedPreSecurityTriggers();
             requestScope.getPermissionExecutor().executeCommitChecks();
-            if (query.trim().startsWith(MUTATION)) {
+            if (isMutation) {
                 if (!result.getErrors().isEmpty()) {
                     HashMap<String, Object> abortedResponseObject = new HashMap<String, Object>() {
                         {
@@ -190,20 +287,25 @@ public class QueryRunner {
                 }
                 requestScope.saveOrCreateObjects();
             }
-            tx.flush(requestScope);
+            requestTimer.time(RequestPhase.COMMIT, () -> tx.flush(requestScope));
 
             requestScope.runQueuedPreCommitTriggers();
             elide.getAuditLogger().commit(requestScope);
-            tx.commit(requestScope);
+            requestTimer.time(RequestPhase.COMMIT, () -> tx.commit(requestScope));
             requestScope.runQueuedPostCommitTriggers();
 
             if (log.isTraceEnabled()) {
                 requestScope.getPermissionExecutor().printCheckStats();
             }
 
+            String body;
+            try (RequestTimer.Timing timing = requestTimer.start(RequestPhase.SERIALIZATION)) {
+                body = mapper.writeValueAsString(result);
+            }
+
             return ElideResponse.builder()
                     .responseCode(HttpStatus.SC_OK)
-                    .body(mapper.writeValueAsString(result))
+                    .body(body)
                     .build();
         } catch (JsonProcessingException e) {
             log.debug("Invalid json body provided to GraphQL", e);
@@ -255,10 +357,84 @@ public class QueryRunner {
             log.debug("Unhandled error or exception.", e);
             throw e;
         } finally {
+            if (requestTimer != null) {
+                requestTimer.report();
+            }
             elide.getAuditLogger().clear();
         }
     }
 
+    /**
+     * Tags the metrics of a request with the type of its first root field.  Fields which are not entity types,
+     * such as aliases, are left as {@link RequestTimer#UNKNOWN}.
+     */
+    private void tagEntityType(RequestTimer requestTimer, ExecutionResult result) {
+        Object data = result.getData();
+        if (!(data instanceof Map) || ((Map<?, ?>) data).isEmpty()) {
+            return;
+        }
+
+        String rootField = String.valueOf(((Map<?, ?>) data).keySet().iterator().next());
+        EntityDictionary dictionary = elide.getElideSettings().getDictionary();
+        if (dictionary.getEntityClass(rootField) != null) {
+            requestTimer.setEntityType(rootField);
+        }
+    }
+
+    /**
+     * Applies the automatic persisted queries extension.  A request which carries a document and its hash stores
+     * the document.  A request which carries only a hash has the stored document filled in.
+     *
+     * @return an error response or null if the request can be executed
+     */
+    private ElideResponse resolvePersistedQuery(ObjectMapper mapper, JsonNode jsonDocument) {
+        JsonNode persistedQuery = jsonDocument.path(EXTENSIONS).path(PERSISTED_QUERY);
+        if (!persistedQuery.isObject()) {
+            return null;
+        }
+
+        if (persistedQuery.path(VERSION).asInt() != PERSISTED_QUERY_VERSION) {
+            return buildPersistedQueryError(mapper, HttpStatus.SC_BAD_REQUEST,
+                    "Unsupported persisted query version", null);
+        }
+
+        String hash = persistedQuery.path(SHA256_HASH).asText("");
+        if (hash.isEmpty()) {
+            return buildPersistedQueryError(mapper, HttpStatus.SC_BAD_REQUEST, "A `sha256Hash` is required.", null);
+        }
+
+        if (jsonDocument.hasNonNull(QUERY)) {
+            try {
+                persistedQueries.put(hash, jsonDocument.get(QUERY).asText());
+            } catch (IllegalArgumentException e) {
+                return buildPersistedQueryError(mapper, HttpStatus.SC_BAD_REQUEST, e.getMessage(), null);
+            }
+            return null;
+        }
+
+        Optional<String> query = persistedQueries.get(hash);
+        if (!query.isPresent() || !(jsonDocument instanceof ObjectNode)) {
+            // Clients retry with the full document when they see this error, so it is not a failed request.
+            return buildPersistedQueryError(mapper, HttpStatus.SC_OK, PERSISTED_QUERY_NOT_FOUND,
+                    PERSISTED_QUERY_NOT_FOUND_CODE);
+        }
+
+        ((ObjectNode) jsonDocument).put(QUERY, query.get());
+        return null;
+    }
+
+    private static ElideResponse buildPersistedQueryError(ObjectMapper mapper, int status, String message,
+                                                          String code) {
+        ErrorObjects.ErrorObjectsBuilder error = ErrorObjects.builder().addError().with("message", message);
+        if (code != null) {
+            error.with(EXTENSIONS, Collections.singletonMap("code", code));
+        }
+        return ElideResponse.builder()
+                .responseCode(status)
+                .body(mapper.convertValue(error.build(), JsonNode.class).toString())
+                .build();
+    }
+
     private ElideResponse buildErrorResponse(HttpStatusException error, boolean isVerbose) {
         ObjectMapper mapper = elide.getMapper().getObjectMapper();
         JsonNode errorNode;
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.metrics.RequestPhase;
+import com.yahoo.elide.metrics.RequestTimer;
+
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.NoOpInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
+import graphql.language.Document;
+import graphql.validation.ValidationError;
+
+import java.util.List;
+
+/**
+ * Adds the time spent parsing and validating GraphQL documents to the {@link RequestPhase#PATH_PARSE} time of the
+ * request.  Documents served from the {@link PreparsedDocumentCache} are neither parsed nor validated again.
+ */
+public class RequestTimerInstrumentation extends NoOpInstrumentation {
+
+    @Override
+    public InstrumentationContext<Document> beginParse(InstrumentationExecutionParameters parameters) {
+        return time(parameters);
+    }
+
+    @Override
+    public InstrumentationContext<List<ValidationError>> beginValidation(
+            InstrumentationValidationParameters parameters) {
+        return time(parameters);
+    }
+
+    private static <T> InstrumentationContext<T> time(InstrumentationExecutionParameters parameters) {
+        Object context = parameters.getContext();
+        if (!(context instanceof RequestScope) || ((RequestScope) context).getRequestTimer() == null) {
+            return (result, t) -> { };
+        }
+
+        RequestTimer.Timing timing = ((RequestScope) context).getRequestTimer().start(RequestPhase.PATH_PARSE);
+        return (result, t) -> timing.close();
+    }
+}
@@ -7,14 +7,18 @@ package com.yahoo.elide.graphql.containers;
 
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.core.pagination.KeysetCursor;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.graphql.Environment;
 import com.yahoo.elide.graphql.PersistentResourceFetcher;
 
+import com.google.common.collect.Iterables;
+
 import lombok.Getter;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +32,7 @@ public class PageInfoContainer implements GraphQLContainer {
     private static final String PAGE_INFO_START_CURSOR_KEYWORD = "startCursor";
     private static final String PAGE_INFO_END_CURSOR_KEYWORD = "endCursor";
     private static final String PAGE_INFO_TOTAL_RECORDS_KEYWORD = "totalRecords";
+    private static final String PAGE_INFO_TOTAL_RECORDS_EXACT_KEYWORD = "totalRecordsExact";
 
     public PageInfoContainer(ConnectionContainer connectionContainer) {
         this.connectionContainer = connectionContainer;
@@ -39,6 +44,10 @@ public class PageInfoContainer implements GraphQLContainer {
         ConnectionContainer connectionContainer = getConnectionContainer();
         Optional<Pagination> pagination = connectionContainer.getPagination();
 
+        if (pagination.isPresent() && pagination.get().isKeyset()) {
+            return processKeysetFetch(fieldName, pagination.get());
+        }
+
         List<String> ids = connectionContainer.getPersistentResources().stream()
                 .map(PersistentResource::getId)
                 .sorted()
@@ -57,6 +66,8 @@ public class PageInfoContainer implements GraphQLContainer {
                     return pageValue.getOffset() + ids.size();
                 case PAGE_INFO_TOTAL_RECORDS_KEYWORD:
                     return pageValue.getPageTotals();
+                case PAGE_INFO_TOTAL_RECORDS_EXACT_KEYWORD:
+                    return pageValue.isPageTotalsExact();
                 default:
                     break;
             }
@@ -65,4 +76,35 @@ public class PageInfoContainer implements GraphQLContainer {
         }).orElseThrow(() -> new BadRequestException("Could not generate pagination information for type: "
                 + connectionContainer.getTypeName()));
     }
+
+    /**
+     * Page info when paging with an `after` cursor.  Cursors are opaque strings which the client passes back as
+     * the `after` argument to fetch the following page.
+     */
+    private Object processKeysetFetch(String fieldName, Pagination pagination) {
+        Set<PersistentResource> resources = connectionContainer.getPersistentResources();
+        switch (fieldName) {
+            case PAGE_INFO_HAS_NEXT_PAGE_KEYWORD:
+                return resources.size() >= pagination.getLimit();
+            case PAGE_INFO_START_CURSOR_KEYWORD:
+                return getCursor(Iterables.getFirst(resources, null));
+            case PAGE_INFO_END_CURSOR_KEYWORD:
+                return getCursor(Iterables.getLast(resources, null));
+            case PAGE_INFO_TOTAL_RECORDS_KEYWORD:
+                return pagination.getPageTotals();
+            case PAGE_INFO_TOTAL_RECORDS_EXACT_KEYWORD:
+                return pagination.isPageTotalsExact();
+            default:
+                break;
+        }
+        throw new BadRequestException("Invalid request. Looking for field: "
+                + fieldName + " in an pageInfo object.");
+    }
+
+    private String getCursor(PersistentResource<?> resource) {
+        if (resource == null) {
+            return null;
+        }
+        return KeysetCursor.fromResource(resource, connectionContainer.getSorting()).encode();
+    }
 }
@@ -41,6 +41,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.skyscreamer.jsonassert.JSONAssert;
 
@@ -60,6 +61,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 
@@ -218,6 +220,40 @@ public class GraphQLEndpointTest {
         assert200EqualBody(response, graphQLResponse);
     }
 
+    @Test
+    void testAsyncFetch() throws JSONException {
+        String graphQLRequest = document(
+                selection(
+                        field(
+                                "book",
+                                selections(
+                                        field("id"),
+                                        field("title")
+                                )
+                        )
+                )
+        ).toQuery();
+
+        String graphQLResponse = document(
+                selection(
+                        field(
+                                "book",
+                                selections(
+                                        field("id", "1"),
+                                        field("title", "My first book")
+                                )
+                        )
+                )
+        ).toResponse();
+
+        AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        endpoint.post(user1, graphQLRequestToJSON(graphQLRequest), asyncResponse);
+
+        ArgumentCaptor<Response> response = ArgumentCaptor.forClass(Response.class);
+        Mockito.verify(asyncResponse).resume(response.capture());
+        assert200EqualBody(response.getValue(), graphQLResponse);
+    }
+
     @Test
     void testValidFetchWithVariables() throws JSONException {
         String graphQLRequest = document(
@@ -791,6 +827,97 @@ public class GraphQLEndpointTest {
         assertHasErrors(response);
     }
 
+    @Test
+    public void testPersistedQuery() throws IOException, JSONException {
+        String graphQLRequest = document(
+                selection(
+                        field(
+                                "book",
+                                selections(
+                                        field("id"),
+                                        field("title")
+                                )
+                        )
+                )
+        ).toQuery();
+        String graphQLResponse = document(
+                selection(
+                        field(
+                                "book",
+                                selections(
+                                        field("id", "1"),
+                                        field("title", "My first book")
+                                )
+                        )
+                )
+        ).toResponse();
+        String hash = PersistedQueryStore.hash(graphQLRequest);
+
+        Response notFound = endpoint.post(user1, persistedQueryToJSON(null, hash));
+        JsonNode error = extract200Response(notFound).get("errors").get(0);
+        assertEquals("PersistedQueryNotFound", error.get("message").asText());
+        assertEquals("PERSISTED_QUERY_NOT_FOUND", error.get("extensions").get("code").asText());
+
+        assert200EqualBody(endpoint.post(user1, persistedQueryToJSON(graphQLRequest, hash)), graphQLResponse);
+        assert200EqualBody(endpoint.post(user1, persistedQueryToJSON(null, hash.toUpperCase())), graphQLResponse);
+    }
+
+    @Test
+    public void testPersistedQueryHashMismatch() {
+        String graphQLRequest = document(
+                selection(
+                        field(
+                                "book",
+                                selection(
+                                        field("id")
+                                )
+                        )
+                )
+        ).toQuery();
+
+        Response response = endpoint.post(user1, persistedQueryToJSON(graphQLRequest,
+                PersistedQueryStore.hash(graphQLRequest + " ")));
+        assertEquals(400, response.getStatus());
+    }
+
+    @Test
+    public void testQueryCostLimitsFromSettings() throws IOException {
+        Elide elide = new Elide(
+                new ElideSettingsBuilder(new HashMapDataStore(Book.class.getPackage()))
+                        .withEntityDictionary(new EntityDictionary(new HashMap<>()))
+                        .withAuditLogger(audit)
+                        .withGraphQLQueryCostLimits(0, 100)
+                        .build());
+        GraphQLEndpoint limited = new GraphQLEndpoint(elide, SecurityContext::getUserPrincipal);
+
+        String graphQLRequest = document(
+                selection(
+                        field(
+                                "book",
+                                selection(
+                                        field("id")
+                                )
+                        )
+                )
+        ).toQuery();
+
+        Response response = limited.post(user1, graphQLRequestToJSON(graphQLRequest));
+        assertHasErrors(response);
+        String message = extract200Response(response).get("errors").get(0).get("message").asText();
+        assertTrue(message.startsWith("Query cost is unbounded because `book`"));
+    }
+
+    private static String persistedQueryToJSON(String request, String hash) {
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+        if (request != null) {
+            node.put("query", request);
+        }
+        node.putObject("extensions").putObject("persistedQuery")
+                .put("version", 1)
+                .put("sha256Hash", hash);
+        return node.toString();
+    }
+
     private static String graphQLRequestToJSON(String request) {
         return graphQLRequestToJSON(request, new HashMap<>());
     }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.security.User;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+public class GraphQLRequestScopeTest {
+    private static final String AUTHORS = "authors";
+
+    private GraphQLRequestScope requestScope;
+
+    @BeforeEach
+    public void setUp() {
+        ElideSettings elideSettings = new ElideSettingsBuilder(null)
+                .withEntityDictionary(new EntityDictionary(new HashMap<>()))
+                .build();
+
+        requestScope = new GraphQLRequestScope(mock(DataStoreTransaction.class), new User(1), elideSettings);
+    }
+
+    @Test
+    public void testRelationshipLoadedOncePerBatch() {
+        PersistentResource book1 = resource("book");
+        PersistentResource book2 = resource("book");
+        PersistentResource author1 = resource("author");
+        PersistentResource author2 = resource("author");
+
+        requestScope.registerBatch(Arrays.asList(book1, book2));
+
+        List<Collection<PersistentResource>> loads = new ArrayList<>();
+        Function<Collection<PersistentResource>, Map<PersistentResource, Set<PersistentResource>>> loader =
+                parents -> {
+                    loads.add(parents);
+                    Map<PersistentResource, Set<PersistentResource>> relations = new IdentityHashMap<>();
+                    relations.put(book1, Collections.singleton(author1));
+                    relations.put(book2, Collections.singleton(author2));
+                    return relations;
+                };
+
+        assertEquals(Collections.singleton(author1), requestScope.getBatchedRelation(book1, AUTHORS, loader));
+        assertEquals(Collections.singleton(author2), requestScope.getBatchedRelation(book2, AUTHORS, loader));
+
+        assertEquals(1, loads.size());
+        assertEquals(Arrays.asList(book1, book2), loads.get(0));
+    }
+
+    @Test
+    public void testRelationshipMembersFormNextBatch() {
+        PersistentResource book1 = resource("book");
+        PersistentResource book2 = resource("book");
+        PersistentResource author1 = resource("author");
+        PersistentResource author2 = resource("author");
+
+        requestScope.registerBatch(Arrays.asList(book1, book2));
+
+        requestScope.getBatchedRelation(book1, AUTHORS, parents -> {
+            Map<PersistentResource, Set<PersistentResource>> relations = new LinkedHashMap<>();
+            relations.put(book1, Collections.singleton(author1));
+            relations.put(book2, Collections.singleton(author2));
+            return relations;
+        });
+
+        List<Collection<PersistentResource>> loads = new ArrayList<>();
+        requestScope.getBatchedRelation(author2, "books", parents -> {
+            loads.add(parents);
+            return new IdentityHashMap<>();
+        });
+
+        assertEquals(Arrays.asList(author1, author2), loads.get(0));
+    }
+
+    @Test
+    public void testResourceLeftOutByLoader() {
+        PersistentResource book1 = resource("book");
+        PersistentResource book2 = resource("book");
+        PersistentResource author1 = resource("author");
+
+        requestScope.registerBatch(Arrays.asList(book1, book2));
+
+        List<Collection<PersistentResource>> loads = new ArrayList<>();
+        Function<Collection<PersistentResource>, Map<PersistentResource, Set<PersistentResource>>> loader =
+                parents -> {
+                    loads.add(parents);
+                    // The relationship of book2 is forbidden.
+                    Map<PersistentResource, Set<PersistentResource>> relations = new IdentityHashMap<>();
+                    relations.put(book1, Collections.singleton(author1));
+                    return relations;
+                };
+
+        assertEquals(Collections.singleton(author1), requestScope.getBatchedRelation(book1, AUTHORS, loader));
+        assertNull(requestScope.getBatchedRelation(book2, AUTHORS, loader));
+        assertNull(requestScope.getBatchedRelation(book2, AUTHORS, loader));
+
+        assertEquals(1, loads.size());
+    }
+
+    @Test
+    public void testClearBatchedRelations() {
+        PersistentResource book = resource("book");
+
+        requestScope.registerBatch(Collections.singletonList(book));
+
+        List<Collection<PersistentResource>> loads = new ArrayList<>();
+        Function<Collection<PersistentResource>, Map<PersistentResource, Set<PersistentResource>>> loader =
+                parents -> {
+                    loads.add(parents);
+                    return new IdentityHashMap<>();
+                };
+
+        requestScope.getBatchedRelation(book, AUTHORS, loader);
+        requestScope.clearBatchedRelations();
+        requestScope.getBatchedRelation(book, AUTHORS, loader);
+
+        assertEquals(2, loads.size());
+    }
+
+    private static PersistentResource resource(String type) {
+        PersistentResource resource = mock(PersistentResource.class);
+        when(resource.getType()).thenReturn(type);
+        return resource;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.parser.Parser;
+import graphql.validation.ValidationError;
+import graphql.validation.ValidationErrorType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Tests the cache of parsed GraphQL documents.
+ */
+public class PreparsedDocumentCacheTest {
+    private static final String QUERY = "{ book { edges { node { id title } } } }";
+
+    private PreparsedDocumentCache cache;
+    private AtomicInteger parses;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new PreparsedDocumentCache(2);
+        parses = new AtomicInteger();
+    }
+
+    @Test
+    public void testCachesValidDocuments() {
+        PreparsedDocumentEntry first = cache.get(QUERY, parse());
+        PreparsedDocumentEntry second = cache.get(QUERY, parse());
+
+        assertSame(first, second);
+        assertEquals(1, parses.get());
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getStats().hitCount());
+        assertEquals(1, cache.getStats().missCount());
+    }
+
+    @Test
+    public void testDoesNotCacheInvalidDocuments() {
+        Function<String, PreparsedDocumentEntry> invalid = query -> {
+            parses.incrementAndGet();
+            return new PreparsedDocumentEntry(new ValidationError(ValidationErrorType.FieldUndefined));
+        };
+
+        assertTrue(cache.get("{ missing }", invalid).hasErrors());
+        assertTrue(cache.get("{ missing }", invalid).hasErrors());
+
+        assertEquals(2, parses.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testBounded() {
+        cache.get("{ book { edges { node { id } } } }", parse());
+        cache.get("{ author { edges { node { id } } } }", parse());
+        cache.get(QUERY, parse());
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getStats().evictionCount());
+    }
+
+    private Function<String, PreparsedDocumentEntry> parse() {
+        return query -> {
+            parses.incrementAndGet();
+            return new PreparsedDocumentEntry(new Parser().parseDocument(query));
+        };
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.ElideSettingsBuilder;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Tests the estimated depth and cost of GraphQL queries.
+ */
+public class QueryCostInstrumentationTest extends GraphQLTest {
+    private static final int PAGE_SIZE = 10;
+    private static final String BOOKS_WITH_AUTHORS =
+            "{ book(first: \"10\") { edges { node { id authors(first: \"10\") { edges { node { name } } } } } } }";
+    private static final String UNPAGINATED_AUTHORS =
+            "{ book(first: \"10\") { edges { node { id authors { edges { node { name } } } } } } }";
+
+    private final GraphQLSchema schema;
+
+    public QueryCostInstrumentationTest() {
+        ElideSettings settings = new ElideSettingsBuilder(null)
+                .withEntityDictionary(dictionary)
+                .build();
+        schema = new ModelBuilder(dictionary, new PersistentResourceFetcher(settings)).build();
+    }
+
+    @Test
+    public void testFirst() {
+        QueryCostInstrumentation.Estimate estimate = estimate(BOOKS_WITH_AUTHORS, Collections.emptyMap());
+
+        assertEquals(2, estimate.getDepth());
+        assertEquals(10 + 10 * 10, estimate.getCost());
+        assertFalse(estimate.isUnbounded());
+    }
+
+    @Test
+    public void testMissingFirstIsUnbounded() {
+        QueryCostInstrumentation.Estimate estimate = estimate(UNPAGINATED_AUTHORS, Collections.emptyMap());
+
+        assertTrue(estimate.isUnbounded());
+        assertEquals("authors", estimate.getUnboundedField());
+    }
+
+    @Test
+    public void testCursorUsesDefaultPageSize() {
+        // Any value which is not an offset is a keyset cursor.
+        QueryCostInstrumentation.Estimate estimate = estimate(
+                "{ book(after: \"opaque\") { edges { node { id } } } }", Collections.emptyMap());
+
+        assertEquals(PAGE_SIZE, estimate.getCost());
+    }
+
+    @Test
+    public void testFirstToOneAndWeight() {
+        String query = "{ book(first: \"2\") { edges { node { "
+                + "authors(first: \"3\") { edges { node { name } } } "
+                + "publisher { edges { node { name } } } } } } }";
+
+        QueryCostInstrumentation.Estimate estimate = estimate(query, Collections.emptyMap());
+
+        // 2 books, 3 authors for each book and 1 publisher weighted 5 for each book.
+        assertEquals(2, estimate.getDepth());
+        assertEquals(2 + 2 * 3 + 2 * 5, estimate.getCost());
+    }
+
+    @Test
+    public void testIdsAndVariables() {
+        String query = "query ($first: String) { author(ids: [\"1\", \"2\"]) { edges { node { "
+                + "books(first: $first) { edges { node { title } } } } } } }";
+
+        QueryCostInstrumentation.Estimate estimate = estimate(query, Collections.singletonMap("first", "4"));
+
+        assertEquals(2, estimate.getDepth());
+        assertEquals(2 + 2 * 4, estimate.getCost());
+    }
+
+    @Test
+    public void testRejectsDeepQuery() {
+        ExecutionResult result = execute(new QueryCostLimits(1, 0), BOOKS_WITH_AUTHORS);
+
+        assertNull(result.getData());
+        assertEquals(1, result.getErrors().size());
+        assertEquals("Query depth 2 exceeds the maximum depth of 1", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    public void testRejectsExpensiveQuery() {
+        ExecutionResult result = execute(new QueryCostLimits(0, 100), BOOKS_WITH_AUTHORS);
+
+        assertNull(result.getData());
+        assertEquals(1, result.getErrors().size());
+        assertEquals("Query cost 110 exceeds the maximum cost of 100", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    public void testRejectsUnboundedQuery() {
+        ExecutionResult result = execute(new QueryCostLimits(0, 1000000), UNPAGINATED_AUTHORS);
+
+        assertNull(result.getData());
+        assertEquals(1, result.getErrors().size());
+        assertEquals("Query cost is unbounded because `authors` does not set `first`. The maximum cost is 1000000",
+                result.getErrors().get(0).getMessage());
+    }
+
+    private QueryCostInstrumentation.Estimate estimate(String query, Map<String, Object> variables) {
+        QueryCostInstrumentation instrumentation =
+                new QueryCostInstrumentation(dictionary, PAGE_SIZE, QueryCostLimits.UNLIMITED);
+        return instrumentation.estimate(schema, new Parser().parseDocument(query), null, variables);
+    }
+
+    private ExecutionResult execute(QueryCostLimits limits, String query) {
+        GraphQL api = GraphQL.newGraphQL(schema)
+                .instrumentation(new QueryCostInstrumentation(dictionary, PAGE_SIZE, limits))
+                .build();
+        return api.execute(query);
+    }
+}
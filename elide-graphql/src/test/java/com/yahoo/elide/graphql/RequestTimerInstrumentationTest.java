@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.metrics.ElideMetrics;
+import com.yahoo.elide.metrics.RequestPhase;
+import com.yahoo.elide.security.checks.Check;
+
+import org.junit.jupiter.api.Test;
+
+import graphqlEndpointTestModels.Book;
+import graphqlEndpointTestModels.security.CommitChecks;
+import graphqlEndpointTestModels.security.UserChecks;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tests the timing of GraphQL document and argument parsing.
+ */
+public class RequestTimerInstrumentationTest {
+
+    @Test
+    public void testParsePhasesReported() {
+        Set<RequestPhase> phases = new HashSet<>();
+        ElideMetrics metrics = (phase, operation, entityType, durationNanos) -> phases.add(phase);
+
+        Map<String, Class<? extends Check>> checkMappings = new HashMap<>();
+        checkMappings.put(UserChecks.IS_USER_1, UserChecks.IsUserId.One.class);
+        checkMappings.put(UserChecks.IS_USER_2, UserChecks.IsUserId.Two.class);
+        checkMappings.put(CommitChecks.IS_NOT_USER_3, CommitChecks.IsNotUser3.class);
+
+        Elide elide = new Elide(new ElideSettingsBuilder(new HashMapDataStore(Book.class.getPackage()))
+                .withEntityDictionary(new EntityDictionary(checkMappings))
+                .withMetrics(metrics)
+                .build());
+        QueryRunner runner = new QueryRunner(elide);
+
+        Principal user = () -> "1";
+        ElideResponse response = runner.run(
+                "{\"query\": \"{ book(sort: \\\"title\\\") { edges { node { id } } } }\"}", user);
+
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertTrue(phases.contains(RequestPhase.PATH_PARSE));
+        assertTrue(phases.contains(RequestPhase.FILTER_SORT_PARSE));
+        assertTrue(phases.contains(RequestPhase.SERIALIZATION));
+    }
+}
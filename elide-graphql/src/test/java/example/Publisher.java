@@ -6,6 +6,7 @@
 package example;
 
 import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.annotation.QueryCost;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -21,6 +22,7 @@ import javax.persistence.OneToMany;
  */
 @Entity
 @Include
+@QueryCost(weight = 5)
 public class Publisher {
     private long id;
     private String name;
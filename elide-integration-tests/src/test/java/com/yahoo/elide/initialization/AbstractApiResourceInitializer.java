@@ -67,11 +67,13 @@ public abstract class AbstractApiResourceInitializer {
 
         final ServletHolder servletHolder = servletContextHandler.addServlet(ServletContainer.class, "/*");
         servletHolder.setInitOrder(1);
+        servletHolder.setAsyncSupported(true);
         servletHolder.setInitParameter("jersey.config.server.provider.packages", packageName);
         servletHolder.setInitParameter("javax.ws.rs.Application", resourceConfig);
 
         ServletHolder graphqlServlet = servletContextHandler.addServlet(ServletContainer.class, "/graphQL/*");
         graphqlServlet.setInitOrder(2);
+        graphqlServlet.setAsyncSupported(true);
         graphqlServlet.setInitParameter("jersey.config.server.provider.packages",
                 com.yahoo.elide.graphql.GraphQLEndpoint.class.getPackage().getName());
         graphqlServlet.setInitParameter("javax.ws.rs.Application", resourceConfig);
@@ -12,21 +12,48 @@ import com.yahoo.elide.audit.Slf4jLogger;
 import com.yahoo.elide.contrib.swagger.SwaggerBuilder;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.dialect.CaseSensitivityStrategy;
+import com.yahoo.elide.core.filter.dialect.FilterExpressionCache;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.hibernate.ApproximateCountStrategy;
+import com.yahoo.elide.core.hibernate.PageTotalsCounter;
 import com.yahoo.elide.datastores.jpa.JpaDataStore;
 import com.yahoo.elide.datastores.jpa.transaction.NonJtaTransaction;
+import com.yahoo.elide.graphql.PersistedQueryStore;
+import com.yahoo.elide.graphql.PreparsedDocumentCache;
+import com.yahoo.elide.graphql.QueryRunner;
+import com.yahoo.elide.metrics.ElideMetrics;
+import com.yahoo.elide.spring.metrics.FilterExpressionCacheMetrics;
+import com.yahoo.elide.spring.metrics.MicrometerElideMetrics;
+import com.yahoo.elide.spring.metrics.PreparsedDocumentCacheMetrics;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.util.StreamUtils;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.swagger.models.Info;
 import io.swagger.models.Swagger;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import javax.persistence.EntityManagerFactory;
 
 /**
@@ -42,27 +69,57 @@ public class ElideAutoConfiguration {
      * @param dictionary Stores the static metadata about Elide models.
      * @param dataStore The persistence store.
      * @param settings Elide settings.
+     * @param metrics Where request phase timings are reported, if anywhere.
+     * @param filterExpressionCache Caches parsed filter expressions, if defined.
      * @return A new elide instance.
      */
     @Bean
     @ConditionalOnMissingBean
     public Elide initializeElide(EntityDictionary dictionary,
-                          DataStore dataStore, ElideConfigProperties settings) {
+                          DataStore dataStore, ElideConfigProperties settings,
+                          ObjectProvider<ElideMetrics> metrics,
+                          ObjectProvider<FilterExpressionCache> filterExpressionCache) {
 
+        FilterExpressionCache cache = filterExpressionCache.getIfAvailable();
         ElideSettingsBuilder builder = new ElideSettingsBuilder(dataStore)
                 .withEntityDictionary(dictionary)
                 .withDefaultMaxPageSize(settings.getMaxPageSize())
                 .withDefaultPageSize(settings.getPageSize())
                 .withUseFilterExpressions(true)
-                .withJoinFilterDialect(new RSQLFilterDialect(dictionary))
-                .withSubqueryFilterDialect(new RSQLFilterDialect(dictionary))
+                .withFilterExpressionCache(cache)
+                .withJoinFilterDialect(
+                        new RSQLFilterDialect(dictionary, new CaseSensitivityStrategy.FIQLCompliant(), cache))
+                .withSubqueryFilterDialect(
+                        new RSQLFilterDialect(dictionary, new CaseSensitivityStrategy.FIQLCompliant(), cache))
                 .withAuditLogger(new Slf4jLogger())
                 .withEncodeErrorResponses(true)
+                .withStreamingResponses(settings.isStreamingResponses())
+                .withEntityTags(settings.isEntityTags())
+                .withIngestChunkSize(settings.getIngestChunkSize())
+                .withMetrics(metrics.getIfAvailable(() -> ElideMetrics.NONE))
                 .withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"));
 
+        GraphQLControllerProperties graphql = settings.getGraphql();
+        if (graphql != null) {
+            builder.withGraphQLDocumentCacheSize(graphql.getDocumentCacheSize())
+                    .withGraphQLPersistedQueryCacheSize(graphql.getPersistedQueryCacheSize())
+                    .withGraphQLQueryCostLimits(graphql.getMaxQueryDepth(), graphql.getMaxQueryCost());
+        }
+
         return new Elide(builder.build());
     }
 
+    /**
+     * Creates the cache of parsed filter expressions shared by every request.
+     * @param settings Elide configuration settings.
+     * @return A new filter expression cache.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public FilterExpressionCache buildFilterExpressionCache(ElideConfigProperties settings) {
+        return new FilterExpressionCache(settings.getFilterExpressionCacheSize());
+    }
+
     /**
      * Creates the entity dictionary for Elide which contains static metadata about Elide models.
      * Override to load check classes or life cycle hooks.
@@ -92,15 +149,47 @@ public class ElideAutoConfiguration {
     /**
      * Creates the DataStore Elide.  Override to use a different store.
      * @param entityManagerFactory The JPA factory which creates entity managers.
+     * @param settings Elide configuration settings.
+     * @param approximateCountStrategy Estimates the page totals of large tables, if defined.
      * @return An instance of a JPA DataStore.
      */
     @Bean
     @ConditionalOnMissingBean
-    public DataStore buildDataStore(EntityManagerFactory entityManagerFactory) throws ClassNotFoundException {
+    public DataStore buildDataStore(EntityManagerFactory entityManagerFactory, ElideConfigProperties settings,
+                                    ObjectProvider<ApproximateCountStrategy> approximateCountStrategy)
+            throws ClassNotFoundException {
+
+        Executor executor = null;
+        if (settings.getPageTotalsThreads() != null && settings.getPageTotalsThreads() > 0) {
+            executor = Executors.newFixedThreadPool(settings.getPageTotalsThreads(), runnable -> {
+                Thread thread = new Thread(runnable, "elide-page-totals");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
 
         return new JpaDataStore(
                 () -> { return entityManagerFactory.createEntityManager(); },
-                    (em -> { return new NonJtaTransaction(em); }));
+                    (em -> { return new NonJtaTransaction(em); }))
+                .withJdbcBatchSize(settings.getJdbcBatchSize())
+                .withPageTotalsCounter(new PageTotalsCounter(
+                        approximateCountStrategy.getIfAvailable(() -> ApproximateCountStrategy.EXACT), executor));
+    }
+
+    /**
+     * Orders Hibernate inserts and updates by type when a JDBC batch size is configured, so that the writes of a
+     * request, which are flushed in request order, are grouped into full batches.
+     * @param settings Elide configuration settings.
+     * @return Customizes the Hibernate properties of the entity manager factory.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "elide", name = "jdbc-batch-size")
+    public HibernatePropertiesCustomizer jdbcBatchOrdering(ElideConfigProperties settings) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", String.valueOf(settings.getJdbcBatchSize()));
+            properties.putIfAbsent("hibernate.order_inserts", "true");
+            properties.putIfAbsent("hibernate.order_updates", "true");
+        };
     }
 
     /**
@@ -122,4 +211,102 @@ public class ElideAutoConfiguration {
 
         return swagger;
     }
+
+    /**
+     * Reports request phase timings to Micrometer when it is on the classpath.
+     */
+    @Configuration
+    @ConditionalOnClass(MeterRegistry.class)
+    public static class MetricsConfiguration {
+
+        /**
+         * Creates the metrics Elide reports request phase timings to.  Override to report elsewhere.
+         * @param registry The Micrometer registry, if the application has one.
+         * @return Micrometer metrics or no metrics when there is no registry.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ElideMetrics buildElideMetrics(ObjectProvider<MeterRegistry> registry) {
+            MeterRegistry meterRegistry = registry.getIfAvailable();
+            return meterRegistry == null ? ElideMetrics.NONE : new MicrometerElideMetrics(meterRegistry);
+        }
+
+        /**
+         * Binds the size and hit rate of the filter expression cache to the Micrometer registry.
+         * @param filterExpressionCache The filter expression cache.
+         * @return The cache meters.
+         */
+        @Bean
+        public MeterBinder buildFilterExpressionCacheMetrics(FilterExpressionCache filterExpressionCache) {
+            return new FilterExpressionCacheMetrics(filterExpressionCache);
+        }
+    }
+
+    /**
+     * GraphQL beans, when elide-graphql is on the classpath.
+     */
+    @Configuration
+    @ConditionalOnClass(QueryRunner.class)
+    public static class GraphQLConfiguration {
+
+        /**
+         * Creates the cache of parsed GraphQL documents shared by every request.
+         * @param settings Elide configuration settings.
+         * @return A new document cache.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public PreparsedDocumentCache buildPreparsedDocumentCache(ElideConfigProperties settings) {
+            long maximumSize = settings.getGraphql() == null
+                    ? PreparsedDocumentCache.DEFAULT_MAXIMUM_SIZE
+                    : settings.getGraphql().getDocumentCacheSize();
+            return new PreparsedDocumentCache(maximumSize);
+        }
+
+        /**
+         * Creates the store of automatic persisted queries and registers the configured documents.
+         * @param settings Elide configuration settings.
+         * @param resourceLoader Loads the registered documents.
+         * @return A new persisted query store.
+         * @throws IOException if a registered document cannot be read.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public PersistedQueryStore buildPersistedQueryStore(ElideConfigProperties settings,
+                                                            ResourceLoader resourceLoader) throws IOException {
+            GraphQLControllerProperties graphql = settings.getGraphql();
+            if (graphql == null) {
+                return new PersistedQueryStore(PersistedQueryStore.DEFAULT_MAXIMUM_SIZE);
+            }
+
+            PersistedQueryStore store = new PersistedQueryStore(graphql.getPersistedQueryCacheSize());
+            ResourcePatternResolver resolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+            for (String location : graphql.getPersistedQueries()) {
+                for (Resource resource : resolver.getResources(location)) {
+                    try (InputStream query = resource.getInputStream()) {
+                        store.register(StreamUtils.copyToString(query, StandardCharsets.UTF_8));
+                    }
+                }
+            }
+            return store;
+        }
+
+        /**
+         * Reports the GraphQL document cache to Micrometer when it is on the classpath.
+         */
+        @Configuration
+        @ConditionalOnClass(MeterRegistry.class)
+        public static class GraphQLMetricsConfiguration {
+
+            /**
+             * Binds the size and hit rate of the document cache to the Micrometer registry.
+             * @param documentCache The GraphQL document cache.
+             * @return The cache meters.
+             */
+            @Bean
+            public MeterBinder buildPreparsedDocumentCacheMetrics(PreparsedDocumentCache documentCache) {
+                return new PreparsedDocumentCacheMetrics(documentCache);
+            }
+        }
+    }
 }
@@ -24,7 +24,7 @@ public class ElideConfigProperties {
     /**
      * Settings for the GraphQL controller.
      */
-    private ControllerProperties graphql;
+    private GraphQLControllerProperties graphql;
 
     /**
      * Settings for the Swagger document controller.
@@ -40,4 +40,37 @@ public class ElideConfigProperties {
      * The maximum pagination size a client can request.
      */
     private int maxPageSize = 10000;
+
+    /**
+     * Whether JSON-API read responses are streamed to the client instead of being buffered.
+     */
+    private boolean streamingResponses = false;
+
+    /**
+     * Whether JSON-API read responses carry an ETag and honor If-None-Match.
+     */
+    private boolean entityTags = false;
+
+    /**
+     * How many records of a JSON-API bulk ingest are created and committed together.
+     */
+    private int ingestChunkSize = 1000;
+
+    /**
+     * The maximum number of parsed filter expressions kept across requests.  Zero disables the cache.
+     */
+    private long filterExpressionCacheSize = 1000;
+
+    /**
+     * The JDBC batch size of each JPA transaction, or unset to use the persistence unit setting.  When set, Hibernate
+     * is also configured to order inserts and updates by type so that the batches fill up, unless
+     * {@code spring.jpa.properties} sets the ordering explicitly.
+     */
+    private Integer jdbcBatchSize;
+
+    /**
+     * Threads which count the page totals of root collections while the page is fetched, or unset to count in the
+     * request's transaction.
+     */
+    private Integer pageTotalsThreads;
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.config;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Extra controller properties for the GraphQL endpoint.
+ */
+@Data
+public class GraphQLControllerProperties extends ControllerProperties {
+
+    /**
+     * The maximum number of parsed and validated GraphQL documents kept across requests.
+     */
+    private long documentCacheSize = 1000;
+
+    /**
+     * The maximum number of documents clients can store with automatic persisted queries.
+     */
+    private long persistedQueryCacheSize = 1000;
+
+    /**
+     * Resource locations, such as {@code classpath:queries/*.graphql}, of documents to register as persisted
+     * queries at startup.  Each resource holds one document.  Registered documents are never evicted.
+     */
+    private List<String> persistedQueries = new ArrayList<>();
+
+    /**
+     * The deepest nesting of entity collections and relationships a query may select.  Zero means no limit.
+     */
+    private int maxQueryDepth = 0;
+
+    /**
+     * The highest estimated cost, roughly the number of records loaded, a query may have.  Zero means no limit.
+     * Queries with collections or to-many relationships that do not set {@code first} are rejected when this is set.
+     */
+    private long maxQueryCost = 0;
+}
@@ -7,6 +7,8 @@ package com.yahoo.elide.spring.controllers;
 
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.graphql.PersistedQueryStore;
+import com.yahoo.elide.graphql.PreparsedDocumentCache;
 import com.yahoo.elide.graphql.QueryRunner;
 import com.yahoo.elide.spring.config.ElideConfigProperties;
 
@@ -40,9 +42,10 @@ public class GraphqlController {
     private static final String JSON_CONTENT_TYPE = "application/json";
 
     @Autowired
-    public GraphqlController(Elide elide) {
+    public GraphqlController(Elide elide, PreparsedDocumentCache documentCache,
+                             PersistedQueryStore persistedQueries) {
         log.debug("Started ~~");
-        this.runner = new QueryRunner(elide);
+        this.runner = new QueryRunner(elide, documentCache, persistedQueries);
     }
 
     /**
@@ -5,30 +5,43 @@
  */
 package com.yahoo.elide.spring.controllers;
 
+import static com.yahoo.elide.Elide.CSV_CONTENT_TYPE;
 import static com.yahoo.elide.Elide.JSONAPI_CONTENT_TYPE;
 import static com.yahoo.elide.Elide.JSONAPI_CONTENT_TYPE_WITH_JSON_PATCH_EXTENSION;
+import static com.yahoo.elide.Elide.NDJSON_CONTENT_TYPE;
 
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.extensions.JsonApiExport;
 import com.yahoo.elide.spring.config.ElideConfigProperties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.security.Principal;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.core.MultivaluedHashMap;
 
@@ -47,6 +60,8 @@ public class JsonApiController {
     private final ElideConfigProperties settings;
     public static final String JSON_API_CONTENT_TYPE = JSONAPI_CONTENT_TYPE;
     public static final String JSON_API_PATCH_CONTENT_TYPE = JSONAPI_CONTENT_TYPE_WITH_JSON_PATCH_EXTENSION;
+    public static final String JSON_API_INGEST_CONTENT_TYPE = NDJSON_CONTENT_TYPE;
+    public static final String JSON_API_EXPORT_CSV_CONTENT_TYPE = CSV_CONTENT_TYPE;
 
     @Autowired
     public JsonApiController(Elide elide, ElideConfigProperties settings) {
@@ -55,13 +70,42 @@ public class JsonApiController {
         this.elide = elide;
     }
 
-    @GetMapping(value = "/**", produces = JSON_API_CONTENT_TYPE)
-    public ResponseEntity<String> elideGet(@RequestParam Map<String, String> allRequestParams,
-                                           HttpServletRequest request, Principal authentication) {
+    @GetMapping(value = "/**",
+            produces = { JSON_API_CONTENT_TYPE, JSON_API_INGEST_CONTENT_TYPE, JSON_API_EXPORT_CSV_CONTENT_TYPE })
+    public ResponseEntity<?> elideGet(@RequestParam Map<String, String> allRequestParams,
+                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                              String ifNoneMatch,
+                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                      HttpServletRequest request, Principal authentication) {
         String pathname = getJsonApiPath(request, settings.getJsonApi().getPath());
 
-        ElideResponse response = elide.get(pathname, new MultivaluedHashMap<>(allRequestParams), authentication);
-        return ResponseEntity.status(response.getResponseCode()).body(response.getBody());
+        // Root collections are exported as NDJSON or CSV when the client accepts either before JSON:API.
+        Optional<JsonApiExport.Format> export = JsonApiExport.Format.fromAccept(accept);
+        ElideResponse response = export.isPresent()
+                ? elide.export(pathname, new MultivaluedHashMap<>(allRequestParams), authentication, export.get())
+                : elide.get(pathname, new MultivaluedHashMap<>(allRequestParams), authentication, ifNoneMatch);
+
+        boolean isSuccess = response.getResponseCode() < 300;
+        String contentType = export.isPresent() && isSuccess ? export.get().getContentType() : JSON_API_CONTENT_TYPE;
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.getResponseCode())
+                .contentType(MediaType.parseMediaType(contentType));
+        if (response.getEtag() != null) {
+            builder.eTag(response.getEtag());
+        }
+        if (response.isStreaming()) {
+            // Release the transaction of a streamed body once the request completes, even if it is never written.
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(response,
+                    new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task)
+                                throws IOException {
+                            response.close();
+                        }
+                    });
+            StreamingResponseBody body = response::writeBody;
+            return builder.body(body);
+        }
+        return builder.body(response.getBody());
     }
 
     @PostMapping(value = "/**", consumes = JSON_API_CONTENT_TYPE, produces = JSON_API_CONTENT_TYPE)
@@ -74,6 +118,16 @@ public class JsonApiController {
         return ResponseEntity.status(response.getResponseCode()).body(response.getBody());
     }
 
+    @PostMapping(value = "/**", consumes = JSON_API_INGEST_CONTENT_TYPE, produces = JSON_API_CONTENT_TYPE)
+    public ResponseEntity<String> elideIngest(HttpServletRequest request, Principal authentication)
+            throws IOException {
+        String pathname = getJsonApiPath(request, settings.getJsonApi().getPath());
+
+        ElideResponse response = elide
+                .ingest(pathname, request.getInputStream(), authentication);
+        return ResponseEntity.status(response.getResponseCode()).body(response.getBody());
+    }
+
     @PatchMapping(value = "/**", consumes = { JSON_API_CONTENT_TYPE, JSON_API_PATCH_CONTENT_TYPE})
     public ResponseEntity<String> elidePatch(@RequestBody String body,
                                              HttpServletRequest request, Principal authentication) {
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.metrics;
+
+import com.yahoo.elide.core.filter.dialect.FilterExpressionCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Reports the size, hits, misses and evictions of the filter expression cache.  The hit rate is
+ * {@code hits / (hits + misses)} of the {@value #REQUESTS} counter.
+ */
+public class FilterExpressionCacheMetrics implements MeterBinder {
+    public static final String SIZE = "elide.filter.cache.size";
+    public static final String REQUESTS = "elide.filter.cache.requests";
+    public static final String EVICTIONS = "elide.filter.cache.evictions";
+
+    private final FilterExpressionCache cache;
+
+    public FilterExpressionCacheMetrics(FilterExpressionCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(SIZE, cache, FilterExpressionCache::size)
+                .description("The number of cached filter expressions")
+                .register(registry);
+
+        FunctionCounter.builder(REQUESTS, cache, c -> c.getStats().hitCount())
+                .description("Lookups of the filter expression cache")
+                .tag("result", "hit")
+                .register(registry);
+
+        FunctionCounter.builder(REQUESTS, cache, c -> c.getStats().missCount())
+                .description("Lookups of the filter expression cache")
+                .tag("result", "miss")
+                .register(registry);
+
+        FunctionCounter.builder(EVICTIONS, cache, c -> c.getStats().evictionCount())
+                .description("Filter expressions evicted from the cache")
+                .register(registry);
+    }
+}
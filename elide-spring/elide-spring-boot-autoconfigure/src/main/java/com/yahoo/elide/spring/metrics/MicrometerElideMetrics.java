@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.metrics;
+
+import com.yahoo.elide.metrics.ElideMetrics;
+import com.yahoo.elide.metrics.RequestPhase;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports Elide request phases as Micrometer timers.
+ * <p>
+ * Every phase is recorded to the {@value #METRIC_NAME} timer, tagged with the phase, the operation and the entity
+ * type.  Percentile histograms are published so that latency percentiles can be aggregated across instances.
+ * The estimated cost of GraphQL queries is recorded to the {@value #QUERY_COST_METRIC_NAME} distribution summary.
+ */
+public class MicrometerElideMetrics implements ElideMetrics {
+    public static final String METRIC_NAME = "elide.request.phase";
+    public static final String QUERY_COST_METRIC_NAME = "elide.graphql.query.cost";
+
+    private final MeterRegistry registry;
+
+    public MicrometerElideMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void record(RequestPhase phase, String operation, String entityType, long durationNanos) {
+        Timer.builder(METRIC_NAME)
+                .description("Time Elide requests spend in each phase")
+                .tag("phase", phase.name().toLowerCase(Locale.ENGLISH))
+                .tag("operation", operation)
+                .tag("entity", entityType)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordQueryCost(String operation, String entityType, long cost) {
+        DistributionSummary.builder(QUERY_COST_METRIC_NAME)
+                .description("Estimated cost of GraphQL queries, including rejected queries")
+                .tag("operation", operation)
+                .tag("entity", entityType)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(cost);
+    }
+}
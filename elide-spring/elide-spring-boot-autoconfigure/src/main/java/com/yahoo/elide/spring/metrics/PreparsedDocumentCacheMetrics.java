@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.metrics;
+
+import com.yahoo.elide.graphql.PreparsedDocumentCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Reports the size, hits, misses and evictions of the GraphQL document cache.  The hit rate is
+ * {@code hits / (hits + misses)} of the {@value #REQUESTS} counter.
+ */
+public class PreparsedDocumentCacheMetrics implements MeterBinder {
+    public static final String SIZE = "elide.graphql.document.cache.size";
+    public static final String REQUESTS = "elide.graphql.document.cache.requests";
+    public static final String EVICTIONS = "elide.graphql.document.cache.evictions";
+
+    private final PreparsedDocumentCache cache;
+
+    public PreparsedDocumentCacheMetrics(PreparsedDocumentCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(SIZE, cache, PreparsedDocumentCache::size)
+                .description("The number of cached GraphQL documents")
+                .register(registry);
+
+        FunctionCounter.builder(REQUESTS, cache, c -> c.getStats().hitCount())
+                .description("Lookups of the GraphQL document cache")
+                .tag("result", "hit")
+                .register(registry);
+
+        FunctionCounter.builder(REQUESTS, cache, c -> c.getStats().missCount())
+                .description("Lookups of the GraphQL document cache")
+                .tag("result", "miss")
+                .register(registry);
+
+        FunctionCounter.builder(EVICTIONS, cache, c -> c.getStats().evictionCount())
+                .description("GraphQL documents evicted from the cache")
+                .register(registry);
+    }
+}
@@ -97,6 +97,10 @@ public class ElideStandalone {
 
         log.info("Starting jetty server on port: {}", elideStandaloneSettings.getPort());
         jettyServer = new Server(elideStandaloneSettings.getPort());
+        if (elideStandaloneSettings.enableVirtualThreads()) {
+            log.info("Running requests on virtual threads with at most {} concurrent transactions",
+                    elideStandaloneSettings.getMaxConcurrentTransactions());
+        }
         jettyServer.setHandler(context);
 
         context.setAttribute(ELIDE_STANDALONE_SETTINGS_ATTR, elideStandaloneSettings);
@@ -105,6 +109,7 @@ public class ElideStandalone {
             ServletHolder jerseyServlet = context.addServlet(ServletContainer.class,
                     elideStandaloneSettings.getJsonApiPathSpec());
             jerseyServlet.setInitOrder(0);
+            jerseyServlet.setAsyncSupported(true);
             jerseyServlet.setInitParameter("jersey.config.server.provider.packages", "com.yahoo.elide.resources");
             jerseyServlet.setInitParameter("javax.ws.rs.Application", ElideResourceConfig.class.getCanonicalName());
         }
@@ -113,6 +118,7 @@ public class ElideStandalone {
             ServletHolder jerseyServlet = context.addServlet(ServletContainer.class,
                     elideStandaloneSettings.getGraphQLApiPathSepc());
             jerseyServlet.setInitOrder(0);
+            jerseyServlet.setAsyncSupported(true);
             jerseyServlet.setInitParameter("jersey.config.server.provider.packages", "com.yahoo.elide.graphql");
             jerseyServlet.setInitParameter("javax.ws.rs.Application", ElideResourceConfig.class.getCanonicalName());
         }
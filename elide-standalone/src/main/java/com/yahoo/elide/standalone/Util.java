@@ -9,9 +9,12 @@ import com.yahoo.elide.utils.ClassScanner;
 import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
 import org.hibernate.jpa.boot.internal.PersistenceUnitInfoDescriptor;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import javax.persistence.Entity;
@@ -37,6 +40,9 @@ public class Util {
             options.put("hibernate.jdbc.batch_size", "50");
             options.put("hibernate.jdbc.fetch_size", "50");
             options.put("hibernate.default_batch_fetch_size", "100");
+            options.put("hibernate.order_inserts", "true");
+            options.put("hibernate.order_updates", "true");
+            options.put("hibernate.jdbc.batch_versioned_data", "true");
 
             // Hikari Connection Pool Settings
             options.putIfAbsent("hibernate.connection.provider_class",
@@ -59,6 +65,23 @@ public class Util {
                 .build();
     }
 
+    /**
+     * Create an executor which runs each task on a new virtual thread.
+     *
+     * @return Virtual thread executor.
+     * @throws IllegalStateException if the running JVM does not support virtual threads.
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        // Looked up reflectively so that Elide still builds and runs on Java 8.
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 or newer", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create virtual thread executor", e.getCause());
+        }
+    }
+
     /**
      * Get all the entities in a package.
      *
@@ -9,9 +9,11 @@ import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.dialect.FilterExpressionCache;
 import com.yahoo.elide.resources.DefaultOpaqueUserFunction;
 import com.yahoo.elide.standalone.Util;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.health.HealthCheckRegistry;
 import org.glassfish.hk2.api.ServiceLocator;
@@ -40,6 +42,8 @@ public class ElideResourceConfig extends ResourceConfig {
 
     public static final String ELIDE_STANDALONE_SETTINGS_ATTR = "elideStandaloneSettings";
 
+    public static final String FILTER_CACHE_METRICS = "elide.filter.cache";
+
     private static MetricRegistry metricRegistry = null;
     private static HealthCheckRegistry healthCheckRegistry = null;
 
@@ -67,6 +71,9 @@ public class ElideResourceConfig extends ResourceConfig {
             @Override
             protected void configure() {
                 ElideSettings elideSettings = settings.getElideSettings(injector);
+                if (settings.enableServiceMonitoring() && elideSettings.getFilterExpressionCache() != null) {
+                    registerFilterExpressionCacheMetrics(elideSettings.getFilterExpressionCache());
+                }
 
                 Elide elide = new Elide(elideSettings);
 
@@ -116,6 +123,19 @@ public class ElideResourceConfig extends ResourceConfig {
         filters.forEach(this::register);
     }
 
+    /**
+     * Reports the size, hits, misses and evictions of the filter expression cache.
+     */
+    private static void registerFilterExpressionCacheMetrics(FilterExpressionCache cache) {
+        MetricRegistry registry = getMetricRegistry();
+        registry.removeMatching((name, metric) -> name.startsWith(FILTER_CACHE_METRICS));
+        registry.register(FILTER_CACHE_METRICS + ".size", (Gauge<Long>) cache::size);
+        registry.register(FILTER_CACHE_METRICS + ".hits", (Gauge<Long>) () -> cache.getStats().hitCount());
+        registry.register(FILTER_CACHE_METRICS + ".misses", (Gauge<Long>) () -> cache.getStats().missCount());
+        registry.register(FILTER_CACHE_METRICS + ".evictions",
+                (Gauge<Long>) () -> cache.getStats().evictionCount());
+    }
+
     public static MetricRegistry getMetricRegistry() {
         if (metricRegistry == null) {
             metricRegistry = new MetricRegistry();
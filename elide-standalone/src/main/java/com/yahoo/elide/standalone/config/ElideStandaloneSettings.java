@@ -13,9 +13,15 @@ import com.yahoo.elide.audit.AuditLogger;
 import com.yahoo.elide.audit.Slf4jLogger;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.datastore.wrapped.ConcurrencyLimitedDataStore;
+import com.yahoo.elide.core.filter.dialect.CaseSensitivityStrategy;
+import com.yahoo.elide.core.filter.dialect.FilterExpressionCache;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.hibernate.ApproximateCountStrategy;
+import com.yahoo.elide.core.hibernate.PageTotalsCounter;
 import com.yahoo.elide.datastores.jpa.JpaDataStore;
 import com.yahoo.elide.datastores.jpa.transaction.NonJtaTransaction;
+import com.yahoo.elide.extensions.JsonApiIngest;
 import com.yahoo.elide.resources.DefaultOpaqueUserFunction;
 import com.yahoo.elide.security.checks.Check;
 import com.yahoo.elide.standalone.Util;
@@ -26,12 +32,15 @@ import org.glassfish.jersey.server.ResourceConfig;
 
 import io.swagger.models.Swagger;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import javax.persistence.EntityManagerFactory;
 import javax.ws.rs.core.SecurityContext;
@@ -65,9 +74,24 @@ public interface ElideStandaloneSettings {
     default ElideSettings getElideSettings(ServiceLocator injector) {
         EntityManagerFactory entityManagerFactory = Util.getEntityManagerFactory(getModelPackageName(),
                 getDatabaseProperties());
+        Executor pageTotalsExecutor = null;
+        if (getPageTotalsThreads() > 0) {
+            pageTotalsExecutor = Executors.newFixedThreadPool(getPageTotalsThreads(), runnable -> {
+                Thread thread = new Thread(runnable, "elide-page-totals");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
         DataStore dataStore = new JpaDataStore(
                 () -> { return entityManagerFactory.createEntityManager(); },
-                (em -> { return new NonJtaTransaction(em); }));
+                (em -> { return new NonJtaTransaction(em); }))
+                .withPageTotalsCounter(new PageTotalsCounter(getApproximateCountStrategy(), pageTotalsExecutor));
+
+        if (enableVirtualThreads()) {
+            dataStore = new ConcurrencyLimitedDataStore(dataStore, getMaxConcurrentTransactions(),
+                    getTransactionWaitTimeout());
+        }
 
         EntityDictionary dictionary = new EntityDictionary(getCheckMappings(),
                 new Injector() {
@@ -84,17 +108,37 @@ public interface ElideStandaloneSettings {
 
         dictionary.scanForSecurityChecks();
 
+        FilterExpressionCache filterExpressionCache = new FilterExpressionCache(getFilterExpressionCacheSize());
         ElideSettingsBuilder builder = new ElideSettingsBuilder(dataStore)
                 .withUseFilterExpressions(true)
                 .withEntityDictionary(dictionary)
-                .withJoinFilterDialect(new RSQLFilterDialect(dictionary))
-                .withSubqueryFilterDialect(new RSQLFilterDialect(dictionary))
-                .withAuditLogger(getAuditLogger());
+                .withFilterExpressionCache(filterExpressionCache)
+                .withJoinFilterDialect(new RSQLFilterDialect(dictionary,
+                        new CaseSensitivityStrategy.FIQLCompliant(), filterExpressionCache))
+                .withSubqueryFilterDialect(new RSQLFilterDialect(dictionary,
+                        new CaseSensitivityStrategy.FIQLCompliant(), filterExpressionCache))
+                .withAuditLogger(getAuditLogger())
+                .withIngestChunkSize(getIngestChunkSize())
+                .withGraphQLDocumentCacheSize(getGraphQLDocumentCacheSize())
+                .withGraphQLPersistedQueryCacheSize(getGraphQLPersistedQueryCacheSize())
+                .withGraphQLQueryCostLimits(getMaxGraphQLQueryDepth(), getMaxGraphQLQueryCost());
 
         if (enableIS06081Dates()) {
             builder = builder.withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"));
         }
 
+        if (enableStreamingResponses()) {
+            builder = builder.withStreamingResponses(true);
+        }
+
+        if (enableEntityTags()) {
+            builder = builder.withEntityTags(true);
+        }
+
+        if (enableVirtualThreads()) {
+            builder = builder.withRequestExecutor(Util.newVirtualThreadExecutor());
+        }
+
         return builder.build();
     }
 
@@ -188,6 +232,120 @@ public interface ElideStandaloneSettings {
         return true;
     }
 
+    /**
+     * Whether JSON-API read responses are streamed to the client instead of being buffered in memory.
+     * @return Default: False
+     */
+    default boolean enableStreamingResponses() {
+        return false;
+    }
+
+    /**
+     * Whether JSON-API read responses carry an ETag and answer matching If-None-Match requests with 304.
+     * @return Default: False
+     */
+    default boolean enableEntityTags() {
+        return false;
+    }
+
+    /**
+     * How many records of a JSON-API bulk ingest (a POST of application/x-ndjson) are created and committed
+     * together.
+     * @return Default: 1000
+     */
+    default int getIngestChunkSize() {
+        return JsonApiIngest.DEFAULT_CHUNK_SIZE;
+    }
+
+    /**
+     * The maximum number of parsed filter expressions kept across requests.  Zero disables the cache.  Its size
+     * and hit rate are reported with the service monitoring metrics.
+     * @return Default: 1000
+     */
+    default long getFilterExpressionCacheSize() {
+        return 1000;
+    }
+
+    /**
+     * The maximum number of parsed and validated GraphQL documents kept across requests.
+     * @return Default: 1000
+     */
+    default long getGraphQLDocumentCacheSize() {
+        return 1000;
+    }
+
+    /**
+     * The maximum number of documents clients can store with GraphQL automatic persisted queries.
+     * @return Default: 1000
+     */
+    default long getGraphQLPersistedQueryCacheSize() {
+        return 1000;
+    }
+
+    /**
+     * The deepest nesting of entity collections and relationships a GraphQL query may select.  Zero means no
+     * limit.
+     * @return Default: 0
+     */
+    default int getMaxGraphQLQueryDepth() {
+        return 0;
+    }
+
+    /**
+     * The highest estimated cost, roughly the number of records loaded, a GraphQL query may have.  Zero means no
+     * limit.  Queries with collections or to-many relationships that do not set {@code first} are rejected when
+     * this is set.
+     * @return Default: 0
+     */
+    default long getMaxGraphQLQueryCost() {
+        return 0;
+    }
+
+    /**
+     * Threads which count the page totals of root collections while the page is fetched.  Zero counts them in the
+     * request's transaction before the page is fetched.
+     * @return Default: 0
+     */
+    default int getPageTotalsThreads() {
+        return 0;
+    }
+
+    /**
+     * Estimates the page totals of large tables instead of counting them.
+     * @return Default: ApproximateCountStrategy.EXACT
+     */
+    default ApproximateCountStrategy getApproximateCountStrategy() {
+        return ApproximateCountStrategy.EXACT;
+    }
+
+    /**
+     * Whether JSON-API and GraphQL requests run on virtual threads instead of the Jetty thread pool.  Jetty threads
+     * only parse requests and write responses.  The number of open datastore transactions is bounded by
+     * {@link #getMaxConcurrentTransactions()} rather than by the number of threads.  Requires Java 21 or newer.
+     * @return Default: False
+     */
+    default boolean enableVirtualThreads() {
+        return false;
+    }
+
+    /**
+     * The most datastore transactions each endpoint keeps open at once when virtual threads are enabled.
+     * This should not exceed the size of the database connection pool.
+     * @return Default: 30
+     */
+    default int getMaxConcurrentTransactions() {
+        return 30;
+    }
+
+    /**
+     * How long a request waits for a datastore transaction when virtual threads are enabled before it is
+     * rejected with 503.
+     * @return Default: 30 seconds
+     */
+    default Duration getTransactionWaitTimeout() {
+        return Duration.ofSeconds(30);
+    }
+
     /**
      * Whether or not Codahale metrics, healthchecks, thread, ping, and admin servlet
      * should be enabled.
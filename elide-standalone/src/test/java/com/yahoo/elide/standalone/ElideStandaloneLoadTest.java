@@ -0,0 +1,245 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.standalone;
+
+import static com.yahoo.elide.Elide.JSONAPI_CONTENT_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.standalone.config.ElideStandaloneSettings;
+import com.yahoo.elide.standalone.load.SlowPost;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load harness comparing the Jetty thread pool with virtual threads under many concurrent slow requests against H2.
+ * <p>
+ * Excluded from the default build.  Run it with:
+ * <pre>
+ * mvn test -pl elide-standalone -DexcludeTags= -Dtest=ElideStandaloneLoadTest
+ * </pre>
+ * The virtual thread run is skipped on JVMs older than Java 21.  Sizes can be changed with the
+ * elide.load.concurrency, elide.load.requestsPerClient and elide.load.latencyMillis system properties.
+ */
+@Slf4j
+@Tag("load")
+public class ElideStandaloneLoadTest {
+    private static final int PORT = 8081;
+    private static final int CONCURRENCY = Integer.getInteger("elide.load.concurrency", 5000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("elide.load.requestsPerClient", 4);
+    private static final int LATENCY_MILLIS = Integer.getInteger("elide.load.latencyMillis", 50);
+    private static final int CONNECTION_POOL_SIZE = 30;
+
+    @Test
+    public void testThroughputAndTailLatency() throws Exception {
+        SlowPost.setLatencyMillis(LATENCY_MILLIS);
+
+        Result pooled = run("pooled", false);
+
+        boolean virtualThreadsSupported = true;
+        try {
+            Util.newVirtualThreadExecutor().shutdown();
+        } catch (IllegalStateException e) {
+            virtualThreadsSupported = false;
+            log.info("Virtual threads are not supported by this JVM, skipping the virtual thread run");
+        }
+
+        if (virtualThreadsSupported) {
+            Result virtual = run("virtual", true);
+            log.info("Throughput ratio (virtual / pooled): {}",
+                    String.format("%.2f", virtual.throughput() / pooled.throughput()));
+            log.info("p99 ratio (virtual / pooled): {}",
+                    String.format("%.2f", (double) virtual.p99Millis() / Math.max(1, pooled.p99Millis())));
+        }
+    }
+
+    private Result run(String name, boolean virtualThreads) throws Exception {
+        ElideStandalone elide = new ElideStandalone(settings(name, virtualThreads));
+        elide.start(false);
+        try {
+            assertEquals(HttpStatus.SC_CREATED, request("POST",
+                    "{\"data\":{\"type\":\"slowPost\",\"id\":\"1\",\"attributes\":{\"content\":\"slow\"}}}"));
+
+            Result result = load();
+            log.info("{}: {} requests, {} ok, {} rejected, {} req/s, p50 {} ms, p99 {} ms", name,
+                    result.latencies.length, result.ok, result.rejected,
+                    String.format("%.1f", result.throughput()), result.percentileMillis(50), result.p99Millis());
+
+            assertEquals(result.latencies.length, result.ok + result.rejected, "Unexpected response status");
+            assertTrue(result.ok > 0);
+            return result;
+        } finally {
+            elide.stop();
+        }
+    }
+
+    private Result load() throws InterruptedException {
+        int total = CONCURRENCY * REQUESTS_PER_CLIENT;
+        long[] latencies = new long[total];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        for (int client = 0; client < CONCURRENCY; client++) {
+            clients.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        long begin = System.nanoTime();
+                        int status = request("GET", null);
+                        latencies[next.getAndIncrement()] = System.nanoTime() - begin;
+                        if (status == HttpStatus.SC_OK) {
+                            ok.incrementAndGet();
+                        } else if (status == HttpStatus.SC_SERVICE_UNAVAILABLE) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (IOException e) {
+                    log.debug("Request failed", e);
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        clients.shutdown();
+        clients.awaitTermination(30, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - begin;
+
+        return new Result(Arrays.copyOf(latencies, next.get()), ok.get(), rejected.get(), elapsed);
+    }
+
+    private static int request(String method, String body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection)
+                new URL("http://localhost:" + PORT + "/api/v1/slowPost").openConnection();
+        connection.setRequestMethod(method);
+        connection.setRequestProperty("Accept", JSONAPI_CONTENT_TYPE);
+        if (body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", JSONAPI_CONTENT_TYPE);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        int status = connection.getResponseCode();
+        try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            if (in != null) {
+                byte[] buffer = new byte[4096];
+                while (in.read(buffer) != -1) {
+                    // Drain the body so the connection can be reused.
+                }
+            }
+        }
+        return status;
+    }
+
+    private static ElideStandaloneSettings settings(String name, boolean virtualThreads) {
+        return new ElideStandaloneSettings() {
+            @Override
+            public int getPort() {
+                return PORT;
+            }
+
+            @Override
+            public String getModelPackageName() {
+                return SlowPost.class.getPackage().getName();
+            }
+
+            @Override
+            public Properties getDatabaseProperties() {
+                Properties options = new Properties();
+
+                options.put("hibernate.hbm2ddl.auto", "create");
+                options.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+                options.put("hibernate.current_session_context_class", "thread");
+                options.put("hibernate.connection.pool_size", String.valueOf(CONNECTION_POOL_SIZE));
+
+                options.put("javax.persistence.jdbc.driver", "org.h2.Driver");
+                options.put("javax.persistence.jdbc.url", "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;"
+                        + "INIT=CREATE ALIAS IF NOT EXISTS SLEEP_MS FOR \"" + SlowPost.class.getName() + ".sleep\"");
+                options.put("javax.persistence.jdbc.user", "sa");
+                options.put("javax.persistence.jdbc.password", "");
+                return options;
+            }
+
+            @Override
+            public boolean enableVirtualThreads() {
+                return virtualThreads;
+            }
+
+            @Override
+            public int getMaxConcurrentTransactions() {
+                return CONNECTION_POOL_SIZE;
+            }
+
+            @Override
+            public boolean enableGraphQL() {
+                return false;
+            }
+
+            @Override
+            public boolean enableServiceMonitoring() {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Latencies and outcomes of one run.
+     */
+    private static class Result {
+        private final long[] latencies;
+        private final int ok;
+        private final int rejected;
+        private final long elapsedNanos;
+
+        Result(long[] latencies, int ok, int rejected, long elapsedNanos) {
+            this.latencies = latencies;
+            this.ok = ok;
+            this.rejected = rejected;
+            this.elapsedNanos = elapsedNanos;
+            Arrays.sort(this.latencies);
+        }
+
+        double throughput() {
+            return ok / (elapsedNanos / 1e9);
+        }
+
+        long p99Millis() {
+            return percentileMillis(99);
+        }
+
+        long percentileMillis(int percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return TimeUnit.NANOSECONDS.toMillis(latencies[Math.max(0, index)]);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.standalone.load;
+
+import com.yahoo.elide.annotation.Include;
+import org.hibernate.annotations.Formula;
+import lombok.Data;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * Model whose every read runs a slow query.  The database must define SLEEP_MS as an alias of {@link #sleep()}.
+ */
+@Entity
+@Include(rootLevel = true)
+@Data
+public class SlowPost {
+    private static volatile int latencyMillis;
+
+    @Id
+    private long id;
+
+    private String content;
+
+    @Formula("SLEEP_MS()")
+    private int latency;
+
+    public static void setLatencyMillis(int millis) {
+        latencyMillis = millis;
+    }
+
+    /**
+     * Called by the database for each row read.
+     *
+     * @return the time slept
+     */
+    public static int sleep() throws InterruptedException {
+        Thread.sleep(latencyMillis);
+        return latencyMillis;
+    }
+}